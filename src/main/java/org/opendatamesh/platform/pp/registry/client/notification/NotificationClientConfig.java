@@ -1,10 +1,9 @@
 package org.opendatamesh.platform.pp.registry.client.notification;
 
-import org.opendatamesh.platform.pp.registry.utils.client.RestUtilsFactory;
+import org.opendatamesh.platform.pp.registry.configuration.network.RestTemplateProfiles;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -25,13 +24,13 @@ public class NotificationClientConfig {
     private boolean notificationServiceActive;
 
     @Bean
-    public NotificationClient notificationClient(RestTemplateBuilder restTemplateBuilder) {
+    public NotificationClient notificationClient(RestTemplateProfiles restTemplateProfiles) {
         if (!notificationServiceActive) {
             logger.warn("Notification service is not active. Events will not be sent.");
             return createDummyNotificationClient();
         }
 
-        NotificationClient notificationClient = new NotificationClientImpl(baseUrl, observerName, observerDisplayName, notificationServiceBaseUrl, RestUtilsFactory.getRestUtils(restTemplateBuilder.build()));
+        NotificationClient notificationClient = new NotificationClientImpl(baseUrl, observerName, observerDisplayName, notificationServiceBaseUrl, restTemplateProfiles.restUtils(RestTemplateProfiles.NOTIFICATION));
         logger.info("Checking connection to Notification service at {}", notificationServiceBaseUrl);
         notificationClient.assertConnection();
         return notificationClient;
@@ -1,6 +1,7 @@
 package org.opendatamesh.platform.pp.registry.configuration.database;
 
 import org.flywaydb.core.Flyway;
+import org.opendatamesh.platform.pp.registry.configuration.database.migration.V11__data_products_versions_placeholders_backfill;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,6 +37,7 @@ public class FlywayConfiguration {
                 .dataSource(dataSource)
                 .schemas(defaultSchema)
                 .locations(DB_MIGRATION_VENDOR.replace(VENDOR_PLACEHOLDER, readVendor()))
+                .javaMigrations(new V11__data_products_versions_placeholders_backfill())
                 .load();
         flyway.migrate();
         return flyway;
@@ -45,7 +47,7 @@ public class FlywayConfiguration {
         try (var connection = dataSource.getConnection()) {
             DatabaseDriver vendor = DatabaseDriver.fromJdbcUrl(connection.getMetaData().getURL());
             if (vendor == DatabaseDriver.H2) {
-                return DatabaseDriver.POSTGRESQL.name().toLowerCase();
+                throw new IllegalStateException("H2 is not supported: the migrations use PostgreSQL functional and partial indexes. Use a PostgreSQL datasource.");
             }
             if (vendor != DatabaseDriver.UNKNOWN) {
                 return vendor.name().toLowerCase();
@@ -0,0 +1,72 @@
+package org.opendatamesh.platform.pp.registry.configuration.database.migration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.opendatamesh.platform.pp.registry.descriptorvariable.services.core.DescriptorVariableSubstitutor;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Rebuilds the placeholder keys of the stored descriptors with {@link DescriptorVariableSubstitutor#findKeys}, the
+ * extraction used whenever a descriptor is written, so that existing versions are indexed exactly like new ones.
+ * A regular expression in SQL cannot follow its scan of nested prefixes.
+ */
+public class V11__data_products_versions_placeholders_backfill extends BaseJavaMigration {
+
+    private static final int FETCH_SIZE = 50;
+    private static final int BATCH_SIZE = 100;
+
+    private static final String SELECT_DESCRIPTORS_SQL = "select v.uuid, c.descriptor_content::text " +
+            "from data_products_versions v " +
+            "join data_products_versions_contents c on c.uuid = v.descriptor_content_uuid " +
+            "where c.descriptor_content is not null";
+    private static final String INSERT_KEY_SQL = "insert into data_products_versions_placeholders " +
+            "(data_product_version_uuid, placeholder_key) values (?, ?) on conflict do nothing";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement delete = connection.createStatement()) {
+            delete.executeUpdate("delete from data_products_versions_placeholders");
+        }
+        // Descriptors can be megabytes, they are streamed instead of being loaded all at once
+        try (Statement select = connection.createStatement();
+             PreparedStatement insert = connection.prepareStatement(INSERT_KEY_SQL)) {
+            select.setFetchSize(FETCH_SIZE);
+            try (ResultSet descriptors = select.executeQuery(SELECT_DESCRIPTORS_SQL)) {
+                int pending = 0;
+                while (descriptors.next()) {
+                    String dataProductVersionUuid = descriptors.getString(1);
+                    for (String key : findKeys(dataProductVersionUuid, descriptors.getString(2))) {
+                        insert.setString(1, dataProductVersionUuid);
+                        insert.setString(2, key);
+                        insert.addBatch();
+                        if (++pending == BATCH_SIZE) {
+                            insert.executeBatch();
+                            pending = 0;
+                        }
+                    }
+                }
+                if (pending > 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+    }
+
+    private Iterable<String> findKeys(String dataProductVersionUuid, String descriptorContent) throws SQLException {
+        try {
+            return DescriptorVariableSubstitutor.findKeys(objectMapper.readTree(descriptorContent));
+        } catch (IOException e) {
+            throw new SQLException("Unreadable descriptor of data product version " + dataProductVersionUuid, e);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package org.opendatamesh.platform.pp.registry.configuration.network;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Connection pool and timeout settings of the outbound HTTP clients, bound from {@code registry.http-clients}.
+ * <p>
+ * Each downstream uses a named profile. A profile that is not configured falls back to {@code default};
+ * every git host gets its own pool, configured by its entry in {@code git-hosts} or else by the {@code git} profile.
+ * A profile can also put a circuit breaker and a bulkhead in front of its downstream.
+ */
+@ConfigurationProperties(prefix = "registry.http-clients")
+public class HttpClientsProperties {
+
+    // Connections unused for longer than this are closed by the idle connection monitor
+    private Duration idleTimeout = Duration.ofSeconds(20);
+
+    private Map<String, Profile> profiles = new HashMap<>();
+
+    // Keyed by host name, e.g. "[github.com]"
+    private Map<String, Profile> gitHosts = new HashMap<>();
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public Map<String, Profile> getProfiles() {
+        return profiles;
+    }
+
+    public void setProfiles(Map<String, Profile> profiles) {
+        this.profiles = profiles;
+    }
+
+    public Map<String, Profile> getGitHosts() {
+        return gitHosts;
+    }
+
+    public void setGitHosts(Map<String, Profile> gitHosts) {
+        this.gitHosts = gitHosts;
+    }
+
+    public static class Profile {
+        // Connections across all the routes of the pool
+        private int maxTotal = 5;
+        // Connections to each route of the pool
+        private int maxPerRoute = 2;
+        // Time to open a server connection
+        private Duration connectTimeout = Duration.ofSeconds(60);
+        // Time to wait for a connection from the pool
+        private Duration connectionRequestTimeout = Duration.ofSeconds(60);
+        // Time to wait for the response, and socket timeout of the pooled connections
+        private Duration responseTimeout = Duration.ofSeconds(60);
+        // Maximum lifetime of a pooled connection
+        private Duration timeToLive = Duration.ofMinutes(10);
+        // Both disabled unless configured
+        private CircuitBreakerSettings circuitBreaker;
+        private BulkheadSettings bulkhead;
+
+        public int getMaxTotal() {
+            return maxTotal;
+        }
+
+        public void setMaxTotal(int maxTotal) {
+            this.maxTotal = maxTotal;
+        }
+
+        public int getMaxPerRoute() {
+            return maxPerRoute;
+        }
+
+        public void setMaxPerRoute(int maxPerRoute) {
+            this.maxPerRoute = maxPerRoute;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getConnectionRequestTimeout() {
+            return connectionRequestTimeout;
+        }
+
+        public void setConnectionRequestTimeout(Duration connectionRequestTimeout) {
+            this.connectionRequestTimeout = connectionRequestTimeout;
+        }
+
+        public Duration getResponseTimeout() {
+            return responseTimeout;
+        }
+
+        public void setResponseTimeout(Duration responseTimeout) {
+            this.responseTimeout = responseTimeout;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+
+        public CircuitBreakerSettings getCircuitBreaker() {
+            return circuitBreaker;
+        }
+
+        public void setCircuitBreaker(CircuitBreakerSettings circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+        }
+
+        public BulkheadSettings getBulkhead() {
+            return bulkhead;
+        }
+
+        public void setBulkhead(BulkheadSettings bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+    }
+
+    public static class CircuitBreakerSettings {
+        // Failure percentage, over the sliding window, that opens the circuit
+        private int failureRateThreshold = 50;
+        // Number of last calls the failure rate is computed on
+        private int slidingWindowSize = 20;
+        private int minimumCalls = 5;
+        // How long calls are refused before probing the downstream again
+        private Duration openDuration = Duration.ofSeconds(30);
+        // Probe calls let through while half-open
+        private int halfOpenCalls = 2;
+        // Time budget of a call: slower calls count as failures
+        private Duration slowCallThreshold;
+
+        public int getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(int failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public int getSlidingWindowSize() {
+            return slidingWindowSize;
+        }
+
+        public void setSlidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+        }
+
+        public int getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        public void setMinimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+        }
+
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        public void setOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+
+        public int getHalfOpenCalls() {
+            return halfOpenCalls;
+        }
+
+        public void setHalfOpenCalls(int halfOpenCalls) {
+            this.halfOpenCalls = halfOpenCalls;
+        }
+
+        public Duration getSlowCallThreshold() {
+            return slowCallThreshold;
+        }
+
+        public void setSlowCallThreshold(Duration slowCallThreshold) {
+            this.slowCallThreshold = slowCallThreshold;
+        }
+    }
+
+    public static class BulkheadSettings {
+        // Calls in flight at the same time, at most the connections of the pool
+        private int maxConcurrentCalls = 10;
+        // How long a call waits for a free slot before failing fast
+        private Duration maxWait = Duration.ZERO;
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+    }
+}
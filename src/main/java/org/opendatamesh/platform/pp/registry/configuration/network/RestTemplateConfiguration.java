@@ -1,54 +1,26 @@
 package org.opendatamesh.platform.pp.registry.configuration.network;
 
 import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
-import org.apache.hc.client5.http.config.ConnectionConfig;
-import org.apache.hc.client5.http.config.RequestConfig;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
-import org.apache.hc.client5.http.impl.classic.HttpClients;
-import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.core5.http.HeaderElement;
 import org.apache.hc.core5.http.HeaderElements;
 import org.apache.hc.core5.http.message.BasicHeaderValueParser;
 import org.apache.hc.core5.http.message.ParserCursor;
 import org.apache.hc.core5.util.TimeValue;
-import org.apache.hc.core5.util.Timeout;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
-import org.springframework.scheduling.annotation.Scheduled;
 
 import java.util.Arrays;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 /*
 https://springframework.guru/using-resttemplate-with-apaches-httpclient/
  */
 @Configuration
+@EnableConfigurationProperties(HttpClientsProperties.class)
 public class RestTemplateConfiguration {
 
-    @Bean
-    public PoolingHttpClientConnectionManager poolingConnectionManager() {
-        // Configure connection-level timeouts
-        ConnectionConfig connectionConfig = ConnectionConfig.custom()
-                .setConnectTimeout(Timeout.ofSeconds(60)) // time to open a server connection
-                .setSocketTimeout(Timeout.ofSeconds(60)) // socket timeout
-                .setTimeToLive(TimeValue.ofMinutes(10)) // connection time to live
-                .build();
-
-        PoolingHttpClientConnectionManager poolingConnectionManager = new PoolingHttpClientConnectionManager();
-        // set a total amount of connections across all HTTP routes
-        poolingConnectionManager.setMaxTotal(5);
-        // set a maximum amount of connections for each HTTP route in pool
-        poolingConnectionManager.setDefaultMaxPerRoute(2);
-        // set default connection configuration
-        poolingConnectionManager.setDefaultConnectionConfig(connectionConfig);
-        return poolingConnectionManager;
-    }
-
     /*
      * A connection Keep-Alive strategy determines how long a connection may remain unused in the pool until it is closed.
      * This ensures that connections that are no longer needed are closed again promptly.
@@ -83,46 +55,11 @@ public class RestTemplateConfiguration {
                 .orElse(TimeValue.ofSeconds(20));
     }
 
-    /* Furthermore, we want to configure a connection monitor that runs every 20 seconds
-     * and closes outdated connections as well as long waiting connections.
+    /*
+     * Clients that are not bound to a downstream use the default profile, see RestTemplateProfiles.
      */
     @Bean
-    public Runnable idleConnectionMonitor(PoolingHttpClientConnectionManager pool) {
-        return new Runnable() {
-            final Logger logger = LoggerFactory.getLogger(getClass());
-
-            @Override
-            @Scheduled(fixedDelay = 60000)
-            public void run() {
-                // only if connection pool is initialised
-                if (pool != null) {
-                    logger.debug("Cleaning expired and idle connections");
-                    pool.closeExpired();
-                    pool.closeIdle(TimeValue.ofSeconds(20));
-                }
-            }
-        };
-    }
-
-    @Bean
-    public RestTemplateBuilder restTemplateBuilder() {
-        // Configure request-level timeouts (response timeout)
-        RequestConfig requestConfig = RequestConfig.custom()
-                .setConnectTimeout(60_000, TimeUnit.MILLISECONDS) // time to open a server connection
-                .setConnectionRequestTimeout(60_000, TimeUnit.MILLISECONDS) // time to request connection from the pool
-                .setResponseTimeout(60_000, TimeUnit.MILLISECONDS)// Determines the timeout until arrival of a response from the opposite endpoint.
-                .build();
-
-        CloseableHttpClient httpClient = HttpClients.custom()
-                .setDefaultRequestConfig(requestConfig)
-                .setConnectionManager(poolingConnectionManager())
-                .setKeepAliveStrategy(connectionKeepAliveStrategy())
-                .build();
-
-        HttpComponentsClientHttpRequestFactory requestFactory =
-                new HttpComponentsClientHttpRequestFactory(httpClient);
-
-        return new RestTemplateBuilder()
-                .requestFactory(() -> requestFactory);
+    public RestTemplateBuilder restTemplateBuilder(RestTemplateProfiles restTemplateProfiles) {
+        return restTemplateProfiles.restTemplateBuilder(RestTemplateProfiles.DEFAULT);
     }
 }
@@ -0,0 +1,205 @@
+package org.opendatamesh.platform.pp.registry.configuration.network;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.opendatamesh.platform.pp.registry.utils.client.Bulkhead;
+import org.opendatamesh.platform.pp.registry.utils.client.CircuitBreaker;
+import org.opendatamesh.platform.pp.registry.utils.client.RestUtils;
+import org.opendatamesh.platform.pp.registry.utils.client.RestUtilsFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the outbound HTTP clients of the registry, one connection pool per downstream, so that a slow downstream
+ * can only exhaust its own connections.
+ * <p>
+ * Pools are created on first use with the settings of their {@link HttpClientsProperties profile} and export their
+ * utilization through the {@code httpcomponents.httpclient.pool.*} meters, tagged with {@code httpclient} set to the
+ * pool name: the profile name, or {@code git:<host>} for the pools of the git providers. Profiles with a circuit
+ * breaker or a bulkhead also export {@code registry.http.client.circuit.state} and
+ * {@code registry.http.client.bulkhead.available}.
+ */
+@Component
+public class RestTemplateProfiles implements DisposableBean {
+
+    public static final String DEFAULT = "default";
+    public static final String NOTIFICATION = "notification";
+    public static final String POLICY = "policy";
+    public static final String GIT = "git";
+
+    private static final Logger logger = LoggerFactory.getLogger(RestTemplateProfiles.class);
+
+    private final HttpClientsProperties properties;
+    private final ConnectionKeepAliveStrategy keepAliveStrategy;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+    public RestTemplateProfiles(HttpClientsProperties properties,
+                                ConnectionKeepAliveStrategy keepAliveStrategy,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.keepAliveStrategy = keepAliveStrategy;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param profile the name of the profile, e.g. {@link #NOTIFICATION}
+     * @return a builder of rest templates sharing the connection pool of the profile
+     */
+    public RestTemplateBuilder restTemplateBuilder(String profile) {
+        Pool pool = pools.computeIfAbsent(profile, name -> createPool(name, profile(name)));
+        return pool.restTemplateBuilder();
+    }
+
+    /**
+     * @param profile the name of the profile, e.g. {@link #POLICY}
+     * @return rest utils on the connection pool of the profile, failing fast with a
+     * {@link org.opendatamesh.platform.pp.registry.exceptions.client.ClientUnavailableException} when the circuit
+     * breaker or the bulkhead of the profile refuse the call
+     */
+    public RestUtils restUtils(String profile) {
+        Pool pool = pools.computeIfAbsent(profile, name -> createPool(name, profile(name)));
+        return RestUtilsFactory.getRestUtils(pool.restTemplate(), pool.circuitBreaker(), pool.bulkhead());
+    }
+
+    /**
+     * @param baseUrl the base url of the git provider
+     * @return the rest template of the host of the git provider, shared by all its providers
+     */
+    public RestTemplate gitRestTemplate(String baseUrl) {
+        String host = hostOf(baseUrl);
+        String poolName = host != null ? GIT + ":" + host : GIT;
+        Pool pool = pools.computeIfAbsent(poolName, name -> {
+            HttpClientsProperties.Profile hostProfile = host != null ? properties.getGitHosts().get(host) : null;
+            return createPool(name, hostProfile != null ? hostProfile : profile(GIT));
+        });
+        return pool.restTemplate();
+    }
+
+    /**
+     * Closes the expired connections and the ones left idle longer than the idle timeout, in every pool.
+     */
+    @Scheduled(fixedDelayString = "${registry.http-clients.idle-check-interval:PT1M}")
+    public void closeIdleConnections() {
+        TimeValue idleTimeout = TimeValue.of(properties.getIdleTimeout());
+        pools.forEach((name, pool) -> {
+            logger.debug("Cleaning expired and idle connections of HTTP client {}", name);
+            pool.connectionManager().closeExpired();
+            pool.connectionManager().closeIdle(idleTimeout);
+        });
+    }
+
+    @Override
+    public void destroy() {
+        pools.values().forEach(pool -> pool.httpClient().close(CloseMode.GRACEFUL));
+        pools.clear();
+    }
+
+    private HttpClientsProperties.Profile profile(String name) {
+        HttpClientsProperties.Profile profile = properties.getProfiles().get(name);
+        if (profile == null) {
+            profile = properties.getProfiles().get(DEFAULT);
+        }
+        return profile != null ? profile : new HttpClientsProperties.Profile();
+    }
+
+    private Pool createPool(String name, HttpClientsProperties.Profile profile) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(timeout(profile.getConnectTimeout()))
+                .setSocketTimeout(timeout(profile.getResponseTimeout()))
+                .setTimeToLive(TimeValue.of(profile.getTimeToLive()))
+                .build();
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(profile.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(profile.getMaxPerRoute());
+        connectionManager.setDefaultConnectionConfig(connectionConfig);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(timeout(profile.getConnectionRequestTimeout()))
+                .setResponseTimeout(timeout(profile.getResponseTimeout()))
+                .build();
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setDefaultRequestConfig(requestConfig)
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy(keepAliveStrategy)
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+        logger.info("Created HTTP client {} with a pool of {} connections, {} per route",
+                name, profile.getMaxTotal(), profile.getMaxPerRoute());
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        RestTemplateBuilder restTemplateBuilder = new RestTemplateBuilder().requestFactory(() -> requestFactory);
+        return new Pool(connectionManager, httpClient, restTemplateBuilder, restTemplateBuilder.build(),
+                createCircuitBreaker(name, profile.getCircuitBreaker()), createBulkhead(name, profile.getBulkhead()));
+    }
+
+    private CircuitBreaker createCircuitBreaker(String name, HttpClientsProperties.CircuitBreakerSettings settings) {
+        if (settings == null) {
+            return null;
+        }
+        CircuitBreaker circuitBreaker = new CircuitBreaker(name, settings.getFailureRateThreshold(),
+                settings.getSlidingWindowSize(), settings.getMinimumCalls(), settings.getOpenDuration(),
+                settings.getHalfOpenCalls(), settings.getSlowCallThreshold());
+        // 0 closed, 1 open, 2 half-open
+        Gauge.builder("registry.http.client.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .tag("httpclient", name)
+                .register(meterRegistry);
+        return circuitBreaker;
+    }
+
+    private Bulkhead createBulkhead(String name, HttpClientsProperties.BulkheadSettings settings) {
+        if (settings == null) {
+            return null;
+        }
+        Bulkhead bulkhead = new Bulkhead(name, settings.getMaxConcurrentCalls(), settings.getMaxWait());
+        Gauge.builder("registry.http.client.bulkhead.available", bulkhead, Bulkhead::availableCalls)
+                .tag("httpclient", name)
+                .register(meterRegistry);
+        return bulkhead;
+    }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    private static String hostOf(String baseUrl) {
+        if (!StringUtils.hasText(baseUrl)) {
+            return null;
+        }
+        try {
+            return UriComponentsBuilder.fromUriString(baseUrl.trim()).build().getHost();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private record Pool(PoolingHttpClientConnectionManager connectionManager,
+                        CloseableHttpClient httpClient,
+                        RestTemplateBuilder restTemplateBuilder,
+                        RestTemplate restTemplate,
+                        CircuitBreaker circuitBreaker,
+                        Bulkhead bulkhead) {
+    }
+}
@@ -0,0 +1,9 @@
+package org.opendatamesh.platform.pp.registry.configuration.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
@@ -5,31 +5,36 @@ import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProduct_;
 import org.opendatamesh.platform.pp.registry.utils.repositories.PagingAndSortingAndSpecificationExecutorRepository;
 import org.opendatamesh.platform.pp.registry.utils.repositories.SpecsUtils;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.util.StringUtils;
 
+import java.util.List;
+
 public interface DataProductsRepository extends PagingAndSortingAndSpecificationExecutorRepository<DataProduct, String> {
 
-    // JPA named methods for uniqueness validation
+    // Natural key lookups for uniqueness validation
 
     /**
-     * Check if a DataProduct exists by name and domain (case-insensitive)
+     * Find the data products whose FQN, or whose name and domain, collide with the given ones (case-insensitive),
+     * excluding a specific UUID when provided. Both conditions are served by the lower(...) unique indexes,
+     * so the whole check costs a single statement.
      */
-    boolean existsByNameIgnoreCaseAndDomainIgnoreCase(String name, String domain);
+    @Query("select p.fqn as fqn, p.name as name, p.domain as domain from DataProduct p " +
+            "where (lower(p.fqn) = lower(:fqn) or (lower(p.name) = lower(:name) and lower(p.domain) = lower(:domain))) " +
+            "and (:excludeUuid is null or p.uuid <> :excludeUuid)")
+    List<NaturalKey> findNaturalKeyConflicts(@Param("fqn") String fqn,
+                                             @Param("name") String name,
+                                             @Param("domain") String domain,
+                                             @Param("excludeUuid") String excludeUuid);
 
-    /**
-     * Check if a DataProduct exists by FQN (case-insensitive)
-     */
-    boolean existsByFqnIgnoreCase(String fqn);
+    interface NaturalKey {
+        String getFqn();
 
-    /**
-     * Check if a DataProduct exists by name and domain excluding a specific UUID (case-insensitive)
-     */
-    boolean existsByNameIgnoreCaseAndDomainIgnoreCaseAndUuidNot(String name, String domain, String uuid);
+        String getName();
 
-    /**
-     * Check if a DataProduct exists by FQN excluding a specific UUID (case-insensitive)
-     */
-    boolean existsByFqnIgnoreCaseAndUuidNot(String fqn, String uuid);
+        String getDomain();
+    }
 
     class Specs extends SpecsUtils {
 
@@ -3,11 +3,18 @@ package org.opendatamesh.platform.pp.registry.dataproduct.services;
 import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProductRepo;
 import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsService;
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientException;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.repository.*;
 import org.opendatamesh.platform.git.exceptions.GitOperationException;
 import org.opendatamesh.platform.git.model.*;
 import org.opendatamesh.platform.git.provider.GitProvider;
+import org.opendatamesh.platform.pp.registry.git.checkout.GitCheckouts;
+import org.opendatamesh.platform.pp.registry.git.model.GitCheckoutScope;
+import org.opendatamesh.platform.pp.registry.git.model.GitReference;
 import org.opendatamesh.platform.pp.registry.git.provider.GitProviderFactory;
+import org.opendatamesh.platform.pp.registry.git.provider.files.GitFileWriter;
+import org.opendatamesh.platform.pp.registry.git.provider.files.GitTagCreation;
+import org.opendatamesh.platform.pp.registry.git.refs.GitRefResolver;
 import org.opendatamesh.platform.git.provider.GitProviderIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,17 +35,22 @@ public class DataProductRepositoryUtilsServiceImpl implements DataProductReposit
     private final BranchMapper branchMapper;
     private final TagMapper tagMapper;
     private final GitProviderFactory gitProviderFactory;
+    private final GitCheckouts gitCheckouts;
+    private final GitRefResolver gitRefResolver;
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     public DataProductRepositoryUtilsServiceImpl(DataProductsService service,
                                                  CommitMapper commitMapper, BranchMapper branchMapper, TagMapper tagMapper,
-                                                 GitProviderFactory gitProviderFactory) {
+                                                 GitProviderFactory gitProviderFactory, GitCheckouts gitCheckouts,
+                                                 GitRefResolver gitRefResolver) {
         this.service = service;
         this.commitMapper = commitMapper;
         this.branchMapper = branchMapper;
         this.tagMapper = tagMapper;
         this.gitProviderFactory = gitProviderFactory;
+        this.gitCheckouts = gitCheckouts;
+        this.gitRefResolver = gitRefResolver;
     }
 
     @Override
@@ -95,9 +107,9 @@ public class DataProductRepositoryUtilsServiceImpl implements DataProductReposit
         DataProductRepo dataProductRepo = Optional.ofNullable(service.findOne(dataProductUuid).getDataProductRepo())
                 .orElseThrow(() -> new BadRequestException("Data product does not have an associated repository"));
 
-        GitProvider provider = gitProviderFactory.buildGitProvider(
-                new GitProviderIdentifier(dataProductRepo.getProviderType().name(), dataProductRepo.getProviderBaseUrl()),
-                headers);
+        GitProviderIdentifier providerIdentifier =
+                new GitProviderIdentifier(dataProductRepo.getProviderType().name(), dataProductRepo.getProviderBaseUrl());
+        GitProvider provider = gitProviderFactory.buildGitProvider(providerIdentifier, headers);
 
         String branchName = StringUtils.hasText(tagRes.getBranchName()) ? tagRes.getBranchName()
                 : dataProductRepo.getDefaultBranch();
@@ -106,18 +118,27 @@ public class DataProductRepositoryUtilsServiceImpl implements DataProductReposit
                 .orElseThrow(() -> new BadRequestException(
                         "No remote repository was found for data product with id " + dataProductRepo.getUuid()));
 
-        RepositoryPointer repositoryPointer = buildRepositoryPointer(new GitReference(null, branchName, null));
+        GitReference reference = GitReference.ofBranch(branchName);
+        // Null when the remote cannot tell the head of the branch, which is then resolved by the provider
+        // or read from the checked out repository
+        String resolvedTargetSha = StringUtils.hasText(tagRes.getCommitHash()) ? tagRes.getCommitHash()
+                : gitRefResolver.branchHead(gitRepo.getCloneUrlHttp(), branchName, headers).orElse(null);
+        GitTagCreation tag = new GitTagCreation(tagRes.getName(), resolvedTargetSha, branchName,
+                tagRes.getMessage(), tagRes.getAuthorName(), tagRes.getAuthorEmail());
 
         try {
-            provider.gitOperation().readRepository(gitRepo, repositoryPointer, repository -> {
-                String targetSha = retrieveTagTargetCommit(tagRes, repository, provider, dataProductRepo);
-                provider.gitOperation().addTag(
-                        repository,
-                        new Tag(tagRes.getName(), targetSha, tagRes.getAuthorName(), tagRes.getAuthorEmail(), tagRes.getMessage())
-                );
-                provider.gitOperation().push(repository, true);
-            });
-        } catch (GitOperationException e) {
+            if (!createTagThroughProvider(dataProductUuid, gitRepo, tag, providerIdentifier, headers)) {
+                gitCheckouts.readRepository(provider, gitRepo, reference, GitCheckoutScope.full(), headers, repository -> {
+                    String targetSha = resolvedTargetSha != null ? resolvedTargetSha
+                            : retrieveTagTargetCommit(tagRes, repository, provider, dataProductRepo);
+                    provider.gitOperation().addTag(
+                            repository,
+                            new Tag(tagRes.getName(), targetSha, tagRes.getAuthorName(), tagRes.getAuthorEmail(), tagRes.getMessage())
+                    );
+                    provider.gitOperation().push(repository, true);
+                });
+            }
+        } catch (GitOperationException | ClientException e) {
             logger.warn("Failed to create tag for data product {}: {}", dataProductUuid, e.getMessage(), e);
             throw new BadRequestException("Failed to create tag: " + e.getMessage());
         }
@@ -125,6 +146,27 @@ public class DataProductRepositoryUtilsServiceImpl implements DataProductReposit
         return tagRes;
     }
 
+    /**
+     * Creates the tag with the REST API of the provider, without cloning the repository. False when the provider has
+     * no such API or cannot locate the repository from its clone URL.
+     */
+    private boolean createTagThroughProvider(String dataProductUuid, Repository gitRepo, GitTagCreation tag,
+                                             GitProviderIdentifier providerIdentifier, HttpHeaders headers) {
+        Optional<GitFileWriter> writer = gitProviderFactory.buildGitFileWriter(providerIdentifier, headers);
+        if (writer.isEmpty() || !StringUtils.hasText(gitRepo.getCloneUrlHttp())
+                || (!StringUtils.hasText(tag.commit()) && !StringUtils.hasText(tag.branch()))) {
+            return false;
+        }
+        try {
+            writer.get().createTag(gitRepo.getId(), gitRepo.getCloneUrlHttp(), tag);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Could not create tag {} for data product {} through the provider API, cloning the repository: {}",
+                    tag.name(), dataProductUuid, e.getMessage());
+            return false;
+        }
+        return true;
+    }
+
     private String retrieveTagTargetCommit(TagRes tagRes, File repository, GitProvider provider, DataProductRepo dataProductRepo) {
         String targetSha;
         if (StringUtils.hasText(tagRes.getCommitHash())) {
@@ -240,23 +282,4 @@ public class DataProductRepositoryUtilsServiceImpl implements DataProductReposit
         return null;
     }
 
-    private RepositoryPointer buildRepositoryPointer(GitReference pointer) {
-        return switch (pointer.type()) {
-            case TAG -> new RepositoryPointerTag(pointer.tag());
-            case BRANCH -> new RepositoryPointerBranch(pointer.branch());
-            case COMMIT -> new RepositoryPointerCommit(pointer.commit());
-        };
-    }
-
-    private record GitReference(String tag, String branch, String commit) {
-        enum VersionType { TAG, BRANCH, COMMIT }
-
-        VersionType type() {
-            if (tag != null) return VersionType.TAG;
-            if (branch != null) return VersionType.BRANCH;
-            if (commit != null) return VersionType.COMMIT;
-            return VersionType.BRANCH;
-        }
-    }
-
 }
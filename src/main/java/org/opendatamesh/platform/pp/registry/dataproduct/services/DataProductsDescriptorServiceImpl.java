@@ -8,13 +8,22 @@ import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProdu
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
 import org.opendatamesh.platform.pp.registry.exceptions.InternalException;
 import org.opendatamesh.platform.pp.registry.exceptions.ResourceConflictException;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientException;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.descriptor.GetDescriptorOptionsRes;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.descriptor.InitDescriptorCommandRes;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.descriptor.UpdateDescriptorCommandRes;
 import org.opendatamesh.platform.git.exceptions.GitOperationException;
 import org.opendatamesh.platform.git.model.*;
 import org.opendatamesh.platform.git.provider.GitProvider;
+import org.opendatamesh.platform.pp.registry.git.checkout.GitCheckouts;
+import org.opendatamesh.platform.pp.registry.git.model.GitCheckoutScope;
+import org.opendatamesh.platform.pp.registry.git.model.GitReference;
 import org.opendatamesh.platform.pp.registry.git.provider.GitProviderFactory;
+import org.opendatamesh.platform.pp.registry.git.provider.files.GitBaseCommitConflictException;
+import org.opendatamesh.platform.pp.registry.git.provider.files.GitFileChange;
+import org.opendatamesh.platform.pp.registry.git.provider.files.GitFileReader;
+import org.opendatamesh.platform.pp.registry.git.provider.files.GitFileWriter;
+import org.opendatamesh.platform.pp.registry.git.refs.GitRefResolver;
 import org.opendatamesh.platform.git.provider.GitProviderIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,13 +47,19 @@ public class DataProductsDescriptorServiceImpl implements DataProductsDescriptor
 
     private final DataProductsService dataProductsService;
     private final GitProviderFactory gitProviderFactory;
+    private final GitCheckouts gitCheckouts;
+    private final GitRefResolver gitRefResolver;
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     public DataProductsDescriptorServiceImpl(DataProductsService dataProductsService,
-                                             GitProviderFactory gitProviderFactory) {
+                                             GitProviderFactory gitProviderFactory,
+                                             GitCheckouts gitCheckouts,
+                                             GitRefResolver gitRefResolver) {
         this.dataProductsService = dataProductsService;
         this.gitProviderFactory = gitProviderFactory;
+        this.gitCheckouts = gitCheckouts;
+        this.gitRefResolver = gitRefResolver;
     }
 
     @Override
@@ -58,20 +73,25 @@ public class DataProductsDescriptorServiceImpl implements DataProductsDescriptor
                 "Resolved data product repo: providerType={}, providerBaseUrl={}, descriptorRootPath={}, remoteUrl={}",
                 dataProductRepo.getProviderType(), dataProductRepo.getProviderBaseUrl(),
                 dataProductRepo.getDescriptorRootPath(), dataProductRepo.getRemoteUrlHttp());
-        GitProvider provider = gitProviderFactory.buildGitProvider(
-                new GitProviderIdentifier(dataProductRepo.getProviderType().name(), dataProductRepo.getProviderBaseUrl()),
-                headers
-        );
+        GitProviderIdentifier providerIdentifier =
+                new GitProviderIdentifier(dataProductRepo.getProviderType().name(), dataProductRepo.getProviderBaseUrl());
+        GitProvider provider = gitProviderFactory.buildGitProvider(providerIdentifier, headers);
         Repository gitRepo = provider
                 .getRepository(dataProductRepo.getExternalIdentifier(), dataProductRepo.getOwnerId())
                 .orElseThrow(() -> new BadRequestException(
                         "No remote repository was found for data product with id " + dataProductRepo.getUuid()));
-        RepositoryPointer repositoryPointer = buildRepositoryPointer(referencePointer);
         logger.info("Built repository pointer for externalId={}, ownerId={}", dataProductRepo.getExternalIdentifier(),
                 dataProductRepo.getOwnerId());
+        Optional<JsonNode> providerDescriptor = readDescriptorFromProvider(dataProductUuid, dataProductRepo, gitRepo,
+                referencePointer, providerIdentifier, headers);
+        if (providerDescriptor.isPresent()) {
+            return providerDescriptor.get();
+        }
         AtomicReference<JsonNode> descriptor = new AtomicReference<>();
         try {
-            provider.gitOperation().readRepository(gitRepo, repositoryPointer, repository -> {
+            // Only the descriptor folder is checked out
+            gitCheckouts.readRepository(provider, gitRepo, referencePointer,
+                    GitCheckoutScope.ofPath(dataProductRepo.getDescriptorRootPath()), headers, repository -> {
                 logger.info("Repository cloned/checked out at {} for dataProductUuid={}", repository.getAbsolutePath(),
                         dataProductUuid);
                 try {
@@ -117,20 +137,24 @@ public class DataProductsDescriptorServiceImpl implements DataProductsDescriptor
                 "Resolved data product repo: providerType={}, providerBaseUrl={}, descriptorRootPath={}, defaultBranch={}",
                 dataProductRepo.getProviderType(), dataProductRepo.getProviderBaseUrl(),
                 dataProductRepo.getDescriptorRootPath(), dataProductRepo.getDefaultBranch());
-        GitProvider provider = gitProviderFactory.buildGitProvider(
-                new GitProviderIdentifier(dataProductRepo.getProviderType().name(), dataProductRepo.getProviderBaseUrl()),
-                headers
-        );
+        GitProviderIdentifier providerIdentifier =
+                new GitProviderIdentifier(dataProductRepo.getProviderType().name(), dataProductRepo.getProviderBaseUrl());
+        GitProvider provider = gitProviderFactory.buildGitProvider(providerIdentifier, headers);
         String targetBranch = StringUtils.hasText(branch) ? branch : dataProductRepo.getDefaultBranch();
         logger.info("Using target branch: {}", targetBranch);
         Repository gitRepo = provider
                 .getRepository(dataProductRepo.getExternalIdentifier(), dataProductRepo.getOwnerId())
                 .orElseThrow(() -> new BadRequestException(
                         "No remote repository was found for data product with id " + dataProductRepo.getUuid()));
-        RepositoryPointer repositoryPointer = buildRepositoryPointer(new GitReference(null, targetBranch, null));
+        GitReference reference = GitReference.ofBranch(targetBranch);
+        GitFileChange change = new GitFileChange(targetBranch, dataProductRepo.getDescriptorRootPath(),
+                content.toPrettyString().getBytes(StandardCharsets.UTF_8), "Init Commit", authorName, authorEmail, null);
 
         try {
-            provider.gitOperation().readRepository(gitRepo, repositoryPointer, repository -> {
+            if (writeDescriptorThroughProvider(dataProductUuid, gitRepo, change, providerIdentifier, headers)) {
+                return;
+            }
+            gitCheckouts.readRepository(provider, gitRepo, reference, GitCheckoutScope.full(), headers, repository -> {
                 logger.info("Repository checked out at {} for init descriptor, dataProductUuid={}",
                         repository.getAbsolutePath(), dataProductUuid);
                 try {
@@ -154,7 +178,7 @@ public class DataProductsDescriptorServiceImpl implements DataProductsDescriptor
                     throw new InternalException("Failed to write or create descriptor file: " + e.getMessage(), e);
                 }
             });
-        } catch (GitOperationException e) {
+        } catch (GitOperationException | ClientException e) {
             logger.warn("Failed to initialize repository for dataProductUuid={}: {}", dataProductUuid,
                     e.getMessage(), e);
             throw new BadRequestException("Failed to access repository (e.g. branch not found): " + e.getMessage(), e);
@@ -175,21 +199,30 @@ public class DataProductsDescriptorServiceImpl implements DataProductsDescriptor
         logger.info("Resolved data product repo: providerType={}, providerBaseUrl={}, descriptorRootPath={}",
                 dataProductRepo.getProviderType(), dataProductRepo.getProviderBaseUrl(),
                 dataProductRepo.getDescriptorRootPath());
-        GitProvider provider = gitProviderFactory.buildGitProvider(
-                new GitProviderIdentifier(dataProductRepo.getProviderType().name(), dataProductRepo.getProviderBaseUrl()),
-                headers
-        );
+        GitProviderIdentifier providerIdentifier =
+                new GitProviderIdentifier(dataProductRepo.getProviderType().name(), dataProductRepo.getProviderBaseUrl());
+        GitProvider provider = gitProviderFactory.buildGitProvider(providerIdentifier, headers);
         Repository gitRepo = provider
                 .getRepository(dataProductRepo.getExternalIdentifier(), dataProductRepo.getOwnerId())
                 .orElseThrow(() -> new BadRequestException(
                         "No remote repository was found for data product with id " + dataProductRepo.getUuid()));
-        RepositoryPointer repositoryPointer = buildRepositoryPointer(new GitReference(null, branch, null));
+        GitReference reference = GitReference.ofBranch(branch);
+        GitFileChange change = new GitFileChange(StringUtils.hasText(branch) ? branch : dataProductRepo.getDefaultBranch(),
+                dataProductRepo.getDescriptorRootPath(), content.toPrettyString().getBytes(StandardCharsets.UTF_8),
+                commitMessage, authorName, authorEmail, baseCommit);
 
         try {
-            provider.gitOperation().readRepository(gitRepo, repositoryPointer, repository -> {
+            // The provider checks the base commit while committing
+            if (writeDescriptorThroughProvider(dataProductUuid, gitRepo, change, providerIdentifier, headers)) {
+                return;
+            }
+            // A conflict is detected before checking the repository out when the remote can tell the head
+            rejectOutdatedBaseCommit(change.branch(), baseCommit, gitRepo, headers);
+            gitCheckouts.readRepository(provider, gitRepo, reference, GitCheckoutScope.full(), headers, repository -> {
                 logger.info("Repository checked out at {} for update descriptor, dataProductUuid={}",
                         repository.getAbsolutePath(), dataProductUuid);
                 try {
+                    // The branch may have moved since the remote was asked
                     validateBaseCommit(branch, baseCommit, repository, provider);
                     if (StringUtils.hasText(baseCommit)) {
                         logger.info("Base commit validated: {}", baseCommit);
@@ -214,12 +247,100 @@ public class DataProductsDescriptorServiceImpl implements DataProductsDescriptor
                     throw new InternalException("Failed to write descriptor file: " + e.getMessage(), e);
                 }
             });
-        } catch (GitOperationException e) {
+        } catch (GitOperationException | ClientException e) {
             logger.warn("Failed to update repository descriptor for data product {}: {}", dataProductUuid, e.getMessage(), e);
             throw new BadRequestException("Failed to update repository descriptor: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Reads the descriptor with a single request to the file API of the provider. Empty when the provider has no such
+     * API or does not return the file, in which case the repository is cloned: the clone tells a missing descriptor
+     * from a missing reference, and reports errors the way the other descriptor operations do.
+     */
+    private Optional<JsonNode> readDescriptorFromProvider(String dataProductUuid, DataProductRepo dataProductRepo,
+                                                          Repository gitRepo, GitReference reference,
+                                                          GitProviderIdentifier providerIdentifier, HttpHeaders headers) {
+        Optional<GitFileReader> fileReader = gitProviderFactory.buildGitFileReader(providerIdentifier, headers);
+        if (fileReader.isEmpty() || !StringUtils.hasText(gitRepo.getCloneUrlHttp())) {
+            return Optional.empty();
+        }
+        GitReference resolvedReference = StringUtils.hasText(reference.name()) ? reference
+                : GitReference.ofBranch(dataProductRepo.getDefaultBranch());
+        Optional<byte[]> content;
+        try {
+            content = fileReader.get().readFile(gitRepo.getId(), gitRepo.getCloneUrlHttp(), resolvedReference,
+                    dataProductRepo.getDescriptorRootPath());
+        } catch (ClientException | IllegalArgumentException e) {
+            logger.warn("Could not read the descriptor of dataProductUuid={} through the provider API, cloning the repository: {}",
+                    dataProductUuid, e.getMessage());
+            return Optional.empty();
+        }
+        if (content.isEmpty()) {
+            logger.info("Descriptor not returned by the provider API for dataProductUuid={}, cloning the repository",
+                    dataProductUuid);
+            return Optional.empty();
+        }
+        try {
+            JsonNode descriptor = new ObjectMapper().readTree(content.get());
+            logger.info("Successfully read and parsed descriptor from {} through the provider API for dataProductUuid={}",
+                    dataProductRepo.getDescriptorRootPath(), dataProductUuid);
+            return Optional.of(descriptor);
+        } catch (IOException e) {
+            logger.warn("Descriptor file is malformed at: {}, for repository: {}",
+                    dataProductRepo.getDescriptorRootPath(), dataProductRepo.getRemoteUrlHttp(), e);
+            throw new ResourceConflictException("Unable to process descriptor file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Commits the descriptor with the file API of the provider, which takes one or two requests instead of a clone and
+     * a push. False when the provider has no such API or cannot locate the repository from its clone URL, in which
+     * case the repository is cloned.
+     *
+     * @throws ResourceConflictException when the branch is not at the base commit of the change
+     * @throws ClientException           when the provider refuses or fails the commit
+     */
+    private boolean writeDescriptorThroughProvider(String dataProductUuid, Repository gitRepo, GitFileChange change,
+                                                   GitProviderIdentifier providerIdentifier, HttpHeaders headers) {
+        Optional<GitFileWriter> fileWriter = gitProviderFactory.buildGitFileWriter(providerIdentifier, headers);
+        if (fileWriter.isEmpty() || !StringUtils.hasText(gitRepo.getCloneUrlHttp())
+                || !StringUtils.hasText(change.branch())) {
+            return false;
+        }
+        String commit;
+        try {
+            commit = fileWriter.get().writeFile(gitRepo.getId(), gitRepo.getCloneUrlHttp(), change);
+        } catch (GitBaseCommitConflictException e) {
+            throw new ResourceConflictException(e.getMessage(), e);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Could not write the descriptor of dataProductUuid={} through the provider API, cloning the repository: {}",
+                    dataProductUuid, e.getMessage());
+            return false;
+        }
+        logger.info("Committed descriptor {} on branch {} through the provider API for dataProductUuid={}, commit={}",
+                change.path(), change.branch(), dataProductUuid, commit);
+        return true;
+    }
+
+    /**
+     * Compares the base commit with the head of the branch advertised by the remote, rejecting an outdated update
+     * before any checkout. Passing this check does not spare the comparison with the checked out repository,
+     * which is only made later.
+     */
+    private void rejectOutdatedBaseCommit(String branch, String baseCommit, Repository gitRepo, HttpHeaders headers) {
+        if (!StringUtils.hasText(baseCommit)) {
+            return;
+        }
+        gitRefResolver.branchHead(gitRepo.getCloneUrlHttp(), branch, headers)
+                .filter(headCommit -> !baseCommit.equals(headCommit))
+                .ifPresent(headCommit -> {
+                    throw new ResourceConflictException(
+                            "Conflict detected: base commit " + baseCommit + " does not match latest commit " + headCommit
+                    );
+                });
+    }
+
     private void validateBaseCommit(String branch, String baseCommit, File repository, GitProvider provider) {
         if (StringUtils.hasText(baseCommit)) {
             String headCommit = provider.gitOperation().getHeadSha(repository, branch);
@@ -231,23 +352,4 @@ public class DataProductsDescriptorServiceImpl implements DataProductsDescriptor
         }
     }
 
-    private RepositoryPointer buildRepositoryPointer(GitReference pointer) {
-        return switch (pointer.type()) {
-            case TAG -> new RepositoryPointerTag(pointer.tag());
-            case BRANCH -> new RepositoryPointerBranch(pointer.branch());
-            case COMMIT -> new RepositoryPointerCommit(pointer.commit());
-        };
-    }
-
-    private record GitReference(String tag, String branch, String commit) {
-        enum VersionType {TAG, BRANCH, COMMIT}
-
-        VersionType type() {
-            if (tag != null) return VersionType.TAG;
-            if (branch != null) return VersionType.BRANCH;
-            if (commit != null) return VersionType.COMMIT;
-            return VersionType.BRANCH;
-        }
-    }
-
 }
@@ -0,0 +1,20 @@
+package org.opendatamesh.platform.pp.registry.dataproduct.services.core;
+
+/**
+ * Serializes the use cases that change a data product or its versions (publish, approve, reject, delete).
+ * <p>
+ * Locks are held until the end of the current transaction and are scoped to one data product:
+ * operations on different data products never wait for each other.
+ * To avoid deadlocks, callers take the data product lock before locking or changing any of its rows.
+ */
+public interface DataProductsLockService {
+
+    /**
+     * Locks the data product until the end of the current transaction, waiting for the holder of the lock if any.
+     * The lock is reentrant within the same transaction and the data product does not need to exist.
+     *
+     * @param dataProductUuid the uuid of the data product
+     * @throws IllegalStateException if there is no active transaction
+     */
+    void lock(String dataProductUuid);
+}
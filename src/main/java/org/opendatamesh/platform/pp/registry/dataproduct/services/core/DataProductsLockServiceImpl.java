@@ -0,0 +1,39 @@
+package org.opendatamesh.platform.pp.registry.dataproduct.services.core;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+
+/**
+ * The locks are PostgreSQL transaction-level advisory locks, so they are shared by all the registry instances
+ * and released by the database on commit, rollback or lost connection.
+ */
+@Service
+public class DataProductsLockServiceImpl implements DataProductsLockService {
+
+    // First half of the two-keys advisory lock space, keeps these locks apart from any other advisory lock of the database.
+    // Different uuids can share the same hash: the only effect of a collision is that two data products wait for each other.
+    private static final int ADVISORY_LOCK_NAMESPACE = 0x4F444D52;
+    private static final String ADVISORY_LOCK_SQL = "select pg_advisory_xact_lock(?, hashtext(?))";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void lock(String dataProductUuid) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("A data product can be locked only inside a transaction");
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(ADVISORY_LOCK_SQL)) {
+                statement.setInt(1, ADVISORY_LOCK_NAMESPACE);
+                statement.setString(2, dataProductUuid);
+                statement.execute();
+            }
+        });
+    }
+}
@@ -3,7 +3,24 @@ package org.opendatamesh.platform.pp.registry.dataproduct.services.core;
 import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProduct;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductRes;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductSearchOptions;
+import org.opendatamesh.platform.pp.registry.utils.resources.CursorPageRes;
 import org.opendatamesh.platform.pp.registry.utils.services.GenericMappedAndFilteredCrudService;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 public interface DataProductsService extends GenericMappedAndFilteredCrudService<DataProductSearchOptions, DataProductRes, DataProduct, String> {
+
+    /**
+     * Keyset pagination over the filtered data products, ordered by createdAt and uuid descending.
+     * Unlike the offset based search it runs no count query and its cost
+     * does not grow with the page depth.
+     *
+     * @param cursor  the token returned by the previous page, or null for the first page
+     * @param size    the maximum number of elements of the page, capped like the offset based search
+     * @param filters filtering criteria for the search
+     * @return the page along with the token to fetch the next one
+     */
+    CursorPageRes<DataProductRes> scrollAllResourcesFiltered(String cursor, int size, DataProductSearchOptions filters);
+
+    Window<DataProduct> scrollAllFiltered(ScrollPosition position, int size, DataProductSearchOptions filters);
 }
@@ -10,10 +10,16 @@ import org.opendatamesh.platform.pp.registry.exceptions.ResourceConflictExceptio
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductMapper;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductRes;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductSearchOptions;
+import org.opendatamesh.platform.pp.registry.utils.repositories.KeysetCursor;
 import org.opendatamesh.platform.pp.registry.utils.repositories.PagingAndSortingAndSpecificationExecutorRepository;
 import org.opendatamesh.platform.pp.registry.utils.repositories.SpecsUtils;
+import org.opendatamesh.platform.pp.registry.utils.resources.CursorPageRes;
 import org.opendatamesh.platform.pp.registry.utils.services.GenericMappedAndFilteredCrudServiceImpl;
+import org.opendatamesh.platform.pp.registry.utils.services.TransactionHandler;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -27,11 +33,34 @@ public class DataProductsServiceImpl extends GenericMappedAndFilteredCrudService
 
     private final DataProductMapper mapper;
     private final DataProductsRepository repository;
+    private final TransactionHandler transactionHandler;
+    private final int maxPageSize;
 
     @Autowired
-    public DataProductsServiceImpl(DataProductMapper mapper, DataProductsRepository repository) {
+    public DataProductsServiceImpl(DataProductMapper mapper, DataProductsRepository repository, TransactionHandler transactionHandler,
+                                   @Value("${spring.data.web.pageable.max-page-size:2000}") int maxPageSize) {
         this.mapper = mapper;
         this.repository = repository;
+        this.transactionHandler = transactionHandler;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Override
+    public CursorPageRes<DataProductRes> scrollAllResourcesFiltered(String cursor, int size, DataProductSearchOptions filters) {
+        ScrollPosition position = KeysetCursor.decode(cursor);
+        return transactionHandler.runInTransaction(() -> {
+            Window<DataProduct> window = scrollAllFiltered(position, size, filters);
+            return new CursorPageRes<>(window.map(this::toRes).getContent(), KeysetCursor.encode(window));
+        });
+    }
+
+    @Override
+    public Window<DataProduct> scrollAllFiltered(ScrollPosition position, int size, DataProductSearchOptions filters) {
+        Specification<DataProduct> spec = getSpecFromFilters(filters);
+        return repository.findBy(spec, query -> query
+                .sortBy(KeysetCursor.SORT)
+                .limit(KeysetCursor.pageSize(size, maxPageSize))
+                .scroll(position));
     }
 
 
@@ -201,22 +230,24 @@ public class DataProductsServiceImpl extends GenericMappedAndFilteredCrudService
     }
 
     /**
-     * Validates uniqueness constraints for name+domain and fqn
+     * Validates uniqueness constraints for name+domain and fqn with a single index-backed lookup.
+     * Concurrent writers racing past this check are stopped by the unique indexes on the same keys.
      *
      * @param dataProduct the data product to validate
      * @param excludeUuid UUID to exclude from uniqueness check (for updates)
      */
     private void validateNaturalKeyConstraints(DataProduct dataProduct, String excludeUuid) {
-        // Validate name+domain uniqueness
-        boolean existsByNameAndDomain;
-        if (StringUtils.hasText(excludeUuid)) {
-            existsByNameAndDomain = repository.existsByNameIgnoreCaseAndDomainIgnoreCaseAndUuidNot(
-                    dataProduct.getName(), dataProduct.getDomain(), excludeUuid);
-        } else {
-            existsByNameAndDomain = repository.existsByNameIgnoreCaseAndDomainIgnoreCase(
-                    dataProduct.getName(), dataProduct.getDomain());
-        }
+        List<DataProductsRepository.NaturalKey> conflicts = repository.findNaturalKeyConflicts(
+                dataProduct.getFqn(),
+                dataProduct.getName(),
+                dataProduct.getDomain(),
+                StringUtils.hasText(excludeUuid) ? excludeUuid : null
+        );
 
+        // Validate name+domain uniqueness
+        boolean existsByNameAndDomain = conflicts.stream().anyMatch(conflict ->
+                dataProduct.getName().equalsIgnoreCase(conflict.getName())
+                        && dataProduct.getDomain().equalsIgnoreCase(conflict.getDomain()));
         if (existsByNameAndDomain) {
             throw new ResourceConflictException(
                     String.format("A data product with name '%s' and domain '%s' already exists",
@@ -224,14 +255,7 @@ public class DataProductsServiceImpl extends GenericMappedAndFilteredCrudService
         }
 
         // Validate FQN uniqueness
-        boolean existsByFqn;
-        if (StringUtils.hasText(excludeUuid)) {
-            existsByFqn = repository.existsByFqnIgnoreCaseAndUuidNot(dataProduct.getFqn(), excludeUuid);
-        } else {
-            existsByFqn = repository.existsByFqnIgnoreCase(dataProduct.getFqn());
-        }
-
-        if (existsByFqn) {
+        if (!conflicts.isEmpty()) {
             throw new ResourceConflictException(
                     String.format("A data product with FQN '%s' already exists", dataProduct.getFqn()));
         }
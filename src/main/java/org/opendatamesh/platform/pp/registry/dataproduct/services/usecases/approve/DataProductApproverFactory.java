@@ -1,7 +1,7 @@
 package org.opendatamesh.platform.pp.registry.dataproduct.services.usecases.approve;
 
 import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsService;
-import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import org.opendatamesh.platform.pp.registry.outbox.services.core.NotificationOutboxService;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductMapper;
 import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionalOutboundPort;
 import org.opendatamesh.platform.pp.registry.utils.usecases.UseCase;
@@ -16,13 +16,13 @@ public class DataProductApproverFactory {
     @Autowired
     private TransactionalOutboundPort transactionalOutboundPort;
     @Autowired
-    private NotificationClient notificationClient;
+    private NotificationOutboxService notificationOutboxService;
     @Autowired
     private DataProductMapper dataProductMapper;
 
     public UseCase buildDataProductApprover(DataProductApproveCommand command, DataProductApprovePresenter presenter) {
         DataProductApproverPersistenceOutboundPort persistencePort = new DataProductApproverPersistenceOutboundPortImpl(dataProductsService);
-        DataProductApproverNotificationOutboundPort notificationPort = new DataProductApproverNotificationOutboundPortImpl(notificationClient, dataProductMapper);
+        DataProductApproverNotificationOutboundPort notificationPort = new DataProductApproverNotificationOutboundPortImpl(notificationOutboxService, dataProductMapper);
         return new DataProductApprover(command, presenter, notificationPort, persistencePort, transactionalOutboundPort);
     }
 }
@@ -1,16 +1,16 @@
 package org.opendatamesh.platform.pp.registry.dataproduct.services.usecases.approve;
 
-import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import org.opendatamesh.platform.pp.registry.outbox.services.core.NotificationOutboxService;
 import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProduct;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductMapper;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.events.emitted.EmittedEventDataProductInitializedRes;
 
 class DataProductApproverNotificationOutboundPortImpl implements DataProductApproverNotificationOutboundPort {
-    private final NotificationClient notificationClient;
+    private final NotificationOutboxService notificationOutboxService;
     private final DataProductMapper dataProductMapper;
 
-    public DataProductApproverNotificationOutboundPortImpl(NotificationClient notificationClient, DataProductMapper dataProductMapper) {
-        this.notificationClient = notificationClient;
+    public DataProductApproverNotificationOutboundPortImpl(NotificationOutboxService notificationOutboxService, DataProductMapper dataProductMapper) {
+        this.notificationOutboxService = notificationOutboxService;
         this.dataProductMapper = dataProductMapper;
     }
 
@@ -19,6 +19,6 @@ class DataProductApproverNotificationOutboundPortImpl implements DataProductAppr
         EmittedEventDataProductInitializedRes event = new EmittedEventDataProductInitializedRes();
         event.setResourceIdentifier(dataProduct.getUuid());
         event.getEventContent().setDataProduct(dataProductMapper.toRes(dataProduct));
-        notificationClient.notifyEvent(event);
+        notificationOutboxService.enqueue(event);
     }
 }
@@ -3,6 +3,7 @@ package org.opendatamesh.platform.pp.registry.dataproduct.services.usecases.dele
 import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProduct;
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
 import org.opendatamesh.platform.pp.registry.exceptions.NotFoundException;
+import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionPolicy;
 import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionalOutboundPort;
 import org.opendatamesh.platform.pp.registry.utils.usecases.UseCase;
 import org.springframework.util.StringUtils;
@@ -10,6 +11,9 @@ import org.springframework.util.StringUtils;
 import java.util.Optional;
 
 class DataProductDeleter implements UseCase {
+    // Waits for the use cases running on the data product versions, which hold the same lock
+    private static final TransactionPolicy TRANSACTION_POLICY = TransactionPolicy.READ_COMMITTED;
+
     private final DataProductDeleteCommand command;
     private final DataProductDeletePresenter presenter;
     private final DataProductDeleterNotificationOutboundPort notificationsPort;
@@ -32,8 +36,9 @@ class DataProductDeleter implements UseCase {
     public void execute() {
         validateCommand();
 
-        transactionalPort.doInTransaction(() -> {
+        transactionalPort.doInTransaction(TRANSACTION_POLICY, () -> {
             DataProduct dataProduct = findDataProduct(command);
+            persistencePort.lock(dataProduct.getUuid());
 
             // Delete the data product - database cascade will automatically delete all associated versions
             persistencePort.delete(dataProduct);
@@ -1,7 +1,8 @@
 package org.opendatamesh.platform.pp.registry.dataproduct.services.usecases.delete;
 
+import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsLockService;
 import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsService;
-import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import org.opendatamesh.platform.pp.registry.outbox.services.core.NotificationOutboxService;
 import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionalOutboundPort;
 import org.opendatamesh.platform.pp.registry.utils.usecases.UseCase;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,14 +14,16 @@ public class DataProductDeleterFactory {
     @Autowired
     private DataProductsService dataProductsService;
     @Autowired
+    private DataProductsLockService dataProductsLockService;
+    @Autowired
     private TransactionalOutboundPort transactionalOutboundPort;
     @Autowired
-    private NotificationClient notificationClient;
+    private NotificationOutboxService notificationOutboxService;
 
     public UseCase buildDataProductDeleter(DataProductDeleteCommand command, DataProductDeletePresenter presenter) {
         DataProductDeleterPersistenceOutboundPort persistencePort = new DataProductDeleterPersistenceOutboundPortImpl(
-                dataProductsService);
-        DataProductDeleterNotificationOutboundPort notificationPort = new DataProductDeleterNotificationOutboundPortImpl(notificationClient);
+                dataProductsService, dataProductsLockService);
+        DataProductDeleterNotificationOutboundPort notificationPort = new DataProductDeleterNotificationOutboundPortImpl(notificationOutboxService);
         return new DataProductDeleter(command, presenter, notificationPort, persistencePort, transactionalOutboundPort);
     }
 }
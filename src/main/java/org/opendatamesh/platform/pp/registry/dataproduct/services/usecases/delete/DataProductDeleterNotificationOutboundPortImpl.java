@@ -1,14 +1,14 @@
 package org.opendatamesh.platform.pp.registry.dataproduct.services.usecases.delete;
 
-import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import org.opendatamesh.platform.pp.registry.outbox.services.core.NotificationOutboxService;
 import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProduct;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.events.emitted.EmittedEventDataProductDeletedRes;
 
 class DataProductDeleterNotificationOutboundPortImpl implements DataProductDeleterNotificationOutboundPort {
-    private final NotificationClient notificationClient;
+    private final NotificationOutboxService notificationOutboxService;
 
-    public DataProductDeleterNotificationOutboundPortImpl(NotificationClient notificationClient) {
-        this.notificationClient = notificationClient;
+    public DataProductDeleterNotificationOutboundPortImpl(NotificationOutboxService notificationOutboxService) {
+        this.notificationOutboxService = notificationOutboxService;
     }
 
     @Override
@@ -17,7 +17,7 @@ class DataProductDeleterNotificationOutboundPortImpl implements DataProductDelet
         event.setResourceIdentifier(dataProduct.getUuid());
         event.getEventContent().setDataProductUuid(dataProduct.getUuid());
         event.getEventContent().setDataProductFqn(dataProduct.getFqn());
-        notificationClient.notifyEvent(event);
+        notificationOutboxService.enqueue(event);
     }
 }
 
@@ -9,6 +9,8 @@ interface DataProductDeleterPersistenceOutboundPort {
 
     Optional<DataProduct> findByFqn(String dataProductFqn);
 
+    void lock(String dataProductUuid);
+
     void delete(DataProduct dataProduct);
 }
 
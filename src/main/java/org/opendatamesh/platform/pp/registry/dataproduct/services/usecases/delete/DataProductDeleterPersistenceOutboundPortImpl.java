@@ -1,6 +1,7 @@
 package org.opendatamesh.platform.pp.registry.dataproduct.services.usecases.delete;
 
 import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProduct;
+import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsLockService;
 import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsService;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductSearchOptions;
 import org.springframework.data.domain.Pageable;
@@ -10,9 +11,11 @@ import java.util.Optional;
 class DataProductDeleterPersistenceOutboundPortImpl implements DataProductDeleterPersistenceOutboundPort {
 
     private final DataProductsService dataProductsService;
+    private final DataProductsLockService dataProductsLockService;
 
-    DataProductDeleterPersistenceOutboundPortImpl(DataProductsService dataProductsService) {
+    DataProductDeleterPersistenceOutboundPortImpl(DataProductsService dataProductsService, DataProductsLockService dataProductsLockService) {
         this.dataProductsService = dataProductsService;
+        this.dataProductsLockService = dataProductsLockService;
     }
 
     @Override
@@ -27,6 +30,11 @@ class DataProductDeleterPersistenceOutboundPortImpl implements DataProductDelete
         return dataProductsService.findAllFiltered(Pageable.ofSize(1), filter).stream().findFirst();
     }
 
+    @Override
+    public void lock(String dataProductUuid) {
+        dataProductsLockService.lock(dataProductUuid);
+    }
+
     @Override
     public void delete(DataProduct dataProduct) {
         dataProductsService.delete(dataProduct.getUuid());
@@ -1,7 +1,7 @@
 package org.opendatamesh.platform.pp.registry.dataproduct.services.usecases.init;
 
 import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsService;
-import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import org.opendatamesh.platform.pp.registry.outbox.services.core.NotificationOutboxService;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductMapper;
 import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionalOutboundPort;
 import org.opendatamesh.platform.pp.registry.utils.usecases.UseCase;
@@ -16,13 +16,13 @@ public class DataProductInitializerFactory {
     @Autowired
     private TransactionalOutboundPort transactionalOutboundPort;
     @Autowired
-    private NotificationClient notificationClient;
+    private NotificationOutboxService notificationOutboxService;
     @Autowired
     private DataProductMapper dataProductMapper;
 
     public UseCase buildDataProductInitializer(DataProductInitCommand command, DataProductInitPresenter presenter) {
         DataProductInitializerPersistenceOutboundPort persistencePort = new DataProductInitializerPersistenceOutboundPortImpl(dataProductsService);
-        DataProductInitializerNotificationOutboundPort notificationPort = new DataProductInitializerNotificationOutboundPortImpl(notificationClient, dataProductMapper);
+        DataProductInitializerNotificationOutboundPort notificationPort = new DataProductInitializerNotificationOutboundPortImpl(notificationOutboxService, dataProductMapper);
         return new DataProductInitializer(command, presenter, notificationPort, persistencePort, transactionalOutboundPort);
     }
 }
@@ -2,12 +2,14 @@ package org.opendatamesh.platform.pp.registry.dataproductversion.entities;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.persistence.*;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import org.hibernate.Hibernate;
 import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProduct;
 import org.opendatamesh.platform.pp.registry.utils.entities.VersionedEntity;
 import org.springframework.util.StringUtils;
 
+import java.util.HashSet;
+import java.util.Set;
+
 @Entity
 @Table(name = "data_products_versions")
 public class DataProductVersion extends VersionedEntity {
@@ -46,9 +48,11 @@ public class DataProductVersion extends VersionedEntity {
     @Column(name = "descriptor_version_number")
     private String versionNumber;
 
-    @Column(name = "descriptor_content", columnDefinition = "jsonb")
-    @JdbcTypeCode(SqlTypes.JSON)
-    private JsonNode content;
+    // Lazy: state transitions only touch the version row, the descriptor is loaded when getContent() is first called
+    // (or eagerly through DataProductVersionCrudService#findOneWithContent)
+    @OneToOne(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @JoinColumn(name = "descriptor_content_uuid")
+    private DataProductVersionContent descriptorContent;
 
     @Column(name = "created_by")
     private String createdBy;
@@ -56,6 +60,12 @@ public class DataProductVersion extends VersionedEntity {
     @Column(name = "updated_by")
     private String updatedBy;
 
+    // Keys of the ${...} placeholders of the descriptor, kept in sync whenever the descriptor is written
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "data_products_versions_placeholders", joinColumns = @JoinColumn(name = "data_product_version_uuid"))
+    @Column(name = "placeholder_key")
+    private Set<String> placeholderKeys = new HashSet<>();
+
     public String getCreatedBy() {
         return createdBy;
     }
@@ -156,11 +166,40 @@ public class DataProductVersion extends VersionedEntity {
     }
 
     public JsonNode getContent() {
-        return content;
+        return descriptorContent != null ? descriptorContent.getContent() : null;
     }
 
     public void setContent(JsonNode content) {
-        this.content = content;
+        if (descriptorContent != null) {
+            descriptorContent.setContent(content);
+        } else if (content != null) {
+            descriptorContent = new DataProductVersionContent(content);
+        }
+    }
+
+    public Set<String> getPlaceholderKeys() {
+        return placeholderKeys;
+    }
+
+    public void setPlaceholderKeys(Set<String> placeholderKeys) {
+        this.placeholderKeys = placeholderKeys;
+    }
+
+    /**
+     * Tells whether a descriptor is attached to this version without loading it when it is still lazy.
+     */
+    public boolean hasDescriptorContent() {
+        if (descriptorContent == null) {
+            return false;
+        }
+        return !Hibernate.isInitialized(descriptorContent) || descriptorContent.getContent() != null;
+    }
+
+    /**
+     * Tells whether the descriptor is in memory, i.e. it has been set or read since this version was loaded.
+     */
+    public boolean hasLoadedDescriptorContent() {
+        return descriptorContent != null && Hibernate.isInitialized(descriptorContent);
     }
 
     /**
@@ -0,0 +1,47 @@
+package org.opendatamesh.platform.pp.registry.dataproductversion.entities;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Descriptor body of a {@link DataProductVersion}, stored apart from the version row so that it is
+ * loaded (and parsed) only by the callers that actually read it.
+ */
+@Entity
+@Table(name = "data_products_versions_contents")
+public class DataProductVersionContent {
+
+    @Id
+    @Column(name = "uuid")
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String uuid;
+
+    @Column(name = "descriptor_content", columnDefinition = "jsonb")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private JsonNode content;
+
+    public DataProductVersionContent() {
+    }
+
+    public DataProductVersionContent(JsonNode content) {
+        this.content = content;
+    }
+
+    public String getUuid() {
+        return uuid;
+    }
+
+    public void setUuid(String uuid) {
+        this.uuid = uuid;
+    }
+
+    public JsonNode getContent() {
+        return content;
+    }
+
+    public void setContent(JsonNode content) {
+        this.content = content;
+    }
+}
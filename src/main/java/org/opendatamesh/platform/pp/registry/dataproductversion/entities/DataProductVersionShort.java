@@ -17,7 +17,8 @@ public class DataProductVersionShort extends VersionedEntity {
     @Column(name = "data_product_uuid", insertable = false, updatable = false)
     private String dataProductUuid;
 
-    @ManyToOne
+    // Lazy: listings only need dataProductUuid, loading the data product (and its repository) would cost extra selects per row
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "data_product_uuid", nullable = false)
     private DataProduct dataProduct;
 
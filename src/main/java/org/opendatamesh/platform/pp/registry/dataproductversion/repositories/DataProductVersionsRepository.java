@@ -1,29 +1,58 @@
 package org.opendatamesh.platform.pp.registry.dataproductversion.repositories;
 
+import jakarta.persistence.LockModeType;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersion;
 import org.opendatamesh.platform.pp.registry.utils.repositories.PagingAndSortingAndSpecificationExecutorRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 public interface DataProductVersionsRepository extends PagingAndSortingAndSpecificationExecutorRepository<DataProductVersion, String> {
 
-    // JPA named methods for uniqueness validation
-    
     /**
-     * Check if a DataProductVersion exists by tag and dataProductUuid (case-insensitive)
+     * Find a version together with its descriptor content, fetched in the same statement.
      */
-    boolean existsByTagIgnoreCaseAndDataProductUuid(String tag, String dataProductUuid);
-    
+    @EntityGraph(attributePaths = {"descriptorContent"})
+    Optional<DataProductVersion> findWithContentByUuid(String uuid);
+
     /**
-     * Check if a DataProductVersion exists by tag and dataProductUuid excluding a specific UUID (case-insensitive)
+     * Find a version and lock its row (SELECT ... FOR UPDATE) until the end of the current transaction.
+     * The descriptor content is left lazy.
      */
-    boolean existsByTagIgnoreCaseAndDataProductUuidAndUuidNot(String tag, String dataProductUuid, String excludeUuid);
-    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select v from DataProductVersion v where v.uuid = :uuid")
+    Optional<DataProductVersion> findForUpdateByUuid(@Param("uuid") String uuid);
+
     /**
-     * Check if a DataProductVersion exists by versionNumber and dataProductUuid (case-insensitive)
+     * Find the placeholder keys of a version descriptor, read from the placeholder index only.
      */
-    boolean existsByVersionNumberIgnoreCaseAndDataProductUuid(String versionNumber, String dataProductUuid);
-    
+    @Query("select k from DataProductVersion v join v.placeholderKeys k where v.uuid = :uuid")
+    Set<String> findPlaceholderKeysByUuid(@Param("uuid") String uuid);
+
+    // Natural key lookups for uniqueness validation
+
     /**
-     * Check if a DataProductVersion exists by versionNumber and dataProductUuid excluding a specific UUID (case-insensitive)
+     * Find the versions of a data product whose tag or version number collide with the given ones (case-insensitive),
+     * excluding a specific UUID when provided. Both conditions are served by the (data_product_uuid, lower(...))
+     * unique indexes, so the whole check costs a single statement.
      */
-    boolean existsByVersionNumberIgnoreCaseAndDataProductUuidAndUuidNot(String versionNumber, String dataProductUuid, String excludeUuid);
+    @Query("select v.tag as tag, v.versionNumber as versionNumber from DataProductVersion v " +
+            "where v.dataProductUuid = :dataProductUuid " +
+            "and (lower(v.tag) = lower(:tag) or lower(v.versionNumber) = lower(:versionNumber)) " +
+            "and (:excludeUuid is null or v.uuid <> :excludeUuid)")
+    List<NaturalKey> findNaturalKeyConflicts(@Param("dataProductUuid") String dataProductUuid,
+                                             @Param("tag") String tag,
+                                             @Param("versionNumber") String versionNumber,
+                                             @Param("excludeUuid") String excludeUuid);
+
+    interface NaturalKey {
+        String getTag();
+
+        String getVersionNumber();
+    }
 }
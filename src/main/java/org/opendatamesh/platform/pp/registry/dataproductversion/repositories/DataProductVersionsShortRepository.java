@@ -6,10 +6,31 @@ import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataPro
 import org.opendatamesh.platform.pp.registry.utils.repositories.PagingAndSortingAndSpecificationExecutorRepository;
 import org.opendatamesh.platform.pp.registry.utils.repositories.SpecsUtils;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.util.StringUtils;
 
+import java.util.List;
+
 public interface DataProductVersionsShortRepository extends PagingAndSortingAndSpecificationExecutorRepository<DataProductVersionShort, String> {
 
+    /**
+     * Find the versions with the given version number (case-insensitive) together with the fully qualified name of
+     * their data product, joined in the same statement.
+     */
+    @Query("select v.uuid as uuid, v.dataProductUuid as dataProductUuid, p.fqn as dataProductFqn " +
+            "from DataProductVersionShort v join v.dataProduct p " +
+            "where lower(v.versionNumber) = lower(:versionNumber)")
+    List<VersionOwner> findOwnersByVersionNumber(@Param("versionNumber") String versionNumber);
+
+    interface VersionOwner {
+        String getUuid();
+
+        String getDataProductUuid();
+
+        String getDataProductFqn();
+    }
+
     class Specs extends SpecsUtils {
 
         public static Specification<DataProductVersionShort> hasDataProductUuid(String dataProductUuid) {
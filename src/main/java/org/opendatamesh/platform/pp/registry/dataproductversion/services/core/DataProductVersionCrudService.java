@@ -5,6 +5,8 @@ import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversio
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionSearchOptions;
 import org.opendatamesh.platform.pp.registry.utils.services.GenericMappedAndFilteredCrudService;
 
+import java.util.Set;
+
 /**
  * Service for CRUD operations on individual DataProductVersion entities.
  * 
@@ -20,6 +22,10 @@ import org.opendatamesh.platform.pp.registry.utils.services.GenericMappedAndFilt
  *   <li>Delete data product versions</li>
  * </ul>
  * 
+ * <p><strong>Descriptor content:</strong> {@link #findOne} returns the version with its descriptor
+ * content still lazy, which is all that state transitions need. Callers that read the descriptor should use
+ * {@link #findOneWithContent(String)}, which fetches it together with the version.</p>
+ * 
  * <p><strong>Note:</strong> Paginated reads are disabled for this service to encourage
  * the use of {@link DataProductVersionsQueryService} for listing operations, which provides
  * better performance by excluding descriptor content.</p>
@@ -27,5 +33,32 @@ import org.opendatamesh.platform.pp.registry.utils.services.GenericMappedAndFilt
  * @see DataProductVersionsQueryService for paginated read operations
  */
 public interface DataProductVersionCrudService extends GenericMappedAndFilteredCrudService<DataProductVersionSearchOptions, DataProductVersionRes, DataProductVersion, String> {
-    
+
+    /**
+     * Retrieves a data product version together with its descriptor content.
+     *
+     * @param uuid the data product version UUID
+     * @return the data product version, with the descriptor content already loaded
+     * @throws org.opendatamesh.platform.pp.registry.exceptions.NotFoundException if the version does not exist
+     */
+    DataProductVersion findOneWithContent(String uuid);
+
+    /**
+     * Retrieves a data product version, with its descriptor content still lazy, and locks its row until the end
+     * of the current transaction, so that concurrent state transitions of the same version run one after the other.
+     *
+     * @param uuid the data product version UUID
+     * @return the locked data product version
+     * @throws org.opendatamesh.platform.pp.registry.exceptions.NotFoundException if the version does not exist
+     */
+    DataProductVersion findOneForUpdate(String uuid);
+
+    /**
+     * Retrieves the keys of the {@code ${...}} placeholders of a data product version descriptor,
+     * from the index maintained when the descriptor is stored, without loading the descriptor itself.
+     *
+     * @param uuid the data product version UUID
+     * @return the placeholder keys, empty when the version does not exist or its descriptor has no placeholder
+     */
+    Set<String> findPlaceholderKeys(String uuid);
 }
@@ -5,7 +5,9 @@ import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataPro
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersionValidationState;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DescriptorSpec;
 import org.opendatamesh.platform.pp.registry.dataproductversion.repositories.DataProductVersionsRepository;
+import org.opendatamesh.platform.pp.registry.descriptorvariable.services.core.DescriptorVariableSubstitutor;
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
+import org.opendatamesh.platform.pp.registry.exceptions.NotFoundException;
 import org.opendatamesh.platform.pp.registry.exceptions.NotImplemented;
 import org.opendatamesh.platform.pp.registry.exceptions.ResourceConflictException;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionMapper;
@@ -20,10 +22,14 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.util.List;
+import java.util.Set;
+
 /**
  * Implementation of {@link DataProductVersionCrudService} for CRUD operations on individual DataProductVersion entities.
  * <p>
  * This service implementation provides full CRUD functionality including all descriptor content.
+ * The descriptor content is lazy on {@link #findOne} and fetched eagerly by {@link #findOneWithContent(String)}.
  * Paginated reads are explicitly disabled to encourage the use of the query service for listing operations.
  */
 @Service
@@ -64,7 +70,7 @@ public class DataProductVersionCrudServiceImpl extends GenericMappedAndFilteredC
         if (!StringUtils.hasText(dataProductVersion.getVersionNumber())) {
             throw new BadRequestException("Missing Data Product Version version number");
         }
-        if (dataProductVersion.getContent() == null) {
+        if (!dataProductVersion.hasDescriptorContent()) {
             throw new BadRequestException("Missing Data Product Version content");
         }
     }
@@ -88,6 +94,10 @@ public class DataProductVersionCrudServiceImpl extends GenericMappedAndFilteredC
                 dataProductsService.findOne(dataProductVersion.getDataProductUuid())
         );
         setDefaultDescriptorSpecs(dataProductVersion);
+        // State transitions leave the descriptor lazy and untouched: the placeholder index is only rebuilt when it is written
+        if (dataProductVersion.hasLoadedDescriptorContent()) {
+            dataProductVersion.setPlaceholderKeys(DescriptorVariableSubstitutor.findKeys(dataProductVersion.getContent()));
+        }
     }
 
     @Override
@@ -100,6 +110,31 @@ public class DataProductVersionCrudServiceImpl extends GenericMappedAndFilteredC
         return repository;
     }
 
+    @Override
+    public DataProductVersion findOneWithContent(String uuid) {
+        DataProductVersion result = repository.findWithContentByUuid(uuid).orElse(null);
+        if (result == null) {
+            throw new NotFoundException("Resource with id=" + uuid + " not found");
+        }
+        return result;
+    }
+
+    @Override
+    public DataProductVersion findOneForUpdate(String uuid) {
+        return repository.findForUpdateByUuid(uuid)
+                .orElseThrow(() -> new NotFoundException("Resource with id=" + uuid + " not found"));
+    }
+
+    @Override
+    public Set<String> findPlaceholderKeys(String uuid) {
+        return repository.findPlaceholderKeysByUuid(uuid);
+    }
+
+    @Override
+    public DataProductVersionRes findOneResource(String uuid) {
+        return toRes(findOneWithContent(uuid));
+    }
+
     @Override
     public DataProductVersionRes toRes(DataProductVersion entity) {
         return mapper.toRes(entity);
@@ -140,39 +175,32 @@ public class DataProductVersionCrudServiceImpl extends GenericMappedAndFilteredC
      * Validates uniqueness constraints for tag and versionNumber within a DataProduct.
      * Only one DataProductVersion can exist with the same dataProduct and tag combination.
      * Only one DataProductVersion can exist with the same dataProduct and versionNumber combination.
+     * Both keys are checked with a single index-backed lookup; concurrent writers racing past
+     * this check are stopped by the unique indexes on the same keys.
      *
      * @param dataProductVersion the data product version to validate
      * @param excludeUuid        UUID to exclude from uniqueness check (for updates)
      */
     private void validateNaturalKeyConstraints(DataProductVersion dataProductVersion, String excludeUuid) {
+        // Tag is optional: a blank tag never collides
+        String tag = StringUtils.hasText(dataProductVersion.getTag()) ? dataProductVersion.getTag() : null;
+        List<DataProductVersionsRepository.NaturalKey> conflicts = repository.findNaturalKeyConflicts(
+                dataProductVersion.getDataProductUuid(),
+                tag,
+                dataProductVersion.getVersionNumber(),
+                StringUtils.hasText(excludeUuid) ? excludeUuid : null
+        );
+
         // Validate tag uniqueness within the same DataProduct (only when tag is set)
-        if (StringUtils.hasText(dataProductVersion.getTag())) {
-            boolean existsByTag;
-            if (StringUtils.hasText(excludeUuid)) {
-                existsByTag = repository.existsByTagIgnoreCaseAndDataProductUuidAndUuidNot(
-                        dataProductVersion.getTag(), dataProductVersion.getDataProductUuid(), excludeUuid);
-            } else {
-                existsByTag = repository.existsByTagIgnoreCaseAndDataProductUuid(
-                        dataProductVersion.getTag(), dataProductVersion.getDataProductUuid());
-            }
-            if (existsByTag) {
-                throw new ResourceConflictException(
-                        String.format("A data product version with tag '%s' already exists for this data product",
-                                dataProductVersion.getTag()));
-            }
-        }
-        // Validate versionNumber uniqueness within the same DataProduct (versionNumber is required)
-        boolean existsByVersionNumber;
-
-        if (StringUtils.hasText(excludeUuid)) {
-            existsByVersionNumber = repository.existsByVersionNumberIgnoreCaseAndDataProductUuidAndUuidNot(
-                    dataProductVersion.getVersionNumber(), dataProductVersion.getDataProductUuid(), excludeUuid);
-        } else {
-            existsByVersionNumber = repository.existsByVersionNumberIgnoreCaseAndDataProductUuid(
-                    dataProductVersion.getVersionNumber(), dataProductVersion.getDataProductUuid());
+        boolean existsByTag = tag != null && conflicts.stream().anyMatch(conflict -> tag.equalsIgnoreCase(conflict.getTag()));
+        if (existsByTag) {
+            throw new ResourceConflictException(
+                    String.format("A data product version with tag '%s' already exists for this data product",
+                            dataProductVersion.getTag()));
         }
 
-        if (existsByVersionNumber) {
+        // Validate versionNumber uniqueness within the same DataProduct (versionNumber is required)
+        if (!conflicts.isEmpty()) {
             throw new ResourceConflictException(
                     String.format("A data product version with version number '%s' already exists for this data product",
                             dataProductVersion.getVersionNumber()));
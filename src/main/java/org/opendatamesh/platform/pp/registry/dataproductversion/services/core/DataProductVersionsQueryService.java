@@ -1,10 +1,16 @@
 package org.opendatamesh.platform.pp.registry.dataproductversion.services.core;
 
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersionShort;
+import org.opendatamesh.platform.pp.registry.dataproductversion.repositories.DataProductVersionsShortRepository;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionSearchOptions;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionShortRes;
+import org.opendatamesh.platform.pp.registry.utils.resources.CursorPageRes;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
 
 /**
  * Service for querying and retrieving multiple DataProductVersion entities.
@@ -61,4 +67,27 @@ public interface DataProductVersionsQueryService {
     Page<DataProductVersionShortRes> findAllResourcesShort(Pageable pageable, DataProductVersionSearchOptions searchOptions);
 
     Page<DataProductVersionShort> findAllShort(Pageable pageable, DataProductVersionSearchOptions searchOptions);
+
+    /**
+     * Find the versions with the given version number along with the fully qualified name of their data product,
+     * read in a single statement without loading the data products.
+     *
+     * @param versionNumber the version number, matched case-insensitively
+     * @return the uuid, data product uuid and data product fqn of each matching version
+     */
+    List<DataProductVersionsShortRepository.VersionOwner> findOwnersByVersionNumber(String versionNumber);
+
+    /**
+     * Keyset pagination over data product versions, ordered by createdAt and uuid descending,
+     * returning short resources (without descriptor). Each page is a single range query:
+     * no count query is run and deep pages cost the same as the first one.
+     *
+     * @param cursor        the token returned by the previous page, or null for the first page
+     * @param size          the maximum number of elements of the page, capped like the offset based search
+     * @param searchOptions filtering criteria for the search
+     * @return the page along with the token to fetch the next one
+     */
+    CursorPageRes<DataProductVersionShortRes> scrollAllResourcesShort(String cursor, int size, DataProductVersionSearchOptions searchOptions);
+
+    Window<DataProductVersionShort> scrollAllShort(ScrollPosition position, int size, DataProductVersionSearchOptions searchOptions);
 }
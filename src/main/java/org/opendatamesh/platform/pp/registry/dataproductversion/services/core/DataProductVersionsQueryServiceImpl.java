@@ -7,10 +7,15 @@ import org.opendatamesh.platform.pp.registry.exceptions.NotFoundException;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionMapper;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionSearchOptions;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionShortRes;
+import org.opendatamesh.platform.pp.registry.utils.repositories.KeysetCursor;
 import org.opendatamesh.platform.pp.registry.utils.repositories.SpecsUtils;
+import org.opendatamesh.platform.pp.registry.utils.resources.CursorPageRes;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -29,12 +34,15 @@ public class DataProductVersionsQueryServiceImpl implements DataProductVersionsQ
 
     private final DataProductVersionMapper mapper;
     private final DataProductVersionsShortRepository repository;
+    private final int maxPageSize;
 
     @Autowired
     public DataProductVersionsQueryServiceImpl(DataProductVersionMapper mapper,
-                                               DataProductVersionsShortRepository repository) {
+                                               DataProductVersionsShortRepository repository,
+                                               @Value("${spring.data.web.pageable.max-page-size:2000}") int maxPageSize) {
         this.mapper = mapper;
         this.repository = repository;
+        this.maxPageSize = maxPageSize;
     }
 
     @Override
@@ -55,6 +63,26 @@ public class DataProductVersionsQueryServiceImpl implements DataProductVersionsQ
         return repository.findAll(spec, pageable);
     }
 
+    @Override
+    public List<DataProductVersionsShortRepository.VersionOwner> findOwnersByVersionNumber(String versionNumber) {
+        return repository.findOwnersByVersionNumber(versionNumber);
+    }
+
+    @Override
+    public CursorPageRes<DataProductVersionShortRes> scrollAllResourcesShort(String cursor, int size, DataProductVersionSearchOptions searchOptions) {
+        Window<DataProductVersionShort> window = scrollAllShort(KeysetCursor.decode(cursor), size, searchOptions);
+        return new CursorPageRes<>(window.map(mapper::toShortResFromShort).getContent(), KeysetCursor.encode(window));
+    }
+
+    @Override
+    public Window<DataProductVersionShort> scrollAllShort(ScrollPosition position, int size, DataProductVersionSearchOptions searchOptions) {
+        Specification<DataProductVersionShort> spec = getSpecFromFilters(searchOptions);
+        return repository.findBy(spec, query -> query
+                .sortBy(KeysetCursor.SORT)
+                .limit(KeysetCursor.pageSize(size, maxPageSize))
+                .scroll(position));
+    }
+
     private Specification<DataProductVersionShort> getSpecFromFilters(DataProductVersionSearchOptions searchOptions) {
         List<Specification<DataProductVersionShort>> specs = new ArrayList<>();
 
@@ -4,6 +4,7 @@ import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProductVal
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersion;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersionValidationState;
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
+import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionPolicy;
 import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionalOutboundPort;
 import org.opendatamesh.platform.pp.registry.utils.usecases.UseCase;
 import org.springframework.util.StringUtils;
@@ -11,6 +12,9 @@ import org.springframework.util.StringUtils;
 import static org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersionValidationState.APPROVED;
 
 class DataProductVersionApprover implements UseCase {
+    // Transitions queue on the data product lock. Not retried: the version is presented inside the transaction
+    private static final TransactionPolicy TRANSACTION_POLICY = TransactionPolicy.READ_COMMITTED;
+
     private final DataProductVersionApproveCommand command;
     private final DataProductVersionApprovePresenter presenter;
 
@@ -34,8 +38,11 @@ class DataProductVersionApprover implements UseCase {
     public void execute() {
         validateCommand(command);
 
-        transactionalPort.doInTransaction(() -> {
-            DataProductVersion dataProductVersion = persistencePort.findByUuid(command.dataProductVersion().getUuid());
+        transactionalPort.doInTransaction(TRANSACTION_POLICY, () -> {
+            String dataProductVersionUuid = command.dataProductVersion().getUuid();
+            // Data product first, then the version row: the same order as publish and delete
+            persistencePort.lockDataProduct(persistencePort.findDataProductUuid(dataProductVersionUuid));
+            DataProductVersion dataProductVersion = persistencePort.findByUuidForUpdate(dataProductVersionUuid);
 
             if(!DataProductValidationState.APPROVED.equals(dataProductVersion.getDataProduct().getValidationState())){
                 throw new BadRequestException(String.format("Data Product Version %s %s must be associated to an APPROVED Data Product in order to be approved.", command.dataProductVersion().getName(), command.dataProductVersion().getTag()));
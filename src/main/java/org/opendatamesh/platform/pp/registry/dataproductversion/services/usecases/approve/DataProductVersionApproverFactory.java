@@ -1,7 +1,9 @@
 package org.opendatamesh.platform.pp.registry.dataproductversion.services.usecases.approve;
 
+import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsLockService;
 import org.opendatamesh.platform.pp.registry.dataproductversion.services.core.DataProductVersionCrudService;
-import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import org.opendatamesh.platform.pp.registry.dataproductversion.services.core.DataProductVersionsQueryService;
+import org.opendatamesh.platform.pp.registry.outbox.services.core.NotificationOutboxService;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionMapper;
 import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionalOutboundPort;
 import org.opendatamesh.platform.pp.registry.utils.usecases.UseCase;
@@ -14,15 +16,20 @@ public class DataProductVersionApproverFactory {
     @Autowired
     private DataProductVersionCrudService dataProductVersionCrudService;
     @Autowired
+    private DataProductVersionsQueryService dataProductVersionsQueryService;
+    @Autowired
+    private DataProductsLockService dataProductsLockService;
+    @Autowired
     private TransactionalOutboundPort transactionalOutboundPort;
     @Autowired
-    private NotificationClient notificationClient;
+    private NotificationOutboxService notificationOutboxService;
     @Autowired
     private DataProductVersionMapper dataProductVersionMapper;
 
     public UseCase buildDataProductVersionApprover(DataProductVersionApproveCommand command, DataProductVersionApprovePresenter presenter) {
-        DataProductVersionApproverPersistenceOutboundPort persistencePort = new DataProductVersionApproverPersistenceOutboundPortImpl(dataProductVersionCrudService);
-        DataProductVersionApproverNotificationOutboundPort notificationPort = new DataProductVersionApproverNotificationOutboundPortImpl(notificationClient, dataProductVersionMapper);
+        DataProductVersionApproverPersistenceOutboundPort persistencePort = new DataProductVersionApproverPersistenceOutboundPortImpl(
+                dataProductVersionCrudService, dataProductVersionsQueryService, dataProductsLockService);
+        DataProductVersionApproverNotificationOutboundPort notificationPort = new DataProductVersionApproverNotificationOutboundPortImpl(notificationOutboxService, dataProductVersionMapper);
         return new DataProductVersionApprover(command, presenter, notificationPort, persistencePort, transactionalOutboundPort);
     }
 
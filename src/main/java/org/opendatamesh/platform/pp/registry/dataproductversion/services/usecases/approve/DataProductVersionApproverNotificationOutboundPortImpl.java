@@ -1,16 +1,16 @@
 package org.opendatamesh.platform.pp.registry.dataproductversion.services.usecases.approve;
 
-import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import org.opendatamesh.platform.pp.registry.outbox.services.core.NotificationOutboxService;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersion;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionMapper;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.events.emitted.EmittedEventDataProductVersionPublishedRes;
 
 class DataProductVersionApproverNotificationOutboundPortImpl implements DataProductVersionApproverNotificationOutboundPort {
-    private final NotificationClient notificationClient;
+    private final NotificationOutboxService notificationOutboxService;
     private final DataProductVersionMapper dataProductVersionMapper;
 
-    public DataProductVersionApproverNotificationOutboundPortImpl(NotificationClient notificationClient, DataProductVersionMapper dataProductVersionMapper) {
-        this.notificationClient = notificationClient;
+    public DataProductVersionApproverNotificationOutboundPortImpl(NotificationOutboxService notificationOutboxService, DataProductVersionMapper dataProductVersionMapper) {
+        this.notificationOutboxService = notificationOutboxService;
         this.dataProductVersionMapper = dataProductVersionMapper;
     }
     
@@ -19,6 +19,6 @@ class DataProductVersionApproverNotificationOutboundPortImpl implements DataProd
         EmittedEventDataProductVersionPublishedRes event = new EmittedEventDataProductVersionPublishedRes();
         event.setResourceIdentifier(dataProductVersion.getUuid());
         event.getEventContent().setDataProductVersion(dataProductVersionMapper.toRes(dataProductVersion));
-        notificationClient.notifyEvent(event);
+        notificationOutboxService.enqueue(event);
     }
 }
@@ -1,19 +1,38 @@
 package org.opendatamesh.platform.pp.registry.dataproductversion.services.usecases.approve;
 
+import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsLockService;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersion;
 import org.opendatamesh.platform.pp.registry.dataproductversion.services.core.DataProductVersionCrudService;
+import org.opendatamesh.platform.pp.registry.dataproductversion.services.core.DataProductVersionsQueryService;
 
 class DataProductVersionApproverPersistenceOutboundPortImpl implements DataProductVersionApproverPersistenceOutboundPort {
 
     private final DataProductVersionCrudService dataProductVersionCrudService;
+    private final DataProductVersionsQueryService dataProductVersionsQueryService;
+    private final DataProductsLockService dataProductsLockService;
 
-    DataProductVersionApproverPersistenceOutboundPortImpl(DataProductVersionCrudService dataProductVersionCrudService) {
+    DataProductVersionApproverPersistenceOutboundPortImpl(DataProductVersionCrudService dataProductVersionCrudService,
+            DataProductVersionsQueryService dataProductVersionsQueryService,
+            DataProductsLockService dataProductsLockService) {
         this.dataProductVersionCrudService = dataProductVersionCrudService;
+        this.dataProductVersionsQueryService = dataProductVersionsQueryService;
+        this.dataProductsLockService = dataProductsLockService;
     }
 
     @Override
-    public DataProductVersion findByUuid(String dataProductVersionUuid) {
-        return dataProductVersionCrudService.findOne(dataProductVersionUuid);
+    public String findDataProductUuid(String dataProductVersionUuid) {
+        // Read through the short entity: loading the version before locking would leave a stale instance in the persistence context
+        return dataProductVersionsQueryService.findOne(dataProductVersionUuid).getDataProductUuid();
+    }
+
+    @Override
+    public void lockDataProduct(String dataProductUuid) {
+        dataProductsLockService.lock(dataProductUuid);
+    }
+
+    @Override
+    public DataProductVersion findByUuidForUpdate(String dataProductVersionUuid) {
+        return dataProductVersionCrudService.findOneForUpdate(dataProductVersionUuid);
     }
 
     @Override
@@ -4,6 +4,7 @@ import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProduct;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersionShort;
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
 import org.opendatamesh.platform.pp.registry.exceptions.NotFoundException;
+import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionPolicy;
 import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionalOutboundPort;
 import org.opendatamesh.platform.pp.registry.utils.usecases.UseCase;
 import org.springframework.util.StringUtils;
@@ -11,6 +12,9 @@ import org.springframework.util.StringUtils;
 import java.util.Optional;
 
 class DataProductVersionDeleter implements UseCase {
+    // Deletions wait on the data product lock, a serializable snapshot taken before it would only lead to aborts
+    private static final TransactionPolicy TRANSACTION_POLICY = TransactionPolicy.READ_COMMITTED;
+
     private final DataProductVersionDeleteCommand command;
     private final DataProductVersionDeletePresenter presenter;
     private final DataProductVersionDeleterNotificationOutboundPort notificationsPort;
@@ -33,8 +37,9 @@ class DataProductVersionDeleter implements UseCase {
     public void execute() {
         validateCommand();
 
-        transactionalPort.doInTransaction(() -> {
+        transactionalPort.doInTransaction(TRANSACTION_POLICY, () -> {
             DataProductVersionShort dataProductVersion = findDataProductVersion(command);
+            persistencePort.lockDataProduct(dataProductVersion.getDataProductUuid());
 
             // Delete the data product version
             persistencePort.delete(dataProductVersion);
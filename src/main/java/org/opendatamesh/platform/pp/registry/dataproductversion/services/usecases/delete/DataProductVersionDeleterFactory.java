@@ -1,9 +1,10 @@
 package org.opendatamesh.platform.pp.registry.dataproductversion.services.usecases.delete;
 
+import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsLockService;
 import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsService;
 import org.opendatamesh.platform.pp.registry.dataproductversion.services.core.DataProductVersionCrudService;
 import org.opendatamesh.platform.pp.registry.dataproductversion.services.core.DataProductVersionsQueryService;
-import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import org.opendatamesh.platform.pp.registry.outbox.services.core.NotificationOutboxService;
 import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionalOutboundPort;
 import org.opendatamesh.platform.pp.registry.utils.usecases.UseCase;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,14 +20,16 @@ public class DataProductVersionDeleterFactory {
     @Autowired
     private DataProductsService dataProductsService;
     @Autowired
+    private DataProductsLockService dataProductsLockService;
+    @Autowired
     private TransactionalOutboundPort transactionalOutboundPort;
     @Autowired
-    private NotificationClient notificationClient;
+    private NotificationOutboxService notificationOutboxService;
 
     public UseCase buildDataProductVersionDeleter(DataProductVersionDeleteCommand command, DataProductVersionDeletePresenter presenter) {
         DataProductVersionDeleterPersistenceOutboundPort persistencePort = new DataProductVersionDeleterPersistenceOutboundPortImpl(
-                dataProductVersionCrudService, dataProductVersionsQueryService, dataProductsService);
-        DataProductVersionDeleterNotificationOutboundPort notificationPort = new DataProductVersionDeleterNotificationOutboundPortImpl(notificationClient);
+                dataProductVersionCrudService, dataProductVersionsQueryService, dataProductsService, dataProductsLockService);
+        DataProductVersionDeleterNotificationOutboundPort notificationPort = new DataProductVersionDeleterNotificationOutboundPortImpl(notificationOutboxService);
         return new DataProductVersionDeleter(command, presenter, notificationPort, persistencePort, transactionalOutboundPort);
     }
 }
@@ -1,14 +1,14 @@
 package org.opendatamesh.platform.pp.registry.dataproductversion.services.usecases.delete;
 
-import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import org.opendatamesh.platform.pp.registry.outbox.services.core.NotificationOutboxService;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersionShort;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.events.emitted.EmittedEventDataProductVersionDeletedRes;
 
 class DataProductVersionDeleterNotificationOutboundPortImpl implements DataProductVersionDeleterNotificationOutboundPort {
-    private final NotificationClient notificationClient;
+    private final NotificationOutboxService notificationOutboxService;
 
-    public DataProductVersionDeleterNotificationOutboundPortImpl(NotificationClient notificationClient) {
-        this.notificationClient = notificationClient;
+    public DataProductVersionDeleterNotificationOutboundPortImpl(NotificationOutboxService notificationOutboxService) {
+        this.notificationOutboxService = notificationOutboxService;
     }
 
     @Override
@@ -19,7 +19,7 @@ class DataProductVersionDeleterNotificationOutboundPortImpl implements DataProdu
         event.getEventContent().setDataProductFqn(dataProductVersion.getDataProduct().getFqn());
         event.getEventContent().setDataProductVersionNumber(dataProductVersion.getVersionNumber());
         event.getEventContent().setDataProductVersionTag(dataProductVersion.getTag());
-        notificationClient.notifyEvent(event);
+        notificationOutboxService.enqueue(event);
     }
 }
 
@@ -12,6 +12,8 @@ interface DataProductVersionDeleterPersistenceOutboundPort {
 
     Optional<DataProduct> findDataProductByFqn(String dataProductFqn);
 
+    void lockDataProduct(String dataProductUuid);
+
     void delete(DataProductVersionShort dataProductVersion);
 }
 
@@ -1,6 +1,7 @@
 package org.opendatamesh.platform.pp.registry.dataproductversion.services.usecases.delete;
 
 import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProduct;
+import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsLockService;
 import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsService;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersionShort;
 import org.opendatamesh.platform.pp.registry.dataproductversion.services.core.DataProductVersionCrudService;
@@ -16,14 +17,17 @@ class DataProductVersionDeleterPersistenceOutboundPortImpl implements DataProduc
     private final DataProductVersionCrudService dataProductVersionCrudService;
     private final DataProductVersionsQueryService dataProductVersionsQueryService;
     private final DataProductsService dataProductsService;
+    private final DataProductsLockService dataProductsLockService;
 
     DataProductVersionDeleterPersistenceOutboundPortImpl(
             DataProductVersionCrudService dataProductVersionCrudService,
             DataProductVersionsQueryService dataProductVersionsQueryService,
-            DataProductsService dataProductsService) {
+            DataProductsService dataProductsService,
+            DataProductsLockService dataProductsLockService) {
         this.dataProductVersionCrudService = dataProductVersionCrudService;
         this.dataProductVersionsQueryService = dataProductVersionsQueryService;
         this.dataProductsService = dataProductsService;
+        this.dataProductsLockService = dataProductsLockService;
     }
 
     @Override
@@ -51,6 +55,11 @@ class DataProductVersionDeleterPersistenceOutboundPortImpl implements DataProduc
                 .findFirst();
     }
 
+    @Override
+    public void lockDataProduct(String dataProductUuid) {
+        dataProductsLockService.lock(dataProductUuid);
+    }
+
     @Override
     public void delete(DataProductVersionShort dataProductVersion) {
         dataProductVersionCrudService.delete(dataProductVersion.getUuid());
@@ -12,20 +12,29 @@ import java.io.IOException;
 /**
  * Validates DPDS descriptor content. Does not mutate the descriptor.
  */
-class DpdsDescriptorValidator implements DescriptorValidator {
+public class DpdsDescriptorValidator implements DescriptorValidator {
 
     private final Parser parser = ParserFactory.getParser();
 
     @Override
     public void validateDescriptor(JsonNode descriptorContent) {
-        DpdsDescriptorValidationContext context = new DpdsDescriptorValidationContext();
-
         DataProductVersion dataProductVersion;
         try {
             dataProductVersion = parser.deserialize(descriptorContent);
         } catch (IOException e) {
             throw new BadRequestException("Failed to parse DPDS descriptor: " + e.getMessage(), e);
         }
+        validateDescriptor(dataProductVersion);
+    }
+
+    /**
+     * Validates an already parsed DPDS descriptor, for callers that share the parsed model across several steps.
+     *
+     * @param dataProductVersion the parsed descriptor
+     * @throws BadRequestException if the descriptor is invalid
+     */
+    public void validateDescriptor(DataProductVersion dataProductVersion) {
+        DpdsDescriptorValidationContext context = new DpdsDescriptorValidationContext();
 
         if (dataProductVersion == null) {
             throw new BadRequestException("Descriptor root is null");
@@ -7,6 +7,7 @@ import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataPro
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersionShort;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersionValidationState;
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
+import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionPolicy;
 import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionalOutboundPort;
 import org.opendatamesh.platform.pp.registry.utils.usecases.UseCase;
 import org.springframework.util.StringUtils;
@@ -16,6 +17,10 @@ import java.util.Optional;
 
 
 class DataProductVersionPublisher implements UseCase {
+    // Publications of the same data product queue on the data product lock instead of aborting each other.
+    // Not retried: the command's version is persisted as it is, and would not be re-run from a clean state.
+    private static final TransactionPolicy TRANSACTION_POLICY = TransactionPolicy.READ_COMMITTED;
+
     private final DataProductVersionPublishCommand command;
     private final DataProductVersionPublishPresenter presenter;
 
@@ -44,9 +49,10 @@ class DataProductVersionPublisher implements UseCase {
     public void execute() {
         validateCommand(command);
 
-        transactionalPort.doInTransaction(() -> {
+        transactionalPort.doInTransaction(TRANSACTION_POLICY, () -> {
             DataProductVersion dataProductVersion = command.dataProductVersion();
 
+            dataProductPersistencePort.lock(dataProductVersion.getDataProductUuid());
             DataProduct dataProduct = dataProductPersistencePort.findByUuid(dataProductVersion.getDataProductUuid());
             verifyDataProductIsApproved(dataProduct);
             verifyDataProductFqnsMatch(dataProduct, dataProductVersion);
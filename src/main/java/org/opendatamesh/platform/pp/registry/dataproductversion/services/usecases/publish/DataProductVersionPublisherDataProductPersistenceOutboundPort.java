@@ -4,5 +4,7 @@ import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProduct;
 
 interface DataProductVersionPublisherDataProductPersistenceOutboundPort {
 
+    void lock(String dataProductUuid);
+
     DataProduct findByUuid(String dataProductUuid);
 }
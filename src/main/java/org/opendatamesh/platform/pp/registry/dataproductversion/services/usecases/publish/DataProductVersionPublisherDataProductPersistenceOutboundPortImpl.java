@@ -1,14 +1,22 @@
 package org.opendatamesh.platform.pp.registry.dataproductversion.services.usecases.publish;
 
 import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProduct;
+import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsLockService;
 import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsService;
 
 class DataProductVersionPublisherDataProductPersistenceOutboundPortImpl implements DataProductVersionPublisherDataProductPersistenceOutboundPort {
 
     private final DataProductsService service;
+    private final DataProductsLockService lockService;
 
-    public DataProductVersionPublisherDataProductPersistenceOutboundPortImpl(DataProductsService service) {
+    public DataProductVersionPublisherDataProductPersistenceOutboundPortImpl(DataProductsService service, DataProductsLockService lockService) {
         this.service = service;
+        this.lockService = lockService;
+    }
+
+    @Override
+    public void lock(String dataProductUuid) {
+        lockService.lock(dataProductUuid);
     }
 
     @Override
@@ -43,7 +43,7 @@ class DataProductVersionPublisherDataProductVersionPersistenceOutboundPortImpl i
 
     @Override
     public DataProductVersion findByUuid(String dataProductVersionUuid) {
-        return dataProductVersionCrudService.findOne(dataProductVersionUuid);
+        return dataProductVersionCrudService.findOneWithContent(dataProductVersionUuid);
     }
 
     @Override
@@ -7,24 +7,40 @@ import org.opendatamesh.dpds.parser.ParserFactory;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DescriptorSpec;
 import org.opendatamesh.platform.pp.registry.dataproductversion.services.usecases.descriptorvalidator.DescriptorValidator;
 import org.opendatamesh.platform.pp.registry.dataproductversion.services.usecases.descriptorvalidator.DescriptorValidatorFactory;
+import org.opendatamesh.platform.pp.registry.dataproductversion.services.usecases.descriptorvalidator.DpdsDescriptorValidator;
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
 import org.springframework.util.StringUtils;
 
 import java.io.IOException;
 
+/**
+ * DPDS descriptor port, built for a single publication: every step reads the descriptor
+ * through the same {@link DpdsParsedDescriptorContext}, so the content is parsed only once.
+ */
 class DataProductVersionPublisherDpdsDescriptorOutboundPort implements DataProductVersionPublisherDescriptorOutboundPort {
 
     private final DescriptorValidatorFactory descriptorValidatorFactory;
-    private final Parser parser = ParserFactory.getParser();
+    private final Parser parser;
+    private final DpdsParsedDescriptorContext parsedDescriptor;
 
     DataProductVersionPublisherDpdsDescriptorOutboundPort(DescriptorValidatorFactory descriptorValidatorFactory) {
+        this(descriptorValidatorFactory, ParserFactory.getParser());
+    }
+
+    DataProductVersionPublisherDpdsDescriptorOutboundPort(DescriptorValidatorFactory descriptorValidatorFactory, Parser parser) {
         this.descriptorValidatorFactory = descriptorValidatorFactory;
+        this.parser = parser;
+        this.parsedDescriptor = new DpdsParsedDescriptorContext(parser);
     }
 
     @Override
     public void validateDescriptor(String descriptorSpec, String descriptorSpecVersion, JsonNode descriptorContent) {
         DescriptorValidator validator = descriptorValidatorFactory.getDescriptorValidator(descriptorSpec, descriptorSpecVersion);
-        validator.validateDescriptor(descriptorContent);
+        if (validator instanceof DpdsDescriptorValidator dpdsValidator) {
+            dpdsValidator.validateDescriptor(parsedDescriptor.getDataProductVersion(descriptorContent));
+        } else {
+            validator.validateDescriptor(descriptorContent);
+        }
     }
 
     @Override
@@ -36,12 +52,7 @@ class DataProductVersionPublisherDpdsDescriptorOutboundPort implements DataProdu
             return descriptorContent;
         }
 
-        DataProductVersion dataProductVersion;
-        try {
-            dataProductVersion = parser.deserialize(descriptorContent);
-        } catch (IOException e) {
-            throw new BadRequestException("Failed to parse DPDS descriptor: " + e.getMessage(), e);
-        }
+        DataProductVersion dataProductVersion = parsedDescriptor.getDataProductVersion(descriptorContent);
         if (dataProductVersion == null) {
             return descriptorContent;
         }
@@ -60,11 +71,15 @@ class DataProductVersionPublisherDpdsDescriptorOutboundPort implements DataProdu
             dataProductVersion.getComponents().accept(visitor);
         }
 
+        JsonNode enrichedContent;
         try {
-            return parser.serialize(dataProductVersion);
+            enrichedContent = parser.serialize(dataProductVersion);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
+        // The model already reflects the generated fields: the following steps keep using it
+        parsedDescriptor.rebind(enrichedContent);
+        return enrichedContent;
     }
 
     @Override
@@ -78,12 +93,7 @@ class DataProductVersionPublisherDpdsDescriptorOutboundPort implements DataProdu
                     descriptorSpec, descriptorSpecVersion));
         }
 
-        DataProductVersion dataProductVersion;
-        try {
-            dataProductVersion = parser.deserialize(descriptorContent);
-        } catch (IOException e) {
-            throw new BadRequestException("Failed to parse DPDS descriptor: " + e.getMessage(), e);
-        }
+        DataProductVersion dataProductVersion = parsedDescriptor.getDataProductVersion(descriptorContent);
 
         if (dataProductVersion == null || dataProductVersion.getInfo() == null) {
             throw new BadRequestException("DPDS descriptor is missing the 'info' section");
@@ -99,12 +109,7 @@ class DataProductVersionPublisherDpdsDescriptorOutboundPort implements DataProdu
 
     @Override
     public String extractFullyQualifiedName(JsonNode descriptorContent) {
-        DataProductVersion dataProductVersion;
-        try {
-            dataProductVersion = parser.deserialize(descriptorContent);
-        } catch (IOException e) {
-            throw new BadRequestException("Failed to parse DPDS descriptor: " + e.getMessage(), e);
-        }
+        DataProductVersion dataProductVersion = parsedDescriptor.getDataProductVersion(descriptorContent);
 
         if (dataProductVersion == null || dataProductVersion.getInfo() == null) {
             throw new BadRequestException("DPDS descriptor is missing the 'info' section");
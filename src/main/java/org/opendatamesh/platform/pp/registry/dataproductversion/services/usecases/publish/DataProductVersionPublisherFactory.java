@@ -1,6 +1,7 @@
 package org.opendatamesh.platform.pp.registry.dataproductversion.services.usecases.publish;
 
-import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import org.opendatamesh.platform.pp.registry.outbox.services.core.NotificationOutboxService;
+import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsLockService;
 import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsService;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersion;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DescriptorSpec;
@@ -25,9 +26,11 @@ public class DataProductVersionPublisherFactory {
     @Autowired
     private DataProductsService dataProductsService;
     @Autowired
+    private DataProductsLockService dataProductsLockService;
+    @Autowired
     private TransactionalOutboundPort transactionalOutboundPort;
     @Autowired
-    private NotificationClient notificationClient;
+    private NotificationOutboxService notificationOutboxService;
     @Autowired
     private DataProductVersionMapper dataProductVersionMapper;
     @Autowired
@@ -35,8 +38,8 @@ public class DataProductVersionPublisherFactory {
 
     public UseCase buildDataProductVersionPublisher(DataProductVersionPublishCommand command, DataProductVersionPublishPresenter presenter) {
         DataProductVersionPublisherDataProductVersionPersistenceOutboundPort dataProductVersionPersistencePort = new DataProductVersionPublisherDataProductVersionPersistenceOutboundPortImpl(dataProductVersionCrudService, dataProductVersionsQueryService);
-        DataProductVersionPublisherDataProductPersistenceOutboundPort dataProductPersistencePort = new DataProductVersionPublisherDataProductPersistenceOutboundPortImpl(dataProductsService);
-        DataProductVersionPublisherNotificationOutboundPort notificationPort = new DataProductVersionPublisherNotificationOutboundPortImpl(notificationClient, dataProductVersionMapper);
+        DataProductVersionPublisherDataProductPersistenceOutboundPort dataProductPersistencePort = new DataProductVersionPublisherDataProductPersistenceOutboundPortImpl(dataProductsService, dataProductsLockService);
+        DataProductVersionPublisherNotificationOutboundPort notificationPort = new DataProductVersionPublisherNotificationOutboundPortImpl(notificationOutboxService, dataProductVersionMapper);
         DataProductVersionPublisherDescriptorOutboundPort descriptorHandlerPort = buildDescriptorPort(command.dataProductVersion());
         return new DataProductVersionPublisher(command, presenter, notificationPort, dataProductVersionPersistencePort, dataProductPersistencePort, descriptorHandlerPort, transactionalOutboundPort);
     }
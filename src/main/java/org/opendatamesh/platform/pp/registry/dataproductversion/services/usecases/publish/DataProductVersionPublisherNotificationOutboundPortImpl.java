@@ -1,16 +1,16 @@
 package org.opendatamesh.platform.pp.registry.dataproductversion.services.usecases.publish;
 
-import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import org.opendatamesh.platform.pp.registry.outbox.services.core.NotificationOutboxService;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersion;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionMapper;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.events.emitted.EmittedEventDataProductVersionPublicationRequestedRes;
 
 class DataProductVersionPublisherNotificationOutboundPortImpl implements DataProductVersionPublisherNotificationOutboundPort {
-    private final NotificationClient notificationClient;
+    private final NotificationOutboxService notificationOutboxService;
     private final DataProductVersionMapper dataProductVersionMapper;
 
-    public DataProductVersionPublisherNotificationOutboundPortImpl(NotificationClient notificationClient, DataProductVersionMapper dataProductVersionMapper) {
-        this.notificationClient = notificationClient;
+    public DataProductVersionPublisherNotificationOutboundPortImpl(NotificationOutboxService notificationOutboxService, DataProductVersionMapper dataProductVersionMapper) {
+        this.notificationOutboxService = notificationOutboxService;
         this.dataProductVersionMapper = dataProductVersionMapper;
     }
     @Override
@@ -21,6 +21,6 @@ class DataProductVersionPublisherNotificationOutboundPortImpl implements DataPro
         if (previousDataProductVersion != null) {
             event.getEventContent().setPreviousDataProductVersion(dataProductVersionMapper.toRes(previousDataProductVersion));
         }
-        notificationClient.notifyEvent(event);
+        notificationOutboxService.enqueue(event);
     }
 }
@@ -0,0 +1,58 @@
+package org.opendatamesh.platform.pp.registry.dataproductversion.services.usecases.publish;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.opendatamesh.dpds.model.DataProductVersion;
+import org.opendatamesh.dpds.parser.Parser;
+import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
+
+import java.io.IOException;
+
+/**
+ * Parsed DPDS descriptor shared by the steps of a single publication (fqn extraction, validation,
+ * field generation and version extraction), so that the content is deserialized once instead of once per step.
+ * <p>
+ * The model is bound to the content instance it was parsed from: a different instance triggers a new parse.
+ * Field generation updates the model in place and re-binds it to the serialized result with {@link #rebind(JsonNode)}.
+ * Callers must not mutate a content instance after it has been parsed.
+ */
+class DpdsParsedDescriptorContext {
+
+    private final Parser parser;
+
+    private JsonNode content;
+    private DataProductVersion dataProductVersion;
+    private boolean parsed;
+
+    DpdsParsedDescriptorContext(Parser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Returns the DPDS model of the given content, parsing it only if it is not the content already bound.
+     *
+     * @param descriptorContent the descriptor content
+     * @return the parsed model, possibly null when the content is empty
+     * @throws BadRequestException if the content is not a valid DPDS descriptor
+     */
+    DataProductVersion getDataProductVersion(JsonNode descriptorContent) {
+        if (!parsed || content != descriptorContent) {
+            try {
+                dataProductVersion = parser.deserialize(descriptorContent);
+            } catch (IOException e) {
+                throw new BadRequestException("Failed to parse DPDS descriptor: " + e.getMessage(), e);
+            }
+            content = descriptorContent;
+            parsed = true;
+        }
+        return dataProductVersion;
+    }
+
+    /**
+     * Binds the current model to the content it has been serialized to.
+     *
+     * @param serializedContent the serialization of the current model
+     */
+    void rebind(JsonNode serializedContent) {
+        content = serializedContent;
+    }
+}
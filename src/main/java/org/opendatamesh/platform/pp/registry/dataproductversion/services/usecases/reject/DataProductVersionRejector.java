@@ -3,6 +3,7 @@ package org.opendatamesh.platform.pp.registry.dataproductversion.services.usecas
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersion;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersionValidationState;
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
+import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionPolicy;
 import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionalOutboundPort;
 import org.opendatamesh.platform.pp.registry.utils.usecases.UseCase;
 import org.springframework.util.StringUtils;
@@ -10,6 +11,9 @@ import org.springframework.util.StringUtils;
 import static org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersionValidationState.REJECTED;
 
 class DataProductVersionRejector implements UseCase {
+    // Locks like the approval does, so that approving and rejecting the same version cannot interleave; not retried either
+    private static final TransactionPolicy TRANSACTION_POLICY = TransactionPolicy.READ_COMMITTED;
+
     private final DataProductVersionRejectCommand command;
     private final DataProductVersionRejectPresenter presenter;
     private final DataProductVersionRejectorPersistenceOutboundPort persistencePort;
@@ -29,8 +33,11 @@ class DataProductVersionRejector implements UseCase {
     public void execute() {
         validateCommand(command);
 
-        transactionalPort.doInTransaction(() -> {
-            DataProductVersion dataProductVersion = persistencePort.findByUuid(command.dataProductVersion().getUuid());
+        transactionalPort.doInTransaction(TRANSACTION_POLICY, () -> {
+            String dataProductVersionUuid = command.dataProductVersion().getUuid();
+            // Data product first, then the version row: the same order as publish and delete
+            persistencePort.lockDataProduct(persistencePort.findDataProductUuid(dataProductVersionUuid));
+            DataProductVersion dataProductVersion = persistencePort.findByUuidForUpdate(dataProductVersionUuid);
 
             if (!DataProductVersionValidationState.PENDING.equals(dataProductVersion.getValidationState())) {
                 throw new BadRequestException(String.format("Data Product Version %s %s can be rejected only if in PENDING state.", command.dataProductVersion().getName(), command.dataProductVersion().getTag()));
@@ -1,6 +1,8 @@
 package org.opendatamesh.platform.pp.registry.dataproductversion.services.usecases.reject;
 
+import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsLockService;
 import org.opendatamesh.platform.pp.registry.dataproductversion.services.core.DataProductVersionCrudService;
+import org.opendatamesh.platform.pp.registry.dataproductversion.services.core.DataProductVersionsQueryService;
 import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionalOutboundPort;
 import org.opendatamesh.platform.pp.registry.utils.usecases.UseCase;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,10 +14,15 @@ public class DataProductVersionRejectorFactory {
     @Autowired
     private DataProductVersionCrudService dataProductVersionCrudService;
     @Autowired
+    private DataProductVersionsQueryService dataProductVersionsQueryService;
+    @Autowired
+    private DataProductsLockService dataProductsLockService;
+    @Autowired
     private TransactionalOutboundPort transactionalOutboundPort;
 
     public UseCase buildDataProductVersionRejector(DataProductVersionRejectCommand command, DataProductVersionRejectPresenter presenter) {
-        DataProductVersionRejectorPersistenceOutboundPort persistencePort = new DataProductVersionRejectorPersistenceOutboundPortImpl(dataProductVersionCrudService);
+        DataProductVersionRejectorPersistenceOutboundPort persistencePort = new DataProductVersionRejectorPersistenceOutboundPortImpl(
+                dataProductVersionCrudService, dataProductVersionsQueryService, dataProductsLockService);
         return new DataProductVersionRejector(command, presenter, persistencePort, transactionalOutboundPort);
     }
 
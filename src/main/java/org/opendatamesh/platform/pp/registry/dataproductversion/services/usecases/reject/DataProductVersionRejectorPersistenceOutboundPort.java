@@ -3,7 +3,11 @@ package org.opendatamesh.platform.pp.registry.dataproductversion.services.usecas
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersion;
 
 interface DataProductVersionRejectorPersistenceOutboundPort {
-    DataProductVersion findByUuid(String dataProductVersionUuid);
+    String findDataProductUuid(String dataProductVersionUuid);
+
+    void lockDataProduct(String dataProductUuid);
+
+    DataProductVersion findByUuidForUpdate(String dataProductVersionUuid);
 
     DataProductVersion save(DataProductVersion dataProductVersion);
 }
@@ -23,7 +23,7 @@ class DataProductVersionVariablesResolverPersistenceOutboundPortImpl implements
 
     @Override
     public DataProductVersion findByUuid(String dataProductVersionUuid) {
-        return dataProductVersionCrudService.findOne(dataProductVersionUuid);
+        return dataProductVersionCrudService.findOneWithContent(dataProductVersionUuid);
     }
 
     @Override
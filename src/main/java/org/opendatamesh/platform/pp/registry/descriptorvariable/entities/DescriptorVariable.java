@@ -9,7 +9,8 @@ public class DescriptorVariable {
 
     @Id
     @Column(name = "sequence_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "data_products_descriptor_variables_seq")
+    @SequenceGenerator(name = "data_products_descriptor_variables_seq", sequenceName = "data_products_descriptor_variables_seq", allocationSize = 50)
     private Long sequenceId;
 
     @Column(name = "data_product_version_uuid", insertable = false, updatable = false)
@@ -5,20 +5,37 @@ import org.opendatamesh.platform.pp.registry.descriptorvariable.entities.Descrip
 import org.opendatamesh.platform.pp.registry.utils.repositories.PagingAndSortingAndSpecificationExecutorRepository;
 import org.opendatamesh.platform.pp.registry.utils.repositories.SpecsUtils;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface DescriptorVariableRepository extends PagingAndSortingAndSpecificationExecutorRepository<DescriptorVariable, Long> {
+import java.util.Collection;
+import java.util.List;
+
+public interface DescriptorVariableRepository extends PagingAndSortingAndSpecificationExecutorRepository<DescriptorVariable, Long>, DescriptorVariableRepositoryCustom {
+
+    // Natural key lookups for uniqueness validation
 
-    // JPA named methods for uniqueness validation
-    
     /**
-     * Check if a DescriptorVariable exists by variableKey and dataProductVersionUuid (case-insensitive)
+     * Check if a DescriptorVariable exists by variableKey (case-insensitive) and dataProductVersionUuid,
+     * excluding a specific sequenceId when provided. Served by the (data_product_version_uuid, lower(variable_key)) unique index.
      */
-    boolean existsByVariableKeyIgnoreCaseAndDataProductVersionUuid(String variableKey, String dataProductVersionUuid);
-    
+    @Query("select count(v) > 0 from DescriptorVariable v " +
+            "where v.dataProductVersionUuid = :dataProductVersionUuid " +
+            "and lower(v.variableKey) = lower(:variableKey) " +
+            "and (:excludeSequenceId is null or v.sequenceId <> :excludeSequenceId)")
+    boolean existsByNaturalKey(@Param("variableKey") String variableKey,
+                               @Param("dataProductVersionUuid") String dataProductVersionUuid,
+                               @Param("excludeSequenceId") Long excludeSequenceId);
+
     /**
-     * Check if a DescriptorVariable exists by variableKey and dataProductVersionUuid excluding a specific sequenceId (case-insensitive)
+     * Find the variables of a data product version by their lower-cased keys, in a single statement served by the
+     * (data_product_version_uuid, lower(variable_key)) unique index.
      */
-    boolean existsByVariableKeyIgnoreCaseAndDataProductVersionUuidAndSequenceIdNot(String variableKey, String dataProductVersionUuid, Long excludeSequenceId);
+    @Query("select v from DescriptorVariable v " +
+            "where v.dataProductVersionUuid = :dataProductVersionUuid " +
+            "and lower(v.variableKey) in :lowerCaseVariableKeys")
+    List<DescriptorVariable> findAllByNaturalKeys(@Param("dataProductVersionUuid") String dataProductVersionUuid,
+                                                  @Param("lowerCaseVariableKeys") Collection<String> lowerCaseVariableKeys);
 
     class Specs extends SpecsUtils {
 
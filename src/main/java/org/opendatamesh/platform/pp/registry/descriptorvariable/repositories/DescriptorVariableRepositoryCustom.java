@@ -0,0 +1,21 @@
+package org.opendatamesh.platform.pp.registry.descriptorvariable.repositories;
+
+import org.opendatamesh.platform.pp.registry.descriptorvariable.entities.DescriptorVariable;
+
+import java.util.List;
+
+public interface DescriptorVariableRepositoryCustom {
+
+    /**
+     * Insert the given variables of a data product version or, when a variable with the same key (case-insensitive)
+     * already exists, overwrite its key and value. Rows are written with batched {@code INSERT ... ON CONFLICT DO UPDATE}
+     * statements on the (data_product_version_uuid, lower(variable_key)) unique index.
+     * <p>
+     * The statements bypass the persistence context, which is flushed before and cleared after them, as for
+     * {@code @Modifying(flushAutomatically = true, clearAutomatically = true)} queries.
+     *
+     * @param dataProductVersionUuid the data product version the variables belong to
+     * @param descriptorVariables    the variables to store
+     */
+    void upsertAll(String dataProductVersionUuid, List<DescriptorVariable> descriptorVariables);
+}
@@ -0,0 +1,52 @@
+package org.opendatamesh.platform.pp.registry.descriptorvariable.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.opendatamesh.platform.pp.registry.descriptorvariable.entities.DescriptorVariable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+class DescriptorVariableRepositoryCustomImpl implements DescriptorVariableRepositoryCustom {
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final String UPSERT_SQL = "insert into %s.data_products_descriptor_variables " +
+            "(data_product_version_uuid, variable_key, variable_value) values (?, ?, ?) " +
+            "on conflict (data_product_version_uuid, lower(variable_key)) " +
+            "do update set variable_key = excluded.variable_key, variable_value = excluded.variable_value";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.default_schema}")
+    private String defaultSchema;
+
+    @Override
+    @Transactional
+    public void upsertAll(String dataProductVersionUuid, List<DescriptorVariable> descriptorVariables) {
+        entityManager.flush();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(String.format(UPSERT_SQL, defaultSchema))) {
+                int pending = 0;
+                for (DescriptorVariable descriptorVariable : descriptorVariables) {
+                    statement.setString(1, dataProductVersionUuid);
+                    statement.setString(2, descriptorVariable.getVariableKey());
+                    statement.setString(3, descriptorVariable.getVariableValue());
+                    statement.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        });
+        entityManager.clear();
+    }
+}
@@ -5,6 +5,17 @@ import org.opendatamesh.platform.pp.registry.rest.v2.resources.descriptorvariabl
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.descriptorvariable.DescriptorVariableSearchOptions;
 import org.opendatamesh.platform.pp.registry.utils.services.GenericMappedAndFilteredCrudService;
 
+import java.util.List;
+
 public interface DescriptorVariableCrudService extends GenericMappedAndFilteredCrudService<DescriptorVariableSearchOptions, DescriptorVariableRes, DescriptorVariable, Long> {
 
+    /**
+     * Creates the given variables of a data product version, overwriting the ones whose key (case-insensitive)
+     * is already defined, with a few set-based statements instead of a lookup and a save per variable.
+     *
+     * @param dataProductVersionUuid the data product version the variables belong to
+     * @param descriptorVariables    the variables to store
+     * @return the stored variables, in the same order as the given ones
+     */
+    List<DescriptorVariable> createOrOverwriteAll(String dataProductVersionUuid, List<DescriptorVariable> descriptorVariables);
 }
@@ -17,7 +17,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class DescriptorVariableCrudServiceImpl extends GenericMappedAndFilteredCrudServiceImpl<DescriptorVariableSearchOptions, DescriptorVariableRes, DescriptorVariable, Long> implements DescriptorVariableCrudService {
@@ -114,15 +119,8 @@ public class DescriptorVariableCrudServiceImpl extends GenericMappedAndFilteredC
      */
     private void validateNaturalKeyConstraints(DescriptorVariable descriptorVariable, Long excludeSequenceId) {
         // Validate variableKey uniqueness within the same DataProductVersion
-        boolean existsByKey;
-
-        if (excludeSequenceId != null) {
-            existsByKey = repository.existsByVariableKeyIgnoreCaseAndDataProductVersionUuidAndSequenceIdNot(
-                    descriptorVariable.getVariableKey(), descriptorVariable.getDataProductVersionUuid(), excludeSequenceId);
-        } else {
-            existsByKey = repository.existsByVariableKeyIgnoreCaseAndDataProductVersionUuid(
-                    descriptorVariable.getVariableKey(), descriptorVariable.getDataProductVersionUuid());
-        }
+        boolean existsByKey = repository.existsByNaturalKey(
+                descriptorVariable.getVariableKey(), descriptorVariable.getDataProductVersionUuid(), excludeSequenceId);
 
         if (existsByKey) {
             throw new ResourceConflictException(
@@ -131,6 +129,25 @@ public class DescriptorVariableCrudServiceImpl extends GenericMappedAndFilteredC
         }
     }
 
+    @Override
+    public List<DescriptorVariable> createOrOverwriteAll(String dataProductVersionUuid, List<DescriptorVariable> descriptorVariables) {
+        Set<String> lowerCaseKeys = new LinkedHashSet<>();
+        for (DescriptorVariable descriptorVariable : descriptorVariables) {
+            descriptorVariable.setDataProductVersionUuid(dataProductVersionUuid);
+            validate(descriptorVariable);
+            lowerCaseKeys.add(descriptorVariable.getVariableKey().toLowerCase());
+        }
+
+        repository.upsertAll(dataProductVersionUuid, descriptorVariables);
+
+        Map<String, DescriptorVariable> storedByKey = repository.findAllByNaturalKeys(dataProductVersionUuid, lowerCaseKeys)
+                .stream()
+                .collect(Collectors.toMap(v -> v.getVariableKey().toLowerCase(), Function.identity()));
+        return descriptorVariables.stream()
+                .map(v -> storedByKey.get(v.getVariableKey().toLowerCase()))
+                .toList();
+    }
+
     // Validation helper methods
 
     private void validateLength(String fieldName, String value, int maxLength) {
@@ -0,0 +1,155 @@
+package org.opendatamesh.platform.pp.registry.descriptorvariable.services.core;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Replaces {@code ${key}} placeholders with the values of the descriptor variables.
+ * <p>
+ * All the placeholders are matched in a single pass over the input, looking each key up in the given map,
+ * so the cost grows with the size of the input and not with the number of variables.
+ * A key is the text between {@code ${} and the first following {@code }}; placeholders whose key
+ * has no value are left untouched, and substituted values are never scanned again.
+ */
+public final class DescriptorVariableSubstitutor {
+
+    private static final String PLACEHOLDER_PREFIX = "${";
+    private static final char PLACEHOLDER_SUFFIX = '}';
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private DescriptorVariableSubstitutor() {
+    }
+
+    /**
+     * Replaces the placeholders found in field names and string values of a JSON descriptor.
+     * The descriptor is streamed token by token, without being serialized to text and parsed back;
+     * values are inserted as plain text and escaped when written.
+     *
+     * @param descriptor     the descriptor content
+     * @param valuesByKey    the variable values, indexed by variable key
+     * @return a new descriptor with the placeholders replaced, or the same descriptor when there is nothing to replace
+     */
+    public static JsonNode substitute(JsonNode descriptor, Map<String, String> valuesByKey) {
+        if (descriptor == null || valuesByKey.isEmpty()) {
+            return descriptor;
+        }
+        try (JsonParser parser = objectMapper.treeAsTokens(descriptor);
+             TokenBuffer buffer = new TokenBuffer(parser)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                switch (token) {
+                    case FIELD_NAME -> buffer.writeFieldName(substitute(parser.currentName(), valuesByKey));
+                    case VALUE_STRING -> buffer.writeString(substitute(parser.getText(), valuesByKey));
+                    default -> buffer.copyCurrentEvent(parser);
+                }
+            }
+            return objectMapper.readTree(buffer.asParser());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to replace variables in descriptor", e);
+        }
+    }
+
+    /**
+     * Replaces the placeholders found in a text. Values are inserted verbatim: callers substituting
+     * inside serialized content are responsible for encoding them.
+     *
+     * @param text        the text containing the placeholders
+     * @param valuesByKey the variable values, indexed by variable key
+     * @return the text with the placeholders replaced, or the same instance when there is nothing to replace
+     */
+    public static String substitute(String text, Map<String, String> valuesByKey) {
+        if (text == null || valuesByKey.isEmpty()) {
+            return text;
+        }
+        int start = text.indexOf(PLACEHOLDER_PREFIX);
+        if (start < 0) {
+            return text;
+        }
+
+        StringBuilder result = null;
+        int copiedUpTo = 0;
+        int end = -1;
+        while (start >= 0) {
+            int keyStart = start + PLACEHOLDER_PREFIX.length();
+            // Nested prefixes share the same closing brace: only look for it again once it is behind us
+            if (end < keyStart) {
+                end = text.indexOf(PLACEHOLDER_SUFFIX, keyStart);
+                if (end < 0) {
+                    break;
+                }
+            }
+            String value = valuesByKey.get(text.substring(keyStart, end));
+            if (value != null) {
+                if (result == null) {
+                    result = new StringBuilder(text.length() + value.length());
+                }
+                result.append(text, copiedUpTo, start).append(value);
+                copiedUpTo = end + 1;
+                start = text.indexOf(PLACEHOLDER_PREFIX, copiedUpTo);
+            } else {
+                start = text.indexOf(PLACEHOLDER_PREFIX, keyStart);
+            }
+        }
+
+        if (result == null) {
+            return text;
+        }
+        return result.append(text, copiedUpTo, text.length()).toString();
+    }
+
+    /**
+     * Collects the keys of the placeholders found in field names and string values of a JSON descriptor.
+     * Every key that {@link #substitute(String, Map)} may look up is reported: each prefix starts a key ending at the
+     * first following {@code }}, so with nested prefixes both the outer and the inner key are found.
+     *
+     * @param descriptor the descriptor content
+     * @return the distinct placeholder keys, empty when the descriptor is null or has no placeholder
+     */
+    public static Set<String> findKeys(JsonNode descriptor) {
+        Set<String> keys = new HashSet<>();
+        if (descriptor == null) {
+            return keys;
+        }
+        try (JsonParser parser = objectMapper.treeAsTokens(descriptor)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME) {
+                    collectKeys(parser.currentName(), keys);
+                } else if (token == JsonToken.VALUE_STRING) {
+                    collectKeys(parser.getText(), keys);
+                }
+            }
+            return keys;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to extract variables from descriptor", e);
+        }
+    }
+
+    private static void collectKeys(String text, Set<String> keys) {
+        int start = text.indexOf(PLACEHOLDER_PREFIX);
+        int end = -1;
+        while (start >= 0) {
+            int keyStart = start + PLACEHOLDER_PREFIX.length();
+            // The same scan as substitute: nested prefixes share the same closing brace
+            if (end < keyStart) {
+                end = text.indexOf(PLACEHOLDER_SUFFIX, keyStart);
+                if (end < 0) {
+                    return;
+                }
+            }
+            if (end > keyStart) {
+                keys.add(text.substring(keyStart, end));
+            }
+            start = text.indexOf(PLACEHOLDER_PREFIX, keyStart);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.opendatamesh.platform.pp.registry.descriptorvariable.services.usecas
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersion;
 import org.opendatamesh.platform.pp.registry.descriptorvariable.entities.DescriptorVariable;
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
+import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionPolicy;
 import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionalOutboundPort;
 import org.opendatamesh.platform.pp.registry.utils.usecases.UseCase;
 import org.springframework.util.StringUtils;
@@ -13,6 +14,8 @@ import java.util.List;
 import java.util.Map;
 
 class StoreDescriptorVariable implements UseCase {
+    private static final TransactionPolicy TRANSACTION_POLICY = TransactionPolicy.SERIALIZABLE.withMaxAttempts(3);
+
     private final StoreDescriptorVariableCommand command;
     private final StoreDescriptorVariablePresenter presenter;
 
@@ -42,15 +45,15 @@ class StoreDescriptorVariable implements UseCase {
             String dataProductVersionUuid = entry.getKey();
             List<DescriptorVariable> groupVariables = entry.getValue();
 
-            transactionalPort.doInTransaction(() -> {
+            // Presented once committed, so that a retried transaction does not present the variables twice
+            List<DescriptorVariable> savedVariables = transactionalPort.doInTransactionWithResults(TRANSACTION_POLICY, variables -> {
                 DataProductVersion dataProductVersion = persistencePort.findDataProductVersionByUuid(dataProductVersionUuid);
-                validationPort.validateVariablesCanBeAppliedToDescriptor(dataProductVersion, groupVariables);
-
-                for (DescriptorVariable descriptorVariable : groupVariables) {
-                    DescriptorVariable saved = persistencePort.createOrOverride(descriptorVariable);
-                    presenter.presentDescriptorVariableStored(saved);
-                }
-            });
+                validationPort.validateVariablesCanBeAppliedToDescriptor(dataProductVersion, variables);
+                return persistencePort.createOrOverrideAll(dataProductVersionUuid, variables);
+            }, groupVariables);
+            for (DescriptorVariable saved : savedVariables) {
+                presenter.presentDescriptorVariableStored(saved);
+            }
         }
     }
 
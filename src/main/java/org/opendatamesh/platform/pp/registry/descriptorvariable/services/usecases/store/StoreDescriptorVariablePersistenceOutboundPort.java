@@ -3,8 +3,10 @@ package org.opendatamesh.platform.pp.registry.descriptorvariable.services.usecas
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersion;
 import org.opendatamesh.platform.pp.registry.descriptorvariable.entities.DescriptorVariable;
 
+import java.util.List;
+
 interface StoreDescriptorVariablePersistenceOutboundPort {
     DataProductVersion findDataProductVersionByUuid(String dataProductVersionUuid);
 
-    DescriptorVariable createOrOverride(DescriptorVariable descriptorVariable);
+    List<DescriptorVariable> createOrOverrideAll(String dataProductVersionUuid, List<DescriptorVariable> descriptorVariables);
 }
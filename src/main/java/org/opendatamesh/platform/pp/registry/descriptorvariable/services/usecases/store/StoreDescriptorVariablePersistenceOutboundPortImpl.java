@@ -4,10 +4,8 @@ import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataPro
 import org.opendatamesh.platform.pp.registry.dataproductversion.services.core.DataProductVersionCrudService;
 import org.opendatamesh.platform.pp.registry.descriptorvariable.entities.DescriptorVariable;
 import org.opendatamesh.platform.pp.registry.descriptorvariable.services.core.DescriptorVariableCrudService;
-import org.opendatamesh.platform.pp.registry.rest.v2.resources.descriptorvariable.DescriptorVariableSearchOptions;
-import org.springframework.data.domain.PageRequest;
 
-import java.util.Optional;
+import java.util.List;
 
 class StoreDescriptorVariablePersistenceOutboundPortImpl implements StoreDescriptorVariablePersistenceOutboundPort {
     private final DescriptorVariableCrudService descriptorVariableCrudService;
@@ -25,17 +23,7 @@ class StoreDescriptorVariablePersistenceOutboundPortImpl implements StoreDescrip
     }
 
     @Override
-    public DescriptorVariable createOrOverride(DescriptorVariable descriptorVariable) {
-        DescriptorVariableSearchOptions searchOptions = new DescriptorVariableSearchOptions();
-        searchOptions.setDataProductVersionUuid(descriptorVariable.getDataProductVersionUuid());
-        searchOptions.setVariableKey(descriptorVariable.getVariableKey());
-
-        Optional<DescriptorVariable> existingVariable = descriptorVariableCrudService.findAllFiltered(PageRequest.of(0, 1), searchOptions).stream().findFirst();
-
-        if (existingVariable.isPresent()) {
-            descriptorVariable.setSequenceId(existingVariable.get().getSequenceId());
-            return descriptorVariableCrudService.overwrite(existingVariable.get().getSequenceId(), descriptorVariable);
-        }
-        return descriptorVariableCrudService.create(descriptorVariable);
+    public List<DescriptorVariable> createOrOverrideAll(String dataProductVersionUuid, List<DescriptorVariable> descriptorVariables) {
+        return descriptorVariableCrudService.createOrOverwriteAll(dataProductVersionUuid, descriptorVariables);
     }
 }
@@ -1,6 +1,5 @@
 package org.opendatamesh.platform.pp.registry.descriptorvariable.services.usecases.store;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersion;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DescriptorSpec;
 import org.opendatamesh.platform.pp.registry.descriptorvariable.entities.DescriptorVariable;
@@ -10,6 +9,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Set;
 
 class StoreDescriptorVariableValidationOutboundPortImpl implements StoreDescriptorVariableValidationOutboundPort {
 
@@ -24,15 +24,14 @@ class StoreDescriptorVariableValidationOutboundPortImpl implements StoreDescript
     @Override
     public void validateVariablesCanBeAppliedToDescriptor(DataProductVersion dataProductVersion, List<DescriptorVariable> descriptorVariables) {
         if (SUPPORTED_SPECIFICATION.equalsIgnoreCase(dataProductVersion.getSpec()) && dataProductVersion.getSpecVersion().matches(SUPPORTED_SPECIFICATION_VERSION)) {
-            validateVariablesCanBeAppliedToOdmDescriptor(dataProductVersion.getContent(), descriptorVariables);
+            validateVariablesCanBeAppliedToOdmDescriptor(dataProductVersion.getPlaceholderKeys(), descriptorVariables);
         } else {
             logger.warn("[Store Descriptor Variable use case] Unable to verify variable presence in descriptor." +
                     " Unsupported specification: {}", dataProductVersion.getSpec());
         }
     }
 
-    private void validateVariablesCanBeAppliedToOdmDescriptor(JsonNode descriptor, List<DescriptorVariable> variables) {
-        String descriptorString = descriptor.toString();
+    private void validateVariablesCanBeAppliedToOdmDescriptor(Set<String> placeholderKeys, List<DescriptorVariable> variables) {
         for (DescriptorVariable variable : variables) {
             String variableKey = variable.getVariableKey();
             if (!StringUtils.hasText(variableKey)) {
@@ -40,7 +39,7 @@ class StoreDescriptorVariableValidationOutboundPortImpl implements StoreDescript
             }
 
             String variablePattern = "${" + variableKey + "}";
-            if (!descriptorString.contains(variablePattern)) {
+            if (!placeholderKeys.contains(variableKey)) {
                 throw new BadRequestException(
                         String.format("Variable key '%s' not found in descriptor. Expected pattern: %s",
                                 variableKey, variablePattern));
@@ -0,0 +1,18 @@
+package org.opendatamesh.platform.pp.registry.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class ServiceUnavailableException extends RegistryApiException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.SERVICE_UNAVAILABLE;
+    }
+}
@@ -0,0 +1,11 @@
+package org.opendatamesh.platform.pp.registry.exceptions.client;
+
+/**
+ * Thrown without calling the downstream service when its circuit breaker is open or its bulkhead is full.
+ * The call can be retried later.
+ */
+public class ClientUnavailableException extends ClientException {
+    public ClientUnavailableException(String responseBody) {
+        super(503, responseBody);
+    }
+}
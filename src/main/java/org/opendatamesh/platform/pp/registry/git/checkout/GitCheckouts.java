@@ -0,0 +1,79 @@
+package org.opendatamesh.platform.pp.registry.git.checkout;
+
+import org.opendatamesh.platform.git.model.Repository;
+import org.opendatamesh.platform.git.model.RepositoryPointer;
+import org.opendatamesh.platform.git.model.RepositoryPointerBranch;
+import org.opendatamesh.platform.git.model.RepositoryPointerCommit;
+import org.opendatamesh.platform.git.model.RepositoryPointerTag;
+import org.opendatamesh.platform.git.provider.GitProvider;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCommandException;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCommandLine;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCredentials;
+import org.opendatamesh.platform.pp.registry.git.mirror.GitMirrorCache;
+import org.opendatamesh.platform.pp.registry.git.model.GitCheckoutScope;
+import org.opendatamesh.platform.pp.registry.git.model.GitReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Provides checked out repositories to the services, from the local mirror of the remote when possible.
+ * <p>
+ * The git executable is used for HTTP remotes accessed anonymously or with a personal access token: full scopes
+ * are checked out from the mirror, path scopes from the mirror if it already exists and otherwise from a sparse
+ * depth-1 clone, so that reading a descriptor never waits for a whole repository to be mirrored. Other remotes,
+ * and checkouts the git executable cannot prepare, are cloned by the git operations of the provider.
+ */
+@Component
+public class GitCheckouts {
+
+    private final GitMirrorCache mirrorCache;
+    private final GitSparseCheckouts sparseCheckouts;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    public GitCheckouts(GitMirrorCache mirrorCache, GitSparseCheckouts sparseCheckouts) {
+        this.mirrorCache = mirrorCache;
+        this.sparseCheckouts = sparseCheckouts;
+    }
+
+    /**
+     * Checks out the reference of the repository and passes the working copy to the consumer. The working copy of a
+     * full scope can be committed to, tagged and pushed through the git operations of the provider, the one of a
+     * path scope is read-only. The working copy is deleted afterwards.
+     */
+    public void readRepository(GitProvider provider, Repository gitRepo, GitReference reference, GitCheckoutScope scope,
+                               HttpHeaders headers, Consumer<File> consumer) {
+        String remoteUrl = gitRepo.getCloneUrlHttp();
+        Optional<GitCredentials> credentials = GitCredentials.fromHeaders(headers);
+        if (credentials.isPresent() && GitCommandLine.isHttpUrl(remoteUrl)) {
+            try {
+                if (mirrorCache.isAvailable() && (!scope.isSparse() || mirrorCache.hasMirror(remoteUrl))) {
+                    mirrorCache.withWorkingCopy(remoteUrl, reference, scope, credentials.get(), consumer);
+                    return;
+                }
+                if (scope.isSparse() && sparseCheckouts.isAvailable()) {
+                    sparseCheckouts.withWorkingCopy(remoteUrl, reference, scope, credentials.get(), consumer);
+                    return;
+                }
+            } catch (GitCommandException e) {
+                logger.warn("Unable to check out {} with the git executable, cloning it instead: {}", remoteUrl,
+                        e.getMessage());
+            }
+        }
+        provider.gitOperation().readRepository(gitRepo, buildRepositoryPointer(reference), consumer);
+    }
+
+    private RepositoryPointer buildRepositoryPointer(GitReference reference) {
+        return switch (reference.type()) {
+            case TAG -> new RepositoryPointerTag(reference.tag());
+            case BRANCH -> new RepositoryPointerBranch(reference.branch());
+            case COMMIT -> new RepositoryPointerCommit(reference.commit());
+        };
+    }
+}
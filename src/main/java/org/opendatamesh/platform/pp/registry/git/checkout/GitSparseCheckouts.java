@@ -0,0 +1,100 @@
+package org.opendatamesh.platform.pp.registry.git.checkout;
+
+import org.opendatamesh.platform.pp.registry.git.cli.GitCommandException;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCommandLine;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCredentials;
+import org.opendatamesh.platform.pp.registry.git.model.GitCheckoutScope;
+import org.opendatamesh.platform.pp.registry.git.model.GitReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Checks out a path scope straight from the remote: a depth-1 clone of the reference, without the contents of the
+ * files outside the sparse checkout, which are never downloaded.
+ * <p>
+ * The working copy is a partial clone, which the git operations of the providers cannot commit to or push from:
+ * it is only meant for reads.
+ */
+@Component
+class GitSparseCheckouts {
+
+    private static final Logger logger = LoggerFactory.getLogger(GitSparseCheckouts.class);
+
+    private final GitCommandLine git;
+
+    GitSparseCheckouts(GitCommandLine git) {
+        this.git = git;
+    }
+
+    boolean isAvailable() {
+        return git.isAvailable();
+    }
+
+    /**
+     * @throws GitCommandException when the working copy cannot be prepared; the consumer has not been called then
+     */
+    void withWorkingCopy(String remoteUrl, GitReference reference, GitCheckoutScope scope, GitCredentials credentials,
+                         Consumer<File> consumer) {
+        Path workingCopy = checkout(remoteUrl, reference, scope, credentials);
+        try {
+            consumer.accept(workingCopy.toFile());
+        } finally {
+            deleteQuietly(workingCopy);
+        }
+    }
+
+    private Path checkout(String remoteUrl, GitReference reference, GitCheckoutScope scope, GitCredentials credentials) {
+        boolean commit = reference.type() == GitReference.VersionType.COMMIT && StringUtils.hasText(reference.name());
+        if (commit && !GitCommandLine.isCommitHash(reference.name())) {
+            throw new GitCommandException("Not a commit hash: " + reference.name());
+        }
+        Path workingCopy;
+        try {
+            workingCopy = Files.createTempDirectory("odm-registry-checkout-");
+        } catch (IOException e) {
+            throw new GitCommandException("Unable to create the working copy: " + e.getMessage(), e);
+        }
+        try {
+            if (commit) {
+                // A commit cannot be cloned directly, it is fetched into an empty repository
+                git.run(workingCopy, credentials, "init", "--quiet");
+                git.run(workingCopy, credentials, "remote", "add", "origin", remoteUrl);
+                git.run(workingCopy, credentials, "sparse-checkout", "set", "--cone");
+                git.run(workingCopy, credentials, "fetch", "--quiet", "--depth", "1", "--filter=blob:none",
+                        "--end-of-options", "origin", reference.name());
+                git.run(workingCopy, credentials, "checkout", "--quiet", "--detach", "FETCH_HEAD");
+            } else if (StringUtils.hasText(reference.name())) {
+                git.run(null, credentials, "clone", "--quiet", "--depth", "1", "--filter=blob:none", "--sparse",
+                        "--branch", reference.name(), remoteUrl, workingCopy.toString());
+            } else {
+                git.run(null, credentials, "clone", "--quiet", "--depth", "1", "--filter=blob:none", "--sparse",
+                        remoteUrl, workingCopy.toString());
+            }
+            if (StringUtils.hasText(scope.sparseDirectory())) {
+                // Downloads the files of the folder, with the same credentials as the clone
+                git.run(workingCopy, credentials, "sparse-checkout", "set", scope.sparseDirectory());
+            }
+            return workingCopy;
+        } catch (GitCommandException e) {
+            deleteQuietly(workingCopy);
+            throw e;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            FileSystemUtils.deleteRecursively(path);
+        } catch (IOException e) {
+            logger.warn("Unable to delete {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.opendatamesh.platform.pp.registry.git.cli;
+
+/**
+ * Thrown when the git executable cannot be run, fails or does not complete in time.
+ */
+public class GitCommandException extends RuntimeException {
+
+    public GitCommandException(String message) {
+        super(message);
+    }
+
+    public GitCommandException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
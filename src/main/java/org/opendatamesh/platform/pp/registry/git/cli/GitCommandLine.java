@@ -0,0 +1,136 @@
+package org.opendatamesh.platform.pp.registry.git.cli;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Runs the git executable for the checkouts the git operations of the providers cannot do, such as mirrors and
+ * sparse clones. Whether the executable is installed is checked once at startup.
+ */
+@Component
+public class GitCommandLine {
+
+    private static final Logger logger = LoggerFactory.getLogger(GitCommandLine.class);
+
+    private static final Pattern COMMIT_HASH = Pattern.compile("^[0-9a-fA-F]{7,64}$");
+
+    private final boolean enabled;
+    private final String executable;
+    private final Duration timeout;
+    private volatile boolean available;
+
+    public GitCommandLine(
+            @Value("${registry.git.command-line.enabled:true}") boolean enabled,
+            @Value("${registry.git.command-line.executable:git}") String executable,
+            @Value("${registry.git.command-line.timeout:PT5M}") Duration timeout
+    ) {
+        this.enabled = enabled;
+        this.executable = executable;
+        this.timeout = timeout;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            logger.info("Using {}", run(null, GitCredentials.anonymous(), "--version").trim());
+            available = true;
+        } catch (GitCommandException e) {
+            logger.warn("The git executable is not available, repositories will be cloned by the git providers: {}",
+                    e.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Remotes are only reached over http(s): any other value, such as {@code ext::} and {@code file://} transports or
+     * a value starting with a dash, could make git run commands or read the local disk.
+     */
+    public static boolean isHttpUrl(String remoteUrl) {
+        return remoteUrl != null && (remoteUrl.startsWith("https://") || remoteUrl.startsWith("http://"));
+    }
+
+    /**
+     * Commits are only passed to git as hashes, full or abbreviated: any other value could be read as an option or
+     * resolved as another kind of reference.
+     */
+    public static boolean isCommitHash(String commit) {
+        return commit != null && COMMIT_HASH.matcher(commit).matches();
+    }
+
+    /**
+     * Runs git, in the directory when given, and returns its output. The token of the credentials is passed through
+     * the environment, so that it never appears in the command line or in the configuration of the repository.
+     */
+    public String run(Path directory, GitCredentials credentials, String... arguments) {
+        List<String> command = new ArrayList<>();
+        command.add(executable);
+        if (directory != null) {
+            command.add("-C");
+            command.add(directory.toString());
+        }
+        command.addAll(List.of(arguments));
+        Path output = null;
+        Process process = null;
+        try {
+            // Written to a file rather than a pipe, so that a verbose command cannot block before the timeout
+            output = Files.createTempFile("git-", ".log");
+            ProcessBuilder processBuilder = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(output.toFile());
+            Map<String, String> environment = processBuilder.environment();
+            environment.put("GIT_TERMINAL_PROMPT", "0");
+            environment.put("LC_ALL", "C");
+            if (!credentials.isAnonymous()) {
+                environment.put("GIT_CONFIG_COUNT", "1");
+                environment.put("GIT_CONFIG_KEY_0", "http.extraHeader");
+                environment.put("GIT_CONFIG_VALUE_0", credentials.authorizationHeader());
+            }
+            process = processBuilder.start();
+            if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new GitCommandException("git " + arguments[0] + " did not complete within " + timeout);
+            }
+            String result = Files.readString(output, StandardCharsets.UTF_8);
+            if (process.exitValue() != 0) {
+                throw new GitCommandException("git " + arguments[0] + " failed with exit code " + process.exitValue()
+                        + ": " + result.trim());
+            }
+            return result;
+        } catch (IOException e) {
+            throw new GitCommandException("Unable to run git " + arguments[0] + ": " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GitCommandException("Interrupted while running git " + arguments[0], e);
+        } finally {
+            if (process != null && process.isAlive()) {
+                process.destroyForcibly();
+            }
+            if (output != null) {
+                try {
+                    Files.deleteIfExists(output);
+                } catch (IOException e) {
+                    logger.debug("Unable to delete {}: {}", output, e.getMessage());
+                }
+            }
+        }
+    }
+}
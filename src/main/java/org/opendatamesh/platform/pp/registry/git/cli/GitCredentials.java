@@ -0,0 +1,55 @@
+package org.opendatamesh.platform.pp.registry.git.cli;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Credentials passed to the git executable, taken from the same {@code x-odm-gpauth-*} headers the git providers read.
+ * Only personal access tokens can be handed over, other authentication types are left to the providers.
+ */
+public record GitCredentials(String username, String token) {
+
+    static final String AUTH_TYPE_HEADER = "x-odm-gpauth-type";
+    static final String AUTH_USERNAME_HEADER = "x-odm-gpauth-param-username";
+    static final String AUTH_TOKEN_HEADER = "x-odm-gpauth-param-token";
+
+    private static final String PAT = "PAT";
+    // GitHub, GitLab and Azure DevOps accept any username with a token, Bitbucket access tokens require this one
+    private static final String TOKEN_USERNAME = "x-token-auth";
+
+    public static GitCredentials anonymous() {
+        return new GitCredentials(null, null);
+    }
+
+    public static Optional<GitCredentials> fromHeaders(HttpHeaders headers) {
+        String type = headers == null ? null : headers.getFirst(AUTH_TYPE_HEADER);
+        if (!StringUtils.hasText(type)) {
+            return Optional.of(anonymous());
+        }
+        if (!PAT.equalsIgnoreCase(type) || !StringUtils.hasText(headers.getFirst(AUTH_TOKEN_HEADER))) {
+            return Optional.empty();
+        }
+        String username = headers.getFirst(AUTH_USERNAME_HEADER);
+        return Optional.of(new GitCredentials(
+                StringUtils.hasText(username) ? username : TOKEN_USERNAME,
+                headers.getFirst(AUTH_TOKEN_HEADER)));
+    }
+
+    boolean isAnonymous() {
+        return token == null;
+    }
+
+    String authorizationHeader() {
+        String basic = Base64.getEncoder().encodeToString((username + ":" + token).getBytes(StandardCharsets.UTF_8));
+        return "Authorization: Basic " + basic;
+    }
+
+    @Override
+    public String toString() {
+        return isAnonymous() ? "GitCredentials[anonymous]" : "GitCredentials[username=" + username + "]";
+    }
+}
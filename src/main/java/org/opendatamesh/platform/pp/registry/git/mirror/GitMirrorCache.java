@@ -0,0 +1,376 @@
+package org.opendatamesh.platform.pp.registry.git.mirror;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCommandException;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCommandLine;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCredentials;
+import org.opendatamesh.platform.pp.registry.git.model.GitCheckoutScope;
+import org.opendatamesh.platform.pp.registry.git.model.GitReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Keeps a bare mirror of each remote repository on disk, so that checking out a repository only transfers what
+ * changed on the remote since the previous request.
+ * <p>
+ * Every checkout fetches the mirror with the credentials of the caller, which also verifies that the caller can
+ * still read the remote, and then clones the mirror locally into a working copy that lives as long as the callback.
+ * Local clones hard-link the objects of the mirror: they are cheap, and they stay valid if the mirror is evicted.
+ * A sparse scope limits the files checked out, the history is complete anyway.
+ * Mirrors survive restarts and are evicted least recently used first, once their total size exceeds the limit.
+ */
+@Component
+public class GitMirrorCache {
+
+    static final String MIRRORS_DIRECTORY = "mirrors";
+    static final String WORKING_COPIES_DIRECTORY = "working-copies";
+    private static final String MIRROR_SUFFIX = ".git";
+    private static final String TEMPORARY_PREFIX = ".tmp-";
+
+    private static final Logger logger = LoggerFactory.getLogger(GitMirrorCache.class);
+
+    private final boolean enabled;
+    private final Path mirrorsDirectory;
+    private final Path workingCopiesDirectory;
+    private final long maxSizeBytes;
+    private final GitCommandLine git;
+
+    private final ConcurrentMap<String, Mirror> mirrors = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private volatile boolean available;
+
+    public GitMirrorCache(
+            @Value("${registry.git.mirror.enabled:true}") boolean enabled,
+            @Value("${registry.git.mirror.directory:${java.io.tmpdir}/odm-registry/git}") String directory,
+            @Value("${registry.git.mirror.max-size:2GB}") DataSize maxSize,
+            GitCommandLine git,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.mirrorsDirectory = Paths.get(directory, MIRRORS_DIRECTORY);
+        this.workingCopiesDirectory = Paths.get(directory, WORKING_COPIES_DIRECTORY);
+        this.maxSizeBytes = maxSize.toBytes();
+        this.git = git;
+        this.hits = Counter.builder("registry.git.mirror.requests").tag("result", "hit")
+                .description("Checkouts served by fetching an existing mirror").register(meterRegistry);
+        this.misses = Counter.builder("registry.git.mirror.requests").tag("result", "miss")
+                .description("Checkouts that had to create the mirror").register(meterRegistry);
+        this.evictions = Counter.builder("registry.git.mirror.evictions")
+                .description("Mirrors deleted to stay within the size limit").register(meterRegistry);
+        Gauge.builder("registry.git.mirror.size", this, GitMirrorCache::totalSizeBytes).baseUnit("bytes")
+                .description("Disk space used by the mirrors").register(meterRegistry);
+        Gauge.builder("registry.git.mirror.count", mirrors, Map::size)
+                .description("Mirrors kept on disk").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        if (!enabled || !git.isAvailable()) {
+            return;
+        }
+        try {
+            Files.createDirectories(mirrorsDirectory);
+            // Working copies of a previous run are never used again
+            FileSystemUtils.deleteRecursively(workingCopiesDirectory);
+            Files.createDirectories(workingCopiesDirectory);
+            loadMirrors();
+            available = true;
+            logger.info("Git mirror cache ready at {} with {} mirrors", mirrorsDirectory, mirrors.size());
+        } catch (IOException e) {
+            logger.warn("Git mirror cache disabled, repositories will be cloned on every request: {}", e.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return enabled && available;
+    }
+
+    /**
+     * @return whether the remote has a mirror on disk, which may still need to be fetched
+     */
+    public boolean hasMirror(String remoteUrl) {
+        Mirror mirror = mirrors.get(keyOf(remoteUrl));
+        return mirror != null && Files.isDirectory(mirror.directory);
+    }
+
+    /**
+     * Checks out the reference into a working copy of the remote and passes it to the consumer. The working copy
+     * has the remote as its origin, so that commits and tags made by the consumer can be pushed, and it is deleted
+     * when the consumer returns.
+     *
+     * @throws GitCommandException when the working copy cannot be prepared; the consumer has not been called then
+     */
+    public void withWorkingCopy(String remoteUrl, GitReference reference, GitCheckoutScope scope,
+                                GitCredentials credentials, Consumer<File> consumer) {
+        if (isCommit(reference) && !GitCommandLine.isCommitHash(reference.name())) {
+            throw new GitCommandException("Not a commit hash: " + reference.name());
+        }
+        Mirror mirror = acquire(remoteUrl);
+        Path workingCopy;
+        try {
+            update(mirror, remoteUrl, credentials);
+            workingCopy = checkout(mirror, remoteUrl, reference, scope);
+        } finally {
+            mirror.lock.readLock().unlock();
+        }
+        try {
+            consumer.accept(workingCopy.toFile());
+        } finally {
+            deleteQuietly(workingCopy);
+            evictIfNeeded(mirror);
+        }
+    }
+
+    /**
+     * Returns the mirror of the remote read-locked, so that it cannot be evicted while it is fetched or cloned.
+     */
+    private Mirror acquire(String remoteUrl) {
+        String key = keyOf(remoteUrl);
+        while (true) {
+            Mirror mirror = mirrors.computeIfAbsent(key, k -> new Mirror(mirrorsDirectory.resolve(k + MIRROR_SUFFIX)));
+            mirror.lock.readLock().lock();
+            if (!mirror.evicted) {
+                return mirror;
+            }
+            // Evicted between the lookup and the lock, the next lookup creates a new entry
+            mirror.lock.readLock().unlock();
+        }
+    }
+
+    private void update(Mirror mirror, String remoteUrl, GitCredentials credentials) {
+        mirror.fetchLock.lock();
+        try {
+            if (Files.isDirectory(mirror.directory)) {
+                // Other spellings of the remote share the mirror, which may also come from a previous run
+                if (!remoteUrl.equals(mirror.originUrl)) {
+                    git.run(mirror.directory, credentials, "config", "remote.origin.url", remoteUrl);
+                    mirror.originUrl = remoteUrl;
+                }
+                git.run(mirror.directory, credentials, "fetch", "--prune", "--quiet", "origin");
+                hits.increment();
+            } else {
+                create(mirror, remoteUrl, credentials);
+                misses.increment();
+            }
+            mirror.sizeBytes = sizeOf(mirror.directory);
+            mirror.lastUsedMillis = System.currentTimeMillis();
+        } finally {
+            mirror.fetchLock.unlock();
+        }
+    }
+
+    private void create(Mirror mirror, String remoteUrl, GitCredentials credentials) {
+        Path temporary = mirrorsDirectory.resolve(TEMPORARY_PREFIX + UUID.randomUUID());
+        logger.info("Creating git mirror of {} at {}", remoteUrl, mirror.directory);
+        try {
+            git.run(null, credentials, "init", "--bare", "--quiet", temporary.toString());
+            git.run(temporary, credentials, "config", "remote.origin.url", remoteUrl);
+            git.run(temporary, credentials, "config", "remote.origin.fetch", "+refs/heads/*:refs/heads/*");
+            git.run(temporary, credentials, "config", "--add", "remote.origin.fetch", "+refs/tags/*:refs/tags/*");
+            git.run(temporary, credentials, "fetch", "--prune", "--quiet", "origin");
+            // HEAD of the mirror follows the default branch of the remote, checked out when no reference is given
+            String remoteHead = git.run(temporary, credentials, "ls-remote", "--symref", "origin", "HEAD");
+            remoteHead.lines()
+                    .filter(line -> line.startsWith("ref: ") && line.endsWith("HEAD"))
+                    .map(line -> line.substring("ref: ".length(), line.indexOf('\t')))
+                    .findFirst()
+                    .ifPresent(head -> git.run(temporary, credentials, "symbolic-ref", "HEAD", head));
+            Files.move(temporary, mirror.directory, StandardCopyOption.ATOMIC_MOVE);
+            mirror.originUrl = remoteUrl;
+        } catch (IOException e) {
+            throw new GitCommandException("Unable to store the mirror of " + remoteUrl + ": " + e.getMessage(), e);
+        } finally {
+            deleteQuietly(temporary);
+        }
+    }
+
+    private Path checkout(Mirror mirror, String remoteUrl, GitReference reference, GitCheckoutScope scope) {
+        Path workingCopy = workingCopiesDirectory.resolve(UUID.randomUUID().toString());
+        GitCredentials local = GitCredentials.anonymous();
+        List<String> clone = new ArrayList<>(List.of("clone", "--quiet", "--local"));
+        if (scope.isSparse()) {
+            // Only the files at the root are checked out by the clone, the folder of the path is added below
+            clone.add("--sparse");
+        }
+        boolean detached = isCommit(reference);
+        if (detached) {
+            clone.add("--no-checkout");
+        } else if (StringUtils.hasText(reference.name())) {
+            clone.add("--branch");
+            clone.add(reference.name());
+        }
+        clone.add(mirror.directory.toString());
+        clone.add(workingCopy.toString());
+        try {
+            git.run(null, local, clone.toArray(String[]::new));
+            if (scope.isSparse() && StringUtils.hasText(scope.sparseDirectory())) {
+                git.run(workingCopy, local, "sparse-checkout", "set", scope.sparseDirectory());
+            }
+            if (detached) {
+                git.run(workingCopy, local, "switch", "--quiet", "--detach", "--end-of-options", reference.name());
+            }
+            git.run(workingCopy, local, "remote", "set-url", "origin", remoteUrl);
+            return workingCopy;
+        } catch (GitCommandException e) {
+            deleteQuietly(workingCopy);
+            throw e;
+        }
+    }
+
+    private static boolean isCommit(GitReference reference) {
+        return reference.type() == GitReference.VersionType.COMMIT && StringUtils.hasText(reference.name());
+    }
+
+    private synchronized void evictIfNeeded(Mirror justUsed) {
+        long totalSizeBytes = totalSizeBytes();
+        if (totalSizeBytes <= maxSizeBytes) {
+            return;
+        }
+        List<Map.Entry<String, Mirror>> leastRecentlyUsed = new ArrayList<>(mirrors.entrySet());
+        leastRecentlyUsed.sort(Comparator.comparingLong(entry -> entry.getValue().lastUsedMillis));
+        for (Map.Entry<String, Mirror> entry : leastRecentlyUsed) {
+            Mirror mirror = entry.getValue();
+            if (totalSizeBytes <= maxSizeBytes) {
+                break;
+            }
+            // Mirrors in use are skipped, as well as the one just used, which may alone exceed the limit
+            if (mirror == justUsed || !mirror.lock.writeLock().tryLock()) {
+                continue;
+            }
+            try {
+                // Removed from the index only once deleted, so that a new mirror of the remote cannot see it
+                mirror.evicted = true;
+                deleteQuietly(mirror.directory);
+                mirrors.remove(entry.getKey(), mirror);
+                totalSizeBytes -= mirror.sizeBytes;
+                evictions.increment();
+                logger.info("Evicted git mirror {} ({} bytes)", mirror.directory, mirror.sizeBytes);
+            } finally {
+                mirror.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void loadMirrors() throws IOException {
+        try (Stream<Path> directories = Files.list(mirrorsDirectory)) {
+            for (Path directory : directories.toList()) {
+                String name = directory.getFileName().toString();
+                if (name.startsWith(TEMPORARY_PREFIX)) {
+                    // Left by a mirror creation that did not complete
+                    deleteQuietly(directory);
+                } else if (name.endsWith(MIRROR_SUFFIX) && Files.isDirectory(directory)) {
+                    Mirror mirror = new Mirror(directory);
+                    mirror.sizeBytes = sizeOf(directory);
+                    mirror.lastUsedMillis = Files.getLastModifiedTime(directory).toMillis();
+                    mirrors.put(name.substring(0, name.length() - MIRROR_SUFFIX.length()), mirror);
+                }
+            }
+        }
+    }
+
+    long totalSizeBytes() {
+        return mirrors.values().stream().mapToLong(mirror -> mirror.sizeBytes).sum();
+    }
+
+    /**
+     * Mirrors are keyed by the remote URL without credentials and the optional ".git" suffix. Only the letter case
+     * of the scheme and host is ignored: paths are case-sensitive on most git servers.
+     */
+    public static String keyOf(String remoteUrl) {
+        String normalized = remoteUrl.trim();
+        try {
+            URI uri = new URI(normalized);
+            if (uri.getScheme() != null && uri.getHost() != null) {
+                normalized = new URI(uri.getScheme().toLowerCase(Locale.ROOT), null,
+                        uri.getHost().toLowerCase(Locale.ROOT), uri.getPort(), uri.getPath(), null, null).toString();
+            }
+        } catch (URISyntaxException e) {
+            // Not a URL, e.g. a local path or an scp-like address: used as it is
+        }
+        normalized = normalized.replaceAll("/+$", "");
+        if (normalized.endsWith(MIRROR_SUFFIX)) {
+            normalized = normalized.substring(0, normalized.length() - MIRROR_SUFFIX.length());
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 20);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static long sizeOf(Path directory) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> {
+                try {
+                    return Files.size(file);
+                } catch (IOException e) {
+                    return 0L;
+                }
+            }).sum();
+        } catch (IOException | UncheckedIOException e) {
+            return 0L;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            FileSystemUtils.deleteRecursively(path);
+        } catch (IOException e) {
+            logger.warn("Unable to delete {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static final class Mirror {
+        private final Path directory;
+        // Read-locked while the mirror is fetched or cloned, write-locked to evict it
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        // Fetches of the same mirror would contend on its refs
+        private final ReentrantLock fetchLock = new ReentrantLock();
+        private volatile long sizeBytes;
+        private volatile long lastUsedMillis = System.currentTimeMillis();
+        private volatile boolean evicted;
+        // The remote.origin.url of the mirror, null until set by this instance
+        private volatile String originUrl;
+
+        private Mirror(Path directory) {
+            this.directory = directory;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.opendatamesh.platform.pp.registry.git.model;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * The part of a repository an operation needs. A full scope checks out the whole working tree with its history;
+ * a path scope only checks out the folder of the path, and the files at the root of the repository, from a
+ * depth-1 clone of the reference.
+ */
+public record GitCheckoutScope(String path) {
+
+    private static final GitCheckoutScope FULL = new GitCheckoutScope(null);
+
+    public static GitCheckoutScope full() {
+        return FULL;
+    }
+
+    public static GitCheckoutScope ofPath(String path) {
+        return new GitCheckoutScope(path);
+    }
+
+    public boolean isSparse() {
+        return StringUtils.hasText(path);
+    }
+
+    /**
+     * @return the folder of the path relative to the root of the repository, empty when the path is at the root
+     */
+    public String sparseDirectory() {
+        String normalized = StringUtils.trimLeadingCharacter(path.replace('\\', '/'), '/');
+        int separator = normalized.lastIndexOf('/');
+        return separator < 0 ? "" : normalized.substring(0, separator);
+    }
+}
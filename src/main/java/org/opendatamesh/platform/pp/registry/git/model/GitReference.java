@@ -0,0 +1,29 @@
+package org.opendatamesh.platform.pp.registry.git.model;
+
+/**
+ * The tag, branch or commit of a repository to check out. When more than one is set, the tag takes precedence over
+ * the branch and the branch over the commit; when none is set, the default branch of the repository is used.
+ */
+public record GitReference(String tag, String branch, String commit) {
+
+    public enum VersionType {TAG, BRANCH, COMMIT}
+
+    public static GitReference ofBranch(String branch) {
+        return new GitReference(null, branch, null);
+    }
+
+    public VersionType type() {
+        if (tag != null) return VersionType.TAG;
+        if (branch != null) return VersionType.BRANCH;
+        if (commit != null) return VersionType.COMMIT;
+        return VersionType.BRANCH;
+    }
+
+    public String name() {
+        return switch (type()) {
+            case TAG -> tag;
+            case BRANCH -> branch;
+            case COMMIT -> commit;
+        };
+    }
+}
@@ -3,8 +3,12 @@ package org.opendatamesh.platform.pp.registry.git.provider;
 import org.opendatamesh.platform.git.provider.GitProvider;
 import org.opendatamesh.platform.git.provider.GitProviderExtension;
 import org.opendatamesh.platform.git.provider.GitProviderIdentifier;
+import org.opendatamesh.platform.pp.registry.git.provider.files.GitFileReader;
+import org.opendatamesh.platform.pp.registry.git.provider.files.GitFileWriter;
 import org.springframework.http.HttpHeaders;
 
+import java.util.Optional;
+
 public interface GitProviderFactory {
     GitProvider buildGitProvider(
             GitProviderIdentifier providerIdentifier,
@@ -12,4 +16,20 @@ public interface GitProviderFactory {
     );
 
     GitProviderExtension buildGitProviderExtension(GitProviderIdentifier providerIdentifier);
+
+    /**
+     * @return the reader of single files through the REST API of the provider, empty when the provider or the
+     * credentials in the headers do not allow it
+     */
+    default Optional<GitFileReader> buildGitFileReader(GitProviderIdentifier providerIdentifier, HttpHeaders headers) {
+        return Optional.empty();
+    }
+
+    /**
+     * @return the writer of single files and tags through the REST API of the provider, empty when the provider or
+     * the credentials in the headers do not allow it
+     */
+    default Optional<GitFileWriter> buildGitFileWriter(GitProviderIdentifier providerIdentifier, HttpHeaders headers) {
+        return Optional.empty();
+    }
 }
@@ -1,5 +1,6 @@
 package org.opendatamesh.platform.pp.registry.git.provider;
 
+import org.opendatamesh.platform.pp.registry.configuration.network.RestTemplateProfiles;
 import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProductRepoProviderType;
 import org.opendatamesh.platform.git.exceptions.GitProviderConfigurationException;
 import org.opendatamesh.platform.git.provider.GitProvider;
@@ -14,18 +15,25 @@ import org.opendatamesh.platform.git.provider.github.GitHubProvider;
 import org.opendatamesh.platform.git.provider.github.credentials.GitHubCredentialFactory;
 import org.opendatamesh.platform.git.provider.gitlab.GitLabProvider;
 import org.opendatamesh.platform.git.provider.gitlab.credentials.GitLabCredentialFactory;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCredentials;
+import org.opendatamesh.platform.pp.registry.git.provider.files.GitFileReader;
+import org.opendatamesh.platform.pp.registry.git.provider.files.GitFileReaders;
+import org.opendatamesh.platform.pp.registry.git.provider.files.GitFileWriter;
+import org.opendatamesh.platform.pp.registry.git.provider.files.GitFileWriters;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Optional;
+
 @Component
 public class GitProviderFactoryImpl implements GitProviderFactory {
 
-    private final RestTemplate restTemplate;
+    private final RestTemplateProfiles restTemplateProfiles;
 
-    public GitProviderFactoryImpl(RestTemplateBuilder restTemplateBuilder) {
-        this.restTemplate = restTemplateBuilder.build();
+    public GitProviderFactoryImpl(RestTemplateProfiles restTemplateProfiles) {
+        this.restTemplateProfiles = restTemplateProfiles;
     }
 
     @Override
@@ -34,6 +42,7 @@ public class GitProviderFactoryImpl implements GitProviderFactory {
             HttpHeaders headers
     ) {
         DataProductRepoProviderType providerType = getProviderType(providerIdentifier);
+        RestTemplate restTemplate = restTemplateProfiles.gitRestTemplate(providerIdentifier.baseUrl());
         return switch (providerType) {
             case GITHUB -> new GitHubProvider(
                     providerIdentifier.baseUrl(),
@@ -64,7 +73,7 @@ public class GitProviderFactoryImpl implements GitProviderFactory {
         return switch (providerType) {
             case BITBUCKET -> new BitbucketProvider(
                     providerIdentifier.baseUrl(),
-                    restTemplate,
+                    restTemplateProfiles.gitRestTemplate(providerIdentifier.baseUrl()),
                     null
             );
             default -> (GitProviderModelResourceType modelResourceType) -> {
@@ -74,6 +83,37 @@ public class GitProviderFactoryImpl implements GitProviderFactory {
         };
     }
 
+    @Override
+    public Optional<GitFileReader> buildGitFileReader(GitProviderIdentifier providerIdentifier, HttpHeaders headers) {
+        DataProductRepoProviderType providerType = getProviderType(providerIdentifier);
+        if (!StringUtils.hasText(providerIdentifier.baseUrl())) {
+            return Optional.empty();
+        }
+        return GitCredentials.fromHeaders(headers).map(credentials -> GitFileReaders.forProvider(
+                providerType,
+                providerIdentifier.baseUrl(),
+                restTemplateProfiles.gitRestTemplate(providerIdentifier.baseUrl()),
+                credentials
+        ));
+    }
+
+    @Override
+    public Optional<GitFileWriter> buildGitFileWriter(GitProviderIdentifier providerIdentifier, HttpHeaders headers) {
+        DataProductRepoProviderType providerType = getProviderType(providerIdentifier);
+        if (!StringUtils.hasText(providerIdentifier.baseUrl())) {
+            return Optional.empty();
+        }
+        // Anonymous requests cannot write
+        return GitCredentials.fromHeaders(headers)
+                .filter(credentials -> StringUtils.hasText(credentials.token()))
+                .map(credentials -> GitFileWriters.forProvider(
+                        providerType,
+                        providerIdentifier.baseUrl(),
+                        restTemplateProfiles.gitRestTemplate(providerIdentifier.baseUrl()),
+                        credentials
+                ));
+    }
+
     private DataProductRepoProviderType getProviderType(GitProviderIdentifier providerIdentifier) {
         if (providerIdentifier == null) {
             throw new GitProviderConfigurationException("GitProviderIdentifier cannot be null");
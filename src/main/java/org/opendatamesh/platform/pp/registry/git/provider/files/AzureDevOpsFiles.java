@@ -0,0 +1,163 @@
+package org.opendatamesh.platform.pp.registry.git.provider.files;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientException;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCredentials;
+import org.opendatamesh.platform.pp.registry.git.model.GitReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Files of Azure DevOps repositories, through the items API. The organization and the project are taken from the
+ * clone URL, e.g. {@code https://dev.azure.com/{organization}/{project}/_git/{repository}}.
+ * <p>
+ * Files are committed through the pushes API, whose ref update only succeeds if the branch is still at the base
+ * commit of the change.
+ */
+class AzureDevOpsFiles extends RestGitFiles {
+
+    private static final String API_VERSION = "7.0";
+    private static final String NO_OBJECT = "0000000000000000000000000000000000000000";
+
+    AzureDevOpsFiles(RestTemplate restTemplate, GitCredentials credentials) {
+        super(restTemplate, credentials);
+    }
+
+    @Override
+    public Optional<byte[]> readFile(String repositoryId, String cloneUrl, GitReference reference, String path) {
+        UriComponentsBuilder uri = repositoryUri(repositoryId, cloneUrl, "items")
+                .queryParam("path", "/" + String.join("/", pathSegments(path)))
+                .queryParam("$format", "octetStream")
+                .queryParam("api-version", API_VERSION);
+        if (StringUtils.hasText(reference.name())) {
+            uri.queryParam("versionDescriptor.version", reference.name())
+                    .queryParam("versionDescriptor.versionType", reference.type().name().toLowerCase(Locale.ROOT));
+        }
+        return get(uri.encode().build().toUri(), headers());
+    }
+
+    @Override
+    public String writeFile(String repositoryId, String cloneUrl, GitFileChange change) {
+        String baseCommit = StringUtils.hasText(change.baseCommit()) ? change.baseCommit()
+                : branchHead(repositoryId, cloneUrl, change.branch());
+        try {
+            return push(repositoryId, cloneUrl, change, baseCommit, "edit");
+        } catch (ClientException e) {
+            if (e.getCode() != HttpStatus.BAD_REQUEST.value() && e.getCode() != HttpStatus.NOT_FOUND.value()) {
+                throw e;
+            }
+            // Files that do not exist yet cannot be edited
+            return push(repositoryId, cloneUrl, change, baseCommit, "add");
+        }
+    }
+
+    @Override
+    public void createTag(String repositoryId, String cloneUrl, GitTagCreation tag) {
+        String target = StringUtils.hasText(tag.commit()) ? tag.commit()
+                : branchHead(repositoryId, cloneUrl, tag.branch());
+        if (StringUtils.hasText(tag.message())) {
+            ObjectNode body = JsonNodeFactory.instance.objectNode()
+                    .put("name", tag.name())
+                    .put("message", tag.message());
+            body.putObject("taggedObject").put("objectId", target);
+            send(HttpMethod.POST, repositoryUri(repositoryId, cloneUrl, "annotatedtags")
+                    .queryParam("api-version", API_VERSION).encode().build().toUri(), body, headers());
+            return;
+        }
+        ArrayNode body = JsonNodeFactory.instance.arrayNode();
+        body.addObject()
+                .put("name", "refs/tags/" + tag.name())
+                .put("oldObjectId", NO_OBJECT)
+                .put("newObjectId", target);
+        JsonNode response = send(HttpMethod.POST, repositoryUri(repositoryId, cloneUrl, "refs")
+                .queryParam("api-version", API_VERSION).encode().build().toUri(), body, headers()).getBody();
+        // Ref updates are reported one by one, with a successful response
+        JsonNode update = response == null ? null : response.path("value").path(0);
+        if (update != null && !update.path("success").asBoolean(true)) {
+            throw new ClientException(HttpStatus.CONFLICT.value(), update.toString());
+        }
+    }
+
+    private String push(String repositoryId, String cloneUrl, GitFileChange change, String baseCommit,
+                        String changeType) {
+        ObjectNode body = JsonNodeFactory.instance.objectNode();
+        body.putArray("refUpdates").addObject()
+                .put("name", "refs/heads/" + change.branch())
+                .put("oldObjectId", baseCommit);
+        ObjectNode commit = body.putArray("commits").addObject().put("comment", change.message());
+        if (StringUtils.hasText(change.authorName()) && StringUtils.hasText(change.authorEmail())) {
+            commit.putObject("author")
+                    .put("name", change.authorName())
+                    .put("email", change.authorEmail());
+        }
+        ObjectNode fileChange = commit.putArray("changes").addObject().put("changeType", changeType);
+        fileChange.putObject("item").put("path", "/" + String.join("/", pathSegments(change.path())));
+        fileChange.putObject("newContent")
+                .put("content", base64(change.content()))
+                .put("contentType", "base64encoded");
+        JsonNode response;
+        try {
+            response = send(HttpMethod.POST, repositoryUri(repositoryId, cloneUrl, "pushes")
+                    .queryParam("api-version", API_VERSION).encode().build().toUri(), body, headers()).getBody();
+        } catch (ClientException e) {
+            if (e.getCode() == HttpStatus.CONFLICT.value()) {
+                throw new GitBaseCommitConflictException("Conflict detected: base commit " + baseCommit
+                        + " is not the latest commit of branch " + change.branch());
+            }
+            throw e;
+        }
+        return response == null ? null : response.path("commits").path(0).path("commitId").asText(null);
+    }
+
+    private String branchHead(String repositoryId, String cloneUrl, String branch) {
+        String name = "refs/heads/" + branch;
+        // The filter matches the refs by prefix
+        JsonNode refs = getJson(repositoryUri(repositoryId, cloneUrl, "refs")
+                .queryParam("filter", "heads/" + branch)
+                .queryParam("api-version", API_VERSION).encode().build().toUri(), headers())
+                .orElseThrow(() -> new ClientException(HttpStatus.NOT_FOUND.value(), "Branch not found: " + branch));
+        for (JsonNode ref : refs.path("value")) {
+            if (name.equals(ref.path("name").asText())) {
+                return ref.path("objectId").asText(null);
+            }
+        }
+        throw new ClientException(HttpStatus.NOT_FOUND.value(), "Branch not found: " + branch);
+    }
+
+    private UriComponentsBuilder repositoryUri(String repositoryId, String cloneUrl, String resource) {
+        UriComponents clone = UriComponentsBuilder.fromUriString(cloneUrl).build();
+        List<String> segments = clone.getPathSegments();
+        int gitSegment = segments.indexOf("_git");
+        if (gitSegment < 0 || gitSegment == segments.size() - 1) {
+            throw new IllegalArgumentException("Not an Azure DevOps clone URL: " + cloneUrl);
+        }
+        String repository = StringUtils.hasText(repositoryId) ? repositoryId : segments.get(gitSegment + 1);
+        return UriComponentsBuilder.newInstance()
+                .scheme(clone.getScheme())
+                .host(clone.getHost())
+                .port(clone.getPort())
+                .pathSegment(segments.subList(0, gitSegment).toArray(String[]::new))
+                .pathSegment("_apis", "git", "repositories", repository, resource);
+    }
+
+    private HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        if (StringUtils.hasText(credentials.token())) {
+            // Personal access tokens are sent with an empty username
+            headers.setBasicAuth("", credentials.token());
+        }
+        return headers;
+    }
+}
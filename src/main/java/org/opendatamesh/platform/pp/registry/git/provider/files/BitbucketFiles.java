@@ -0,0 +1,124 @@
+package org.opendatamesh.platform.pp.registry.git.provider.files;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientException;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCredentials;
+import org.opendatamesh.platform.pp.registry.git.model.GitReference;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Files of Bitbucket Cloud repositories, through the source API. When a commit is given the parent, the source API
+ * only commits if the branch is still at the parent, so that the base commit of a change is checked atomically.
+ */
+class BitbucketFiles extends RestGitFiles {
+
+    private static final String API_PATH = "/2.0";
+
+    private final String apiBaseUrl;
+
+    BitbucketFiles(String baseUrl, RestTemplate restTemplate, GitCredentials credentials) {
+        super(restTemplate, credentials);
+        String base = apiBaseUrl(baseUrl, "bitbucket.org", "api.bitbucket.org");
+        this.apiBaseUrl = base.endsWith(API_PATH) ? base : base + API_PATH;
+    }
+
+    @Override
+    public Optional<byte[]> readFile(String repositoryId, String cloneUrl, GitReference reference, String path) {
+        if (!StringUtils.hasText(reference.name())) {
+            // The source API has no default reference, the clone resolves it
+            return Optional.empty();
+        }
+        UriComponentsBuilder uri = repositoryUri(cloneUrl).pathSegment("src", reference.name())
+                .pathSegment(pathSegments(path));
+        return get(uri.encode().build().toUri(), headers());
+    }
+
+    @Override
+    public String writeFile(String repositoryId, String cloneUrl, GitFileChange change) {
+        String path = String.join("/", pathSegments(change.path()));
+        MultiValueMap<String, Object> form = new LinkedMultiValueMap<>();
+        form.add(path, new ByteArrayResource(change.content()) {
+            @Override
+            public String getFilename() {
+                return path.substring(path.lastIndexOf('/') + 1);
+            }
+        });
+        form.add("message", change.message());
+        form.add("branch", change.branch());
+        if (StringUtils.hasText(change.authorName()) && StringUtils.hasText(change.authorEmail())) {
+            form.add("author", change.authorName() + " <" + change.authorEmail() + ">");
+        }
+        if (StringUtils.hasText(change.baseCommit())) {
+            form.add("parents", change.baseCommit());
+        }
+        HttpHeaders headers = headers();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        ResponseEntity<?> response;
+        try {
+            response = send(HttpMethod.POST, repositoryUri(cloneUrl).pathSegment("src").encode().build().toUri(), form,
+                    headers);
+        } catch (ClientException e) {
+            if (e.getCode() == HttpStatus.CONFLICT.value()) {
+                throw new GitBaseCommitConflictException("Conflict detected: base commit " + change.baseCommit()
+                        + " is not the latest commit of branch " + change.branch());
+            }
+            throw e;
+        }
+        // The new commit is only given by the location of the response
+        URI location = response.getHeaders().getLocation();
+        if (location == null) {
+            return null;
+        }
+        List<String> segments = UriComponentsBuilder.fromUri(location).build().getPathSegments();
+        return segments.isEmpty() ? null : segments.get(segments.size() - 1);
+    }
+
+    @Override
+    public void createTag(String repositoryId, String cloneUrl, GitTagCreation tag) {
+        String target = StringUtils.hasText(tag.commit()) ? tag.commit() : branchHead(cloneUrl, tag.branch());
+        ObjectNode body = JsonNodeFactory.instance.objectNode().put("name", tag.name());
+        body.putObject("target").put("hash", target);
+        if (StringUtils.hasText(tag.message())) {
+            body.put("message", tag.message());
+        }
+        send(HttpMethod.POST, repositoryUri(cloneUrl).pathSegment("refs", "tags").encode().build().toUri(), body,
+                headers());
+    }
+
+    private String branchHead(String cloneUrl, String branch) {
+        URI uri = repositoryUri(cloneUrl).pathSegment("refs", "branches").pathSegment(pathSegments(branch))
+                .encode().build().toUri();
+        return getJson(uri, headers())
+                .map(found -> found.path("target").path("hash").asText(null))
+                .orElseThrow(() -> new ClientException(HttpStatus.NOT_FOUND.value(), "Branch not found: " + branch));
+    }
+
+    private UriComponentsBuilder repositoryUri(String cloneUrl) {
+        List<String> repository = cloneUrlSegments(cloneUrl);
+        return UriComponentsBuilder.fromUriString(apiBaseUrl)
+                .pathSegment("repositories", repository.get(repository.size() - 2), repository.get(repository.size() - 1));
+    }
+
+    private HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        if (StringUtils.hasText(credentials.token())) {
+            headers.setBasicAuth(credentials.username(), credentials.token());
+        }
+        return headers;
+    }
+}
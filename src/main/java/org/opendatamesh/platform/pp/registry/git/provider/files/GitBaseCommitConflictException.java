@@ -0,0 +1,11 @@
+package org.opendatamesh.platform.pp.registry.git.provider.files;
+
+/**
+ * Thrown when a branch moved away from the base commit of a change before the change was committed.
+ */
+public class GitBaseCommitConflictException extends RuntimeException {
+
+    public GitBaseCommitConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package org.opendatamesh.platform.pp.registry.git.provider.files;
+
+/**
+ * A commit of a single file.
+ *
+ * @param branch     the branch to commit to
+ * @param path       the path of the file, relative to the root of the repository
+ * @param baseCommit the commit the branch must be at, any commit when empty
+ */
+public record GitFileChange(String branch, String path, byte[] content, String message, String authorName,
+                            String authorEmail, String baseCommit) {
+}
@@ -0,0 +1,22 @@
+package org.opendatamesh.platform.pp.registry.git.provider.files;
+
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientException;
+import org.opendatamesh.platform.pp.registry.git.model.GitReference;
+
+import java.util.Optional;
+
+/**
+ * Reads single files of a repository through the REST API of its git provider, without cloning it.
+ */
+public interface GitFileReader {
+
+    /**
+     * @param repositoryId the identifier of the repository on the provider
+     * @param cloneUrl     the HTTP clone URL of the repository
+     * @param reference    the tag, branch or commit to read, the default branch when it has none
+     * @param path         the path of the file, relative to the root of the repository
+     * @return the content of the file, empty when the provider does not find it at the reference
+     * @throws ClientException when the provider refuses or fails the request
+     */
+    Optional<byte[]> readFile(String repositoryId, String cloneUrl, GitReference reference, String path);
+}
@@ -0,0 +1,29 @@
+package org.opendatamesh.platform.pp.registry.git.provider.files;
+
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientException;
+
+/**
+ * Commits single files and creates tags through the REST API of the git provider, without cloning the repository.
+ */
+public interface GitFileWriter {
+
+    /**
+     * Creates or replaces the file on the branch with a single commit.
+     *
+     * @param repositoryId the identifier of the repository on the provider
+     * @param cloneUrl     the HTTP clone URL of the repository
+     * @return the SHA of the new commit, null when the provider does not return it
+     * @throws GitBaseCommitConflictException when the branch is not at the base commit of the change
+     * @throws ClientException                when the provider refuses or fails the request
+     */
+    String writeFile(String repositoryId, String cloneUrl, GitFileChange change);
+
+    /**
+     * Creates the tag, annotated when it has a message.
+     *
+     * @param repositoryId the identifier of the repository on the provider
+     * @param cloneUrl     the HTTP clone URL of the repository
+     * @throws ClientException when the provider refuses or fails the request, e.g. because the tag exists
+     */
+    void createTag(String repositoryId, String cloneUrl, GitTagCreation tag);
+}
@@ -0,0 +1,21 @@
+package org.opendatamesh.platform.pp.registry.git.provider.files;
+
+import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProductRepoProviderType;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCredentials;
+import org.springframework.web.client.RestTemplate;
+
+public abstract class GitFileWriters {
+
+    private GitFileWriters() {
+        // Prevent instantiation
+    }
+
+    /**
+     * @param baseUrl      the base url of the provider, as given for its {@code GitProvider}
+     * @param restTemplate the rest template of the host of the provider
+     */
+    public static GitFileWriter forProvider(DataProductRepoProviderType providerType, String baseUrl,
+                                            RestTemplate restTemplate, GitCredentials credentials) {
+        return RestGitFiles.forProvider(providerType, baseUrl, restTemplate, credentials);
+    }
+}
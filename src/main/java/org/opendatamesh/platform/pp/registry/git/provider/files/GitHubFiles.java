@@ -0,0 +1,129 @@
+package org.opendatamesh.platform.pp.registry.git.provider.files;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientException;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCredentials;
+import org.opendatamesh.platform.pp.registry.git.model.GitReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Files of GitHub and GitHub Enterprise repositories, through the repository contents API. Tags are created through
+ * the git database API.
+ */
+class GitHubFiles extends RestGitFiles {
+
+    private static final String RAW_CONTENT = "application/vnd.github.raw+json";
+    private static final String JSON_CONTENT = "application/vnd.github+json";
+    private static final String API_VERSION = "2022-11-28";
+
+    private final String apiBaseUrl;
+
+    GitHubFiles(String baseUrl, RestTemplate restTemplate, GitCredentials credentials) {
+        super(restTemplate, credentials);
+        this.apiBaseUrl = apiBaseUrl(baseUrl, "github.com", "api.github.com");
+    }
+
+    @Override
+    public Optional<byte[]> readFile(String repositoryId, String cloneUrl, GitReference reference, String path) {
+        UriComponentsBuilder uri = repositoryUri(cloneUrl).pathSegment("contents").pathSegment(pathSegments(path));
+        if (StringUtils.hasText(reference.name())) {
+            uri.queryParam("ref", reference.name());
+        }
+        return get(uri.encode().build().toUri(), headers(RAW_CONTENT));
+    }
+
+    @Override
+    public String writeFile(String repositoryId, String cloneUrl, GitFileChange change) {
+        if (StringUtils.hasText(change.baseCommit())) {
+            checkBaseCommit(change, branchHead(cloneUrl, change.branch()));
+        }
+        UriComponentsBuilder file = repositoryUri(cloneUrl).pathSegment("contents")
+                .pathSegment(pathSegments(change.path()));
+        ObjectNode body = JsonNodeFactory.instance.objectNode()
+                .put("message", change.message())
+                .put("branch", change.branch())
+                .put("content", base64(change.content()));
+        // The update is refused if the file no longer has this blob when it is committed
+        getJson(file.cloneBuilder().queryParam("ref", change.branch()).encode().build().toUri(), headers(JSON_CONTENT))
+                .map(existing -> existing.path("sha").asText(null))
+                .ifPresent(sha -> body.put("sha", sha));
+        if (StringUtils.hasText(change.authorName()) && StringUtils.hasText(change.authorEmail())) {
+            body.set("author", JsonNodeFactory.instance.objectNode()
+                    .put("name", change.authorName())
+                    .put("email", change.authorEmail()));
+        }
+        try {
+            JsonNode response = send(HttpMethod.PUT, file.encode().build().toUri(), body, headers(JSON_CONTENT)).getBody();
+            return response == null ? null : response.path("commit").path("sha").asText(null);
+        } catch (ClientException e) {
+            if (e.getCode() == HttpStatus.CONFLICT.value()) {
+                throw new GitBaseCommitConflictException(
+                        "Conflict detected: " + change.path() + " changed on branch " + change.branch());
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void createTag(String repositoryId, String cloneUrl, GitTagCreation tag) {
+        String target = StringUtils.hasText(tag.commit()) ? tag.commit() : branchHead(cloneUrl, tag.branch());
+        String object = target;
+        if (StringUtils.hasText(tag.message())) {
+            // Annotated tags are objects of their own, which the ref points to
+            ObjectNode annotatedTag = JsonNodeFactory.instance.objectNode()
+                    .put("tag", tag.name())
+                    .put("message", tag.message())
+                    .put("object", target)
+                    .put("type", "commit");
+            if (StringUtils.hasText(tag.authorName()) && StringUtils.hasText(tag.authorEmail())) {
+                annotatedTag.set("tagger", JsonNodeFactory.instance.objectNode()
+                        .put("name", tag.authorName())
+                        .put("email", tag.authorEmail())
+                        .put("date", Instant.now().toString()));
+            }
+            URI tags = repositoryUri(cloneUrl).pathSegment("git", "tags").encode().build().toUri();
+            JsonNode created = send(HttpMethod.POST, tags, annotatedTag, headers(JSON_CONTENT)).getBody();
+            object = created == null ? null : created.path("sha").asText(null);
+        }
+        URI refs = repositoryUri(cloneUrl).pathSegment("git", "refs").encode().build().toUri();
+        send(HttpMethod.POST, refs, JsonNodeFactory.instance.objectNode()
+                .put("ref", "refs/tags/" + tag.name())
+                .put("sha", object), headers(JSON_CONTENT));
+    }
+
+    private String branchHead(String cloneUrl, String branch) {
+        URI ref = repositoryUri(cloneUrl).pathSegment("git", "ref", "heads").pathSegment(pathSegments(branch))
+                .encode().build().toUri();
+        return getJson(ref, headers(JSON_CONTENT))
+                .map(found -> found.path("object").path("sha").asText(null))
+                .orElseThrow(() -> new ClientException(HttpStatus.NOT_FOUND.value(), "Branch not found: " + branch));
+    }
+
+    private UriComponentsBuilder repositoryUri(String cloneUrl) {
+        List<String> repository = cloneUrlSegments(cloneUrl);
+        return UriComponentsBuilder.fromUriString(apiBaseUrl)
+                .pathSegment("repos", repository.get(repository.size() - 2), repository.get(repository.size() - 1));
+    }
+
+    private HttpHeaders headers(String accept) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT, accept);
+        headers.set("X-GitHub-Api-Version", API_VERSION);
+        if (StringUtils.hasText(credentials.token())) {
+            headers.setBearerAuth(credentials.token());
+        }
+        return headers;
+    }
+}
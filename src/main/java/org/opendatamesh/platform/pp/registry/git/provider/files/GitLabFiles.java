@@ -0,0 +1,117 @@
+package org.opendatamesh.platform.pp.registry.git.provider.files;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientException;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCredentials;
+import org.opendatamesh.platform.pp.registry.git.model.GitReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.Optional;
+
+/**
+ * Files of GitLab projects, through the repository files API. Files are committed through the commits API, which has
+ * no precondition on the head of the branch: the base commit is checked right before the commit.
+ */
+class GitLabFiles extends RestGitFiles {
+
+    private static final String API_PATH = "/api/v4";
+
+    private final String apiBaseUrl;
+
+    GitLabFiles(String baseUrl, RestTemplate restTemplate, GitCredentials credentials) {
+        super(restTemplate, credentials);
+        String base = baseUrl.trim().replaceAll("/+$", "");
+        this.apiBaseUrl = base.endsWith(API_PATH) ? base : base + API_PATH;
+    }
+
+    @Override
+    public Optional<byte[]> readFile(String repositoryId, String cloneUrl, GitReference reference, String path) {
+        // Project ids and file paths are single path segments, their slashes are encoded
+        UriComponentsBuilder uri = UriComponentsBuilder.fromUriString(apiBaseUrl)
+                .path("/projects/{project}/repository/files/{path}/raw")
+                .queryParam("ref", StringUtils.hasText(reference.name()) ? reference.name() : "HEAD");
+        return get(uri.encode().buildAndExpand(project(repositoryId, cloneUrl), String.join("/", pathSegments(path)))
+                .toUri(), headers());
+    }
+
+    @Override
+    public String writeFile(String repositoryId, String cloneUrl, GitFileChange change) {
+        String project = project(repositoryId, cloneUrl);
+        if (StringUtils.hasText(change.baseCommit())) {
+            checkBaseCommit(change, branchHead(project, change.branch()));
+        }
+        try {
+            return commit(project, change, "update");
+        } catch (ClientException e) {
+            if (e.getCode() != HttpStatus.BAD_REQUEST.value()) {
+                throw e;
+            }
+            // Files that do not exist yet cannot be updated
+            return commit(project, change, "create");
+        }
+    }
+
+    @Override
+    public void createTag(String repositoryId, String cloneUrl, GitTagCreation tag) {
+        ObjectNode body = JsonNodeFactory.instance.objectNode()
+                .put("tag_name", tag.name())
+                .put("ref", StringUtils.hasText(tag.commit()) ? tag.commit() : tag.branch());
+        if (StringUtils.hasText(tag.message())) {
+            body.put("message", tag.message());
+        }
+        send(HttpMethod.POST, projectUri("/repository/tags", project(repositoryId, cloneUrl)), body, headers());
+    }
+
+    private String commit(String project, GitFileChange change, String action) {
+        ObjectNode body = JsonNodeFactory.instance.objectNode()
+                .put("branch", change.branch())
+                .put("commit_message", change.message());
+        if (StringUtils.hasText(change.authorName())) {
+            body.put("author_name", change.authorName());
+        }
+        if (StringUtils.hasText(change.authorEmail())) {
+            body.put("author_email", change.authorEmail());
+        }
+        body.putArray("actions").addObject()
+                .put("action", action)
+                .put("file_path", String.join("/", pathSegments(change.path())))
+                .put("content", base64(change.content()))
+                .put("encoding", "base64");
+        JsonNode response = send(HttpMethod.POST, projectUri("/repository/commits", project), body, headers()).getBody();
+        return response == null ? null : response.path("id").asText(null);
+    }
+
+    private String branchHead(String project, String branch) {
+        URI uri = UriComponentsBuilder.fromUriString(apiBaseUrl)
+                .path("/projects/{project}/repository/branches/{branch}")
+                .encode().buildAndExpand(project, branch).toUri();
+        return getJson(uri, headers())
+                .map(found -> found.path("commit").path("id").asText(null))
+                .orElseThrow(() -> new ClientException(HttpStatus.NOT_FOUND.value(), "Branch not found: " + branch));
+    }
+
+    private URI projectUri(String path, String project) {
+        return UriComponentsBuilder.fromUriString(apiBaseUrl).path("/projects/{project}" + path)
+                .encode().buildAndExpand(project).toUri();
+    }
+
+    private String project(String repositoryId, String cloneUrl) {
+        return StringUtils.hasText(repositoryId) ? repositoryId : String.join("/", cloneUrlSegments(cloneUrl));
+    }
+
+    private HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        if (StringUtils.hasText(credentials.token())) {
+            headers.set("PRIVATE-TOKEN", credentials.token());
+        }
+        return headers;
+    }
+}
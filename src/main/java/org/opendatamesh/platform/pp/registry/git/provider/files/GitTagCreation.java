@@ -0,0 +1,11 @@
+package org.opendatamesh.platform.pp.registry.git.provider.files;
+
+/**
+ * A tag to create.
+ *
+ * @param commit the commit to tag, the head of the branch when empty
+ * @param branch the branch whose head is tagged when there is no commit
+ */
+public record GitTagCreation(String name, String commit, String branch, String message, String authorName,
+                             String authorEmail) {
+}
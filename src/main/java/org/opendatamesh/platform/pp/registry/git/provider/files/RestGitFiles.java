@@ -0,0 +1,136 @@
+package org.opendatamesh.platform.pp.registry.git.provider.files;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProductRepoProviderType;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientException;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCredentials;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Base of the file access through the REST API of a provider. Errors are reported as {@link ClientException}, like
+ * the other REST clients of the registry do.
+ */
+abstract class RestGitFiles implements GitFileReader, GitFileWriter {
+
+    protected final RestTemplate restTemplate;
+    protected final GitCredentials credentials;
+
+    protected RestGitFiles(RestTemplate restTemplate, GitCredentials credentials) {
+        this.restTemplate = restTemplate;
+        this.credentials = credentials;
+    }
+
+    static RestGitFiles forProvider(DataProductRepoProviderType providerType, String baseUrl, RestTemplate restTemplate,
+                                    GitCredentials credentials) {
+        return switch (providerType) {
+            case GITHUB -> new GitHubFiles(baseUrl, restTemplate, credentials);
+            case GITLAB -> new GitLabFiles(baseUrl, restTemplate, credentials);
+            case BITBUCKET -> new BitbucketFiles(baseUrl, restTemplate, credentials);
+            case AZURE -> new AzureDevOpsFiles(restTemplate, credentials);
+        };
+    }
+
+    protected Optional<byte[]> get(URI uri, HttpHeaders headers) {
+        try {
+            return Optional.ofNullable(
+                    restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(headers), byte[].class).getBody());
+        } catch (RestClientResponseException e) {
+            if (e.getStatusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                return Optional.empty();
+            }
+            throw new ClientException(e.getStatusCode().value(), e.getResponseBodyAsString());
+        } catch (RestClientException e) {
+            throw new ClientException(500, e.getMessage());
+        }
+    }
+
+    /**
+     * @return the JSON response, empty when the provider does not find the resource
+     */
+    protected Optional<JsonNode> getJson(URI uri, HttpHeaders headers) {
+        try {
+            return Optional.ofNullable(send(HttpMethod.GET, uri, null, headers).getBody());
+        } catch (ClientException e) {
+            if (e.getCode() == HttpStatus.NOT_FOUND.value()) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Sends the body as JSON, unless the headers give another content type.
+     */
+    protected ResponseEntity<JsonNode> send(HttpMethod method, URI uri, Object body, HttpHeaders headers) {
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.addAll(headers);
+        if (body != null && requestHeaders.getContentType() == null) {
+            requestHeaders.setContentType(MediaType.APPLICATION_JSON);
+        }
+        try {
+            return restTemplate.exchange(uri, method, new HttpEntity<>(body, requestHeaders), JsonNode.class);
+        } catch (RestClientResponseException e) {
+            throw new ClientException(e.getStatusCode().value(), e.getResponseBodyAsString());
+        } catch (RestClientException e) {
+            throw new ClientException(500, e.getMessage());
+        }
+    }
+
+    protected static void checkBaseCommit(GitFileChange change, String headCommit) {
+        if (!change.baseCommit().equals(headCommit)) {
+            throw new GitBaseCommitConflictException("Conflict detected: base commit " + change.baseCommit()
+                    + " does not match latest commit " + headCommit);
+        }
+    }
+
+    protected static String base64(byte[] content) {
+        return Base64.getEncoder().encodeToString(content);
+    }
+
+    /**
+     * @return the segments of the path of the clone URL, without the ".git" suffix of the last one
+     */
+    protected static List<String> cloneUrlSegments(String cloneUrl) {
+        List<String> segments = new ArrayList<>(UriComponentsBuilder.fromUriString(cloneUrl).build().getPathSegments());
+        if (segments.isEmpty()) {
+            throw new IllegalArgumentException("Clone URL without repository path: " + cloneUrl);
+        }
+        String last = segments.get(segments.size() - 1);
+        if (last.endsWith(".git")) {
+            segments.set(segments.size() - 1, last.substring(0, last.length() - ".git".length()));
+        }
+        return segments;
+    }
+
+    protected static String[] pathSegments(String path) {
+        return Arrays.stream(path.replace('\\', '/').split("/")).filter(segment -> !segment.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * @return the base url on the API host, e.g. api.github.com for github.com
+     */
+    protected static String apiBaseUrl(String baseUrl, String webHost, String apiHost) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUrl.trim());
+        if (webHost.equalsIgnoreCase(builder.build().getHost())) {
+            builder.host(apiHost);
+        }
+        return builder.build().toUriString().replaceAll("/+$", "");
+    }
+}
@@ -0,0 +1,56 @@
+package org.opendatamesh.platform.pp.registry.git.refs;
+
+import org.opendatamesh.platform.pp.registry.git.cli.GitCommandException;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCommandLine;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCredentials;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Optional;
+
+/**
+ * Resolves the head commit of remote branches from the refs the remote advertises, without checking the repository
+ * out. The remote is asked on every call: the heads are used for base commit checks and tag targets, where a head
+ * older than the remote could hide a push made since.
+ */
+@Component
+public class GitRefResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(GitRefResolver.class);
+
+    private final GitCommandLine git;
+
+    public GitRefResolver(GitCommandLine git) {
+        this.git = git;
+    }
+
+    /**
+     * @return the head commit of the branch; empty when the remote cannot be asked with the credentials of the
+     * headers, when it is not an http(s) remote, when the git executable is not available, or when the branch does
+     * not exist
+     */
+    public Optional<String> branchHead(String remoteUrl, String branch, HttpHeaders headers) {
+        Optional<GitCredentials> credentials = GitCredentials.fromHeaders(headers);
+        if (!git.isAvailable() || credentials.isEmpty() || !GitCommandLine.isHttpUrl(remoteUrl)
+                || !StringUtils.hasText(branch)) {
+            return Optional.empty();
+        }
+        String ref = "refs/heads/" + branch;
+        String advertised;
+        try {
+            advertised = git.run(null, credentials.get(), "ls-remote", "--heads", "--end-of-options", remoteUrl, ref);
+        } catch (GitCommandException e) {
+            logger.warn("Unable to list the refs of {}: {}", remoteUrl, e.getMessage());
+            return Optional.empty();
+        }
+        // Each line is "<commit>\t<ref>", the pattern also matches refs ending with the branch name
+        return advertised.lines()
+                .map(line -> line.split("\t"))
+                .filter(fields -> fields.length == 2 && fields[1].equals(ref))
+                .map(fields -> fields[0])
+                .findFirst();
+    }
+}
@@ -0,0 +1,199 @@
+package org.opendatamesh.platform.pp.registry.observer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import org.opendatamesh.platform.pp.registry.observer.entities.ObserverNotification;
+import org.opendatamesh.platform.pp.registry.observer.entities.ObserverNotificationOutcome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports the outcome of the processed notifications to the notification service.
+ * <p>
+ * Outcomes are buffered and flushed in batches by a background thread, so that the workers handling the
+ * notifications never wait for the notification service. The buffer is keyed by sequence id: an outcome
+ * reported again before being flushed replaces the previous one and is sent once. The acknowledgements of a batch
+ * are sent by a small pool, sized to leave the other calls to the notification service some connections,
+ * then the acknowledged notifications are completed with a single update.
+ * <p>
+ * A failed acknowledgement is not retried from memory: its notification is rescheduled in the
+ * {@link ObserverNotificationsQueue}, where its outcome is already recorded, and is acknowledged again when it is
+ * claimed, possibly by another replica. Outcomes still buffered on shutdown are flushed before the bean is destroyed.
+ * <p>
+ * Published meters: {@code registry.observer.notifications.acks.pending} (gauge), {@code registry.observer.notifications.acks.sent}
+ * and {@code registry.observer.notifications.acks.failed} (counters).
+ * <p>
+ * With {@code registry.observer.notifications.async} set to false outcomes are sent on the calling thread.
+ */
+@Component
+class ObserverNotificationsAcknowledger implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ObserverNotificationsAcknowledger.class);
+
+    private final NotificationClient notificationClient;
+    private final ObserverNotificationsQueue notificationsQueue;
+    private final boolean async;
+    private final int batchSize;
+    private final Map<Long, ObserverNotification> pending = new LinkedHashMap<>();
+    private final ScheduledExecutorService flusher;
+    private final ExecutorService senders;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    ObserverNotificationsAcknowledger(NotificationClient notificationClient,
+                                      ObserverNotificationsQueue notificationsQueue,
+                                      @Value("${registry.observer.notifications.async:true}") boolean async,
+                                      @Value("${registry.observer.notifications.acks.batch-size:100}") int batchSize,
+                                      @Value("${registry.observer.notifications.acks.concurrency:2}") int concurrency,
+                                      @Value("${registry.observer.notifications.acks.flush-interval:PT0.2S}") Duration flushInterval,
+                                      MeterRegistry meterRegistry) {
+        this.notificationClient = notificationClient;
+        this.notificationsQueue = notificationsQueue;
+        this.async = async;
+        this.batchSize = batchSize;
+        this.senders = Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory("observer-ack-"));
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("observer-ack-flusher-"));
+        if (async) {
+            flusher.scheduleWithFixedDelay(this::flushSafely, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        this.sentCounter = meterRegistry.counter("registry.observer.notifications.acks.sent");
+        this.failedCounter = meterRegistry.counter("registry.observer.notifications.acks.failed");
+        Gauge.builder("registry.observer.notifications.acks.pending", this, ObserverNotificationsAcknowledger::pendingCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Buffers the outcome of a notification, whose outcome must already be recorded in the queue.
+     *
+     * @param notification the processed notification, carrying its outcome
+     */
+    void acknowledge(ObserverNotification notification) {
+        // Notifications still draining from the workers on shutdown are acknowledged right away
+        if (!async || flusher.isShutdown()) {
+            send(List.of(notification), false);
+            return;
+        }
+        boolean full;
+        synchronized (pending) {
+            pending.put(notification.getSequenceId(), notification);
+            full = pending.size() >= batchSize;
+        }
+        if (full) {
+            try {
+                flusher.execute(this::flushSafely);
+            } catch (RejectedExecutionException e) {
+                // Shutting down: the buffered outcomes are flushed by destroy()
+            }
+        }
+    }
+
+    /**
+     * Sends the buffered outcomes, one batch after the other until the buffer is empty.
+     */
+    void flush() {
+        List<ObserverNotification> batch;
+        while (!(batch = drain()).isEmpty()) {
+            send(batch, async);
+        }
+    }
+
+    int pendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(30, TimeUnit.SECONDS);
+        flushSafely();
+        senders.shutdown();
+        senders.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // Unflushed outcomes are recorded in the queue and acknowledged when their lease expires
+            logger.error("Failed to flush notification acknowledgements: {}", e.getMessage(), e);
+        }
+    }
+
+    private List<ObserverNotification> drain() {
+        synchronized (pending) {
+            List<ObserverNotification> batch = new ArrayList<>(Math.min(pending.size(), batchSize));
+            Iterator<ObserverNotification> iterator = pending.values().iterator();
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                batch.add(iterator.next());
+                iterator.remove();
+            }
+            return batch;
+        }
+    }
+
+    private void send(List<ObserverNotification> batch, boolean concurrently) {
+        List<CompletableFuture<Long>> acks = new ArrayList<>(batch.size());
+        for (ObserverNotification notification : batch) {
+            acks.add(concurrently
+                    ? CompletableFuture.supplyAsync(() -> sendOne(notification), senders)
+                    : CompletableFuture.completedFuture(sendOne(notification)));
+        }
+        List<Long> acknowledged = new ArrayList<>(batch.size());
+        for (CompletableFuture<Long> ack : acks) {
+            Long sequenceId = ack.join();
+            if (sequenceId != null) {
+                acknowledged.add(sequenceId);
+            }
+        }
+        if (!acknowledged.isEmpty()) {
+            notificationsQueue.completeAll(acknowledged);
+        }
+    }
+
+    /**
+     * @return the sequence id of the notification if it has been acknowledged, null otherwise
+     */
+    private Long sendOne(ObserverNotification notification) {
+        Long sequenceId = notification.getSequenceId();
+        try {
+            if (notification.getOutcome() == ObserverNotificationOutcome.PROCESSED) {
+                notificationClient.processingSuccess(sequenceId);
+            } else {
+                notificationClient.processingFailure(sequenceId);
+            }
+            sentCounter.increment();
+            return sequenceId;
+        } catch (Exception e) {
+            failedCounter.increment();
+            logger.warn("Failed to acknowledge notification {}: {}", sequenceId, e.getMessage(), e);
+            try {
+                notificationsQueue.retryLater(notification, e.getMessage());
+            } catch (RuntimeException rescheduleFailure) {
+                logger.error("Failed to reschedule the acknowledgement of notification {}: {}", sequenceId, rescheduleFailure.getMessage(), rescheduleFailure);
+            }
+            return null;
+        }
+    }
+}
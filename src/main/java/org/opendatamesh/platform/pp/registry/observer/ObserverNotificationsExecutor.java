@@ -0,0 +1,148 @@
+package org.opendatamesh.platform.pp.registry.observer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.opendatamesh.platform.pp.registry.exceptions.ServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Processes the notifications received by the observer off the request thread, on dedicated lanes
+ * with bounded queues.
+ * <p>
+ * Each lane is a single thread: notifications are assigned to a lane by the identifier of the resource their event
+ * is about, so the events of a data product or of a version are handled one at a time and in the order they were
+ * submitted, while events of unrelated resources are handled in parallel on the other lanes.
+ * <p>
+ * When the queue of a lane is full the notification is refused with a {@link ServiceUnavailableException}: it stays
+ * in the {@link ObserverNotificationsQueue} and is claimed later, by this replica or by another one.
+ * On shutdown no new notification is accepted and the queued ones are given the drain timeout to complete.
+ * <p>
+ * Published meters: {@code registry.observer.notifications.queued} and {@code registry.observer.notifications.active}
+ * (gauges), {@code registry.observer.notifications.rejected} (counter) and {@code registry.observer.notifications.processing}
+ * (timer of the handling of each notification).
+ * <p>
+ * With {@code registry.observer.notifications.async} set to false notifications are processed on the calling thread.
+ */
+@Component
+class ObserverNotificationsExecutor implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ObserverNotificationsExecutor.class);
+
+    private final boolean async;
+    private final Duration shutdownTimeout;
+    private final ThreadPoolExecutor[] lanes;
+    private final Timer processingTimer;
+    private final Counter rejectedCounter;
+
+    ObserverNotificationsExecutor(@Value("${registry.observer.notifications.async:true}") boolean async,
+                                  @Value("${registry.observer.notifications.lanes:4}") int lanes,
+                                  @Value("${registry.observer.notifications.queue-capacity:100}") int queueCapacity,
+                                  @Value("${registry.observer.notifications.shutdown-timeout:PT30S}") Duration shutdownTimeout,
+                                  MeterRegistry meterRegistry) {
+        this.async = async;
+        this.shutdownTimeout = shutdownTimeout;
+        this.lanes = new ThreadPoolExecutor[lanes];
+        ThreadFactory threadFactory = new CustomizableThreadFactory("observer-notification-");
+        for (int i = 0; i < lanes; i++) {
+            this.lanes[i] = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+            this.lanes[i].allowCoreThreadTimeOut(true);
+        }
+
+        this.processingTimer = meterRegistry.timer("registry.observer.notifications.processing");
+        this.rejectedCounter = meterRegistry.counter("registry.observer.notifications.rejected");
+        Gauge.builder("registry.observer.notifications.queued", this, ObserverNotificationsExecutor::queuedCount)
+                .register(meterRegistry);
+        Gauge.builder("registry.observer.notifications.active", this, ObserverNotificationsExecutor::activeCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues a notification for processing, after the ones already queued for the same resource.
+     *
+     * @param resourceIdentifier the identifier of the resource the event is about, null when it has none
+     * @param task               the processing of the notification
+     * @throws ServiceUnavailableException if the lane of the resource is full or the server is shutting down
+     */
+    void execute(String resourceIdentifier, Runnable task) {
+        Runnable timedTask = processingTimer.wrap(task);
+        if (!async) {
+            timedTask.run();
+            return;
+        }
+        try {
+            laneOf(resourceIdentifier).execute(timedTask);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("Too many notifications are being processed, please retry later", e);
+        }
+    }
+
+    /**
+     * @return how many more notifications can be queued, over all the lanes
+     */
+    int remainingCapacity() {
+        if (!async) {
+            return Integer.MAX_VALUE;
+        }
+        int remaining = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            remaining += lane.getQueue().remainingCapacity();
+        }
+        return remaining;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        int dropped = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                dropped += lane.shutdownNow().size();
+            }
+        }
+        if (dropped > 0) {
+            logger.warn("Observer notifications not drained within {}: {} queued notifications left unacknowledged",
+                    shutdownTimeout, dropped);
+        }
+    }
+
+    private ThreadPoolExecutor laneOf(String resourceIdentifier) {
+        int hash = resourceIdentifier != null ? resourceIdentifier.hashCode() : 0;
+        // Spread the hash so that identifiers differing only in their high bits do not share a lane
+        return lanes[Math.floorMod(hash ^ (hash >>> 16), lanes.length)];
+    }
+
+    private int queuedCount() {
+        int queued = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            queued += lane.getQueue().size();
+        }
+        return queued;
+    }
+
+    private int activeCount() {
+        int active = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            active += lane.getActiveCount();
+        }
+        return active;
+    }
+}
@@ -0,0 +1,154 @@
+package org.opendatamesh.platform.pp.registry.observer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.opendatamesh.platform.pp.registry.observer.entities.ObserverNotification;
+import org.opendatamesh.platform.pp.registry.observer.entities.ObserverNotificationOutcome;
+import org.opendatamesh.platform.pp.registry.observer.repositories.ObserverNotificationsRepository;
+import org.opendatamesh.platform.pp.registry.rest.v2.resources.notification.NotificationDispatchRes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Database queue of the notifications received by the observer, shared by all the replicas.
+ * <p>
+ * A notification is claimed by leasing it: its next attempt is pushed forward in a short transaction that locks
+ * the row with SKIP LOCKED, so that concurrent replicas claim different notifications without waiting for each other.
+ * A replica that dies while processing lets the lease expire and the notification is claimed again.
+ * Notifications of the same resource are claimed in sequence order, each one after the previous has been handled.
+ * Processed notifications are marked as completed and purged after the retention period.
+ */
+@Component
+class ObserverNotificationsQueue {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ObserverNotificationsRepository repository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${registry.observer.notifications.pickup-delay:PT10S}")
+    private Duration pickupDelay = Duration.ofSeconds(10);
+
+    @Value("${registry.observer.notifications.lease:PT5M}")
+    private Duration lease = Duration.ofMinutes(5);
+
+    @Value("${registry.observer.notifications.retry-delay:PT1S}")
+    private Duration retryDelay = Duration.ofSeconds(1);
+
+    @Value("${registry.observer.notifications.max-retry-delay:PT5M}")
+    private Duration maxRetryDelay = Duration.ofMinutes(5);
+
+    @Value("${registry.observer.notifications.retention:P7D}")
+    private Duration retention = Duration.ofDays(7);
+
+    ObserverNotificationsQueue(ObserverNotificationsRepository repository,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Stores a received notification. It is not due for the other replicas until the pickup delay has elapsed,
+     * leaving the replica that received it the time to claim it with {@link #claim(Long)}.
+     *
+     * @return false if a notification with the same sequence id has already been received
+     */
+    boolean offer(NotificationDispatchRes notification) {
+        Instant now = Instant.now();
+        ObserverNotification queued = new ObserverNotification();
+        queued.setSequenceId(notification.getSequenceId());
+        queued.setEventType(notification.getEvent() != null ? notification.getEvent().getType() : null);
+        queued.setResourceIdentifier(notification.getEvent() != null ? notification.getEvent().getResourceIdentifier() : null);
+        queued.setPayload(objectMapper.valueToTree(notification));
+        queued.setReceivedAt(Timestamp.from(now));
+        queued.setNextAttemptAt(Timestamp.from(now.plus(pickupDelay)));
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> repository.insertIfAbsent(queued)));
+    }
+
+    /**
+     * Claims a notification just received, unless it has already been claimed.
+     */
+    Optional<ObserverNotification> claim(Long sequenceId) {
+        return transactionTemplate.execute(status -> repository.findUnattemptedForUpdate(sequenceId).map(this::lease));
+    }
+
+    /**
+     * Claims the oldest due notifications.
+     *
+     * @param maxNotifications the maximum number of notifications to claim
+     */
+    List<ObserverNotification> claimDue(int maxNotifications) {
+        return transactionTemplate.execute(status -> {
+            List<ObserverNotification> due = repository.findDueForUpdate(Timestamp.from(Instant.now()), PageRequest.ofSize(maxNotifications));
+            due.forEach(this::lease);
+            return due;
+        });
+    }
+
+    NotificationDispatchRes toNotification(ObserverNotification queued) {
+        return objectMapper.convertValue(queued.getPayload(), NotificationDispatchRes.class);
+    }
+
+    void recordOutcome(Long sequenceId, ObserverNotificationOutcome outcome) {
+        transactionTemplate.executeWithoutResult(status -> repository.recordOutcome(sequenceId, outcome));
+    }
+
+    void completeAll(Collection<Long> sequenceIds) {
+        transactionTemplate.executeWithoutResult(status -> repository.completeAll(sequenceIds, Timestamp.from(Instant.now())));
+    }
+
+    /**
+     * Makes a claimed notification due again after a backoff growing with its attempts.
+     */
+    void retryLater(ObserverNotification queued, String error) {
+        Duration delay = retryDelay(queued.getAttempts());
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        transactionTemplate.executeWithoutResult(status ->
+                repository.reschedule(queued.getSequenceId(), Timestamp.from(Instant.now().plus(delay)), lastError));
+    }
+
+    /**
+     * Gives back a claimed notification that could not be processed, to be claimed again right away.
+     */
+    void release(ObserverNotification queued) {
+        transactionTemplate.executeWithoutResult(status ->
+                repository.reschedule(queued.getSequenceId(), Timestamp.from(Instant.now()), queued.getLastError()));
+    }
+
+    @Scheduled(fixedDelayString = "${registry.observer.notifications.purge-interval:PT1H}")
+    public void purgeCompleted() {
+        Integer purged = transactionTemplate.execute(status ->
+                repository.deleteCompletedBefore(Timestamp.from(Instant.now().minus(retention))));
+        if (purged != null && purged > 0) {
+            logger.debug("Purged {} completed observer notifications", purged);
+        }
+    }
+
+    Duration retryDelay(int attempts) {
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+
+    private ObserverNotification lease(ObserverNotification queued) {
+        queued.setAttempts(queued.getAttempts() + 1);
+        queued.setNextAttemptAt(Timestamp.from(Instant.now().plus(lease)));
+        return queued;
+    }
+}
@@ -1,7 +1,12 @@
 package org.opendatamesh.platform.pp.registry.observer;
 
-import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import jakarta.annotation.PostConstruct;
+import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
 import org.opendatamesh.platform.pp.registry.exceptions.RegistryApiException;
+import org.opendatamesh.platform.pp.registry.exceptions.ServiceUnavailableException;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientUnavailableException;
+import org.opendatamesh.platform.pp.registry.observer.entities.ObserverNotification;
+import org.opendatamesh.platform.pp.registry.observer.entities.ObserverNotificationOutcome;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.event.EventTypeRes;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.notification.NotificationDispatchRes;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.notification.NotificationDispatchRes.NotificationDispatchEventRes;
@@ -9,12 +14,26 @@ import org.opendatamesh.platform.pp.registry.utils.usecases.NotificationEventHan
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
+/**
+ * Processes the notifications received from the notification service.
+ * <p>
+ * Notifications are stored in the {@link ObserverNotificationsQueue} before being acknowledged to the caller,
+ * then processed by the replica that received them or, when it is busy or fails, by any replica polling the queue.
+ * A notification received twice is processed once. Outcomes are reported to the notification service in batches
+ * by the {@link ObserverNotificationsAcknowledger}.
+ * <p>
+ * Notifications are handled on the lane of the resource their event is about, so the events of a data product or
+ * of one of its versions never race each other. A notification whose handling is refused by the circuit breaker
+ * or the bulkhead of a downstream service is retried later rather than failed.
+ */
 @Service
 public class ObserverService {
     private static final Logger logger = LoggerFactory.getLogger(ObserverService.class);
@@ -23,20 +42,108 @@ public class ObserverService {
     private List<NotificationEventHandler> notificationEventHandlers;
 
     @Autowired
-    private NotificationClient notificationClient;
+    private ObserverNotificationsExecutor notificationsExecutor;
 
-    @Async
+    @Autowired
+    private ObserverNotificationsQueue notificationsQueue;
+
+    @Autowired
+    private ObserverNotificationsAcknowledger notificationsAcknowledger;
+
+    @Value("${registry.observer.notifications.batch-size:50}")
+    private int batchSize;
+
+    private final Map<EventTypeRes, NotificationEventHandler> handlersByEventType = new EnumMap<>(EventTypeRes.class);
+
+    /**
+     * Indexes the handlers by the event types they support; when several support the same type the first one wins.
+     */
+    @PostConstruct
+    void indexHandlers() {
+        handlersByEventType.clear();
+        for (EventTypeRes eventType : EventTypeRes.values()) {
+            notificationEventHandlers.stream()
+                    .filter(handler -> handler.supportsEventType(eventType))
+                    .findFirst()
+                    .ifPresent(handler -> handlersByEventType.put(eventType, handler));
+        }
+    }
+
+    /**
+     * Accepts a notification and processes it in the background, acknowledging it to the notification service
+     * once it has been handled.
+     *
+     * @param notification the notification dispatched by the notification service
+     * @throws BadRequestException if the notification has no sequence id
+     */
     public void processNotification(NotificationDispatchRes notification) {
         Long notificationId = notification.getSequenceId();
+        if (notificationId == null) {
+            throw new BadRequestException("Notification sequenceId is required");
+        }
+        if (!notificationsQueue.offer(notification)) {
+            logger.info("Notification {} already received, ignoring it", notificationId);
+            return;
+        }
         try {
-           handleEvent(notification.getEvent());
-            notificationClient.processingSuccess(notificationId);
+            notificationsExecutor.execute(resourceIdentifier(notification),
+                    () -> notificationsQueue.claim(notificationId).ifPresent(this::process));
+        } catch (ServiceUnavailableException e) {
+            logger.info("Notification {} queued, it will be processed when a worker is available", notificationId);
+        }
+    }
+
+    /**
+     * Claims the due notifications, up to the free capacity of the local executor.
+     */
+    @Scheduled(fixedDelayString = "${registry.observer.notifications.poll-interval:PT1S}")
+    public void processQueuedNotifications() {
+        int capacity = Math.min(batchSize, notificationsExecutor.remainingCapacity());
+        if (capacity <= 0) {
+            return;
+        }
+        for (ObserverNotification queued : notificationsQueue.claimDue(capacity)) {
+            try {
+                notificationsExecutor.execute(queued.getResourceIdentifier(), () -> process(queued));
+            } catch (ServiceUnavailableException e) {
+                notificationsQueue.release(queued);
+            }
+        }
+    }
+
+    private void process(ObserverNotification queued) {
+        // A notification already handled by a previous attempt only misses its acknowledgement
+        if (queued.getOutcome() == null) {
+            ObserverNotificationOutcome outcome;
+            try {
+                outcome = handle(notificationsQueue.toNotification(queued));
+            } catch (ClientUnavailableException e) {
+                logger.info("Notification {} deferred, a downstream service is unavailable: {}", queued.getSequenceId(), e.getMessage());
+                notificationsQueue.retryLater(queued, e.getMessage());
+                return;
+            }
+            notificationsQueue.recordOutcome(queued.getSequenceId(), outcome);
+            queued.setOutcome(outcome);
+        }
+        notificationsAcknowledger.acknowledge(queued);
+    }
+
+    private static String resourceIdentifier(NotificationDispatchRes notification) {
+        return notification.getEvent() != null ? notification.getEvent().getResourceIdentifier() : null;
+    }
+
+    private ObserverNotificationOutcome handle(NotificationDispatchRes notification) {
+        try {
+            handleEvent(notification.getEvent());
+            return ObserverNotificationOutcome.PROCESSED;
+        } catch (ClientUnavailableException e) {
+            throw e;
         } catch (RegistryApiException e) {
             logger.warn("Failed to dispatch notification: {}", e.getMessage(), e);
-            notificationClient.processingFailure(notificationId);
+            return ObserverNotificationOutcome.FAILED_TO_PROCESS;
         } catch (Exception e) {
             logger.error("Failed to dispatch notification: {}", e.getMessage(), e);
-            notificationClient.processingFailure(notificationId);
+            return ObserverNotificationOutcome.FAILED_TO_PROCESS;
         }
     }
 
@@ -48,17 +155,15 @@ public class ObserverService {
             logger.info("Unsupported event type: {}. No handler will be used.", event.getType());
             return;
         }
-        
-        Optional<NotificationEventHandler> dispatcher = notificationEventHandlers.stream()
-                .filter(d -> d.supportsEventType(eventType))
-                .findFirst();
 
-        if (!dispatcher.isPresent()) {
+
+        NotificationEventHandler dispatcher = handlersByEventType.get(eventType);
+        if (dispatcher == null) {
             logger.info("No handler found for event type: {}", eventType);
             return;
         }
 
-        dispatcher.get().handleEvent(event);
+        dispatcher.handleEvent(event);
         logger.info("Event {} handled successfully", eventType);
     }
 }
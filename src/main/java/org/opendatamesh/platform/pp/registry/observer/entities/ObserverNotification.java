@@ -0,0 +1,132 @@
+package org.opendatamesh.platform.pp.registry.observer.entities;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.sql.Timestamp;
+
+/**
+ * A notification received from the notification service, identified by its sequence id.
+ * <p>
+ * The outcome is recorded as soon as the notification has been handled, so that a failed acknowledgement
+ * is retried without handling the notification again.
+ */
+@Entity
+@Table(name = "observer_notifications")
+public class ObserverNotification {
+
+    @Id
+    @Column(name = "sequence_id")
+    private Long sequenceId;
+
+    @Column(name = "event_type")
+    private String eventType;
+
+    @Column(name = "resource_identifier")
+    private String resourceIdentifier;
+
+    @Column(name = "payload", columnDefinition = "jsonb", nullable = false)
+    @JdbcTypeCode(SqlTypes.JSON)
+    private JsonNode payload;
+
+    @Column(name = "received_at", nullable = false)
+    private Timestamp receivedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Timestamp nextAttemptAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outcome")
+    private ObserverNotificationOutcome outcome;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "completed_at")
+    private Timestamp completedAt;
+
+    public Long getSequenceId() {
+        return sequenceId;
+    }
+
+    public void setSequenceId(Long sequenceId) {
+        this.sequenceId = sequenceId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public String getResourceIdentifier() {
+        return resourceIdentifier;
+    }
+
+    public void setResourceIdentifier(String resourceIdentifier) {
+        this.resourceIdentifier = resourceIdentifier;
+    }
+
+    public JsonNode getPayload() {
+        return payload;
+    }
+
+    public void setPayload(JsonNode payload) {
+        this.payload = payload;
+    }
+
+    public Timestamp getReceivedAt() {
+        return receivedAt;
+    }
+
+    public void setReceivedAt(Timestamp receivedAt) {
+        this.receivedAt = receivedAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Timestamp getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Timestamp nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public ObserverNotificationOutcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(ObserverNotificationOutcome outcome) {
+        this.outcome = outcome;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Timestamp getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(Timestamp completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,9 @@
+package org.opendatamesh.platform.pp.registry.observer.entities;
+
+/**
+ * Result of the handling of a notification, reported back to the notification service.
+ */
+public enum ObserverNotificationOutcome {
+    PROCESSED,
+    FAILED_TO_PROCESS
+}
@@ -0,0 +1,68 @@
+package org.opendatamesh.platform.pp.registry.observer.repositories;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.opendatamesh.platform.pp.registry.observer.entities.ObserverNotification;
+import org.opendatamesh.platform.pp.registry.observer.entities.ObserverNotificationOutcome;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ObserverNotificationsRepository extends CrudRepository<ObserverNotification, Long>, ObserverNotificationsRepositoryCustom {
+
+    // A lock timeout of -2 is SKIP LOCKED: notifications claimed by another replica are left to it
+    String SKIP_LOCKED = "-2";
+
+    // Earlier notifications of the same resource that have not been handled yet
+    String NO_EARLIER_UNHANDLED = "not exists (select p.sequenceId from ObserverNotification p " +
+            "where p.resourceIdentifier = n.resourceIdentifier and p.sequenceId < n.sequenceId " +
+            "and p.completedAt is null and p.outcome is null)";
+
+    /**
+     * Locks the given notification if it has never been attempted, no other replica is claiming it and
+     * no earlier notification of the same resource is waiting to be handled.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("select n from ObserverNotification n where n.sequenceId = :sequenceId and n.attempts = 0 and n.completedAt is null " +
+            "and " + NO_EARLIER_UNHANDLED)
+    Optional<ObserverNotification> findUnattemptedForUpdate(@Param("sequenceId") Long sequenceId);
+
+    /**
+     * Locks the pending notifications whose next attempt is due, oldest first, skipping the ones being claimed
+     * by another replica. A notification is returned only once the earlier ones of its resource have been handled.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("select n from ObserverNotification n where n.completedAt is null and n.nextAttemptAt <= :now " +
+            "and (n.outcome is not null or " + NO_EARLIER_UNHANDLED + ") order by n.sequenceId")
+    List<ObserverNotification> findDueForUpdate(@Param("now") Timestamp now, Pageable pageable);
+
+    @Modifying
+    @Query("update ObserverNotification n set n.outcome = :outcome where n.sequenceId = :sequenceId")
+    void recordOutcome(@Param("sequenceId") Long sequenceId, @Param("outcome") ObserverNotificationOutcome outcome);
+
+    @Modifying
+    @Query("update ObserverNotification n set n.nextAttemptAt = :nextAttemptAt, n.lastError = :lastError " +
+            "where n.sequenceId = :sequenceId")
+    void reschedule(@Param("sequenceId") Long sequenceId,
+                    @Param("nextAttemptAt") Timestamp nextAttemptAt,
+                    @Param("lastError") String lastError);
+
+    @Modifying
+    @Query("update ObserverNotification n set n.completedAt = :completedAt, n.lastError = null where n.sequenceId in :sequenceIds")
+    void completeAll(@Param("sequenceIds") Collection<Long> sequenceIds, @Param("completedAt") Timestamp completedAt);
+
+    @Modifying
+    @Query("delete from ObserverNotification n where n.completedAt < :completedBefore")
+    int deleteCompletedBefore(@Param("completedBefore") Timestamp completedBefore);
+}
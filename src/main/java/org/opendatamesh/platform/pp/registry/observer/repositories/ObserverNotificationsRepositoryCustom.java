@@ -0,0 +1,14 @@
+package org.opendatamesh.platform.pp.registry.observer.repositories;
+
+import org.opendatamesh.platform.pp.registry.observer.entities.ObserverNotification;
+
+public interface ObserverNotificationsRepositoryCustom {
+
+    /**
+     * Stores a notification unless one with the same sequence id has already been received.
+     *
+     * @param notification the received notification
+     * @return true if the notification has been stored, false if it is a duplicate
+     */
+    boolean insertIfAbsent(ObserverNotification notification);
+}
@@ -0,0 +1,50 @@
+package org.opendatamesh.platform.pp.registry.observer.repositories;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.opendatamesh.platform.pp.registry.observer.entities.ObserverNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+
+class ObserverNotificationsRepositoryCustomImpl implements ObserverNotificationsRepositoryCustom {
+
+    private static final String INSERT_SQL = "insert into %s.observer_notifications " +
+            "(sequence_id, event_type, resource_identifier, payload, received_at, attempts, next_attempt_at) " +
+            "values (?, ?, ?, cast(? as jsonb), ?, 0, ?) " +
+            "on conflict (sequence_id) do nothing";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.default_schema}")
+    private String defaultSchema;
+
+    @Override
+    @Transactional
+    public boolean insertIfAbsent(ObserverNotification notification) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(notification.getPayload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize notification " + notification.getSequenceId(), e);
+        }
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(String.format(INSERT_SQL, defaultSchema))) {
+                statement.setLong(1, notification.getSequenceId());
+                statement.setString(2, notification.getEventType());
+                statement.setString(3, notification.getResourceIdentifier());
+                statement.setString(4, payload);
+                statement.setTimestamp(5, notification.getReceivedAt());
+                statement.setTimestamp(6, notification.getNextAttemptAt());
+                return statement.executeUpdate() > 0;
+            }
+        });
+    }
+}
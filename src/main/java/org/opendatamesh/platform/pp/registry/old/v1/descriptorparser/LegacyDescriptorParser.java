@@ -0,0 +1,103 @@
+package org.opendatamesh.platform.pp.registry.old.v1.descriptorparser;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.opendatamesh.dpds.exceptions.ParseException;
+import org.opendatamesh.dpds.location.DescriptorLocation;
+import org.opendatamesh.dpds.location.UriLocation;
+import org.opendatamesh.dpds.model.DataProductVersionDPDS;
+import org.opendatamesh.dpds.parser.DPDSParser;
+import org.opendatamesh.dpds.parser.IdentifierStrategyFactory;
+import org.opendatamesh.dpds.parser.ParseOptions;
+import org.opendatamesh.dpds.parser.ParseResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * The Data Product Descriptor 1.x parser used by the v1 compatibility layer, whose side effects during parsing are
+ * relied upon by existing OPA policies and v1 clients.
+ * <p>
+ * Parsers are built once per thread and reused, keeping the schemas they have loaded: {@code DPDSParser} gives no
+ * thread-safety guarantee, so instances are never shared between threads.
+ * <p>
+ * Schemas are read from {@code registry.v1.descriptor-parser.schemas-location}, a Spring resource location such as a
+ * mirror or a directory holding the upstream schema files. When it is not set, or does not exist, the public
+ * specification repository is used.
+ */
+@Component
+public class LegacyDescriptorParser {
+
+    static final String REMOTE_SCHEMAS_BASE_URL =
+            "https://raw.githubusercontent.com/opendatamesh-initiative/odm-specification-dpdescriptor/main/schemas/";
+    private static final String SPECIFICATION_VERSION = "1.0.0";
+
+    private static final Logger logger = LoggerFactory.getLogger(LegacyDescriptorParser.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final String schemasBaseUrl;
+    private final ThreadLocal<DPDSParser> parsers;
+
+    public LegacyDescriptorParser(@Value("${registry.v1.descriptor-parser.schemas-location:}") String schemasLocation,
+                                  ResourceLoader resourceLoader) {
+        this.schemasBaseUrl = resolveSchemasBaseUrl(schemasLocation, resourceLoader);
+        this.parsers = ThreadLocal.withInitial(() -> new DPDSParser(schemasBaseUrl, SPECIFICATION_VERSION, SPECIFICATION_VERSION));
+        logger.info("Legacy descriptor parser reading schemas from {}", schemasBaseUrl);
+    }
+
+    /**
+     * @param descriptorJson the raw descriptor
+     * @return the descriptor as parsed by the 1.x parser
+     * @throws IllegalStateException if the descriptor cannot be parsed
+     */
+    public DataProductVersionDPDS parse(JsonNode descriptorJson) {
+        try {
+            DescriptorLocation location = new UriLocation(objectMapper.writeValueAsString(descriptorJson));
+            ParseOptions options = new ParseOptions();
+            options.setIdentifierStrategy(IdentifierStrategyFactory.getDefault());
+
+            ParseResult result = parsers.get().parse(location, options);
+            return result.getDescriptorDocument();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to convert descriptor JSON to string", e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Failed to parse data product version descriptor", e);
+        }
+    }
+
+    String getSchemasBaseUrl() {
+        return schemasBaseUrl;
+    }
+
+    static String resolveSchemasBaseUrl(String schemasLocation, ResourceLoader resourceLoader) {
+        if (schemasLocation == null || schemasLocation.isBlank()) {
+            return REMOTE_SCHEMAS_BASE_URL;
+        }
+        if (schemasLocation.startsWith("http://") || schemasLocation.startsWith("https://")) {
+            return withTrailingSlash(schemasLocation);
+        }
+        Resource resource = resourceLoader.getResource(schemasLocation);
+        if (!resource.exists()) {
+            logger.warn("Descriptor schemas not found at {}, they will be downloaded from {}", schemasLocation, REMOTE_SCHEMAS_BASE_URL);
+            return REMOTE_SCHEMAS_BASE_URL;
+        }
+        try {
+            return withTrailingSlash(resource.getURL().toExternalForm());
+        } catch (IOException e) {
+            logger.warn("Descriptor schemas at {} cannot be addressed by URL, they will be downloaded from {}",
+                    schemasLocation, REMOTE_SCHEMAS_BASE_URL, e);
+            return REMOTE_SCHEMAS_BASE_URL;
+        }
+    }
+
+    private static String withTrailingSlash(String url) {
+        return url.endsWith("/") ? url : url + "/";
+    }
+}
@@ -7,6 +7,7 @@ import java.util.List;
 import org.opendatamesh.dpds.parser.IdentifierStrategyFactory;
 import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
 import org.opendatamesh.platform.pp.registry.exceptions.client.ClientException;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientUnavailableException;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.event.EventTypeRes;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.notification.NotificationDispatchRes;
 import org.opendatamesh.platform.pp.registry.utils.usecases.NotificationEventHandler;
@@ -47,6 +48,9 @@ class NotificationEventHandlerDpInitializationRequested implements NotificationE
 
             Object responseEvent = validationResponseToEvent(validationResponse, dataProductInitEvent);
             notificationClient.notifyEvent(responseEvent);
+        } catch (ClientUnavailableException e) {
+            // The policy service has not been called, the notification is retried instead of rejecting the data product
+            throw e;
         } catch (ClientException e) {
             log.warn("Policy client failed for data product initialization, notifying as rejected: {}", e.getMessage(), e);
             EventEmittedDataProductInitializationRejected rejectEvent = buildRejectEvent(dataProductInitEvent);
@@ -1,19 +1,14 @@
 package org.opendatamesh.platform.pp.registry.old.v1.policyservice;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import org.opendatamesh.dpds.exceptions.ParseException;
-import org.opendatamesh.dpds.location.DescriptorLocation;
-import org.opendatamesh.dpds.location.UriLocation;
 import org.opendatamesh.dpds.model.DataProductVersionDPDS;
-import org.opendatamesh.dpds.parser.DPDSParser;
 import org.opendatamesh.dpds.parser.IdentifierStrategyFactory;
-import org.opendatamesh.dpds.parser.ParseOptions;
-import org.opendatamesh.dpds.parser.ParseResult;
 import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientUnavailableException;
+import org.opendatamesh.platform.pp.registry.old.v1.descriptorparser.LegacyDescriptorParser;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.event.EventTypeRes;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.notification.NotificationDispatchRes;
 import org.opendatamesh.platform.pp.registry.utils.usecases.NotificationEventHandler;
@@ -32,12 +27,15 @@ class NotificationEventHandlerDpvPublicationRequested implements NotificationEve
     private final NotificationClient notificationClient;
     private final PolicyClientV1 policyClient;
     private final String descriptorParserVersion;
+    private final LegacyDescriptorParser legacyDescriptorParser;
 
     @Autowired
-    public NotificationEventHandlerDpvPublicationRequested(NotificationClient notificationClient, PolicyClientV1 policyClient, String descriptorParserVersion) {
+    public NotificationEventHandlerDpvPublicationRequested(NotificationClient notificationClient, PolicyClientV1 policyClient,
+                                                           String descriptorParserVersion, LegacyDescriptorParser legacyDescriptorParser) {
         this.notificationClient = notificationClient;
         this.policyClient = policyClient;
         this.descriptorParserVersion = descriptorParserVersion;
+        this.legacyDescriptorParser = legacyDescriptorParser;
     }
 
     @Override
@@ -56,6 +54,9 @@ class NotificationEventHandlerDpvPublicationRequested implements NotificationEve
 
             Object responseEvent = validationResponseToEvent(validationResponse, dataProductVersionPublishEvent, event.getSequenceId());
             notificationClient.notifyEvent(responseEvent);
+        } catch (ClientUnavailableException e) {
+            // The policy service has not been called, the notification is retried instead of rejecting the version
+            throw e;
         } catch (RuntimeException e) {
             // Failing to validate input, rejecting the data product
             EventReceivedDataProductVersionPublicationRequested.DataProductVersionRes sourceDataProductVersion =
@@ -151,8 +152,8 @@ class NotificationEventHandlerDpvPublicationRequested implements NotificationEve
         if (descriptorParserVersion.matches("^1(\\\\..+){0,2}$")) {
             try {
                 log.info("Trying using old 1.x parser for backward compatibility with existing policies");
-                DataProductVersionDPDS newDpds = parseDataProductVersionDPDS(newDescriptorJson);
-                DataProductVersionDPDS oldDpds = oldDescriptorJson != null ? parseDataProductVersionDPDS(oldDescriptorJson) : null;
+                DataProductVersionDPDS newDpds = legacyDescriptorParser.parse(newDescriptorJson);
+                DataProductVersionDPDS oldDpds = oldDescriptorJson != null ? legacyDescriptorParser.parse(oldDescriptorJson) : null;
 
                 oldState = oldDpds != null ? objectMapper.valueToTree(new RegistryV1DataProductVersionEventState(oldDpds)) : null;
                 newState = objectMapper.valueToTree(new RegistryV1DataProductVersionEventState(newDpds));
@@ -191,35 +192,6 @@ class NotificationEventHandlerDpvPublicationRequested implements NotificationEve
         }
     }
 
-    private DataProductVersionDPDS parseDataProductVersionDPDS(JsonNode descriptorJson) {
-        try {
-            // Convert JsonNode to String
-            String descriptorContent = objectMapper.writeValueAsString(descriptorJson);
-
-            // Create DPDSParser
-            DPDSParser descriptorParser = new DPDSParser(
-                    "https://raw.githubusercontent.com/opendatamesh-initiative/odm-specification-dpdescriptor/main/schemas/",
-                    "1.0.0",
-                    "1.0.0"
-            );
-
-            // Create DescriptorLocation from content
-            DescriptorLocation location = new UriLocation(descriptorContent);
-
-            // Configure parse options
-            ParseOptions options = new ParseOptions();
-            options.setIdentifierStrategy(IdentifierStrategyFactory.getDefault());
-
-            // Parse descriptor
-            ParseResult result = descriptorParser.parse(location, options);
-            return result.getDescriptorDocument();
-        } catch (JsonProcessingException e) {
-            throw new IllegalStateException("Failed to convert descriptor JSON to string", e);
-        } catch (ParseException e) {
-            throw new IllegalStateException("Failed to parse data product version descriptor", e);
-        }
-    }
-
     private String extractDataProductId(EventReceivedDataProductVersionPublicationRequested event) {
         //P.A.!! Policy result are expected to reference Data Product using OLD identifier (generated from fqn)
         return IdentifierStrategyFactory.getDefault().getId(event.getEventContent().getDataProductVersion().getDataProduct().getFqn());
@@ -1,12 +1,11 @@
 package org.opendatamesh.platform.pp.registry.old.v1.policyservice;
 
+import org.opendatamesh.platform.pp.registry.configuration.network.RestTemplateProfiles;
 import org.opendatamesh.platform.pp.registry.utils.client.RestUtils;
-import org.opendatamesh.platform.pp.registry.utils.client.RestUtilsFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,8 +19,8 @@ public class PolicyClientV1Config {
     private String policyServiceBaseUrl;
 
     @Bean
-    public PolicyClientV1 policyClientV1(RestTemplateBuilder restTemplateBuilder) {
-        RestUtils restUtils = RestUtilsFactory.getRestUtils(restTemplateBuilder.build());
+    public PolicyClientV1 policyClientV1(RestTemplateProfiles restTemplateProfiles) {
+        RestUtils restUtils = restTemplateProfiles.restUtils(RestTemplateProfiles.POLICY);
         logger.info("Creating PolicyClientV1 with base URL: {}", policyServiceBaseUrl);
         return new PolicyClientV1Impl(restUtils, policyServiceBaseUrl);
     }
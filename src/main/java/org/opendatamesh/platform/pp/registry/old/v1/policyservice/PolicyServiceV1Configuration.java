@@ -1,6 +1,7 @@
 package org.opendatamesh.platform.pp.registry.old.v1.policyservice;
 
 import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import org.opendatamesh.platform.pp.registry.old.v1.descriptorparser.LegacyDescriptorParser;
 import org.opendatamesh.platform.pp.registry.utils.usecases.NotificationEventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,8 +32,9 @@ public class PolicyServiceV1Configuration {
     @Bean
     public NotificationEventHandler notificationEventHandlerDpvPublicationRequested(
             NotificationClient notificationClient,
-            PolicyClientV1 policyClient) {
+            PolicyClientV1 policyClient,
+            LegacyDescriptorParser legacyDescriptorParser) {
         logger.info("Registering NotificationEventHandlerDpvPublicationRequested (odm.product-plane.policy-service.descriptor.parser.version={})", descriptorParserVersion);
-        return new NotificationEventHandlerDpvPublicationRequested(notificationClient, policyClient, descriptorParserVersion);
+        return new NotificationEventHandlerDpvPublicationRequested(notificationClient, policyClient, descriptorParserVersion, legacyDescriptorParser);
     }
 }
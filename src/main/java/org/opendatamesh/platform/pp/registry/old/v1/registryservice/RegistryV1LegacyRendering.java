@@ -0,0 +1,92 @@
+package org.opendatamesh.platform.pp.registry.old.v1.registryservice;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+import java.util.Objects;
+
+/**
+ * A descriptor serialized by the 1.x parser in one of the v1 formats, together with the hash of the
+ * descriptor content it was rendered from.
+ */
+@Entity
+@Table(name = "data_products_versions_legacy_renderings")
+class RegistryV1LegacyRendering {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(name = "content_hash", nullable = false)
+    private String contentHash;
+
+    @Column(name = "rendering", nullable = false)
+    private String rendering;
+
+    @Column(name = "rendered_at", nullable = false)
+    private Timestamp renderedAt;
+
+    protected RegistryV1LegacyRendering() {
+    }
+
+    RegistryV1LegacyRendering(Key key, String contentHash, String rendering, Timestamp renderedAt) {
+        this.key = key;
+        this.contentHash = contentHash;
+        this.rendering = rendering;
+        this.renderedAt = renderedAt;
+    }
+
+    public Key getKey() {
+        return key;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public String getRendering() {
+        return rendering;
+    }
+
+    public Timestamp getRenderedAt() {
+        return renderedAt;
+    }
+
+    @Embeddable
+    static class Key implements Serializable {
+
+        @Column(name = "data_product_version_uuid")
+        private String dataProductVersionUuid;
+
+        @Column(name = "format")
+        private String format;
+
+        protected Key() {
+        }
+
+        Key(String dataProductVersionUuid, String format) {
+            this.dataProductVersionUuid = dataProductVersionUuid;
+            this.format = format;
+        }
+
+        public String getDataProductVersionUuid() {
+            return dataProductVersionUuid;
+        }
+
+        public String getFormat() {
+            return format;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return Objects.equals(dataProductVersionUuid, other.dataProductVersionUuid) && Objects.equals(format, other.format);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dataProductVersionUuid, format);
+        }
+    }
+}
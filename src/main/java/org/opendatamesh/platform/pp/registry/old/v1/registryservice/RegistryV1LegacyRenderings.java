@@ -0,0 +1,78 @@
+package org.opendatamesh.platform.pp.registry.old.v1.registryservice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Stores the renderings of the descriptors produced by the 1.x parser, so that v1 reads only parse and serialize
+ * a descriptor the first time it is read in a format, or after its content has changed.
+ * <p>
+ * Renderings are looked up by the hash of the current descriptor content: a stale rendering is never returned and
+ * is replaced by the next read. Renderings with unresolved variables are stored, substitution happens on every read.
+ */
+@Component
+class RegistryV1LegacyRenderings {
+
+    // Bump when upgrading the 1.x parser or serializer, to discard the renderings they produced
+    private static final String RENDERER_REVISION = "1";
+    private static final String DEFAULT_FORMAT = "canonical";
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistryV1LegacyRenderings.class);
+
+    private final RegistryV1LegacyRenderingsRepository repository;
+
+    RegistryV1LegacyRenderings(RegistryV1LegacyRenderingsRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * @param dataProductVersion the version, with its descriptor content
+     * @param format             the v1 format, canonical when null
+     * @param renderer           renders the descriptor content in the format
+     * @return the stored rendering of the current content, or the one just rendered
+     */
+    String getOrRender(DataProductVersion dataProductVersion, String format, Function<JsonNode, String> renderer) {
+        String normalizedFormat = format != null ? format.toLowerCase(Locale.ROOT) : DEFAULT_FORMAT;
+        String contentHash = contentHash(dataProductVersion.getContent());
+        Optional<String> stored = repository.findRendering(dataProductVersion.getUuid(), normalizedFormat, contentHash);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        String rendering = renderer.apply(dataProductVersion.getContent());
+        try {
+            repository.save(new RegistryV1LegacyRendering(
+                    new RegistryV1LegacyRendering.Key(dataProductVersion.getUuid(), normalizedFormat),
+                    contentHash, rendering, Timestamp.from(Instant.now())));
+        } catch (DataAccessException e) {
+            // Another request stored it first, or the version has just been deleted: the rendering is still valid
+            logger.debug("Rendering of data product version {} not stored: {}", dataProductVersion.getUuid(), e.getMessage());
+        }
+        return rendering;
+    }
+
+    static String contentHash(JsonNode content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(RENDERER_REVISION.getBytes(StandardCharsets.UTF_8));
+            digest.update(String.valueOf(content).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.opendatamesh.platform.pp.registry.old.v1.registryservice;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+interface RegistryV1LegacyRenderingsRepository extends JpaRepository<RegistryV1LegacyRendering, RegistryV1LegacyRendering.Key> {
+
+    @Query("select r.rendering from RegistryV1LegacyRendering r " +
+            "where r.key.dataProductVersionUuid = :dataProductVersionUuid and r.key.format = :format and r.contentHash = :contentHash")
+    Optional<String> findRendering(@Param("dataProductVersionUuid") String dataProductVersionUuid,
+                                   @Param("format") String format,
+                                   @Param("contentHash") String contentHash);
+}
@@ -0,0 +1,79 @@
+package org.opendatamesh.platform.pp.registry.old.v1.registryservice;
+
+import org.opendatamesh.platform.pp.registry.exceptions.InternalException;
+import org.opendatamesh.platform.pp.registry.exceptions.ServiceUnavailableException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs the policy evaluations of a validation request alongside each other, on a bounded pool.
+ * <p>
+ * When the pool and its queue are full an evaluation runs on the calling thread, so a burst of requests degrades
+ * to sequential evaluations instead of failing. Waiting for an evaluation is bounded by the deadline of the request.
+ */
+@Component
+class RegistryV1PolicyValidationExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    RegistryV1PolicyValidationExecutor(@Value("${registry.v1.policy-validation.concurrency:4}") int concurrency,
+                                       @Value("${registry.v1.policy-validation.queue-capacity:20}") int queueCapacity,
+                                       @Value("${registry.v1.policy-validation.timeout:PT90S}") Duration timeout) {
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("v1-policy-validation-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @return the deadline, in {@link System#nanoTime()} units, of a validation request starting now
+     */
+    long deadline() {
+        return System.nanoTime() + timeout.toNanos();
+    }
+
+    <T> Future<T> submit(Callable<T> evaluation) {
+        return executor.submit(evaluation);
+    }
+
+    /**
+     * Waits for an evaluation until the deadline, cancelling it when the deadline expires.
+     *
+     * @throws ServiceUnavailableException if the evaluation did not complete in time
+     */
+    <T> T await(Future<T> evaluation, long deadline) {
+        try {
+            return evaluation.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            evaluation.cancel(true);
+            throw new ServiceUnavailableException("Policy validation did not complete within " + timeout, e);
+        } catch (InterruptedException e) {
+            evaluation.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for policy validation", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new InternalException("Policy validation failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
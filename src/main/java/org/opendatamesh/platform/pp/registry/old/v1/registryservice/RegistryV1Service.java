@@ -2,26 +2,23 @@ package org.opendatamesh.platform.pp.registry.old.v1.registryservice;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.io.JsonStringEncoder;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.opendatamesh.dpds.exceptions.ParseException;
-import org.opendatamesh.dpds.location.DescriptorLocation;
-import org.opendatamesh.dpds.location.UriLocation;
 import org.opendatamesh.dpds.model.DataProductVersionDPDS;
 import org.opendatamesh.dpds.parser.*;
 import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProduct;
 import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsService;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersion;
+import org.opendatamesh.platform.pp.registry.dataproductversion.repositories.DataProductVersionsShortRepository;
 import org.opendatamesh.platform.pp.registry.dataproductversion.services.core.DataProductVersionCrudService;
 import org.opendatamesh.platform.pp.registry.dataproductversion.services.core.DataProductVersionsQueryService;
 import org.opendatamesh.platform.pp.registry.descriptorvariable.services.DescriptorVariableUseCasesService;
 import org.opendatamesh.platform.pp.registry.descriptorvariable.services.core.DescriptorVariableCrudService;
+import org.opendatamesh.platform.pp.registry.descriptorvariable.services.core.DescriptorVariableSubstitutor;
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
 import org.opendatamesh.platform.pp.registry.exceptions.InternalException;
 import org.opendatamesh.platform.pp.registry.exceptions.NotFoundException;
+import org.opendatamesh.platform.pp.registry.old.v1.descriptorparser.LegacyDescriptorParser;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductSearchOptions;
-import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionSearchOptions;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.descriptorvariable.DescriptorVariableRes;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.descriptorvariable.DescriptorVariableSearchOptions;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.descriptorvariable.usecases.store.StoreDescriptorVariableCommandRes;
@@ -36,17 +33,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
 class RegistryV1Service {
-    private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\$\\{([^}]+)\\}");
-
     @Autowired
     private DataProductVersionsQueryService dpvQueryService;
     @Autowired
@@ -59,12 +53,15 @@ class RegistryV1Service {
     private IdentifierStrategy identifierStrategy;
     @Autowired
     private DataProductsService dataProductsService;
+    @Autowired
+    private LegacyDescriptorParser legacyDescriptorParser;
+    @Autowired
+    private RegistryV1LegacyRenderings legacyRenderings;
 
     @Value("${odm.product-plane.registry-service.v1.descriptor.parser.version:1}")
     private String descriptorParserVersion;
 
     private static final int MAX_DATA_PRODUCTS_FOR_FQN_ID_LOOKUP = 1000;
-    private final ObjectMapper objectMapper = new ObjectMapper();
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
     public List<RegistryV1DataProductResource> searchProductsByFqn(String fqn) {
@@ -113,14 +110,14 @@ class RegistryV1Service {
             throw new BadRequestException("Format [" + format + "] is not supported");
         }
 
-        DataProductVersion dataProductVersion = findDataProductVersion(id, version);
+        DataProductVersion dataProductVersion = dpvCrudService.findOneWithContent(findDataProductVersionUuid(id, version));
         String serializedContent = dataProductVersion.getContent().toString();
 
         if (descriptorParserVersion.matches("^1(\\\\..+){0,2}$")) {
             log.info("Using old descriptor parser to parse Data Product Version content.");
             try {
-                DataProductVersionDPDS dataProductVersionDPDS = parseDescriptorWithOldParser(dataProductVersion.getContent());
-                serializedContent = serializeOldDataProductVersionUsingOldParser(format, dataProductVersionDPDS);
+                serializedContent = legacyRenderings.getOrRender(dataProductVersion, format,
+                        content -> serializeOldDataProductVersionUsingOldParser(format, parseDescriptorWithOldParser(content)));
             } catch (Exception e) {
                 log.warn("Error when parsing descriptor using old parser: {}, returning the unmodified descriptor.", e.getMessage(), e);
             }
@@ -130,8 +127,7 @@ class RegistryV1Service {
     }
 
     public List<RegistryV1VariableResource> getVariables(String id, String version) {
-        DataProductVersion dataProductVersion = findDataProductVersion(id, version);
-        String versionUuid = dataProductVersion.getUuid();
+        String versionUuid = findDataProductVersionUuid(id, version);
 
         // Get existing variables
         DescriptorVariableSearchOptions searchOptions = new DescriptorVariableSearchOptions();
@@ -145,8 +141,8 @@ class RegistryV1Service {
                 .map(DescriptorVariableRes::getVariableKey)
                 .collect(Collectors.toSet());
 
-        // Extract variable placeholders from descriptor
-        Set<String> descriptorVariableKeys = extractVariableKeysFromDescriptor(dataProductVersion.getContent());
+        // Read the variable placeholders indexed when the descriptor was stored
+        Set<String> descriptorVariableKeys = dpvCrudService.findPlaceholderKeys(versionUuid);
 
         // Create missing variables with empty values
         List<DescriptorVariableRes> variablesToCreate = new ArrayList<>();
@@ -177,8 +173,7 @@ class RegistryV1Service {
     }
 
     public RegistryV1VariableResource updateVariable(String id, String version, Long variableId, String variableValue) {
-        DataProductVersion dataProductVersion = findDataProductVersion(id, version);
-        String versionUuid = dataProductVersion.getUuid();
+        String versionUuid = findDataProductVersionUuid(id, version);
 
         // Retrieve the existing variable
         DescriptorVariableRes existingVariable = descriptorVariableCrudService.findOneResource(variableId);
@@ -219,17 +214,15 @@ class RegistryV1Service {
 
         List<DescriptorVariableRes> variables = variablesPage.getContent();
 
-        // Replace each variable placeholder with its actual value
-        String result = serializedContent;
+        // Replace every variable placeholder with its actual value in a single pass
+        Map<String, String> valuesByKey = new HashMap<>();
         for (DescriptorVariableRes variable : variables) {
             if (variable.getVariableValue() != null && StringUtils.hasText(variable.getVariableKey())) {
-                String sanitizedValue = sanitizeJsonStringValue(variable.getVariableValue());
-                String placeholder = "${" + variable.getVariableKey() + "}";
-                result = result.replace(placeholder, sanitizedValue);
+                valuesByKey.putIfAbsent(variable.getVariableKey(), sanitizeJsonStringValue(variable.getVariableValue()));
             }
         }
 
-        return result;
+        return DescriptorVariableSubstitutor.substitute(serializedContent, valuesByKey);
     }
 
     private String sanitizeJsonStringValue(String value) {
@@ -251,19 +244,16 @@ class RegistryV1Service {
         return serializedContent;
     }
 
-    private DataProductVersion findDataProductVersion(String id, String version) {
-        DataProductVersionSearchOptions dataProductVersionSearchOptions = new DataProductVersionSearchOptions();
-        dataProductVersionSearchOptions.setVersionNumber(version);
-
-        return dpvQueryService.findAllShort(Pageable.unpaged(), dataProductVersionSearchOptions)
+    private String findDataProductVersionUuid(String id, String version) {
+        // The v1 id of a data product is derived from its fqn, which is read along with the versions
+        return dpvQueryService.findOwnersByVersionNumber(version)
                 .stream()
-                .filter(dataProductVersionShort ->
-                        id.equalsIgnoreCase(
-                                identifierStrategy.getId(dataProductVersionShort.getDataProduct().getFqn())) ||
-                                id.equalsIgnoreCase(dataProductVersionShort.getDataProductUuid())
+                .filter(versionOwner ->
+                        id.equalsIgnoreCase(identifierStrategy.getId(versionOwner.getDataProductFqn())) ||
+                                id.equalsIgnoreCase(versionOwner.getDataProductUuid())
                 )
                 .findFirst()
-                .map(dpvShort -> dpvCrudService.findOne(dpvShort.getUuid()))
+                .map(DataProductVersionsShortRepository.VersionOwner::getUuid)
                 .orElseThrow(() -> new NotFoundException("Data Product Version not found."));
     }
 
@@ -276,58 +266,6 @@ class RegistryV1Service {
     }
 
     public DataProductVersionDPDS parseDescriptorWithOldParser(JsonNode descriptorJson) {
-        try {
-            // Convert JsonNode to String
-            ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-            String descriptorContent = mapper.writeValueAsString(descriptorJson);
-
-            // Create DPDSParser
-            DPDSParser descriptorParser = new DPDSParser(
-                    "https://raw.githubusercontent.com/opendatamesh-initiative/odm-specification-dpdescriptor/main/schemas/",
-                    "1.0.0",
-                    "1.0.0"
-            );
-
-            // Create DescriptorLocation from content
-            DescriptorLocation location = new UriLocation(descriptorContent);
-
-            // Configure parse options
-            ParseOptions options = new ParseOptions();
-            options.setIdentifierStrategy(IdentifierStrategyFactory.getDefault());
-
-            // Parse descriptor
-            ParseResult result = descriptorParser.parse(location, options);
-            return result.getDescriptorDocument();
-        } catch (JsonProcessingException e) {
-            throw new IllegalStateException("Failed to convert descriptor JSON to string", e);
-        } catch (ParseException e) {
-            throw new IllegalStateException("Failed to parse data product version descriptor", e);
-        }
-    }
-
-    /**
-     * Extracts all variable keys from the descriptor by finding all ${variableName} patterns.
-     *
-     * @param descriptorJson The descriptor as JsonNode
-     * @return A set of unique variable keys found in the descriptor
-     */
-    private Set<String> extractVariableKeysFromDescriptor(JsonNode descriptorJson) {
-        Set<String> variableKeys = new HashSet<>();
-        try {
-            // Convert JsonNode to String to search for variable patterns
-            String descriptorContent = objectMapper.writeValueAsString(descriptorJson);
-
-            // Find all ${variableName} patterns
-            Matcher matcher = VARIABLE_PATTERN.matcher(descriptorContent);
-            while (matcher.find()) {
-                String variableKey = matcher.group(1);
-                if (StringUtils.hasText(variableKey)) {
-                    variableKeys.add(variableKey);
-                }
-            }
-        } catch (JsonProcessingException e) {
-            throw new InternalException("Failed to extract variables from descriptor", e);
-        }
-        return variableKeys;
+        return legacyDescriptorParser.parse(descriptorJson);
     }
 }
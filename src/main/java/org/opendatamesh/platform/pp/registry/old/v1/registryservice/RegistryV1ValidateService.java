@@ -34,6 +34,7 @@ import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -56,6 +57,8 @@ class RegistryV1ValidateService {
     private RegistryV1EventTypeBaseMapper eventTypeBaseMapper;
     @Autowired
     private IdentifierStrategy identifierStrategy;
+    @Autowired
+    private RegistryV1PolicyValidationExecutor policyValidationExecutor;
 
     @Value("${odm.product-plane.registry-service.v1.descriptor.parser.version:1}")
     private String descriptorParserVersion;
@@ -106,8 +109,18 @@ class RegistryV1ValidateService {
         }
 
         RegistryV1DataProductResource registryV1DataProduct = extractRegistryV1DataProductFromDescriptor(request);
-        Map<String, RegistryV1DataProductValidationResult> dataProductValidationResults = validateDataProductPolicies(registryV1DataProduct, request.getPolicyEventTypes());
-        Map<String, RegistryV1DataProductValidationResult> dataProductVersionValidationResults = validateDataProductVersionPolicies(registryV1DataProduct, request);
+        // The two evaluations are independent: the data product one runs on the pool while this thread runs the version one
+        long deadline = policyValidationExecutor.deadline();
+        Future<Map<String, RegistryV1DataProductValidationResult>> dataProductValidation = policyValidationExecutor.submit(
+                () -> validateDataProductPolicies(registryV1DataProduct, request.getPolicyEventTypes()));
+        Map<String, RegistryV1DataProductValidationResult> dataProductVersionValidationResults;
+        try {
+            dataProductVersionValidationResults = validateDataProductVersionPolicies(registryV1DataProduct, request);
+        } catch (RuntimeException e) {
+            dataProductValidation.cancel(true);
+            throw e;
+        }
+        Map<String, RegistryV1DataProductValidationResult> dataProductValidationResults = policyValidationExecutor.await(dataProductValidation, deadline);
 
         return Stream.of(dataProductValidationResults, dataProductVersionValidationResults)
                 .flatMap(map -> map.entrySet().stream())
@@ -138,7 +151,7 @@ class RegistryV1ValidateService {
             }
             return Collections.emptyMap();
         } else {
-            org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersion modstRecentDpv = dataProductVersionCrudService.findOne(mostRecentDataProductVersion.get().getUuid());
+            org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersion modstRecentDpv = dataProductVersionCrudService.findOneWithContent(mostRecentDataProductVersion.get().getUuid());
             JsonNode oldDpds = modstRecentDpv.getContent();
             if (descriptorParserVersion.matches("^1(\\\\..+){0,2}$")) {
                 log.info("Using old descriptor parser to parse Data Product Version content.");
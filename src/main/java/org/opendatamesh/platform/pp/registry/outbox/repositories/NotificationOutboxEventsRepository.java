@@ -0,0 +1,52 @@
+package org.opendatamesh.platform.pp.registry.outbox.repositories;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.opendatamesh.platform.pp.registry.outbox.entities.NotificationOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+public interface NotificationOutboxEventsRepository extends CrudRepository<NotificationOutboxEvent, Long> {
+
+    // A lock timeout of -2 is SKIP LOCKED: rows claimed by another relay are left to it instead of being waited for
+    String SKIP_LOCKED = "-2";
+
+    /**
+     * Locks the given event if it has never been attempted and no earlier event of the same resource is pending,
+     * that is when it can be delivered right away without overtaking anything.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("select e from NotificationOutboxEvent e where e.sequenceId = :sequenceId and e.attempts = 0 " +
+            "and not exists (select p.sequenceId from NotificationOutboxEvent p " +
+            "where p.resourceIdentifier = e.resourceIdentifier and p.sequenceId < e.sequenceId)")
+    Optional<NotificationOutboxEvent> findUndeliveredHeadForUpdate(@Param("sequenceId") Long sequenceId);
+
+    /**
+     * Locks the oldest pending event of each resource whose next attempt is due, skipping the ones already
+     * claimed by another relay. Later events of a resource are returned only once the earlier ones are delivered.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("select e from NotificationOutboxEvent e where e.nextAttemptAt <= :now " +
+            "and not exists (select p.sequenceId from NotificationOutboxEvent p " +
+            "where p.resourceIdentifier = e.resourceIdentifier and p.sequenceId < e.sequenceId) " +
+            "order by e.sequenceId")
+    List<NotificationOutboxEvent> findDueHeadsForUpdate(@Param("now") Timestamp now, Pageable pageable);
+
+    @Modifying
+    @Query("update NotificationOutboxEvent e set e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError " +
+            "where e.sequenceId = :sequenceId")
+    void reschedule(@Param("sequenceId") Long sequenceId,
+                    @Param("nextAttemptAt") Timestamp nextAttemptAt,
+                    @Param("lastError") String lastError);
+}
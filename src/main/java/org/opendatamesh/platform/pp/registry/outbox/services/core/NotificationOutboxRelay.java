@@ -0,0 +1,139 @@
+package org.opendatamesh.platform.pp.registry.outbox.services.core;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import org.opendatamesh.platform.pp.registry.outbox.entities.NotificationOutboxEvent;
+import org.opendatamesh.platform.pp.registry.outbox.repositories.NotificationOutboxEventsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Delivers the outbox events to the notification service.
+ * <p>
+ * An event is first claimed in a short transaction, which leases it by pushing its next attempt forward,
+ * then sent with no transaction open, and finally deleted once the notification service has accepted it.
+ * A failed delivery is rescheduled with an exponential backoff and is never dropped; a relay that dies while
+ * sending lets the lease expire, so delivery is at least once. Events of the same resource are delivered
+ * in the order they were emitted: an event is claimed only when no earlier event of its resource is pending.
+ * <p>
+ * Deliveries are counted by the {@code registry.notifications.outbox.delivered} and
+ * {@code registry.notifications.outbox.failed} meters.
+ */
+@Component
+public class NotificationOutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final NotificationOutboxEventsRepository repository;
+    private final NotificationClient notificationClient;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter delivered;
+    private final Counter failed;
+
+    @Value("${registry.notification-outbox.batch-size:50}")
+    private int batchSize = 50;
+
+    @Value("${registry.notification-outbox.lease:PT2M}")
+    private Duration lease = Duration.ofMinutes(2);
+
+    @Value("${registry.notification-outbox.retry-delay:PT1S}")
+    private Duration retryDelay = Duration.ofSeconds(1);
+
+    @Value("${registry.notification-outbox.max-retry-delay:PT5M}")
+    private Duration maxRetryDelay = Duration.ofMinutes(5);
+
+    public NotificationOutboxRelay(NotificationOutboxEventsRepository repository,
+                                   NotificationClient notificationClient,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.notificationClient = notificationClient;
+        // Also called after the commit of the transaction that enqueued the event, which cannot be joined anymore
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.delivered = meterRegistry.counter("registry.notifications.outbox.delivered");
+        this.failed = meterRegistry.counter("registry.notifications.outbox.failed");
+    }
+
+    /**
+     * Delivers an event just enqueued, sending it as it was built rather than its stored serialization.
+     * Nothing is sent when an earlier event of the same resource is still pending, or when the event has
+     * already been claimed: the scheduled relay delivers it in turn.
+     *
+     * @param sequenceId the sequence id of the stored event
+     * @param event      the event as it was enqueued
+     */
+    public void deliverEnqueued(Long sequenceId, Object event) {
+        Optional<NotificationOutboxEvent> claimed = transactionTemplate.execute(status ->
+                repository.findUndeliveredHeadForUpdate(sequenceId).map(this::lease));
+        if (claimed != null && claimed.isPresent()) {
+            deliver(claimed.get(), event);
+        }
+    }
+
+    /**
+     * Delivers the events that are due, one batch after the other until a batch is not full.
+     */
+    @Scheduled(fixedDelayString = "${registry.notification-outbox.poll-interval:PT1S}")
+    public void relayDueEvents() {
+        List<NotificationOutboxEvent> claimed;
+        do {
+            claimed = transactionTemplate.execute(status -> {
+                List<NotificationOutboxEvent> due = repository.findDueHeadsForUpdate(Timestamp.from(Instant.now()), PageRequest.ofSize(batchSize));
+                due.forEach(this::lease);
+                return due;
+            });
+            if (claimed == null) {
+                return;
+            }
+            claimed.forEach(outboxEvent -> deliver(outboxEvent, outboxEvent.getPayload()));
+        } while (claimed.size() >= batchSize);
+    }
+
+    private NotificationOutboxEvent lease(NotificationOutboxEvent outboxEvent) {
+        outboxEvent.setAttempts(outboxEvent.getAttempts() + 1);
+        outboxEvent.setNextAttemptAt(Timestamp.from(Instant.now().plus(lease)));
+        return outboxEvent;
+    }
+
+    private void deliver(NotificationOutboxEvent outboxEvent, Object event) {
+        try {
+            notificationClient.notifyEvent(event);
+        } catch (RuntimeException e) {
+            failed.increment();
+            Duration delay = retryDelay(outboxEvent.getAttempts());
+            logger.warn("Failed to deliver event {} of resource {} (attempt {}), retrying in {}: {}",
+                    outboxEvent.getEventType(), outboxEvent.getResourceIdentifier(), outboxEvent.getAttempts(), delay, e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> repository.reschedule(
+                    outboxEvent.getSequenceId(), Timestamp.from(Instant.now().plus(delay)), truncate(String.valueOf(e.getMessage()))));
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> repository.deleteById(outboxEvent.getSequenceId()));
+        delivered.increment();
+    }
+
+    Duration retryDelay(int attempts) {
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+
+    private String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
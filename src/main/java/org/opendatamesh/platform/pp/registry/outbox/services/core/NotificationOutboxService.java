@@ -0,0 +1,16 @@
+package org.opendatamesh.platform.pp.registry.outbox.services.core;
+
+/**
+ * Emits events to the notification service through the transactional outbox.
+ */
+public interface NotificationOutboxService {
+
+    /**
+     * Stores the event in the current transaction, to be delivered once the transaction commits.
+     * The event is never delivered if the transaction rolls back.
+     *
+     * @param event the event, as it would be sent to the notification service
+     * @throws IllegalStateException if no transaction is active
+     */
+    void enqueue(Object event);
+}
@@ -0,0 +1,87 @@
+package org.opendatamesh.platform.pp.registry.outbox.services.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.opendatamesh.platform.pp.registry.outbox.entities.NotificationOutboxEvent;
+import org.opendatamesh.platform.pp.registry.outbox.repositories.NotificationOutboxEventsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Writes the events in the outbox table and, once the transaction has committed, hands them to the
+ * {@link NotificationOutboxRelay} on the task executor, so that the caller does not wait for the delivery.
+ * <p>
+ * New events are not due for the scheduled relay until the pickup delay has elapsed: the after-commit delivery
+ * normally takes care of them, the scheduled one only recovers the events it could not deliver.
+ * <p>
+ * With {@code registry.notification-outbox.async} set to false the events are delivered on the committing thread.
+ */
+@Service
+public class NotificationOutboxServiceImpl implements NotificationOutboxService {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final NotificationOutboxEventsRepository repository;
+    private final NotificationOutboxRelay relay;
+    private final Executor executor;
+    private final ObjectMapper objectMapper;
+    private final Duration pickupDelay;
+    private final boolean async;
+
+    public NotificationOutboxServiceImpl(NotificationOutboxEventsRepository repository,
+                                         NotificationOutboxRelay relay,
+                                         @Qualifier("taskExecutor") Executor executor,
+                                         ObjectMapper objectMapper,
+                                         @Value("${registry.notification-outbox.pickup-delay:PT10S}") Duration pickupDelay,
+                                         @Value("${registry.notification-outbox.async:true}") boolean async) {
+        this.repository = repository;
+        this.relay = relay;
+        this.executor = executor;
+        this.objectMapper = objectMapper;
+        this.pickupDelay = pickupDelay;
+        this.async = async;
+    }
+
+    @Override
+    public void enqueue(Object event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Events can be added to the outbox only within a transaction");
+        }
+        JsonNode payload = objectMapper.valueToTree(event);
+        Instant now = Instant.now();
+
+        NotificationOutboxEvent outboxEvent = new NotificationOutboxEvent();
+        outboxEvent.setResourceIdentifier(payload.path("resourceIdentifier").asText(""));
+        outboxEvent.setEventType(payload.path("type").asText(null));
+        outboxEvent.setPayload(payload);
+        outboxEvent.setCreatedAt(Timestamp.from(now));
+        outboxEvent.setNextAttemptAt(Timestamp.from(now.plus(pickupDelay)));
+        Long sequenceId = repository.save(outboxEvent).getSequenceId();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (!async) {
+                    relay.deliverEnqueued(sequenceId, event);
+                    return;
+                }
+                try {
+                    executor.execute(() -> relay.deliverEnqueued(sequenceId, event));
+                } catch (RejectedExecutionException e) {
+                    logger.warn("Delivery of outbox event {} left to the scheduled relay: {}", sequenceId, e.getMessage());
+                }
+            }
+        });
+    }
+}
@@ -2,12 +2,15 @@ package org.opendatamesh.platform.pp.registry.rest;
 
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
 import org.opendatamesh.platform.pp.registry.exceptions.RegistryApiException;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientException;
 import org.opendatamesh.platform.git.exceptions.GitClientException;
 import org.opendatamesh.platform.git.exceptions.GitOperationException;
 import org.opendatamesh.platform.git.exceptions.GitProviderAuthenticationException;
 import org.opendatamesh.platform.git.exceptions.GitProviderConfigurationException;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.ErrorRes;
 import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -19,9 +22,13 @@ import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.sql.SQLException;
+
 @ControllerAdvice
 public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
 
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
     @ExceptionHandler({ConcurrencyFailureException.class})
     protected ResponseEntity<Object> handleConcurrencyConflict(ConcurrencyFailureException e, WebRequest request) {
         logger.info(e.getMessage());
@@ -33,6 +40,21 @@ public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
         return handleExceptionInternal(e, error, headers, HttpStatus.CONFLICT, request);
     }
 
+    @ExceptionHandler({DataIntegrityViolationException.class})
+    protected ResponseEntity<Object> handleDataIntegrityViolation(DataIntegrityViolationException e, WebRequest request) {
+        // Only unique constraints are conflicts with an existing resource, other violations are server errors
+        if (!isUniqueViolation(e)) {
+            return handleRuntimeException(e, request);
+        }
+        logger.info(e.getMessage());
+        String url = getUrl(request);
+        String message = "The resource conflicts with an existing one, please check its unique fields";
+        ErrorRes error = new ErrorRes(HttpStatus.CONFLICT.value(), "ResourceConflictException", message, url);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return handleExceptionInternal(e, error, headers, HttpStatus.CONFLICT, request);
+    }
+
     @ExceptionHandler({RegistryApiException.class})
     protected ResponseEntity<Object> handleRegistryApiException(RegistryApiException e, WebRequest request) {
         if (e.getStatus() == HttpStatus.INTERNAL_SERVER_ERROR) {
@@ -66,17 +88,7 @@ public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
 
     @ExceptionHandler(GitClientException.class)
     protected ResponseEntity<Object> handleGitProviderClientException(GitClientException e, WebRequest request) {
-        HttpStatus status;
-        try {
-            int code = e.getCode();
-            if (code >= 100 && code < 600) {
-                status = HttpStatus.valueOf(code);
-            } else {
-                status = HttpStatus.INTERNAL_SERVER_ERROR;
-            }
-        } catch (IllegalArgumentException ex) {
-            status = HttpStatus.INTERNAL_SERVER_ERROR;
-        }
+        HttpStatus status = statusOf(e.getCode());
         if (status.is5xxServerError()) {
             logger.error("GitProviderError: " + e.getResponseBody(), e);
         } else {
@@ -90,6 +102,23 @@ public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
         return handleExceptionInternal(e, errorRes, headers, status, request);
     }
 
+    @ExceptionHandler(ClientException.class)
+    protected ResponseEntity<Object> handleClientException(ClientException e, WebRequest request) {
+        // The status of the downstream service, 503 when its circuit breaker or bulkhead refused the call
+        HttpStatus status = statusOf(e.getCode());
+        if (status.is5xxServerError()) {
+            logger.error("ClientError: " + e.getResponseBody(), e);
+        } else {
+            logger.info("ClientError: " + e.getResponseBody());
+        }
+        String url = getUrl(request);
+        String message = e.getResponseBody() != null ? e.getResponseBody() : e.getMessage();
+        ErrorRes errorRes = new ErrorRes(status.value(), "ClientError", message, url);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return handleExceptionInternal(e, errorRes, headers, status, request);
+    }
+
     @ExceptionHandler(GitProviderConfigurationException.class)
     protected ResponseEntity<Object> handleGitProviderConfigurationException(GitProviderConfigurationException e, WebRequest request) {
         BadRequestException badRequestException = new BadRequestException(e.getMessage(), e);
@@ -122,6 +151,23 @@ public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
         return handleExceptionInternal(e, errorRes, headers, status, request);
     }
 
+    private static HttpStatus statusOf(int code) {
+        HttpStatus status = HttpStatus.resolve(code);
+        return status != null ? status : HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private String getUrl(WebRequest request) {
         String url = request.toString();
         if (request instanceof ServletWebRequest r) {
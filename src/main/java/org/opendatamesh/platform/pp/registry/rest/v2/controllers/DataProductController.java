@@ -3,6 +3,7 @@ package org.opendatamesh.platform.pp.registry.rest.v2.controllers;
 import org.opendatamesh.platform.pp.registry.dataproduct.services.core.DataProductsService;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductRes;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductSearchOptions;
+import org.opendatamesh.platform.pp.registry.utils.resources.CursorPageRes;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -91,6 +93,28 @@ public class DataProductController {
         return dataProductsService.findAllResourcesFiltered(pageable, searchOptions);
     }
 
+    @Operation(summary = "Scroll data products", description = "Retrieves data products page by page through keyset pagination, " +
+            "ordered by createdAt and uuid in descending order. Each response carries an opaque 'nextCursor' token to pass as 'cursor' " +
+            "to fetch the following page. Unlike the paginated search, no total count is computed and deep pages are as fast as the first one.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Data products found",
+                    content = @Content(schema = @Schema(implementation = CursorPageRes.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid search parameters or invalid cursor"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/scroll")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageRes<DataProductRes> scrollDataProducts(
+            @Parameter(description = "Search options for filtering data products")
+            DataProductSearchOptions searchOptions,
+            @Parameter(description = "The 'nextCursor' token returned by the previous page. Omit it to fetch the first page.")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "The maximum number of data products of the page")
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return dataProductsService.scrollAllResourcesFiltered(cursor, size, searchOptions);
+    }
+
     @Operation(summary = "Update data product", description = "Updates an existing data product by its UUID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Data product updated successfully",
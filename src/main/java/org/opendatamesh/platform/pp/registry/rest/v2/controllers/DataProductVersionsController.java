@@ -13,6 +13,7 @@ import org.opendatamesh.platform.pp.registry.dataproductversion.services.core.Da
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionRes;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionSearchOptions;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionShortRes;
+import org.opendatamesh.platform.pp.registry.utils.resources.CursorPageRes;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -96,6 +97,29 @@ public class DataProductVersionsController {
         return dataProductVersionsQueryService.findAllResourcesShort(pageable, searchOptions);
     }
 
+    @Operation(summary = "Scroll data product versions", description = "Retrieves data product versions page by page through keyset pagination, " +
+            "ordered by createdAt and uuid in descending order. Each response carries an opaque 'nextCursor' token to pass as 'cursor' " +
+            "to fetch the following page. Unlike the paginated search, no total count is computed and deep pages are as fast as the first one. " +
+            "Returns short resources for better performance.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Data product versions found",
+                    content = @Content(schema = @Schema(implementation = CursorPageRes.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid search parameters or invalid cursor"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/scroll")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageRes<DataProductVersionShortRes> scrollDataProductVersions(
+            @Parameter(description = "Search options for filtering data product versions")
+            DataProductVersionSearchOptions searchOptions,
+            @Parameter(description = "The 'nextCursor' token returned by the previous page. Omit it to fetch the first page.")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "The maximum number of data product versions of the page")
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return dataProductVersionsQueryService.scrollAllResourcesShort(cursor, size, searchOptions);
+    }
+
     @Hidden
     @Operation(summary = "Update data product version by UUID", description = "Updates an existing data product version by its UUID")
     @ApiResponses(value = {
@@ -24,7 +24,7 @@ public class ObserverController {
 
     @Operation(summary = "Receive a notification event", description = "Receives a notification event from an observer server and dispatches it to the appropriate use case")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Notification event received and dispatched successfully",
+            @ApiResponse(responseCode = "200", description = "Notification event received and queued for processing",
                     content = @Content(schema = @Schema(implementation = NotificationDispatchRes.class))),
             @ApiResponse(responseCode = "400", description = "Invalid request parameters"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
@@ -0,0 +1,161 @@
+package org.opendatamesh.platform.pp.registry.utils.client;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker guarding the calls to a downstream service.
+ * <p>
+ * While closed, the outcomes of the last {@code slidingWindowSize} calls are kept, and the circuit opens when at
+ * least {@code minimumCalls} have been recorded and the failure rate reaches {@code failureRateThreshold} percent.
+ * Calls slower than {@code slowCallThreshold} count as failures, so that a downstream that answers within the HTTP
+ * timeouts but too slowly for its time budget opens the circuit too.
+ * <p>
+ * While open, calls are refused for {@code openDuration}; then the circuit is half-open and lets {@code halfOpenCalls}
+ * probe calls through: it closes when all of them succeed and opens again at the first failure.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final long slowCallThresholdNanos;
+    private final LongSupplier nanoClock;
+
+    // Ring buffer of the outcomes of the last calls, true for failures
+    private final boolean[] outcomes;
+    private int nextOutcome;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(String name, int failureRateThreshold, int slidingWindowSize, int minimumCalls,
+                          Duration openDuration, int halfOpenCalls, Duration slowCallThreshold) {
+        this(name, failureRateThreshold, slidingWindowSize, minimumCalls, openDuration, halfOpenCalls, slowCallThreshold,
+                System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int failureRateThreshold, int slidingWindowSize, int minimumCalls,
+                   Duration openDuration, int halfOpenCalls, Duration slowCallThreshold, LongSupplier nanoClock) {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("failureRateThreshold must be between 1 and 100");
+        }
+        if (slidingWindowSize <= 0 || halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("slidingWindowSize and halfOpenCalls must be positive");
+        }
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = Math.min(Math.max(minimumCalls, 1), slidingWindowSize);
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.slowCallThresholdNanos = slowCallThreshold != null ? slowCallThreshold.toNanos() : Long.MAX_VALUE;
+        this.nanoClock = nanoClock;
+        this.outcomes = new boolean[slidingWindowSize];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * @return true if a call can be made now; every granted permission must be followed by
+     * {@link #onResult(boolean, long)} or {@link #releasePermission()}
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    /**
+     * Gives back a permission whose call has not been made.
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenPermits + halfOpenSuccesses < halfOpenCalls) {
+            halfOpenPermits++;
+        }
+    }
+
+    /**
+     * Records the outcome of a call made with a permission.
+     *
+     * @param failed        whether the call failed
+     * @param durationNanos how long the call took
+     */
+    public synchronized void onResult(boolean failed, long durationNanos) {
+        boolean failure = failed || durationNanos > slowCallThresholdNanos;
+        switch (state) {
+            case HALF_OPEN -> {
+                if (failure) {
+                    transitionTo(State.OPEN);
+                } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                    transitionTo(State.CLOSED);
+                }
+            }
+            case CLOSED -> {
+                record(failure);
+                if (recordedCalls >= minimumCalls && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+                    transitionTo(State.OPEN);
+                }
+            }
+            // Calls started before the circuit opened
+            case OPEN -> {
+            }
+        }
+    }
+
+    private void record(boolean failure) {
+        if (recordedCalls == outcomes.length) {
+            if (outcomes[nextOutcome]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[nextOutcome] = failure;
+        if (failure) {
+            failedCalls++;
+        }
+        nextOutcome = (nextOutcome + 1) % outcomes.length;
+    }
+
+    private void transitionTo(State newState) {
+        state = newState;
+        switch (newState) {
+            case OPEN -> openedAt = nanoClock.getAsLong();
+            case HALF_OPEN -> {
+                halfOpenPermits = halfOpenCalls;
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> {
+                nextOutcome = 0;
+                recordedCalls = 0;
+                failedCalls = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.opendatamesh.platform.pp.registry.utils.client;
+
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientException;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientUnavailableException;
+import org.opendatamesh.platform.pp.registry.utils.client.http.HttpEntity;
+import org.opendatamesh.platform.pp.registry.utils.client.http.HttpMethod;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Makes the calls of a {@link RestUtilsTemplate} through a {@link CircuitBreaker} and a {@link Bulkhead}.
+ * <p>
+ * Server errors, throttling and transport errors count as failures of the downstream; other client errors mean
+ * the downstream is answering and count as successes. Refused calls fail fast with a {@link ClientUnavailableException}.
+ */
+class GuardedRestUtilsTemplate implements RestUtilsTemplate {
+
+    private final RestUtilsTemplate delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    GuardedRestUtilsTemplate(RestUtilsTemplate delegate, CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public <T> T exchange(String url, HttpMethod method, HttpEntity<?> requestEntity, Class<T> responseType, Object... uriVariables) throws ClientException {
+        return guarded(() -> delegate.exchange(url, method, requestEntity, responseType, uriVariables));
+    }
+
+    @Override
+    public <T> T exchange(String url, HttpMethod method, HttpEntity<?> requestEntity, Class<T> responseType, Map<String, ?> uriVariables) throws ClientException {
+        return guarded(() -> delegate.exchange(url, method, requestEntity, responseType, uriVariables));
+    }
+
+    private <T> T guarded(Supplier<T> call) {
+        if (circuitBreaker != null && !circuitBreaker.tryAcquirePermission()) {
+            throw new ClientUnavailableException("Circuit breaker " + circuitBreaker.getName() + " is open");
+        }
+        if (bulkhead != null && !bulkhead.tryAcquire()) {
+            if (circuitBreaker != null) {
+                circuitBreaker.releasePermission();
+            }
+            throw new ClientUnavailableException("Bulkhead " + bulkhead.getName() + " is full");
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = call.get();
+            failed = false;
+            return result;
+        } catch (ClientException e) {
+            failed = isDownstreamFailure(e);
+            throw e;
+        } finally {
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+            if (circuitBreaker != null) {
+                circuitBreaker.onResult(failed, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static boolean isDownstreamFailure(ClientException e) {
+        return e.getCode() >= 500 || e.getCode() == 429;
+    }
+}
@@ -11,4 +11,15 @@ public abstract class RestUtilsFactory {
     public static RestUtils getRestUtils(RestTemplate restTemplate) {
         return RestTemplateWrapper.wrap(restTemplate).build();
     }
+
+    /**
+     * @param circuitBreaker the circuit breaker of the downstream, or null
+     * @param bulkhead       the bulkhead of the downstream, or null
+     */
+    public static RestUtils getRestUtils(RestTemplate restTemplate, CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        if (circuitBreaker == null && bulkhead == null) {
+            return getRestUtils(restTemplate);
+        }
+        return new BaseRestUtils(new GuardedRestUtilsTemplate(RestTemplateWrapper.wrap(restTemplate), circuitBreaker, bulkhead));
+    }
 }
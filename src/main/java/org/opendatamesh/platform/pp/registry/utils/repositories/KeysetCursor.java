@@ -0,0 +1,87 @@
+package org.opendatamesh.platform.pp.registry.utils.repositories;
+
+import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opaque continuation token for keyset (seek) pagination.
+ * <p>
+ * The seek key is the pair (createdAt, uuid) in descending order: createdAt gives the natural
+ * "newest first" listing while uuid breaks ties between rows created in the same instant.
+ * Each page is a single range query on the seek key, with no offset and no count query.
+ */
+public final class KeysetCursor {
+
+    public static final String CREATED_AT = "createdAt";
+    public static final String UUID = "uuid";
+
+    public static final Sort SORT = Sort.by(Sort.Direction.DESC, CREATED_AT, UUID);
+
+    private static final String SEPARATOR = "|";
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * @param cursor the token returned by a previous page, or null/blank for the first page
+     * @return the scroll position the next page must start from
+     */
+    public static ScrollPosition decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
+            }
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(CREATED_AT, Timestamp.from(Instant.parse(decoded.substring(0, separatorIndex))));
+            keys.put(UUID, decoded.substring(separatorIndex + 1));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * @param size        the requested number of elements
+     * @param maxPageSize the largest page the offset based endpoints return
+     * @return the requested size, capped like the page size of the offset based endpoints
+     */
+    public static int pageSize(int size, int maxPageSize) {
+        if (size < 1) {
+            throw new BadRequestException("Page size must be greater than zero");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * @param window a page fetched with {@link #SORT}
+     * @return the token pointing after the last element of the window, or null when there are no more elements
+     */
+    public static String encode(Window<?> window) {
+        if (window.isEmpty() || !window.hasNext()) {
+            return null;
+        }
+        KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+        Date createdAt = (Date) position.getKeys().get(CREATED_AT);
+        Object uuid = position.getKeys().get(UUID);
+        String token = createdAt.toInstant() + SEPARATOR + uuid;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+}
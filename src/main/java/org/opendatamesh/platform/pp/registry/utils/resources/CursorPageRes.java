@@ -0,0 +1,51 @@
+package org.opendatamesh.platform.pp.registry.utils.resources;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(name = "CursorPage", description = "A page of results fetched through keyset pagination.")
+public class CursorPageRes<T> {
+
+    @Schema(description = "The elements of the page.")
+    private List<T> content;
+
+    @Schema(description = "The number of elements in the page.")
+    private int size;
+
+    @Schema(description = "Opaque token to pass as 'cursor' to fetch the next page. Null when there are no more elements.")
+    private String nextCursor;
+
+    public CursorPageRes() {
+    }
+
+    public CursorPageRes(List<T> content, String nextCursor) {
+        this.content = content;
+        this.size = content.size();
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
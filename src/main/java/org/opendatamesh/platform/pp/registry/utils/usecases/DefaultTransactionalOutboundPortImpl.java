@@ -1,29 +1,133 @@
 package org.opendatamesh.platform.pp.registry.utils.usecases;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.opendatamesh.platform.pp.registry.exceptions.ResourceConflictException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+/**
+ * Runs use cases in transactions configured by their {@link TransactionPolicy}.
+ * <p>
+ * When a transaction fails for a serialization failure or a deadlock it is run again, up to the attempts allowed
+ * by the policy, after an exponential backoff with full jitter so that the conflicting transactions do not collide
+ * again in lockstep. Attempts are made only by the outermost transaction: a nested call joins the transaction
+ * of its caller and cannot restart it. Once the attempts are exhausted the failure is reported as a conflict.
+ * <p>
+ * Retries and aborts are counted by the {@code registry.transactions.retries} and
+ * {@code registry.transactions.aborts} meters, tagged with the isolation level.
+ */
 @Component
 public class DefaultTransactionalOutboundPortImpl implements TransactionalOutboundPort {
 
-    private final TransactionTemplate transactionTemplate;
+    // SQLSTATE serialization_failure and deadlock_detected
+    private static final Set<String> RETRYABLE_SQL_STATES = Set.of("40001", "40P01");
 
-    public DefaultTransactionalOutboundPortImpl(PlatformTransactionManager transactionManager) {
-        this.transactionTemplate = new TransactionTemplate(transactionManager);
-        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+    private static final long BASE_BACKOFF_MILLIS = 20;
+    private static final long MAX_BACKOFF_MILLIS = 500;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final Map<Integer, TransactionTemplate> transactionTemplates = new ConcurrentHashMap<>();
+
+    public DefaultTransactionalOutboundPortImpl(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.transactionManager = transactionManager;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
-    public void doInTransaction(Runnable runnable) {
-        transactionTemplate.executeWithoutResult(status -> runnable.run());
+    public void doInTransaction(TransactionPolicy policy, Runnable runnable) {
+        execute(policy, () -> {
+            runnable.run();
+            return null;
+        });
     }
 
     @Override
-    public <T, R> R doInTransactionWithResults(Function<T, R> function, T arg) {
-        return transactionTemplate.execute(status -> function.apply(arg));
+    public <T, R> R doInTransactionWithResults(TransactionPolicy policy, Function<T, R> function, T arg) {
+        return execute(policy, () -> function.apply(arg));
+    }
+
+    private <R> R execute(TransactionPolicy policy, Supplier<R> work) {
+        TransactionTemplate transactionTemplate = transactionTemplates.computeIfAbsent(policy.isolationLevel(), this::buildTransactionTemplate);
+        boolean outermost = !TransactionSynchronizationManager.isActualTransactionActive();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (RuntimeException e) {
+                // A nested call cannot restart the transaction it joined: its caller decides whether to run it again
+                if (!outermost || !isRetryable(e)) {
+                    throw e;
+                }
+                if (attempt >= policy.maxAttempts()) {
+                    counter("registry.transactions.aborts", policy).increment();
+                    throw new ResourceConflictException("The operation conflicted with a concurrent one, please retry", e);
+                }
+                counter("registry.transactions.retries", policy).increment();
+                long backoff = backoffMillis(attempt);
+                logger.debug("Transaction attempt {} of {} failed for a concurrent modification, retrying in {} ms", attempt, policy.maxAttempts(), backoff);
+                sleep(backoff);
+            }
+        }
+    }
+
+    private TransactionTemplate buildTransactionTemplate(int isolationLevel) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(isolationLevel);
+        return transactionTemplate;
+    }
+
+    private boolean isRetryable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && RETRYABLE_SQL_STATES.contains(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << Math.min(attempt - 1, 10));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceConflictException("Interrupted while waiting to retry a conflicting operation", e);
+        }
+    }
+
+    private Counter counter(String name, TransactionPolicy policy) {
+        return Counter.builder(name)
+                .tag("isolation", isolationName(policy.isolationLevel()))
+                .register(meterRegistry);
+    }
+
+    private String isolationName(int isolationLevel) {
+        return switch (isolationLevel) {
+            case TransactionDefinition.ISOLATION_READ_UNCOMMITTED -> "read_uncommitted";
+            case TransactionDefinition.ISOLATION_READ_COMMITTED -> "read_committed";
+            case TransactionDefinition.ISOLATION_REPEATABLE_READ -> "repeatable_read";
+            case TransactionDefinition.ISOLATION_SERIALIZABLE -> "serializable";
+            default -> "default";
+        };
     }
 }
@@ -0,0 +1,30 @@
+package org.opendatamesh.platform.pp.registry.utils.usecases;
+
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * Isolation level and retry budget of the transaction in which a use case runs.
+ * <p>
+ * Use cases that protect their invariants with explicit row locks can run under READ COMMITTED,
+ * the others keep SERIALIZABLE. Only use cases that can be safely re-run from the start (they re-read
+ * everything they modify and do not mutate their command) should allow more than one attempt:
+ * attempts after the first are made only when the transaction fails for a serialization failure or a deadlock.
+ *
+ * @param isolationLevel one of the {@link TransactionDefinition} ISOLATION_* constants
+ * @param maxAttempts    the total number of attempts, at least 1
+ */
+public record TransactionPolicy(int isolationLevel, int maxAttempts) {
+
+    public static final TransactionPolicy SERIALIZABLE = new TransactionPolicy(TransactionDefinition.ISOLATION_SERIALIZABLE, 1);
+    public static final TransactionPolicy READ_COMMITTED = new TransactionPolicy(TransactionDefinition.ISOLATION_READ_COMMITTED, 1);
+
+    public TransactionPolicy {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Transaction max attempts must be at least 1");
+        }
+    }
+
+    public TransactionPolicy withMaxAttempts(int maxAttempts) {
+        return new TransactionPolicy(isolationLevel, maxAttempts);
+    }
+}
@@ -4,7 +4,22 @@ import java.util.function.Function;
 
 public interface TransactionalOutboundPort {
 
-    void doInTransaction(Runnable runnable);
+    /**
+     * Runs the given code in a transaction with the {@link TransactionPolicy#SERIALIZABLE} policy.
+     */
+    default void doInTransaction(Runnable runnable) {
+        doInTransaction(TransactionPolicy.SERIALIZABLE, runnable);
+    }
 
-    <T, R> R doInTransactionWithResults(Function<T, R> function, T arg);
+    /**
+     * Runs the given code in a transaction with the given policy, running it again when the transaction
+     * fails for a serialization failure and the policy allows another attempt.
+     */
+    void doInTransaction(TransactionPolicy policy, Runnable runnable);
+
+    default <T, R> R doInTransactionWithResults(Function<T, R> function, T arg) {
+        return doInTransactionWithResults(TransactionPolicy.SERIALIZABLE, function, arg);
+    }
+
+    <T, R> R doInTransactionWithResults(TransactionPolicy policy, Function<T, R> function, T arg);
 }
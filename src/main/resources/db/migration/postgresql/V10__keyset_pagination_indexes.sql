@@ -0,0 +1,23 @@
+-- Keyset pagination (the /scroll endpoints) seeks and sorts on (created_at desc, uuid desc):
+-- matching indexes let each page be read as an index range instead of sorting the filtered rows.
+
+-- The seek key cannot be null: rows stored without a creation time take their last update, or sort as the oldest.
+update data_products
+set created_at = coalesce(updated_at, timestamp '1970-01-01')
+where created_at is null;
+
+alter table data_products
+    alter column created_at set not null;
+
+update data_products_versions
+set created_at = coalesce(updated_at, timestamp '1970-01-01')
+where created_at is null;
+
+alter table data_products_versions
+    alter column created_at set not null;
+
+create index if not exists data_products_created_at_uuid_idx
+    on data_products (created_at desc, uuid desc);
+
+create index if not exists data_products_versions_created_at_uuid_idx
+    on data_products_versions (created_at desc, uuid desc);
@@ -0,0 +1,37 @@
+-- Natural keys are always compared case-insensitively through lower(...),
+-- so both the uniqueness checks and the search filters need functional indexes to avoid sequential scans.
+
+-- data_products: fqn and name+domain are unique natural keys
+create unique index if not exists data_products_fqn_uk
+    on data_products (lower(fqn));
+
+create unique index if not exists data_products_name_domain_uk
+    on data_products (lower(name), lower(domain));
+
+create index if not exists data_products_domain_idx
+    on data_products (lower(domain));
+
+-- data_products_repositories: one repository per data product
+create unique index if not exists data_products_repositories_data_product_uk
+    on data_products_repositories (data_product_uuid);
+
+-- data_products_versions: version number and (optional) tag are unique within a data product
+create unique index if not exists data_products_versions_version_number_uk
+    on data_products_versions (data_product_uuid, lower(descriptor_version_number));
+
+create unique index if not exists data_products_versions_tag_uk
+    on data_products_versions (data_product_uuid, lower(tag))
+    where tag is not null and btrim(tag) <> '';
+
+create index if not exists data_products_versions_data_product_created_at_idx
+    on data_products_versions (data_product_uuid, created_at desc);
+
+create index if not exists data_products_versions_name_idx
+    on data_products_versions (lower(name));
+
+create index if not exists data_products_versions_validation_state_idx
+    on data_products_versions (validation_state);
+
+-- data_products_descriptor_variables: variable keys are unique within a data product version
+create unique index if not exists data_products_descriptor_variables_key_uk
+    on data_products_descriptor_variables (data_product_version_uuid, lower(variable_key));
@@ -0,0 +1,44 @@
+-- Descriptor contents can be megabytes: storing them in their own table lets version reads and
+-- state transitions (approve, reject, ...) touch the version row only, loading the descriptor on demand.
+
+create table if not exists data_products_versions_contents (
+    uuid                varchar(36) primary key,
+    descriptor_content  jsonb
+);
+
+alter table data_products_versions
+    add column if not exists descriptor_content_uuid varchar(36) references data_products_versions_contents(uuid);
+
+-- Existing descriptors keep the uuid of the version they belong to
+insert into data_products_versions_contents (uuid, descriptor_content)
+select uuid, descriptor_content
+from data_products_versions
+where descriptor_content is not null;
+
+update data_products_versions
+set descriptor_content_uuid = uuid
+where descriptor_content is not null;
+
+alter table data_products_versions
+    drop column if exists descriptor_content;
+
+create unique index if not exists data_products_versions_descriptor_content_uk
+    on data_products_versions (descriptor_content_uuid);
+
+-- Versions are also removed through the data_products cascade and replaced descriptors are simply re-pointed,
+-- so the content row is dropped together with the reference to it.
+-- The function pins the migration schema, triggers run with the search_path of the calling session.
+create or replace function data_products_versions_delete_content() returns trigger as $$
+begin
+    if tg_op = 'DELETE' or old.descriptor_content_uuid is distinct from new.descriptor_content_uuid then
+        delete from data_products_versions_contents where uuid = old.descriptor_content_uuid;
+    end if;
+    return null;
+end;
+$$ language plpgsql set search_path from current;
+
+drop trigger if exists data_products_versions_delete_content on data_products_versions;
+
+create trigger data_products_versions_delete_content
+    after delete or update of descriptor_content_uuid on data_products_versions
+    for each row execute function data_products_versions_delete_content();
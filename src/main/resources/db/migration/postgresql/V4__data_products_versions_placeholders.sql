@@ -0,0 +1,10 @@
+-- Keys of the ${...} placeholders found in each descriptor, extracted when the descriptor is stored.
+-- Variable validation and listing read them through the primary key instead of loading and scanning the descriptor.
+
+create table if not exists data_products_versions_placeholders (
+    data_product_version_uuid   varchar(36) not null references data_products_versions(uuid) on delete cascade,
+    placeholder_key             text not null,
+    primary key (data_product_version_uuid, placeholder_key)
+);
+
+-- The already stored descriptors are indexed by V11, with the same extraction used when a descriptor is stored
@@ -0,0 +1,18 @@
+-- Identity columns make Hibernate insert rows one at a time to read back the generated key:
+-- a pooled sequence lets it assign ids in memory and batch the inserts.
+-- The increment must match the allocationSize of the DescriptorVariable id generator.
+
+create sequence if not exists data_products_descriptor_variables_seq increment by 50;
+
+-- Hibernate hands out the block of ids ending at the value it reads, so start one block above the existing ids
+select setval('data_products_descriptor_variables_seq', coalesce(max(sequence_id), 0) + 50, false)
+from data_products_descriptor_variables;
+
+-- Rows inserted through plain SQL (e.g. the bulk upsert) keep drawing their id from the same sequence
+alter table data_products_descriptor_variables
+    alter column sequence_id set default nextval('data_products_descriptor_variables_seq');
+
+alter sequence data_products_descriptor_variables_seq
+    owned by data_products_descriptor_variables.sequence_id;
+
+drop sequence if exists data_products_descriptor_variables_sequence_id_seq;
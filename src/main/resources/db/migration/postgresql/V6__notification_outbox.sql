@@ -0,0 +1,21 @@
+-- Events emitted by the use cases are written in the same transaction as the change they describe
+-- and delivered to the notification service once it has committed, so that a slow or unavailable
+-- notification service never holds database locks and connections.
+
+create table if not exists notification_outbox_events (
+    sequence_id          bigserial primary key,
+    resource_identifier  varchar(255) not null,
+    event_type           varchar(255),
+    payload              jsonb not null,
+    attempts             integer not null default 0,
+    next_attempt_at      timestamp not null,
+    last_error           text,
+    created_at           timestamp not null
+);
+
+-- Events of a resource are delivered in sequence order: the relay looks for the oldest pending one of each resource
+create index if not exists notification_outbox_events_resource_idx
+    on notification_outbox_events (resource_identifier, sequence_id);
+
+create index if not exists notification_outbox_events_next_attempt_idx
+    on notification_outbox_events (next_attempt_at);
@@ -0,0 +1,21 @@
+-- Notifications received by the observer are stored before being processed, so that every replica can take
+-- its share of them and a notification dispatched twice (same sequence id) is processed only once.
+-- Completed notifications are kept for a retention period to recognize late duplicates.
+
+create table if not exists observer_notifications (
+    sequence_id      bigint primary key,
+    event_type       varchar(255),
+    payload          jsonb not null,
+    received_at      timestamp not null,
+    attempts         integer not null default 0,
+    next_attempt_at  timestamp not null,
+    outcome          varchar(32),
+    last_error       text,
+    completed_at     timestamp
+);
+
+create index if not exists observer_notifications_pending_idx
+    on observer_notifications (next_attempt_at) where completed_at is null;
+
+create index if not exists observer_notifications_completed_idx
+    on observer_notifications (completed_at) where completed_at is not null;
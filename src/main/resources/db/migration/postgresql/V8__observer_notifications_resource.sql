@@ -0,0 +1,12 @@
+-- Notifications about the same resource are processed in sequence order, also across replicas:
+-- one is claimed only when no earlier notification of its resource is still waiting to be handled.
+
+alter table observer_notifications
+    add column if not exists resource_identifier varchar(255);
+
+update observer_notifications
+set resource_identifier = payload -> 'event' ->> 'resourceIdentifier'
+where resource_identifier is null;
+
+create index if not exists observer_notifications_unhandled_resource_idx
+    on observer_notifications (resource_identifier, sequence_id) where completed_at is null and outcome is null;
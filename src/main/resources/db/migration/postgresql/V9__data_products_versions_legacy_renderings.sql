@@ -0,0 +1,11 @@
+-- Descriptors rendered by the 1.x parser for the v1 API, in canonical and normalized format.
+-- A rendering is valid as long as the hash of the descriptor it was computed from matches the current one.
+
+create table if not exists data_products_versions_legacy_renderings (
+    data_product_version_uuid   varchar(36) not null references data_products_versions(uuid) on delete cascade,
+    format                      varchar(20) not null,
+    content_hash                varchar(64) not null,
+    rendering                   text not null,
+    rendered_at                 timestamp not null,
+    primary key (data_product_version_uuid, format)
+);
@@ -0,0 +1,98 @@
+package org.opendatamesh.platform.pp.registry.configuration.network;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestTemplateProfilesTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HttpClientsProperties properties = new HttpClientsProperties();
+
+    private RestTemplateProfiles restTemplateProfiles;
+
+    @BeforeEach
+    void setUp() {
+        properties.getProfiles().put(RestTemplateProfiles.DEFAULT, profile(5, 2));
+        properties.getProfiles().put(RestTemplateProfiles.NOTIFICATION, profile(10, 10));
+        properties.getProfiles().put(RestTemplateProfiles.GIT, profile(4, 4));
+        properties.getGitHosts().put("api.github.com", profile(20, 20));
+        restTemplateProfiles = new RestTemplateProfiles(properties, new RestTemplateConfiguration().connectionKeepAliveStrategy(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        restTemplateProfiles.destroy();
+    }
+
+    @Test
+    void whenProfilesAreUsedThenEachOneHasItsOwnPool() {
+        // When
+        restTemplateProfiles.restTemplateBuilder(RestTemplateProfiles.NOTIFICATION).build();
+        restTemplateProfiles.restTemplateBuilder(RestTemplateProfiles.POLICY).build();
+
+        // Then
+        assertThat(maxConnections(RestTemplateProfiles.NOTIFICATION)).isEqualTo(10);
+        // Not configured, falls back to the default profile
+        assertThat(maxConnections(RestTemplateProfiles.POLICY)).isEqualTo(5);
+    }
+
+    @Test
+    void whenGitHostsAreUsedThenEachHostHasItsOwnPool() {
+        // When
+        RestTemplate github = restTemplateProfiles.gitRestTemplate("https://api.github.com");
+        RestTemplate gitlab = restTemplateProfiles.gitRestTemplate("https://gitlab.com/api/v4");
+
+        // Then
+        assertThat(github).isNotSameAs(gitlab);
+        assertThat(maxConnections("git:api.github.com")).isEqualTo(20);
+        assertThat(maxConnections("git:gitlab.com")).isEqualTo(4);
+    }
+
+    @Test
+    void whenTheSameGitHostIsUsedAgainThenItsRestTemplateIsReused() {
+        // When
+        RestTemplate first = restTemplateProfiles.gitRestTemplate("https://gitlab.com/api/v4");
+        RestTemplate second = restTemplateProfiles.gitRestTemplate("https://gitlab.com/other");
+
+        // Then
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    void whenGitBaseUrlHasNoHostThenTheGitProfilePoolIsUsed() {
+        // When
+        restTemplateProfiles.gitRestTemplate(null);
+
+        // Then
+        assertThat(maxConnections(RestTemplateProfiles.GIT)).isEqualTo(4);
+    }
+
+    @Test
+    void whenIdleConnectionsAreClosedThenEveryPoolIsVisited() {
+        // Given
+        restTemplateProfiles.restTemplateBuilder(RestTemplateProfiles.NOTIFICATION);
+        restTemplateProfiles.gitRestTemplate("https://gitlab.com");
+
+        // When & Then - no pool is in use, nothing to close but nothing must fail
+        restTemplateProfiles.closeIdleConnections();
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.connections").tag("state", "leased").gauges())
+                .hasSize(2);
+    }
+
+    private double maxConnections(String pool) {
+        return meterRegistry.get("httpcomponents.httpclient.pool.total.max").tag("httpclient", pool).gauge().value();
+    }
+
+    private static HttpClientsProperties.Profile profile(int maxTotal, int maxPerRoute) {
+        HttpClientsProperties.Profile profile = new HttpClientsProperties.Profile();
+        profile.setMaxTotal(maxTotal);
+        profile.setMaxPerRoute(maxPerRoute);
+        return profile;
+    }
+}
@@ -7,6 +7,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProduct;
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
 import org.opendatamesh.platform.pp.registry.exceptions.NotFoundException;
+import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionPolicy;
 import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionalOutboundPort;
 
 import java.util.Optional;
@@ -102,17 +103,17 @@ class DataProductDeleterTest {
         when(persistencePort.findByUuid(uuid)).thenThrow(new NotFoundException("Resource with id=" + uuid + " not found"));
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         // When & Then
         assertThatThrownBy(deleter::execute)
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("Resource with id=" + uuid + " not found");
 
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
         verify(persistencePort).findByUuid(uuid);
         verifyNoInteractions(notificationsPort, presenter);
     }
@@ -128,17 +129,17 @@ class DataProductDeleterTest {
         when(persistencePort.findByFqn(fqn)).thenReturn(Optional.empty());
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         // When & Then
         assertThatThrownBy(deleter::execute)
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("Data Product with FQN 'test.domain:test-product' not found");
 
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
         verify(persistencePort).findByFqn(fqn);
         verifyNoInteractions(notificationsPort, presenter);
     }
@@ -159,10 +160,10 @@ class DataProductDeleterTest {
         when(persistencePort.findByUuid(dataProduct.getUuid())).thenReturn(dataProduct);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductDeleter deleter = new DataProductDeleter(
                 command, presenter, notificationsPort, persistencePort, transactionalPort);
@@ -171,7 +172,7 @@ class DataProductDeleterTest {
         deleter.execute();
 
         // Then
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
         verify(persistencePort).findByUuid(dataProduct.getUuid());
         verify(persistencePort).delete(dataProduct);
         verify(notificationsPort).emitDataProductDeleted(dataProduct);
@@ -194,10 +195,10 @@ class DataProductDeleterTest {
         when(persistencePort.findByFqn(dataProduct.getFqn())).thenReturn(Optional.of(dataProduct));
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductDeleter deleter = new DataProductDeleter(
                 command, presenter, notificationsPort, persistencePort, transactionalPort);
@@ -206,7 +207,7 @@ class DataProductDeleterTest {
         deleter.execute();
 
         // Then
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
         verify(persistencePort).findByFqn(dataProduct.getFqn());
         verify(persistencePort).delete(dataProduct);
         verify(notificationsPort).emitDataProductDeleted(dataProduct);
@@ -229,10 +230,10 @@ class DataProductDeleterTest {
         when(persistencePort.findByUuid(dataProduct.getUuid())).thenReturn(dataProduct);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductDeleter deleter = new DataProductDeleter(
                 command, presenter, notificationsPort, persistencePort, transactionalPort);
@@ -241,7 +242,7 @@ class DataProductDeleterTest {
         deleter.execute();
 
         // Then
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
         verify(persistencePort).findByUuid(dataProduct.getUuid());
         verify(persistencePort, never()).findByFqn(anyString());
         verify(persistencePort).delete(dataProduct);
@@ -265,10 +266,10 @@ class DataProductDeleterTest {
         when(persistencePort.findByUuid(dataProduct.getUuid())).thenReturn(dataProduct);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductDeleter deleter = new DataProductDeleter(
                 command, presenter, notificationsPort, persistencePort, transactionalPort);
@@ -277,10 +278,11 @@ class DataProductDeleterTest {
         deleter.execute();
 
         // Then
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         // Verify that all persistence operations happen within the transaction
         verify(persistencePort).findByUuid(dataProduct.getUuid());
+        verify(persistencePort).lock(dataProduct.getUuid());
         verify(persistencePort).delete(dataProduct);
         verify(notificationsPort).emitDataProductDeleted(dataProduct);
         verify(presenter).presentDataProductDeleted(dataProduct);
@@ -302,10 +304,10 @@ class DataProductDeleterTest {
         when(persistencePort.findByUuid(dataProduct.getUuid())).thenReturn(dataProduct);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductDeleter deleter = new DataProductDeleter(
                 command, presenter, notificationsPort, persistencePort, transactionalPort);
@@ -338,10 +340,10 @@ class DataProductDeleterTest {
         when(persistencePort.findByUuid(dataProduct.getUuid())).thenReturn(dataProduct);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductDeleter deleter = new DataProductDeleter(
                 command, presenter, notificationsPort, persistencePort, transactionalPort);
@@ -4,13 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProduct;
@@ -18,6 +21,7 @@ import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProductVal
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersion;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersionValidationState;
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
+import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionPolicy;
 import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionalOutboundPort;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -196,14 +200,14 @@ class DataProductVersionApproverTest {
                 DataProductValidationState.APPROVED);
         DataProductVersionApproveCommand command = new DataProductVersionApproveCommand(dataProductVersion);
 
-        when(persistencePort.findByUuid(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
+        when(persistencePort.findByUuidForUpdate(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
         when(persistencePort.save(any(DataProductVersion.class))).thenReturn(dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionApprover approver = new DataProductVersionApprover(
                 command, presenter, notificationsPort, persistencePort, transactionalPort);
@@ -212,8 +216,9 @@ class DataProductVersionApproverTest {
         approver.execute();
 
         // Then
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
-        verify(persistencePort).findByUuid(dataProductVersion.getUuid());
+        // A single attempt: presenting inside a retried transaction would present the version more than once
+        verify(transactionalPort).doInTransaction(eq(TransactionPolicy.READ_COMMITTED), any(Runnable.class));
+        verify(persistencePort).findByUuidForUpdate(dataProductVersion.getUuid());
         verify(persistencePort).save(any(DataProductVersion.class));
         verify(notificationsPort).emitDataProductVersionPublished(dataProductVersion);
         verify(presenter).presentDataProductVersionApproved(dataProductVersion);
@@ -232,13 +237,13 @@ class DataProductVersionApproverTest {
                 DataProductValidationState.APPROVED);
         DataProductVersionApproveCommand command = new DataProductVersionApproveCommand(dataProductVersion);
 
-        when(persistencePort.findByUuid(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
+        when(persistencePort.findByUuidForUpdate(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionApprover approver = new DataProductVersionApprover(
                 command, presenter, notificationsPort, persistencePort, transactionalPort);
@@ -248,8 +253,8 @@ class DataProductVersionApproverTest {
                 .isInstanceOf(BadRequestException.class)
                 .hasMessage("Data Product Version Test Version v1.0.0 can be approved only if in PENDING state.");
 
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
-        verify(persistencePort).findByUuid(dataProductVersion.getUuid());
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
+        verify(persistencePort).findByUuidForUpdate(dataProductVersion.getUuid());
         verifyNoInteractions(notificationsPort, presenter);
     }
 
@@ -262,13 +267,13 @@ class DataProductVersionApproverTest {
                 DataProductValidationState.APPROVED);
         DataProductVersionApproveCommand command = new DataProductVersionApproveCommand(dataProductVersion);
 
-        when(persistencePort.findByUuid(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
+        when(persistencePort.findByUuidForUpdate(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionApprover approver = new DataProductVersionApprover(
                 command, presenter, notificationsPort, persistencePort, transactionalPort);
@@ -278,8 +283,8 @@ class DataProductVersionApproverTest {
                 .isInstanceOf(BadRequestException.class)
                 .hasMessage("Data Product Version Test Version v1.0.0 can be approved only if in PENDING state.");
 
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
-        verify(persistencePort).findByUuid(dataProductVersion.getUuid());
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
+        verify(persistencePort).findByUuidForUpdate(dataProductVersion.getUuid());
         verifyNoInteractions(notificationsPort, presenter);
     }
 
@@ -292,14 +297,14 @@ class DataProductVersionApproverTest {
                 DataProductValidationState.APPROVED);
         DataProductVersionApproveCommand command = new DataProductVersionApproveCommand(dataProductVersion);
 
-        when(persistencePort.findByUuid(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
+        when(persistencePort.findByUuidForUpdate(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
         when(persistencePort.save(any(DataProductVersion.class))).thenReturn(dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionApprover approver = new DataProductVersionApprover(
                 command, presenter, notificationsPort, persistencePort, transactionalPort);
@@ -308,15 +313,48 @@ class DataProductVersionApproverTest {
         approver.execute();
 
         // Then
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         // Verify that all persistence operations happen within the transaction
-        verify(persistencePort).findByUuid(dataProductVersion.getUuid());
+        verify(persistencePort).findByUuidForUpdate(dataProductVersion.getUuid());
         verify(persistencePort).save(any(DataProductVersion.class));
         verify(notificationsPort).emitDataProductVersionPublished(dataProductVersion);
         verify(presenter).presentDataProductVersionApproved(dataProductVersion);
     }
 
+    @Test
+    void whenExecuteThenDataProductIsLockedBeforeTheVersion() {
+        // Given
+        DataProductVersion dataProductVersion = createDataProductVersionWithDataProduct(
+                "test-uuid-123", "Test Version", "v1.0.0",
+                DataProductVersionValidationState.PENDING,
+                DataProductValidationState.APPROVED);
+        DataProductVersionApproveCommand command = new DataProductVersionApproveCommand(dataProductVersion);
+
+        when(persistencePort.findDataProductUuid(dataProductVersion.getUuid())).thenReturn("data-product-uuid-123");
+        when(persistencePort.findByUuidForUpdate(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
+        when(persistencePort.save(any(DataProductVersion.class))).thenReturn(dataProductVersion);
+
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(1);
+            runnable.run();
+            return null;
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
+
+        DataProductVersionApprover approver = new DataProductVersionApprover(
+                command, presenter, notificationsPort, persistencePort, transactionalPort);
+
+        // When
+        approver.execute();
+
+        // Then
+        InOrder inOrder = inOrder(persistencePort);
+        inOrder.verify(persistencePort).findDataProductUuid(dataProductVersion.getUuid());
+        inOrder.verify(persistencePort).lockDataProduct("data-product-uuid-123");
+        inOrder.verify(persistencePort).findByUuidForUpdate(dataProductVersion.getUuid());
+        inOrder.verify(persistencePort).save(any(DataProductVersion.class));
+    }
+
     @Test
     void whenApproveSuccessfullyThenPresenterReceivesCorrectDataProductVersion() {
         // Given
@@ -326,14 +364,14 @@ class DataProductVersionApproverTest {
                 DataProductValidationState.APPROVED);
         DataProductVersionApproveCommand command = new DataProductVersionApproveCommand(dataProductVersion);
 
-        when(persistencePort.findByUuid(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
+        when(persistencePort.findByUuidForUpdate(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
         when(persistencePort.save(any(DataProductVersion.class))).thenReturn(dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionApprover approver = new DataProductVersionApprover(
                 command, presenter, notificationsPort, persistencePort, transactionalPort);
@@ -359,13 +397,13 @@ class DataProductVersionApproverTest {
                 DataProductValidationState.PENDING);
         DataProductVersionApproveCommand command = new DataProductVersionApproveCommand(dataProductVersion);
 
-        when(persistencePort.findByUuid(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
+        when(persistencePort.findByUuidForUpdate(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionApprover approver = new DataProductVersionApprover(
                 command, presenter, notificationsPort, persistencePort, transactionalPort);
@@ -375,8 +413,8 @@ class DataProductVersionApproverTest {
                 .isInstanceOf(BadRequestException.class)
                 .hasMessage("Data Product Version Test Version v1.0.0 must be associated to an APPROVED Data Product in order to be approved.");
 
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
-        verify(persistencePort).findByUuid(dataProductVersion.getUuid());
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
+        verify(persistencePort).findByUuidForUpdate(dataProductVersion.getUuid());
         verifyNoInteractions(notificationsPort, presenter);
     }
 
@@ -8,6 +8,7 @@ import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProduct;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersionShort;
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
 import org.opendatamesh.platform.pp.registry.exceptions.NotFoundException;
+import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionPolicy;
 import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionalOutboundPort;
 
 import java.util.Optional;
@@ -134,17 +135,17 @@ class DataProductVersionDeleterTest {
         when(persistencePort.findByUuid(uuid)).thenThrow(new NotFoundException("Resource with id=" + uuid + " not found"));
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         // When & Then
         assertThatThrownBy(deleter::execute)
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("Resource with id=" + uuid + " not found");
 
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
         verify(persistencePort).findByUuid(uuid);
         verifyNoInteractions(notificationsPort, presenter);
     }
@@ -161,17 +162,17 @@ class DataProductVersionDeleterTest {
         when(persistencePort.findDataProductByFqn(fqn)).thenReturn(Optional.empty());
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         // When & Then
         assertThatThrownBy(deleter::execute)
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("Data Product with FQN 'test.domain:test-product' not found");
 
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
         verify(persistencePort).findDataProductByFqn(fqn);
         verifyNoInteractions(notificationsPort, presenter);
     }
@@ -194,17 +195,17 @@ class DataProductVersionDeleterTest {
                 .thenReturn(Optional.empty());
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         // When & Then
         assertThatThrownBy(deleter::execute)
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("Data Product Version with tag 'v1.0.0' not found for Data Product with FQN 'test.domain:test-product'");
 
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
         verify(persistencePort).findDataProductByFqn(fqn);
         verify(persistencePort).findByDataProductUuidAndTag(dataProduct.getUuid(), tag);
         verifyNoInteractions(notificationsPort, presenter);
@@ -224,10 +225,10 @@ class DataProductVersionDeleterTest {
         when(persistencePort.findByUuid(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionDeleter deleter = new DataProductVersionDeleter(
                 command, presenter, notificationsPort, persistencePort, transactionalPort);
@@ -236,7 +237,7 @@ class DataProductVersionDeleterTest {
         deleter.execute();
 
         // Then
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
         verify(persistencePort).findByUuid(dataProductVersion.getUuid());
         verify(persistencePort).delete(dataProductVersion);
         verify(notificationsPort).emitDataProductVersionDeleted(dataProductVersion);
@@ -269,10 +270,10 @@ class DataProductVersionDeleterTest {
                 .thenReturn(Optional.of(dataProductVersion));
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionDeleter deleter = new DataProductVersionDeleter(
                 command, presenter, notificationsPort, persistencePort, transactionalPort);
@@ -281,7 +282,7 @@ class DataProductVersionDeleterTest {
         deleter.execute();
 
         // Then
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
         verify(persistencePort).findDataProductByFqn(fqn);
         verify(persistencePort).findByDataProductUuidAndTag(dataProduct.getUuid(), tag);
         verify(persistencePort).delete(dataProductVersion);
@@ -307,10 +308,10 @@ class DataProductVersionDeleterTest {
         when(persistencePort.findByUuid(uuid)).thenReturn(dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionDeleter deleter = new DataProductVersionDeleter(
                 command, presenter, notificationsPort, persistencePort, transactionalPort);
@@ -319,7 +320,7 @@ class DataProductVersionDeleterTest {
         deleter.execute();
 
         // Then
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
         verify(persistencePort).findByUuid(uuid);
         verify(persistencePort, never()).findByDataProductUuidAndTag(anyString(), anyString());
         verify(persistencePort, never()).findDataProductByFqn(anyString());
@@ -333,6 +334,7 @@ class DataProductVersionDeleterTest {
         // Given
         DataProductVersionShort dataProductVersion = new DataProductVersionShort();
         dataProductVersion.setUuid("test-uuid-123");
+        dataProductVersion.setDataProductUuid("data-product-uuid-123");
         dataProductVersion.setName("Test Version");
         dataProductVersion.setTag("v1.0.0");
         dataProductVersion.setDescription("Test Version Description");
@@ -342,10 +344,10 @@ class DataProductVersionDeleterTest {
         when(persistencePort.findByUuid(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionDeleter deleter = new DataProductVersionDeleter(
                 command, presenter, notificationsPort, persistencePort, transactionalPort);
@@ -354,10 +356,11 @@ class DataProductVersionDeleterTest {
         deleter.execute();
 
         // Then
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         // Verify that all persistence operations happen within the transaction
         verify(persistencePort).findByUuid(dataProductVersion.getUuid());
+        verify(persistencePort).lockDataProduct("data-product-uuid-123");
         verify(persistencePort).delete(dataProductVersion);
         verify(notificationsPort).emitDataProductVersionDeleted(dataProductVersion);
         verify(presenter).presentDataProductVersionDeleted(dataProductVersion);
@@ -377,10 +380,10 @@ class DataProductVersionDeleterTest {
         when(persistencePort.findByUuid(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionDeleter deleter = new DataProductVersionDeleter(
                 command, presenter, notificationsPort, persistencePort, transactionalPort);
@@ -414,10 +417,10 @@ class DataProductVersionDeleterTest {
         when(persistencePort.findByUuid(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionDeleter deleter = new DataProductVersionDeleter(
                 command, presenter, notificationsPort, persistencePort, transactionalPort);
@@ -7,7 +7,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatamesh.dpds.model.DataProductVersion;
+import org.opendatamesh.dpds.parser.Parser;
+import org.opendatamesh.dpds.parser.ParserFactory;
 import org.opendatamesh.platform.pp.registry.dataproductversion.services.usecases.descriptorvalidator.DescriptorValidatorFactory;
+import org.opendatamesh.platform.pp.registry.dataproductversion.services.usecases.descriptorvalidator.DpdsDescriptorValidator;
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
 
 import java.io.IOException;
@@ -18,6 +22,8 @@ import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class DataProductVersionPublisherDpdsDescriptorOutboundPortTest {
@@ -331,4 +337,49 @@ class DataProductVersionPublisherDpdsDescriptorOutboundPortTest {
         assertThat(result.path("info").path("id").asText()).isEqualTo(uuidV5FromFqn(DATA_PRODUCT_FQN));
         assertThat(result.path("interfaceComponents").path("outputPorts").size()).isZero();
     }
+
+    // ---------- parsed descriptor shared across the publication steps ----------
+
+    @Test
+    void whenRunningAllPublicationStepsThenDescriptorIsParsedOnce() throws IOException {
+        // Given
+        Parser parser = spy(ParserFactory.getParser());
+        DpdsDescriptorValidator validator = mock(DpdsDescriptorValidator.class);
+        when(descriptorValidatorFactory.getDescriptorValidator(DPDS_SPEC, DPDS_SPEC_VERSION_1)).thenReturn(validator);
+        DataProductVersionPublisherDpdsDescriptorOutboundPort port = new DataProductVersionPublisherDpdsDescriptorOutboundPort(descriptorValidatorFactory, parser);
+        JsonNode descriptor = loadDescriptor(ENRICHMENT_DESCRIPTOR_RESOURCE);
+
+        // When - Same order as the publish use case
+        String fullyQualifiedName = port.extractFullyQualifiedName(descriptor);
+        port.validateDescriptor(DPDS_SPEC, DPDS_SPEC_VERSION_1, descriptor);
+        JsonNode enrichedDescriptor = port.enrichDescriptorContentIfNeeded(DPDS_SPEC, DPDS_SPEC_VERSION_1, descriptor);
+        String versionNumber = port.extractVersionNumber(DPDS_SPEC, DPDS_SPEC_VERSION_1, enrichedDescriptor);
+
+        // Then
+        assertThat(fullyQualifiedName).isEqualTo(DATA_PRODUCT_FQN);
+        assertThat(versionNumber).isEqualTo("1.0.0");
+        assertThat(enrichedDescriptor.path("info").path("id").asText()).isEqualTo(uuidV5FromFqn(DATA_PRODUCT_FQN));
+        verify(validator).validateDescriptor(any(DataProductVersion.class));
+        verify(validator, never()).validateDescriptor(any(JsonNode.class));
+        verify(parser, times(1)).deserialize(any(JsonNode.class));
+    }
+
+    @Test
+    void whenExtractingFromDifferentDescriptorsThenEachDescriptorIsParsed() throws IOException {
+        // Given
+        Parser parser = spy(ParserFactory.getParser());
+        DataProductVersionPublisherDpdsDescriptorOutboundPort port = new DataProductVersionPublisherDpdsDescriptorOutboundPort(descriptorValidatorFactory, parser);
+        JsonNode descriptor = loadDescriptor(ENRICHMENT_DESCRIPTOR_RESOURCE);
+        JsonNode otherDescriptor = descriptor.deepCopy();
+        ((com.fasterxml.jackson.databind.node.ObjectNode) otherDescriptor.path("info")).put("version", "2.0.0");
+
+        // When
+        String versionNumber = port.extractVersionNumber(DPDS_SPEC, DPDS_SPEC_VERSION_1, descriptor);
+        String otherVersionNumber = port.extractVersionNumber(DPDS_SPEC, DPDS_SPEC_VERSION_1, otherDescriptor);
+
+        // Then
+        assertThat(versionNumber).isEqualTo("1.0.0");
+        assertThat(otherVersionNumber).isEqualTo("2.0.0");
+        verify(parser, times(2)).deserialize(any(JsonNode.class));
+    }
 }
@@ -13,6 +13,7 @@ import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataPro
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersionShort;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersionValidationState;
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
+import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionPolicy;
 import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionalOutboundPort;
 
 import java.util.Optional;
@@ -323,10 +324,10 @@ class DataProductVersionPublisherTest {
         mockDescriptorPortForSuccessfulPublish(dataProduct, dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionPublisher publisher = new DataProductVersionPublisher(
                 command, presenter, notificationsPort, dataProductVersionPersistencePort, dataProductPersistencePort, descriptorHandlerPort, transactionalPort);
@@ -335,7 +336,8 @@ class DataProductVersionPublisherTest {
         publisher.execute();
 
         // Then
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
+        verify(dataProductPersistencePort).lock(dataProductVersion.getDataProductUuid());
         verify(dataProductPersistencePort).findByUuid(dataProductVersion.getDataProductUuid());
         verify(dataProductVersionPersistencePort).findByDataProductUuidAndVersionNumber(dataProductVersion.getDataProductUuid(), dataProductVersion.getVersionNumber());
         verify(dataProductVersionPersistencePort).save(any(DataProductVersion.class));
@@ -387,10 +389,10 @@ class DataProductVersionPublisherTest {
         mockDescriptorPortForSuccessfulPublish(dataProduct, dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionPublisher publisher = new DataProductVersionPublisher(
                 command, presenter, notificationsPort, dataProductVersionPersistencePort, dataProductPersistencePort, descriptorHandlerPort, transactionalPort);
@@ -400,8 +402,9 @@ class DataProductVersionPublisherTest {
                 .isInstanceOf(BadRequestException.class)
                 .hasMessage("Impossible to publish a data product version already existent and in PENDING validation state.");
 
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
         verify(dataProductVersionPersistencePort).findByDataProductUuidAndVersionNumber(dataProductVersion.getDataProductUuid(), dataProductVersion.getVersionNumber());
+        verify(dataProductPersistencePort).lock(dataProductVersion.getDataProductUuid());
         verify(dataProductPersistencePort).findByUuid(dataProductVersion.getDataProductUuid());
         verifyNoMoreInteractions(dataProductVersionPersistencePort, dataProductPersistencePort);
         verifyNoInteractions(notificationsPort, presenter);
@@ -446,10 +449,10 @@ class DataProductVersionPublisherTest {
         mockDescriptorPortForSuccessfulPublish(dataProduct, dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionPublisher publisher = new DataProductVersionPublisher(
                 command, presenter, notificationsPort, dataProductVersionPersistencePort, dataProductPersistencePort, descriptorHandlerPort, transactionalPort);
@@ -459,8 +462,9 @@ class DataProductVersionPublisherTest {
                 .isInstanceOf(BadRequestException.class)
                 .hasMessage("Impossible to publish a data product version already existent and APPROVED.");
 
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
         verify(dataProductVersionPersistencePort).findByDataProductUuidAndVersionNumber(dataProductVersion.getDataProductUuid(), dataProductVersion.getVersionNumber());
+        verify(dataProductPersistencePort).lock(dataProductVersion.getDataProductUuid());
         verify(dataProductPersistencePort).findByUuid(dataProductVersion.getDataProductUuid());
         verifyNoMoreInteractions(dataProductVersionPersistencePort, dataProductPersistencePort);
         verifyNoInteractions(notificationsPort, presenter);
@@ -506,10 +510,10 @@ class DataProductVersionPublisherTest {
         mockDescriptorPortForSuccessfulPublish(dataProduct, dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionPublisher publisher = new DataProductVersionPublisher(
                 command, presenter, notificationsPort, dataProductVersionPersistencePort, dataProductPersistencePort, descriptorHandlerPort, transactionalPort);
@@ -518,7 +522,8 @@ class DataProductVersionPublisherTest {
         publisher.execute();
 
         // Then
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
+        verify(dataProductPersistencePort).lock(dataProductVersion.getDataProductUuid());
         verify(dataProductPersistencePort).findByUuid(dataProductVersion.getDataProductUuid());
         verify(dataProductVersionPersistencePort).findByDataProductUuidAndVersionNumber(dataProductVersion.getDataProductUuid(), dataProductVersion.getVersionNumber());
         verify(dataProductVersionPersistencePort).delete(existingDataProductVersion.getUuid());
@@ -565,10 +570,10 @@ class DataProductVersionPublisherTest {
         mockDescriptorPortForSuccessfulPublish(dataProduct, dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionPublisher publisher = new DataProductVersionPublisher(
                 command, presenter, notificationsPort, dataProductVersionPersistencePort, dataProductPersistencePort, descriptorHandlerPort, transactionalPort);
@@ -577,9 +582,10 @@ class DataProductVersionPublisherTest {
         publisher.execute();
 
         // Then
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         // Verify that all persistence operations happen within the transaction
+        verify(dataProductPersistencePort).lock(dataProductVersion.getDataProductUuid());
         verify(dataProductPersistencePort).findByUuid(dataProductVersion.getDataProductUuid());
         verify(dataProductVersionPersistencePort).findByDataProductUuidAndVersionNumber(dataProductVersion.getDataProductUuid(), dataProductVersion.getVersionNumber());
         verify(dataProductVersionPersistencePort).save(any(DataProductVersion.class));
@@ -614,10 +620,10 @@ class DataProductVersionPublisherTest {
         when(dataProductPersistencePort.findByUuid(dataProductVersion.getDataProductUuid())).thenReturn(dataProduct);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionPublisher publisher = new DataProductVersionPublisher(
                 command, presenter, notificationsPort, dataProductVersionPersistencePort, dataProductPersistencePort, descriptorHandlerPort, transactionalPort);
@@ -627,7 +633,8 @@ class DataProductVersionPublisherTest {
                 .isInstanceOf(BadRequestException.class)
                 .hasMessage("Data Product test.domain.TestProduct must be APPROVED in order to publish a Data Product Version.");
 
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
+        verify(dataProductPersistencePort).lock(dataProductVersion.getDataProductUuid());
         verify(dataProductPersistencePort).findByUuid(dataProductVersion.getDataProductUuid());
         verifyNoMoreInteractions(dataProductVersionPersistencePort);
         verifyNoInteractions(notificationsPort, presenter);
@@ -666,10 +673,10 @@ class DataProductVersionPublisherTest {
         mockDescriptorPortForSuccessfulPublish(dataProduct, dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionPublisher publisher = new DataProductVersionPublisher(
                 command, presenter, notificationsPort, dataProductVersionPersistencePort, dataProductPersistencePort, descriptorHandlerPort, transactionalPort);
@@ -736,10 +743,10 @@ class DataProductVersionPublisherTest {
         mockDescriptorPortForSuccessfulPublish(dataProduct, dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionPublisher publisher = new DataProductVersionPublisher(
                 command, presenter, notificationsPort, dataProductVersionPersistencePort, dataProductPersistencePort, descriptorHandlerPort, transactionalPort);
@@ -748,7 +755,8 @@ class DataProductVersionPublisherTest {
         publisher.execute();
 
         // Then
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
+        verify(dataProductPersistencePort).lock(dataProductVersion.getDataProductUuid());
         verify(dataProductPersistencePort).findByUuid(dataProductVersion.getDataProductUuid());
         verify(dataProductVersionPersistencePort).findByDataProductUuidAndVersionNumber(dataProductVersion.getDataProductUuid(), dataProductVersion.getVersionNumber());
         verify(dataProductVersionPersistencePort).save(any(DataProductVersion.class));
@@ -785,10 +793,10 @@ class DataProductVersionPublisherTest {
         when(descriptorHandlerPort.extractFullyQualifiedName(dataProductVersion.getContent())).thenReturn("wrong.fqn.in.descriptor");
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionPublisher publisher = new DataProductVersionPublisher(
                 command, presenter, notificationsPort, dataProductVersionPersistencePort, dataProductPersistencePort, descriptorHandlerPort, transactionalPort);
@@ -800,7 +808,8 @@ class DataProductVersionPublisherTest {
                 .hasMessageContaining("Expected: test.domain.ExpectedProduct")
                 .hasMessageContaining("found: wrong.fqn.in.descriptor");
 
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
+        verify(dataProductPersistencePort).lock(dataProductVersion.getDataProductUuid());
         verify(dataProductPersistencePort).findByUuid(dataProductVersion.getDataProductUuid());
         verify(descriptorHandlerPort).extractFullyQualifiedName(dataProductVersion.getContent());
         verifyNoMoreInteractions(dataProductVersionPersistencePort);
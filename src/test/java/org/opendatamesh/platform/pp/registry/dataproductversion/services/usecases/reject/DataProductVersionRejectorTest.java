@@ -4,19 +4,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersion;
 import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersionValidationState;
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
 import org.opendatamesh.platform.pp.registry.exceptions.NotFoundException;
+import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionPolicy;
 import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionalOutboundPort;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -172,14 +176,14 @@ class DataProductVersionRejectorTest {
         dataProductVersion.setValidationState(DataProductVersionValidationState.PENDING);
         DataProductVersionRejectCommand command = new DataProductVersionRejectCommand(dataProductVersion);
 
-        when(persistencePort.findByUuid(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
+        when(persistencePort.findByUuidForUpdate(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
         when(persistencePort.save(any(DataProductVersion.class))).thenReturn(dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionRejector rejector = new DataProductVersionRejector(
                 command, presenter, persistencePort, transactionalPort);
@@ -188,8 +192,9 @@ class DataProductVersionRejectorTest {
         rejector.execute();
 
         // Then
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
-        verify(persistencePort).findByUuid(dataProductVersion.getUuid());
+        // A single attempt: presenting inside a retried transaction would present the version more than once
+        verify(transactionalPort).doInTransaction(eq(TransactionPolicy.READ_COMMITTED), any(Runnable.class));
+        verify(persistencePort).findByUuidForUpdate(dataProductVersion.getUuid());
         verify(persistencePort).save(any(DataProductVersion.class));
         verify(presenter).presentDataProductVersionRejected(dataProductVersion);
 
@@ -217,13 +222,13 @@ class DataProductVersionRejectorTest {
         dataProductVersion.setValidationState(DataProductVersionValidationState.APPROVED);
         DataProductVersionRejectCommand command = new DataProductVersionRejectCommand(dataProductVersion);
 
-        when(persistencePort.findByUuid(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
+        when(persistencePort.findByUuidForUpdate(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionRejector rejector = new DataProductVersionRejector(
                 command, presenter, persistencePort, transactionalPort);
@@ -233,8 +238,8 @@ class DataProductVersionRejectorTest {
                 .isInstanceOf(BadRequestException.class)
                 .hasMessage("Data Product Version Test Version v1.0.0 can be rejected only if in PENDING state.");
 
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
-        verify(persistencePort).findByUuid(dataProductVersion.getUuid());
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
+        verify(persistencePort).findByUuidForUpdate(dataProductVersion.getUuid());
         verifyNoInteractions(presenter);
     }
 
@@ -257,13 +262,13 @@ class DataProductVersionRejectorTest {
         dataProductVersion.setValidationState(DataProductVersionValidationState.REJECTED);
         DataProductVersionRejectCommand command = new DataProductVersionRejectCommand(dataProductVersion);
 
-        when(persistencePort.findByUuid(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
+        when(persistencePort.findByUuidForUpdate(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionRejector rejector = new DataProductVersionRejector(
                 command, presenter, persistencePort, transactionalPort);
@@ -273,8 +278,8 @@ class DataProductVersionRejectorTest {
                 .isInstanceOf(BadRequestException.class)
                 .hasMessage("Data Product Version Test Version v1.0.0 can be rejected only if in PENDING state.");
 
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
-        verify(persistencePort).findByUuid(dataProductVersion.getUuid());
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
+        verify(persistencePort).findByUuidForUpdate(dataProductVersion.getUuid());
         verifyNoInteractions(presenter);
     }
 
@@ -297,14 +302,14 @@ class DataProductVersionRejectorTest {
         dataProductVersion.setValidationState(DataProductVersionValidationState.PENDING);
         DataProductVersionRejectCommand command = new DataProductVersionRejectCommand(dataProductVersion);
 
-        when(persistencePort.findByUuid(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
+        when(persistencePort.findByUuidForUpdate(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
         when(persistencePort.save(any(DataProductVersion.class))).thenReturn(dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionRejector rejector = new DataProductVersionRejector(
                 command, presenter, persistencePort, transactionalPort);
@@ -313,14 +318,57 @@ class DataProductVersionRejectorTest {
         rejector.execute();
 
         // Then
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         // Verify that all persistence operations happen within the transaction
-        verify(persistencePort).findByUuid(dataProductVersion.getUuid());
+        verify(persistencePort).findByUuidForUpdate(dataProductVersion.getUuid());
         verify(persistencePort).save(any(DataProductVersion.class));
         verify(presenter).presentDataProductVersionRejected(dataProductVersion);
     }
 
+    @Test
+    void whenExecuteThenDataProductIsLockedBeforeTheVersion() {
+        // Given
+        DataProductVersion dataProductVersion = new DataProductVersion();
+        dataProductVersion.setUuid("test-uuid-123");
+        dataProductVersion.setDataProductUuid("data-product-uuid-123");
+        dataProductVersion.setName("Test Version");
+        dataProductVersion.setDescription("Test Version Description");
+        dataProductVersion.setTag("v1.0.0");
+        dataProductVersion.setSpec("dpds");
+        dataProductVersion.setSpecVersion("1.0.0");
+        
+        JsonNode content = objectMapper.createObjectNode()
+                .put("name", "Test Version")
+                .put("version", "1.0.0");
+        dataProductVersion.setContent(content);
+        dataProductVersion.setValidationState(DataProductVersionValidationState.PENDING);
+        DataProductVersionRejectCommand command = new DataProductVersionRejectCommand(dataProductVersion);
+
+        when(persistencePort.findDataProductUuid(dataProductVersion.getUuid())).thenReturn("data-product-uuid-123");
+        when(persistencePort.findByUuidForUpdate(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
+        when(persistencePort.save(any(DataProductVersion.class))).thenReturn(dataProductVersion);
+
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(1);
+            runnable.run();
+            return null;
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
+
+        DataProductVersionRejector rejector = new DataProductVersionRejector(
+                command, presenter, persistencePort, transactionalPort);
+
+        // When
+        rejector.execute();
+
+        // Then
+        InOrder inOrder = inOrder(persistencePort);
+        inOrder.verify(persistencePort).findDataProductUuid(dataProductVersion.getUuid());
+        inOrder.verify(persistencePort).lockDataProduct("data-product-uuid-123");
+        inOrder.verify(persistencePort).findByUuidForUpdate(dataProductVersion.getUuid());
+        inOrder.verify(persistencePort).save(any(DataProductVersion.class));
+    }
+
     @Test
     void whenRejectSuccessfullyThenPresenterReceivesCorrectDataProductVersion() {
         // Given
@@ -340,14 +388,14 @@ class DataProductVersionRejectorTest {
         dataProductVersion.setValidationState(DataProductVersionValidationState.PENDING);
         DataProductVersionRejectCommand command = new DataProductVersionRejectCommand(dataProductVersion);
 
-        when(persistencePort.findByUuid(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
+        when(persistencePort.findByUuidForUpdate(dataProductVersion.getUuid())).thenReturn(dataProductVersion);
         when(persistencePort.save(any(DataProductVersion.class))).thenReturn(dataProductVersion);
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionRejector rejector = new DataProductVersionRejector(
                 command, presenter, persistencePort, transactionalPort);
@@ -383,13 +431,13 @@ class DataProductVersionRejectorTest {
         dataProductVersion.setValidationState(DataProductVersionValidationState.PENDING);
         DataProductVersionRejectCommand command = new DataProductVersionRejectCommand(dataProductVersion);
 
-        when(persistencePort.findByUuid(dataProductVersion.getUuid())).thenThrow(new NotFoundException("Resource with id=" + dataProductVersion.getUuid() + " not found"));
+        when(persistencePort.findByUuidForUpdate(dataProductVersion.getUuid())).thenThrow(new NotFoundException("Resource with id=" + dataProductVersion.getUuid() + " not found"));
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+        }).when(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
 
         DataProductVersionRejector rejector = new DataProductVersionRejector(
                 command, presenter, persistencePort, transactionalPort);
@@ -399,8 +447,8 @@ class DataProductVersionRejectorTest {
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("Resource with id=" + dataProductVersion.getUuid() + " not found");
 
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
-        verify(persistencePort).findByUuid(dataProductVersion.getUuid());
+        verify(transactionalPort).doInTransaction(any(TransactionPolicy.class), any(Runnable.class));
+        verify(persistencePort).findByUuidForUpdate(dataProductVersion.getUuid());
         verifyNoInteractions(presenter);
     }
 
@@ -0,0 +1,77 @@
+package org.opendatamesh.platform.pp.registry.descriptorvariable.services.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single-pass substitution with the previous approach (serialize, one {@code String.replace}
+ * per variable, parse back) on descriptors with an increasing number of placeholders.
+ * <p>
+ * Not run by the build: launch {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DescriptorVariableSubstitutorBenchmark {
+
+    @Param({"10", "100", "1000", "5000"})
+    private int placeholders;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JsonNode descriptor;
+    private Map<String, String> valuesByKey;
+
+    @Setup
+    public void setUp() {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("dataProductDescriptor", "1.0.0");
+        ArrayNode outputPorts = root.putObject("interfaceComponents").putArray("outputPorts");
+        valuesByKey = new HashMap<>();
+        for (int i = 0; i < placeholders; i++) {
+            String key = "port." + i + ".connection";
+            ObjectNode port = outputPorts.addObject();
+            port.put("name", "port" + i);
+            port.put("description", "Output port number " + i + " exposing the orders of the sales domain");
+            port.putObject("promises").putObject("api").put("endpoint", "jdbc:postgresql://${" + key + "}/orders");
+            valuesByKey.put(key, "db-" + i + ".example.com:5432");
+        }
+        descriptor = root;
+    }
+
+    @Benchmark
+    public JsonNode singlePass() {
+        return DescriptorVariableSubstitutor.substitute(descriptor, valuesByKey);
+    }
+
+    @Benchmark
+    public JsonNode replacePerVariable() throws IOException {
+        String rawContent = objectMapper.writeValueAsString(descriptor);
+        for (Map.Entry<String, String> variable : valuesByKey.entrySet()) {
+            rawContent = rawContent.replace("${" + variable.getKey() + "}", variable.getValue());
+        }
+        return objectMapper.readTree(rawContent);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(DescriptorVariableSubstitutorBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,171 @@
+package org.opendatamesh.platform.pp.registry.descriptorvariable.services.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DescriptorVariableSubstitutorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // ========== substitute(String) Tests ==========
+
+    @Test
+    void whenTextHasPlaceholdersThenReplaceAllOccurrences() {
+        // Given
+        String text = "jdbc:${db.host}:${db.port}/${db.name}?backup=${db.host}";
+        Map<String, String> values = Map.of("db.host", "localhost", "db.port", "5432", "db.name", "orders");
+
+        // When
+        String result = DescriptorVariableSubstitutor.substitute(text, values);
+
+        // Then
+        assertThat(result).isEqualTo("jdbc:localhost:5432/orders?backup=localhost");
+    }
+
+    @Test
+    void whenPlaceholderHasNoValueThenLeaveItUntouched() {
+        // Given
+        String text = "${known}-${unknown}";
+
+        // When
+        String result = DescriptorVariableSubstitutor.substitute(text, Map.of("known", "value"));
+
+        // Then
+        assertThat(result).isEqualTo("value-${unknown}");
+    }
+
+    @Test
+    void whenNothingToReplaceThenReturnSameInstance() {
+        // Given
+        String text = "no placeholders, only a $ and a { here";
+
+        // When & Then
+        assertThat(DescriptorVariableSubstitutor.substitute(text, Map.of("key", "value"))).isSameAs(text);
+        assertThat(DescriptorVariableSubstitutor.substitute("${key}", Map.of())).isEqualTo("${key}");
+    }
+
+    @Test
+    void whenPlaceholderIsUnterminatedThenKeepTheRemainingText() {
+        // Given
+        String text = "${key} and ${key";
+
+        // When
+        String result = DescriptorVariableSubstitutor.substitute(text, Map.of("key", "value"));
+
+        // Then
+        assertThat(result).isEqualTo("value and ${key");
+    }
+
+    @Test
+    void whenPrefixIsNestedThenMatchTheInnermostPlaceholder() {
+        // Given
+        String text = "${${key}";
+
+        // When
+        String result = DescriptorVariableSubstitutor.substitute(text, Map.of("key", "value"));
+
+        // Then
+        assertThat(result).isEqualTo("${value");
+    }
+
+    @Test
+    void whenValueContainsPlaceholderThenItIsNotReplacedAgain() {
+        // Given
+        String text = "${first}";
+
+        // When
+        String result = DescriptorVariableSubstitutor.substitute(text, Map.of("first", "${second}", "second", "value"));
+
+        // Then
+        assertThat(result).isEqualTo("${second}");
+    }
+
+    // ========== substitute(JsonNode) Tests ==========
+
+    @Test
+    void whenDescriptorHasPlaceholdersThenReplaceThemInValuesAndFieldNames() throws IOException {
+        // Given
+        JsonNode descriptor = objectMapper.readTree("""
+                {"info": {"name": "${name}", "version": 1, "tags": ["${tag}", "static"], "${field}": true, "empty": null}}
+                """);
+        Map<String, String> values = Map.of("name", "orders", "tag", "sales", "field", "enabled");
+
+        // When
+        JsonNode result = DescriptorVariableSubstitutor.substitute(descriptor, values);
+
+        // Then
+        assertThat(result).isEqualTo(objectMapper.readTree("""
+                {"info": {"name": "orders", "version": 1, "tags": ["sales", "static"], "enabled": true, "empty": null}}
+                """));
+        assertThat(descriptor.path("info").path("name").asText()).isEqualTo("${name}");
+    }
+
+    @Test
+    void whenValueHasJsonSpecialCharactersThenDescriptorStaysValid() throws IOException {
+        // Given
+        JsonNode descriptor = objectMapper.readTree("{\"query\": \"select * from t where c = ${filter}\"}");
+
+        // When
+        JsonNode result = DescriptorVariableSubstitutor.substitute(descriptor, Map.of("filter", "\"a\\b\"\n"));
+
+        // Then
+        assertThat(result.path("query").asText()).isEqualTo("select * from t where c = \"a\\b\"\n");
+    }
+
+    // ========== findKeys Tests ==========
+
+    @Test
+    void whenDescriptorHasPlaceholdersThenFindTheirKeysInValuesAndFieldNames() throws IOException {
+        // Given
+        JsonNode descriptor = objectMapper.readTree("""
+                {"info": {"name": "${name}-${env}", "tags": ["${env}", "static"], "${field}": true, "version": 1}}
+                """);
+
+        // When
+        Set<String> keys = DescriptorVariableSubstitutor.findKeys(descriptor);
+
+        // Then
+        assertThat(keys).containsExactlyInAnyOrder("name", "env", "field");
+    }
+
+    @Test
+    void whenPlaceholdersAreEmptyNestedOrUnterminatedThenFindOnlyTheMatchedKeys() throws IOException {
+        // Given
+        JsonNode descriptor = objectMapper.readTree("""
+                {"a": "${}", "b": "${outer${inner}", "c": "${unterminated", "d": "$${x}}"}
+                """);
+
+        // When
+        Set<String> keys = DescriptorVariableSubstitutor.findKeys(descriptor);
+
+        // Then
+        assertThat(keys).containsExactlyInAnyOrder("outer${inner", "inner", "x");
+    }
+
+    @Test
+    void whenPrefixIsNestedThenFindTheKeysThatSubstituteReplaces() throws IOException {
+        // Given
+        JsonNode descriptor = objectMapper.readTree("{\"name\": \"${a${b}\"}");
+        Map<String, String> values = Map.of("b", "value");
+
+        // When
+        Set<String> keys = DescriptorVariableSubstitutor.findKeys(descriptor);
+        JsonNode substituted = DescriptorVariableSubstitutor.substitute(descriptor, values);
+
+        // Then
+        assertThat(keys).containsExactlyInAnyOrder("a${b", "b");
+        assertThat(substituted.path("name").asText()).isEqualTo("${avalue");
+    }
+
+    @Test
+    void whenDescriptorIsNullThenFindNoKeys() {
+        assertThat(DescriptorVariableSubstitutor.findKeys(null)).isEmpty();
+    }
+}
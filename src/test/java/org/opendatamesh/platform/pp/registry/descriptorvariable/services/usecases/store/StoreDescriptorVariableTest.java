@@ -12,10 +12,12 @@ import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataPro
 import org.opendatamesh.platform.pp.registry.descriptorvariable.entities.DescriptorVariable;
 import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
 import org.opendatamesh.platform.pp.registry.exceptions.NotFoundException;
+import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionPolicy;
 import org.opendatamesh.platform.pp.registry.utils.usecases.TransactionalOutboundPort;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -116,17 +118,16 @@ class StoreDescriptorVariableTest {
                 .thenThrow(new NotFoundException("DataProductVersion with uuid=dpv-uuid-123 not found"));
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
-            runnable.run();
-            return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+            Function<List<DescriptorVariable>, List<DescriptorVariable>> function = invocation.getArgument(1);
+            return function.apply(invocation.getArgument(2));
+        }).when(transactionalPort).doInTransactionWithResults(any(TransactionPolicy.class), any(), any());
 
         // When & Then
         assertThatThrownBy(useCase::execute)
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("DataProductVersion with uuid=dpv-uuid-123 not found");
 
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransactionWithResults(any(TransactionPolicy.class), any(), any());
         verify(persistencePort).findDataProductVersionByUuid("dpv-uuid-123");
         verifyNoInteractions(validationPort, presenter);
     }
@@ -151,13 +152,12 @@ class StoreDescriptorVariableTest {
         savedVariable.setVariableValue("test-value");
 
         when(persistencePort.findDataProductVersionByUuid("dpv-uuid-123")).thenReturn(dataProductVersion);
-        when(persistencePort.createOrOverride(any(DescriptorVariable.class))).thenReturn(savedVariable);
+        when(persistencePort.createOrOverrideAll("dpv-uuid-123", variables)).thenReturn(List.of(savedVariable));
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
-            runnable.run();
-            return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+            Function<List<DescriptorVariable>, List<DescriptorVariable>> function = invocation.getArgument(1);
+            return function.apply(invocation.getArgument(2));
+        }).when(transactionalPort).doInTransactionWithResults(any(TransactionPolicy.class), any(), any());
 
         StoreDescriptorVariable useCase = new StoreDescriptorVariable(
                 command, presenter, persistencePort, validationPort, transactionalPort);
@@ -166,10 +166,10 @@ class StoreDescriptorVariableTest {
         useCase.execute();
 
         // Then
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransactionWithResults(any(TransactionPolicy.class), any(), any());
         verify(persistencePort).findDataProductVersionByUuid("dpv-uuid-123");
         verify(validationPort).validateVariablesCanBeAppliedToDescriptor(dataProductVersion, variables);
-        verify(persistencePort).createOrOverride(any(DescriptorVariable.class));
+        verify(persistencePort).createOrOverrideAll("dpv-uuid-123", variables);
         verify(presenter).presentDescriptorVariableStored(savedVariable);
     }
 
@@ -205,15 +205,13 @@ class StoreDescriptorVariableTest {
         savedVariable2.setVariableValue("value2");
 
         when(persistencePort.findDataProductVersionByUuid("dpv-uuid-123")).thenReturn(dataProductVersion);
-        when(persistencePort.createOrOverride(any(DescriptorVariable.class)))
-                .thenReturn(savedVariable1)
-                .thenReturn(savedVariable2);
+        when(persistencePort.createOrOverrideAll("dpv-uuid-123", variables))
+                .thenReturn(List.of(savedVariable1, savedVariable2));
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
-            runnable.run();
-            return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+            Function<List<DescriptorVariable>, List<DescriptorVariable>> function = invocation.getArgument(1);
+            return function.apply(invocation.getArgument(2));
+        }).when(transactionalPort).doInTransactionWithResults(any(TransactionPolicy.class), any(), any());
 
         StoreDescriptorVariable useCase = new StoreDescriptorVariable(
                 command, presenter, persistencePort, validationPort, transactionalPort);
@@ -222,10 +220,10 @@ class StoreDescriptorVariableTest {
         useCase.execute();
 
         // Then
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransactionWithResults(any(TransactionPolicy.class), any(), any());
         verify(persistencePort).findDataProductVersionByUuid("dpv-uuid-123");
         verify(validationPort).validateVariablesCanBeAppliedToDescriptor(dataProductVersion, variables);
-        verify(persistencePort, times(2)).createOrOverride(any(DescriptorVariable.class));
+        verify(persistencePort).createOrOverrideAll("dpv-uuid-123", variables);
         verify(presenter).presentDescriptorVariableStored(savedVariable1);
         verify(presenter).presentDescriptorVariableStored(savedVariable2);
     }
@@ -266,15 +264,13 @@ class StoreDescriptorVariableTest {
 
         when(persistencePort.findDataProductVersionByUuid("dpv-uuid-123")).thenReturn(dataProductVersion1);
         when(persistencePort.findDataProductVersionByUuid("dpv-uuid-456")).thenReturn(dataProductVersion2);
-        when(persistencePort.createOrOverride(any(DescriptorVariable.class)))
-                .thenReturn(savedVariable1)
-                .thenReturn(savedVariable2);
+        when(persistencePort.createOrOverrideAll("dpv-uuid-123", List.of(variable1))).thenReturn(List.of(savedVariable1));
+        when(persistencePort.createOrOverrideAll("dpv-uuid-456", List.of(variable2))).thenReturn(List.of(savedVariable2));
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
-            runnable.run();
-            return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+            Function<List<DescriptorVariable>, List<DescriptorVariable>> function = invocation.getArgument(1);
+            return function.apply(invocation.getArgument(2));
+        }).when(transactionalPort).doInTransactionWithResults(any(TransactionPolicy.class), any(), any());
 
         StoreDescriptorVariable useCase = new StoreDescriptorVariable(
                 command, presenter, persistencePort, validationPort, transactionalPort);
@@ -283,12 +279,13 @@ class StoreDescriptorVariableTest {
         useCase.execute();
 
         // Then
-        verify(transactionalPort, times(2)).doInTransaction(any(Runnable.class));
+        verify(transactionalPort, times(2)).doInTransactionWithResults(any(TransactionPolicy.class), any(), any());
         verify(persistencePort).findDataProductVersionByUuid("dpv-uuid-123");
         verify(persistencePort).findDataProductVersionByUuid("dpv-uuid-456");
         verify(validationPort).validateVariablesCanBeAppliedToDescriptor(dataProductVersion1, List.of(variable1));
         verify(validationPort).validateVariablesCanBeAppliedToDescriptor(dataProductVersion2, List.of(variable2));
-        verify(persistencePort, times(2)).createOrOverride(any(DescriptorVariable.class));
+        verify(persistencePort).createOrOverrideAll("dpv-uuid-123", List.of(variable1));
+        verify(persistencePort).createOrOverrideAll("dpv-uuid-456", List.of(variable2));
         verify(presenter).presentDescriptorVariableStored(savedVariable1);
         verify(presenter).presentDescriptorVariableStored(savedVariable2);
     }
@@ -311,10 +308,9 @@ class StoreDescriptorVariableTest {
                 .when(validationPort).validateVariablesCanBeAppliedToDescriptor(any(), any());
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
-            runnable.run();
-            return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+            Function<List<DescriptorVariable>, List<DescriptorVariable>> function = invocation.getArgument(1);
+            return function.apply(invocation.getArgument(2));
+        }).when(transactionalPort).doInTransactionWithResults(any(TransactionPolicy.class), any(), any());
 
         StoreDescriptorVariable useCase = new StoreDescriptorVariable(
                 command, presenter, persistencePort, validationPort, transactionalPort);
@@ -324,11 +320,11 @@ class StoreDescriptorVariableTest {
                 .isInstanceOf(BadRequestException.class)
                 .hasMessage("Variable key 'test-key' is not valid for this descriptor");
 
-        verify(transactionalPort).doInTransaction(any(Runnable.class));
+        verify(transactionalPort).doInTransactionWithResults(any(TransactionPolicy.class), any(), any());
         verify(persistencePort).findDataProductVersionByUuid("dpv-uuid-123");
         verify(validationPort).validateVariablesCanBeAppliedToDescriptor(dataProductVersion, variables);
         verifyNoInteractions(presenter);
-        verify(persistencePort, never()).createOrOverride(any(DescriptorVariable.class));
+        verify(persistencePort, never()).createOrOverrideAll(any(), any());
     }
 
     @Test
@@ -351,13 +347,12 @@ class StoreDescriptorVariableTest {
         savedVariable.setVariableValue("test-value");
 
         when(persistencePort.findDataProductVersionByUuid("dpv-uuid-123")).thenReturn(dataProductVersion);
-        when(persistencePort.createOrOverride(any(DescriptorVariable.class))).thenReturn(savedVariable);
+        when(persistencePort.createOrOverrideAll("dpv-uuid-123", variables)).thenReturn(List.of(savedVariable));
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
-            runnable.run();
-            return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+            Function<List<DescriptorVariable>, List<DescriptorVariable>> function = invocation.getArgument(1);
+            return function.apply(invocation.getArgument(2));
+        }).when(transactionalPort).doInTransactionWithResults(any(TransactionPolicy.class), any(), any());
 
         StoreDescriptorVariable useCase = new StoreDescriptorVariable(
                 command, presenter, persistencePort, validationPort, transactionalPort);
@@ -394,13 +389,12 @@ class StoreDescriptorVariableTest {
         savedVariable.setVariableValue("test-value");
 
         when(persistencePort.findDataProductVersionByUuid("dpv-uuid-123")).thenReturn(dataProductVersion);
-        when(persistencePort.createOrOverride(any(DescriptorVariable.class))).thenReturn(savedVariable);
+        when(persistencePort.createOrOverrideAll("dpv-uuid-123", variables)).thenReturn(List.of(savedVariable));
 
         doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
-            runnable.run();
-            return null;
-        }).when(transactionalPort).doInTransaction(any(Runnable.class));
+            Function<List<DescriptorVariable>, List<DescriptorVariable>> function = invocation.getArgument(1);
+            return function.apply(invocation.getArgument(2));
+        }).when(transactionalPort).doInTransactionWithResults(any(TransactionPolicy.class), any(), any());
 
         StoreDescriptorVariable useCase = new StoreDescriptorVariable(
                 command, presenter, persistencePort, validationPort, transactionalPort);
@@ -409,9 +403,11 @@ class StoreDescriptorVariableTest {
         useCase.execute();
 
         // Then
-        ArgumentCaptor<DescriptorVariable> captor = ArgumentCaptor.forClass(DescriptorVariable.class);
-        verify(persistencePort).createOrOverride(captor.capture());
-        DescriptorVariable savedVariableArg = captor.getValue();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DescriptorVariable>> captor = ArgumentCaptor.forClass(List.class);
+        verify(persistencePort).createOrOverrideAll(eq("dpv-uuid-123"), captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        DescriptorVariable savedVariableArg = captor.getValue().get(0);
         assertThat(savedVariableArg.getDataProductVersionUuid()).isEqualTo("dpv-uuid-123");
         assertThat(savedVariableArg.getVariableKey()).isEqualTo("test-key");
         assertThat(savedVariableArg.getVariableValue()).isEqualTo("test-value");
@@ -0,0 +1,143 @@
+package org.opendatamesh.platform.pp.registry.git.checkout;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCommandException;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCommandLine;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCredentials;
+import org.opendatamesh.platform.pp.registry.git.model.GitCheckoutScope;
+import org.opendatamesh.platform.pp.registry.git.model.GitReference;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GitSparseCheckoutsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private GitSparseCheckouts sparseCheckouts;
+    private String remoteUrl;
+    private String firstCommit;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path remote = tempDir.resolve("remote.git");
+        Path seed = tempDir.resolve("seed");
+        git(null, "init", "--quiet", "--bare", "--initial-branch=main", remote.toString());
+        git(remote, "config", "uploadpack.allowFilter", "true");
+        git(null, "init", "--quiet", "--initial-branch=main", seed.toString());
+        Files.createDirectories(seed.resolve("descriptor"));
+        Files.createDirectories(seed.resolve("pipelines"));
+        Files.writeString(seed.resolve("README.md"), "readme");
+        Files.writeString(seed.resolve("descriptor/descriptor.json"), "{\"version\": \"1.0.0\"}");
+        Files.writeString(seed.resolve("pipelines/job.py"), "print()");
+        git(seed, "add", ".");
+        commit(seed, "Init");
+        firstCommit = git(seed, "rev-parse", "HEAD").trim();
+        Files.writeString(seed.resolve("descriptor/descriptor.json"), "{\"version\": \"2.0.0\"}");
+        commit(seed, "Bump version");
+        git(seed, "push", "--quiet", remote.toString(), "main");
+        // Local paths ignore the depth and the filter of a clone, file URLs do not
+        remoteUrl = remote.toUri().toString();
+
+        GitCommandLine git = new GitCommandLine(true, "git", Duration.ofMinutes(1));
+        git.init();
+        sparseCheckouts = new GitSparseCheckouts(git);
+    }
+
+    @Test
+    void whenCheckingOutABranchThenOnlyTheLastCommitOfThePathFolderIsCheckedOut() {
+        List<File> checkedOut = new ArrayList<>();
+
+        sparseCheckouts.withWorkingCopy(remoteUrl, GitReference.ofBranch("main"),
+                GitCheckoutScope.ofPath("/descriptor/descriptor.json"), GitCredentials.anonymous(), workingCopy -> {
+                    checkedOut.add(workingCopy);
+                    assertThat(workingCopy.toPath().resolve("descriptor/descriptor.json")).content().contains("2.0.0");
+                    assertThat(workingCopy.toPath().resolve("README.md")).exists();
+                    assertThat(workingCopy.toPath().resolve("pipelines")).doesNotExist();
+                    assertThat(commitCount(workingCopy.toPath())).isEqualTo(1);
+                });
+
+        assertThat(checkedOut).singleElement().satisfies(workingCopy -> assertThat(workingCopy).doesNotExist());
+    }
+
+    @Test
+    void whenCheckingOutACommitThenItsContentIsCheckedOut() {
+        sparseCheckouts.withWorkingCopy(remoteUrl, new GitReference(null, null, firstCommit),
+                GitCheckoutScope.ofPath("descriptor/descriptor.json"), GitCredentials.anonymous(), workingCopy -> {
+                    assertThat(workingCopy.toPath().resolve("descriptor/descriptor.json")).content().contains("1.0.0");
+                    assertThat(workingCopy.toPath().resolve("pipelines")).doesNotExist();
+                });
+    }
+
+    @Test
+    void whenTheCommitIsNotAHashThenGitIsNotRun() {
+        Path marker = tempDir.resolve("marker");
+        List<File> checkedOut = new ArrayList<>();
+
+        for (String commit : List.of("--upload-pack=touch " + marker, "main", "HEAD~1")) {
+            assertThatThrownBy(() -> sparseCheckouts.withWorkingCopy(remoteUrl, new GitReference(null, null, commit),
+                    GitCheckoutScope.ofPath("descriptor/descriptor.json"), GitCredentials.anonymous(), checkedOut::add))
+                    .isInstanceOf(GitCommandException.class)
+                    .hasMessageContaining("Not a commit hash");
+        }
+        assertThat(checkedOut).isEmpty();
+        assertThat(marker).doesNotExist();
+    }
+
+    @Test
+    void whenThePathIsAtTheRootThenOnlyTheRootFilesAreCheckedOut() {
+        sparseCheckouts.withWorkingCopy(remoteUrl, new GitReference(null, null, null),
+                GitCheckoutScope.ofPath("README.md"), GitCredentials.anonymous(), workingCopy -> {
+                    assertThat(workingCopy.toPath().resolve("README.md")).exists();
+                    assertThat(workingCopy.toPath().resolve("descriptor")).doesNotExist();
+                });
+    }
+
+    @Test
+    void whenTheBranchDoesNotExistThenTheConsumerIsNotCalled() {
+        List<File> checkedOut = new ArrayList<>();
+
+        assertThatThrownBy(() -> sparseCheckouts.withWorkingCopy(remoteUrl, GitReference.ofBranch("missing"),
+                GitCheckoutScope.ofPath("descriptor/descriptor.json"), GitCredentials.anonymous(), checkedOut::add))
+                .isInstanceOf(GitCommandException.class);
+        assertThat(checkedOut).isEmpty();
+    }
+
+    private long commitCount(Path workingCopy) {
+        try {
+            return Long.parseLong(git(workingCopy, "rev-list", "--count", "HEAD").trim());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void commit(Path repository, String message) throws Exception {
+        git(repository, "-c", "user.name=test", "-c", "user.email=test@example.com", "commit", "--quiet", "-am", message);
+    }
+
+    private static String git(Path directory, String... arguments) throws Exception {
+        List<String> command = new ArrayList<>(List.of("git"));
+        if (directory != null) {
+            command.add("-C");
+            command.add(directory.toString());
+        }
+        command.addAll(List.of(arguments));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException(String.join(" ", command) + " failed: " + output);
+        }
+        return output;
+    }
+}
@@ -2,7 +2,8 @@ package org.opendatamesh.platform.pp.registry.git.provider;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,21 +11,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opendatamesh.platform.git.exceptions.GitProviderConfigurationException;
+import org.opendatamesh.platform.pp.registry.configuration.network.RestTemplateProfiles;
 import org.opendatamesh.platform.git.provider.GitProvider;
 import org.opendatamesh.platform.git.provider.GitProviderIdentifier;
 import org.opendatamesh.platform.git.provider.azure.AzureDevOpsProvider;
 import org.opendatamesh.platform.git.provider.bitbucket.BitbucketProvider;
 import org.opendatamesh.platform.git.provider.github.GitHubProvider;
 import org.opendatamesh.platform.git.provider.gitlab.GitLabProvider;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.opendatamesh.platform.pp.registry.git.provider.files.GitFileReader;
+import org.opendatamesh.platform.pp.registry.git.provider.files.GitFileWriter;
 import org.springframework.http.HttpHeaders;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Optional;
+
 @ExtendWith(MockitoExtension.class)
 class GitProviderFactoryImplTest {
 
     @Mock
-    private RestTemplateBuilder restTemplateBuilder;
+    private RestTemplateProfiles restTemplateProfiles;
 
     @Mock
     private RestTemplate restTemplate;
@@ -33,8 +38,8 @@ class GitProviderFactoryImplTest {
 
     @BeforeEach
     void setUp() {
-        when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        gitProviderFactory = new GitProviderFactoryImpl(restTemplateBuilder);
+        lenient().when(restTemplateProfiles.gitRestTemplate(any())).thenReturn(restTemplate);
+        gitProviderFactory = new GitProviderFactoryImpl(restTemplateProfiles);
     }
 
     @Test
@@ -247,5 +252,60 @@ class GitProviderFactoryImplTest {
                 .isInstanceOf(GitProviderConfigurationException.class)
                 .hasMessage("Unsupported Git provider type: unsupported");
     }
-}
 
+    @Test
+    void whenCredentialsAreAPersonalAccessTokenThenReturnGitFileReader() {
+        // Given
+        GitProviderIdentifier providerIdentifier = new GitProviderIdentifier("gitlab", "https://gitlab.com");
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("x-odm-gpauth-type", "PAT");
+        headers.set("x-odm-gpauth-param-token", "test-token");
+
+        // When
+        Optional<GitFileReader> fileReader = gitProviderFactory.buildGitFileReader(providerIdentifier, headers);
+
+        // Then
+        assertThat(fileReader).isPresent();
+    }
+
+    @Test
+    void whenCredentialsAreNotAPersonalAccessTokenThenReturnNoGitFileReader() {
+        // Given
+        GitProviderIdentifier providerIdentifier = new GitProviderIdentifier("github", "https://api.github.com");
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("x-odm-gpauth-type", "OAUTH");
+
+        // When
+        Optional<GitFileReader> fileReader = gitProviderFactory.buildGitFileReader(providerIdentifier, headers);
+
+        // Then
+        assertThat(fileReader).isEmpty();
+    }
+
+    @Test
+    void whenCredentialsAreAPersonalAccessTokenThenReturnGitFileWriter() {
+        // Given
+        GitProviderIdentifier providerIdentifier = new GitProviderIdentifier("github", "https://github.com");
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("x-odm-gpauth-type", "PAT");
+        headers.set("x-odm-gpauth-param-token", "test-token");
+
+        // When
+        Optional<GitFileWriter> fileWriter = gitProviderFactory.buildGitFileWriter(providerIdentifier, headers);
+
+        // Then
+        assertThat(fileWriter).isPresent();
+    }
+
+    @Test
+    void whenRequestsAreAnonymousThenReturnNoGitFileWriter() {
+        // Given
+        GitProviderIdentifier providerIdentifier = new GitProviderIdentifier("github", "https://github.com");
+
+        // When
+        Optional<GitFileWriter> fileWriter = gitProviderFactory.buildGitFileWriter(providerIdentifier, new HttpHeaders());
+
+        // Then
+        assertThat(fileWriter).isEmpty();
+    }
+}
@@ -0,0 +1,155 @@
+package org.opendatamesh.platform.pp.registry.git.provider.files;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProductRepoProviderType;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientException;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCredentials;
+import org.opendatamesh.platform.pp.registry.git.model.GitReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class GitFileReadersTest {
+
+    private static final String DESCRIPTOR = "{\"dataProductDescriptor\": \"1.0.0\"}";
+    private static final GitCredentials CREDENTIALS = new GitCredentials("john", "secret");
+
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @Test
+    void whenReadingFromGitHubThenTheRawContentOfTheRefIsRequested() {
+        // Given
+        server.expect(requestTo(URI.create("https://api.github.com/repos/org/repo/contents/dp/descriptor.json?ref=v1.0.0")))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header(HttpHeaders.AUTHORIZATION, "Bearer secret"))
+                .andExpect(header(HttpHeaders.ACCEPT, "application/vnd.github.raw+json"))
+                .andRespond(withSuccess(DESCRIPTOR, MediaType.APPLICATION_OCTET_STREAM));
+        GitFileReader reader = GitFileReaders.forProvider(DataProductRepoProviderType.GITHUB, "https://github.com",
+                restTemplate, CREDENTIALS);
+
+        // When
+        Optional<byte[]> content = reader.readFile("123", "https://github.com/org/repo.git",
+                new GitReference("v1.0.0", null, null), "/dp/descriptor.json");
+
+        // Then
+        assertThat(content).map(bytes -> new String(bytes, StandardCharsets.UTF_8)).contains(DESCRIPTOR);
+        server.verify();
+    }
+
+    @Test
+    void whenReadingFromGitLabThenTheProjectAndThePathAreEncoded() {
+        // Given
+        server.expect(requestTo(URI.create("https://gitlab.example.com/api/v4/projects/42/repository/files/dp%2Fdescriptor.json/raw?ref=main")))
+                .andExpect(header("PRIVATE-TOKEN", "secret"))
+                .andRespond(withSuccess(DESCRIPTOR, MediaType.TEXT_PLAIN));
+        GitFileReader reader = GitFileReaders.forProvider(DataProductRepoProviderType.GITLAB,
+                "https://gitlab.example.com/", restTemplate, CREDENTIALS);
+
+        // When
+        Optional<byte[]> content = reader.readFile("42", "https://gitlab.example.com/group/sub/repo.git",
+                GitReference.ofBranch("main"), "dp/descriptor.json");
+
+        // Then
+        assertThat(content).isPresent();
+        server.verify();
+    }
+
+    @Test
+    void whenReadingFromBitbucketThenTheSourceOfTheRefIsRequestedWithBasicAuth() {
+        // Given
+        server.expect(requestTo(URI.create("https://api.bitbucket.org/2.0/repositories/workspace/repo/src/main/descriptor.json")))
+                .andExpect(header(HttpHeaders.AUTHORIZATION, "Basic am9objpzZWNyZXQ="))
+                .andRespond(withSuccess(DESCRIPTOR, MediaType.APPLICATION_JSON));
+        GitFileReader reader = GitFileReaders.forProvider(DataProductRepoProviderType.BITBUCKET,
+                "https://api.bitbucket.org", restTemplate, CREDENTIALS);
+
+        // When
+        Optional<byte[]> content = reader.readFile("{uuid}", "https://john@bitbucket.org/workspace/repo.git",
+                GitReference.ofBranch("main"), "descriptor.json");
+
+        // Then
+        assertThat(content).isPresent();
+        server.verify();
+    }
+
+    @Test
+    void whenReadingFromBitbucketWithoutReferenceThenTheProviderIsNotCalled() {
+        GitFileReader reader = GitFileReaders.forProvider(DataProductRepoProviderType.BITBUCKET,
+                "https://api.bitbucket.org", restTemplate, CREDENTIALS);
+
+        assertThat(reader.readFile("{uuid}", "https://bitbucket.org/workspace/repo.git",
+                new GitReference(null, null, null), "descriptor.json")).isEmpty();
+        server.verify();
+    }
+
+    @Test
+    void whenReadingFromAzureDevOpsThenTheItemOfTheVersionIsRequested() {
+        // Given
+        server.expect(requestTo(URI.create("https://dev.azure.com/org/project/_apis/git/repositories/repo-id/items"
+                        + "?path=/dp/descriptor.json&$format=octetStream&api-version=7.0"
+                        + "&versionDescriptor.version=0a1b2c&versionDescriptor.versionType=commit")))
+                .andExpect(header(HttpHeaders.AUTHORIZATION, "Basic OnNlY3JldA=="))
+                .andRespond(withSuccess(DESCRIPTOR, MediaType.APPLICATION_OCTET_STREAM));
+        GitFileReader reader = GitFileReaders.forProvider(DataProductRepoProviderType.AZURE, "https://dev.azure.com/org",
+                restTemplate, CREDENTIALS);
+
+        // When
+        Optional<byte[]> content = reader.readFile("repo-id", "https://org@dev.azure.com/org/project/_git/repo",
+                new GitReference(null, null, "0a1b2c"), "dp/descriptor.json");
+
+        // Then
+        assertThat(content).isPresent();
+        server.verify();
+    }
+
+    @Test
+    void whenTheFileIsNotFoundThenNothingIsReturned() {
+        // Given
+        server.expect(requestTo(URI.create("https://api.github.com/repos/org/repo/contents/descriptor.json")))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        GitFileReader reader = GitFileReaders.forProvider(DataProductRepoProviderType.GITHUB, "https://api.github.com",
+                restTemplate, GitCredentials.anonymous());
+
+        // When & Then
+        assertThat(reader.readFile(null, "https://github.com/org/repo", new GitReference(null, null, null),
+                "descriptor.json")).isEmpty();
+        server.verify();
+    }
+
+    @Test
+    void whenTheProviderRefusesTheRequestThenAClientExceptionIsThrown() {
+        // Given
+        server.expect(requestTo(URI.create("https://api.github.com/repos/org/repo/contents/descriptor.json?ref=main")))
+                .andRespond(withStatus(HttpStatus.UNAUTHORIZED).body("Bad credentials"));
+        GitFileReader reader = GitFileReaders.forProvider(DataProductRepoProviderType.GITHUB, "https://api.github.com",
+                restTemplate, CREDENTIALS);
+
+        // When & Then
+        assertThatThrownBy(() -> reader.readFile(null, "https://github.com/org/repo.git", GitReference.ofBranch("main"),
+                "descriptor.json"))
+                .isInstanceOfSatisfying(ClientException.class, e -> assertThat(e.getCode()).isEqualTo(401));
+    }
+}
@@ -0,0 +1,235 @@
+package org.opendatamesh.platform.pp.registry.git.provider.files;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendatamesh.platform.pp.registry.dataproduct.entities.DataProductRepoProviderType;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientException;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCredentials;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class GitFileWritersTest {
+
+    private static final String DESCRIPTOR = "{\"dataProductDescriptor\": \"1.0.0\"}";
+    private static final String ENCODED_DESCRIPTOR =
+            Base64.getEncoder().encodeToString(DESCRIPTOR.getBytes(StandardCharsets.UTF_8));
+    private static final GitCredentials CREDENTIALS = new GitCredentials("john", "secret");
+
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @Test
+    void whenWritingToGitHubAtTheBaseCommitThenTheFileIsUpdatedOverItsCurrentBlob() {
+        // Given
+        server.expect(requestTo(URI.create("https://api.github.com/repos/org/repo/git/ref/heads/main")))
+                .andExpect(header(HttpHeaders.AUTHORIZATION, "Bearer secret"))
+                .andRespond(withSuccess("{\"object\": {\"sha\": \"base\"}}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo(URI.create("https://api.github.com/repos/org/repo/contents/dp/descriptor.json?ref=main")))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("{\"sha\": \"blob\"}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo(URI.create("https://api.github.com/repos/org/repo/contents/dp/descriptor.json")))
+                .andExpect(method(HttpMethod.PUT))
+                .andExpect(jsonPath("$.sha").value("blob"))
+                .andExpect(jsonPath("$.branch").value("main"))
+                .andExpect(jsonPath("$.content").value(ENCODED_DESCRIPTOR))
+                .andExpect(jsonPath("$.author.email").value("john@example.com"))
+                .andRespond(withSuccess("{\"commit\": {\"sha\": \"new\"}}", MediaType.APPLICATION_JSON));
+        GitFileWriter writer = GitFileWriters.forProvider(DataProductRepoProviderType.GITHUB, "https://github.com",
+                restTemplate, CREDENTIALS);
+
+        // When
+        String commit = writer.writeFile(null, "https://github.com/org/repo.git", change("base"));
+
+        // Then
+        assertThat(commit).isEqualTo("new");
+        server.verify();
+    }
+
+    @Test
+    void whenTheGitHubBranchMovedFromTheBaseCommitThenNothingIsWritten() {
+        // Given
+        server.expect(requestTo(URI.create("https://api.github.com/repos/org/repo/git/ref/heads/main")))
+                .andRespond(withSuccess("{\"object\": {\"sha\": \"other\"}}", MediaType.APPLICATION_JSON));
+        GitFileWriter writer = GitFileWriters.forProvider(DataProductRepoProviderType.GITHUB, "https://github.com",
+                restTemplate, CREDENTIALS);
+
+        // When & Then
+        assertThatThrownBy(() -> writer.writeFile(null, "https://github.com/org/repo.git", change("base")))
+                .isInstanceOf(GitBaseCommitConflictException.class)
+                .hasMessageContaining("does not match latest commit other");
+        server.verify();
+    }
+
+    @Test
+    void whenWritingAMissingFileToGitLabThenItIsCreated() {
+        // Given
+        server.expect(requestTo(URI.create("https://gitlab.example.com/api/v4/projects/42/repository/commits")))
+                .andExpect(header("PRIVATE-TOKEN", "secret"))
+                .andExpect(jsonPath("$.actions[0].action").value("update"))
+                .andRespond(withStatus(HttpStatus.BAD_REQUEST).body("{\"message\": \"A file with this name doesn't exist\"}"));
+        server.expect(requestTo(URI.create("https://gitlab.example.com/api/v4/projects/42/repository/commits")))
+                .andExpect(jsonPath("$.actions[0].action").value("create"))
+                .andExpect(jsonPath("$.actions[0].file_path").value("dp/descriptor.json"))
+                .andExpect(jsonPath("$.actions[0].encoding").value("base64"))
+                .andRespond(withSuccess("{\"id\": \"new\"}", MediaType.APPLICATION_JSON));
+        GitFileWriter writer = GitFileWriters.forProvider(DataProductRepoProviderType.GITLAB, "https://gitlab.example.com",
+                restTemplate, CREDENTIALS);
+
+        // When
+        String commit = writer.writeFile("42", "https://gitlab.example.com/group/repo.git", change(null));
+
+        // Then
+        assertThat(commit).isEqualTo("new");
+        server.verify();
+    }
+
+    @Test
+    void whenWritingToBitbucketThenTheBaseCommitIsTheParentOfTheCommit() {
+        // Given
+        HttpHeaders created = new HttpHeaders();
+        created.setLocation(URI.create("https://api.bitbucket.org/2.0/repositories/workspace/repo/commit/new"));
+        server.expect(requestTo(URI.create("https://api.bitbucket.org/2.0/repositories/workspace/repo/src")))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header(HttpHeaders.AUTHORIZATION, "Basic am9objpzZWNyZXQ="))
+                .andExpect(content().string(containsString("name=\"parents\"")))
+                .andExpect(content().string(containsString("name=\"dp/descriptor.json\"")))
+                .andRespond(withStatus(HttpStatus.CREATED).headers(created));
+        GitFileWriter writer = GitFileWriters.forProvider(DataProductRepoProviderType.BITBUCKET,
+                "https://bitbucket.org", restTemplate, CREDENTIALS);
+
+        // When
+        String commit = writer.writeFile(null, "https://bitbucket.org/workspace/repo.git", change("base"));
+
+        // Then
+        assertThat(commit).isEqualTo("new");
+        server.verify();
+    }
+
+    @Test
+    void whenTheBitbucketBranchMovedFromTheBaseCommitThenAConflictIsReported() {
+        // Given
+        server.expect(requestTo(URI.create("https://api.bitbucket.org/2.0/repositories/workspace/repo/src")))
+                .andRespond(withStatus(HttpStatus.CONFLICT));
+        GitFileWriter writer = GitFileWriters.forProvider(DataProductRepoProviderType.BITBUCKET,
+                "https://api.bitbucket.org", restTemplate, CREDENTIALS);
+
+        // When & Then
+        assertThatThrownBy(() -> writer.writeFile(null, "https://bitbucket.org/workspace/repo.git", change("base")))
+                .isInstanceOf(GitBaseCommitConflictException.class);
+    }
+
+    @Test
+    void whenWritingToAzureDevOpsWithoutBaseCommitThenTheRefIsUpdatedFromTheHeadOfTheBranch() {
+        // Given
+        server.expect(requestTo(URI.create("https://dev.azure.com/org/project/_apis/git/repositories/repo-id/refs"
+                        + "?filter=heads/main&api-version=7.0")))
+                .andRespond(withSuccess("{\"value\": [{\"name\": \"refs/heads/main-old\", \"objectId\": \"old\"},"
+                        + " {\"name\": \"refs/heads/main\", \"objectId\": \"head\"}]}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo(URI.create("https://dev.azure.com/org/project/_apis/git/repositories/repo-id/pushes"
+                        + "?api-version=7.0")))
+                .andExpect(header(HttpHeaders.AUTHORIZATION, "Basic OnNlY3JldA=="))
+                .andExpect(jsonPath("$.refUpdates[0].oldObjectId").value("head"))
+                .andExpect(jsonPath("$.commits[0].changes[0].changeType").value("edit"))
+                .andExpect(jsonPath("$.commits[0].changes[0].item.path").value("/dp/descriptor.json"))
+                .andRespond(withSuccess("{\"commits\": [{\"commitId\": \"new\"}]}", MediaType.APPLICATION_JSON));
+        GitFileWriter writer = GitFileWriters.forProvider(DataProductRepoProviderType.AZURE, "https://dev.azure.com/org",
+                restTemplate, CREDENTIALS);
+
+        // When
+        String commit = writer.writeFile("repo-id", "https://org@dev.azure.com/org/project/_git/repo", change(null));
+
+        // Then
+        assertThat(commit).isEqualTo("new");
+        server.verify();
+    }
+
+    @Test
+    void whenTaggingOnGitHubWithAMessageThenTheRefPointsToTheAnnotatedTag() {
+        // Given
+        server.expect(requestTo(URI.create("https://api.github.com/repos/org/repo/git/ref/heads/main")))
+                .andRespond(withSuccess("{\"object\": {\"sha\": \"head\"}}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo(URI.create("https://api.github.com/repos/org/repo/git/tags")))
+                .andExpect(jsonPath("$.object").value("head"))
+                .andExpect(jsonPath("$.message").value("Release"))
+                .andRespond(withSuccess("{\"sha\": \"tag-object\"}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo(URI.create("https://api.github.com/repos/org/repo/git/refs")))
+                .andExpect(jsonPath("$.ref").value("refs/tags/v1.0.0"))
+                .andExpect(jsonPath("$.sha").value("tag-object"))
+                .andRespond(withStatus(HttpStatus.CREATED));
+        GitFileWriter writer = GitFileWriters.forProvider(DataProductRepoProviderType.GITHUB, "https://github.com",
+                restTemplate, CREDENTIALS);
+
+        // When
+        writer.createTag(null, "https://github.com/org/repo.git",
+                new GitTagCreation("v1.0.0", null, "main", "Release", "John", "john@example.com"));
+
+        // Then
+        server.verify();
+    }
+
+    @Test
+    void whenTaggingOnGitLabThenTheBranchIsResolvedByTheProvider() {
+        // Given
+        server.expect(requestTo(URI.create("https://gitlab.example.com/api/v4/projects/42/repository/tags")))
+                .andExpect(jsonPath("$.tag_name").value("v1.0.0"))
+                .andExpect(jsonPath("$.ref").value("main"))
+                .andRespond(withStatus(HttpStatus.CREATED));
+        GitFileWriter writer = GitFileWriters.forProvider(DataProductRepoProviderType.GITLAB, "https://gitlab.example.com",
+                restTemplate, CREDENTIALS);
+
+        // When
+        writer.createTag("42", "https://gitlab.example.com/group/repo.git",
+                new GitTagCreation("v1.0.0", null, "main", null, null, null));
+
+        // Then
+        server.verify();
+    }
+
+    @Test
+    void whenAzureDevOpsRejectsTheTagRefThenAClientExceptionIsThrown() {
+        // Given
+        server.expect(requestTo(URI.create("https://dev.azure.com/org/project/_apis/git/repositories/repo-id/refs"
+                        + "?api-version=7.0")))
+                .andExpect(jsonPath("$[0].name").value("refs/tags/v1.0.0"))
+                .andExpect(jsonPath("$[0].newObjectId").value("0a1b2c"))
+                .andRespond(withSuccess("{\"value\": [{\"success\": false, \"updateStatus\": \"failedToCreate\"}]}",
+                        MediaType.APPLICATION_JSON));
+        GitFileWriter writer = GitFileWriters.forProvider(DataProductRepoProviderType.AZURE, "https://dev.azure.com/org",
+                restTemplate, CREDENTIALS);
+
+        // When & Then
+        assertThatThrownBy(() -> writer.createTag("repo-id", "https://dev.azure.com/org/project/_git/repo",
+                new GitTagCreation("v1.0.0", "0a1b2c", null, null, null, null)))
+                .isInstanceOfSatisfying(ClientException.class, e -> assertThat(e.getCode()).isEqualTo(409));
+    }
+
+    private static GitFileChange change(String baseCommit) {
+        return new GitFileChange("main", "/dp/descriptor.json", DESCRIPTOR.getBytes(StandardCharsets.UTF_8),
+                "Update descriptor", "John", "john@example.com", baseCommit);
+    }
+}
@@ -0,0 +1,148 @@
+package org.opendatamesh.platform.pp.registry.git.refs;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendatamesh.platform.pp.registry.git.cli.GitCommandLine;
+import org.springframework.http.HttpHeaders;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GitRefResolverTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path remote;
+    private Path author;
+    private GitCommandLine git;
+    private HttpServer server;
+    private String remoteUrl;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        remote = tempDir.resolve("remote.git");
+        author = tempDir.resolve("author");
+        git(null, "init", "--quiet", "--bare", "--initial-branch=main", remote.toString());
+        git(null, "init", "--quiet", "--initial-branch=main", author.toString());
+        git(author, "remote", "add", "origin", remote.toString());
+        commit("1.0.0");
+        push();
+        git(author, "push", "--quiet", "origin", "main:feature/main");
+        git(remote, "update-server-info");
+
+        // The bare remote is served over the dumb http protocol, the only one the resolver accepts besides https
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            Path file = tempDir.resolve(exchange.getRequestURI().getPath().substring(1)).normalize();
+            if (!file.startsWith(remote) || !Files.isRegularFile(file)) {
+                exchange.sendResponseHeaders(404, -1);
+            } else {
+                exchange.sendResponseHeaders(200, Files.size(file));
+                try (var body = exchange.getResponseBody()) {
+                    Files.copy(file, body);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+        remoteUrl = "http://localhost:" + server.getAddress().getPort() + "/remote.git";
+
+        git = new GitCommandLine(true, "git", Duration.ofMinutes(1));
+        git.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void whenResolvingABranchThenItsHeadIsReturned() throws Exception {
+        GitRefResolver resolver = new GitRefResolver(git);
+
+        assertThat(resolver.branchHead(remoteUrl, "main", new HttpHeaders())).contains(head());
+        assertThat(resolver.branchHead(remoteUrl, "missing", new HttpHeaders())).isEmpty();
+    }
+
+    @Test
+    void whenTheBranchMovesThenTheNewHeadIsReturned() throws Exception {
+        GitRefResolver resolver = new GitRefResolver(git);
+        resolver.branchHead(remoteUrl, "main", new HttpHeaders());
+
+        commit("2.0.0");
+        push();
+
+        assertThat(resolver.branchHead(remoteUrl, "main", new HttpHeaders())).contains(head());
+    }
+
+    @Test
+    void whenTheGitExecutableIsMissingThenNothingIsResolved() {
+        GitCommandLine missing = new GitCommandLine(true, tempDir.resolve("no-git").toString(), Duration.ofMinutes(1));
+        missing.init();
+        GitRefResolver resolver = new GitRefResolver(missing);
+
+        assertThat(resolver.branchHead(remoteUrl, "main", new HttpHeaders())).isEmpty();
+    }
+
+    @Test
+    void whenCredentialsAreNotAPersonalAccessTokenThenNothingIsResolved() {
+        GitRefResolver resolver = new GitRefResolver(git);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("x-odm-gpauth-type", "OAUTH");
+
+        assertThat(resolver.branchHead(remoteUrl, "main", headers)).isEmpty();
+    }
+
+    @Test
+    void whenTheRemoteIsNotAnHttpUrlThenGitIsNotRun() throws Exception {
+        GitRefResolver resolver = new GitRefResolver(git);
+        Path marker = tempDir.resolve("marker");
+
+        assertThat(resolver.branchHead(remote.toString(), "main", new HttpHeaders())).isEmpty();
+        assertThat(resolver.branchHead("file://" + remote, "main", new HttpHeaders())).isEmpty();
+        assertThat(resolver.branchHead("ext::sh -c touch% " + marker, "main", new HttpHeaders())).isEmpty();
+        assertThat(resolver.branchHead("--upload-pack=touch " + marker, "main", new HttpHeaders())).isEmpty();
+        assertThat(marker).doesNotExist();
+    }
+
+    private void push() throws Exception {
+        git(author, "push", "--quiet", "origin", "main");
+        git(remote, "update-server-info");
+    }
+
+    private String head() throws Exception {
+        return git(author, "rev-parse", "HEAD").trim();
+    }
+
+    private void commit(String version) throws Exception {
+        Files.writeString(author.resolve("descriptor.json"), "{\"version\": \"" + version + "\"}");
+        git(author, "add", "descriptor.json");
+        git(author, "-c", "user.name=test", "-c", "user.email=test@example.com", "commit", "--quiet", "-m", version);
+    }
+
+    private static String git(Path directory, String... arguments) throws Exception {
+        List<String> command = new ArrayList<>(List.of("git"));
+        if (directory != null) {
+            command.add("-C");
+            command.add(directory.toString());
+        }
+        command.addAll(List.of(arguments));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException(String.join(" ", command) + " failed: " + output);
+        }
+        return output;
+    }
+}
@@ -0,0 +1,175 @@
+package org.opendatamesh.platform.pp.registry.observer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import org.opendatamesh.platform.pp.registry.observer.entities.ObserverNotification;
+import org.opendatamesh.platform.pp.registry.observer.entities.ObserverNotificationOutcome;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ObserverNotificationsAcknowledgerTest {
+
+    @Mock
+    private NotificationClient notificationClient;
+
+    @Mock
+    private ObserverNotificationsQueue notificationsQueue;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ObserverNotificationsAcknowledger acknowledger;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (acknowledger != null) {
+            acknowledger.destroy();
+        }
+    }
+
+    @Test
+    void whenNotAsyncThenOutcomeIsSentAndNotificationCompletedRightAway() {
+        // Given
+        acknowledger = acknowledger(false);
+
+        // When
+        acknowledger.acknowledge(notification(1L, ObserverNotificationOutcome.PROCESSED));
+        acknowledger.acknowledge(notification(2L, ObserverNotificationOutcome.FAILED_TO_PROCESS));
+
+        // Then
+        verify(notificationClient).processingSuccess(1L);
+        verify(notificationClient).processingFailure(2L);
+        verify(notificationsQueue).completeAll(List.of(1L));
+        verify(notificationsQueue).completeAll(List.of(2L));
+    }
+
+    @Test
+    void whenOutcomeIsReportedTwiceBeforeFlushThenItIsSentOnce() {
+        // Given
+        acknowledger = acknowledger(true);
+        acknowledger.acknowledge(notification(1L, ObserverNotificationOutcome.PROCESSED));
+        acknowledger.acknowledge(notification(1L, ObserverNotificationOutcome.PROCESSED));
+        assertThat(acknowledger.pendingCount()).isEqualTo(1);
+
+        // When
+        acknowledger.flush();
+
+        // Then
+        verify(notificationClient, times(1)).processingSuccess(1L);
+        verify(notificationsQueue).completeAll(List.of(1L));
+        assertThat(acknowledger.pendingCount()).isZero();
+    }
+
+    @Test
+    void whenBatchIsFlushedThenAcknowledgedNotificationsAreCompletedTogether() {
+        // Given
+        acknowledger = acknowledger(true);
+        for (long sequenceId = 1; sequenceId <= 3; sequenceId++) {
+            acknowledger.acknowledge(notification(sequenceId, ObserverNotificationOutcome.PROCESSED));
+        }
+
+        // When
+        acknowledger.flush();
+
+        // Then
+        ArgumentCaptor<Collection<Long>> completed = completedCaptor();
+        verify(notificationsQueue).completeAll(completed.capture());
+        assertThat(completed.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(meterRegistry.counter("registry.observer.notifications.acks.sent").count()).isEqualTo(3);
+    }
+
+    @Test
+    void whenAcknowledgementFailsThenNotificationIsRescheduledAndNotCompleted() {
+        // Given
+        acknowledger = acknowledger(true);
+        ObserverNotification failing = notification(1L, ObserverNotificationOutcome.PROCESSED);
+        doThrow(new RuntimeException("Connection refused")).when(notificationClient).processingSuccess(1L);
+        acknowledger.acknowledge(failing);
+        acknowledger.acknowledge(notification(2L, ObserverNotificationOutcome.PROCESSED));
+
+        // When
+        acknowledger.flush();
+
+        // Then
+        verify(notificationsQueue).retryLater(failing, "Connection refused");
+        verify(notificationsQueue).completeAll(List.of(2L));
+        assertThat(meterRegistry.counter("registry.observer.notifications.acks.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void whenAllAcknowledgementsFailThenNothingIsCompleted() {
+        // Given
+        acknowledger = acknowledger(true);
+        doThrow(new RuntimeException("Connection refused")).when(notificationClient).processingFailure(any());
+        acknowledger.acknowledge(notification(1L, ObserverNotificationOutcome.FAILED_TO_PROCESS));
+
+        // When
+        acknowledger.flush();
+
+        // Then
+        verify(notificationsQueue, never()).completeAll(anyCollection());
+    }
+
+    @Test
+    void whenDestroyedThenPendingOutcomesAreFlushed() throws InterruptedException {
+        // Given
+        acknowledger = acknowledger(true);
+        acknowledger.acknowledge(notification(1L, ObserverNotificationOutcome.PROCESSED));
+
+        // When
+        acknowledger.destroy();
+
+        // Then
+        verify(notificationClient).processingSuccess(1L);
+        verify(notificationsQueue).completeAll(List.of(1L));
+        acknowledger = null;
+    }
+
+    @Test
+    void whenOutcomeIsReportedAfterShutdownThenItIsSentRightAway() throws InterruptedException {
+        // Given
+        acknowledger = acknowledger(true);
+        acknowledger.destroy();
+
+        // When
+        acknowledger.acknowledge(notification(1L, ObserverNotificationOutcome.PROCESSED));
+
+        // Then
+        verify(notificationClient).processingSuccess(1L);
+        verify(notificationsQueue).completeAll(List.of(1L));
+        acknowledger = null;
+    }
+
+    private ObserverNotificationsAcknowledger acknowledger(boolean async) {
+        // The flush interval is long enough for the tests to flush explicitly
+        return new ObserverNotificationsAcknowledger(notificationClient, notificationsQueue, async, 100, 2,
+                Duration.ofHours(1), meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Collection<Long>> completedCaptor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+
+    private static ObserverNotification notification(Long sequenceId, ObserverNotificationOutcome outcome) {
+        ObserverNotification notification = new ObserverNotification();
+        notification.setSequenceId(sequenceId);
+        notification.setAttempts(1);
+        notification.setOutcome(outcome);
+        return notification;
+    }
+}
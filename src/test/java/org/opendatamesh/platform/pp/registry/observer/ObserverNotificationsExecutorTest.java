@@ -0,0 +1,180 @@
+package org.opendatamesh.platform.pp.registry.observer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.opendatamesh.platform.pp.registry.exceptions.ServiceUnavailableException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ObserverNotificationsExecutorTest {
+
+    private static final String RESOURCE = "a";
+    // Falls on a different lane than RESOURCE when there are two lanes
+    private static final String OTHER_RESOURCE = "b";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ObserverNotificationsExecutor notificationsExecutor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        if (notificationsExecutor != null) {
+            notificationsExecutor.destroy();
+        }
+    }
+
+    @Test
+    void whenNotificationIsExecutedThenItRunsOffTheCallingThread() throws Exception {
+        // Given
+        notificationsExecutor = new ObserverNotificationsExecutor(true, 2, 10, Duration.ofSeconds(5), meterRegistry);
+        AtomicReference<Thread> processingThread = new AtomicReference<>();
+        CountDownLatch processed = new CountDownLatch(1);
+
+        // When
+        notificationsExecutor.execute(RESOURCE, () -> {
+            processingThread.set(Thread.currentThread());
+            processed.countDown();
+        });
+
+        // Then
+        assertThat(processed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(processingThread.get()).isNotSameAs(Thread.currentThread());
+        assertThat(processingThread.get().getName()).startsWith("observer-notification-");
+    }
+
+    @Test
+    void whenNotificationsAreAboutTheSameResourceThenTheyRunInOrderOnOneThread() throws Exception {
+        // Given
+        notificationsExecutor = new ObserverNotificationsExecutor(true, 4, 100, Duration.ofSeconds(5), meterRegistry);
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            int position = i;
+            notificationsExecutor.execute(RESOURCE, () -> {
+                threads.add(Thread.currentThread());
+                order.add(position);
+            });
+        }
+        notificationsExecutor.destroy();
+
+        // Then
+        assertThat(order).isEqualTo(IntStream.range(0, 50).boxed().toList());
+        assertThat(threads).hasSize(1);
+    }
+
+    @Test
+    void whenNotificationsAreAboutDifferentResourcesThenTheyRunInParallel() throws Exception {
+        // Given - the lane of the first resource is busy
+        notificationsExecutor = new ObserverNotificationsExecutor(true, 2, 10, Duration.ofSeconds(5), meterRegistry);
+        notificationsExecutor.execute(RESOURCE, this::awaitRelease);
+        CountDownLatch processed = new CountDownLatch(1);
+
+        // When
+        notificationsExecutor.execute(OTHER_RESOURCE, processed::countDown);
+
+        // Then
+        assertThat(processed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void whenQueueIsFullThenThrowServiceUnavailableException() {
+        // Given - one notification running and one queued
+        notificationsExecutor = new ObserverNotificationsExecutor(true, 1, 1, Duration.ofSeconds(5), meterRegistry);
+        notificationsExecutor.execute(RESOURCE, this::awaitRelease);
+        notificationsExecutor.execute(RESOURCE, this::awaitRelease);
+
+        // When & Then
+        assertThatThrownBy(() -> notificationsExecutor.execute(RESOURCE, () -> { }))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.counter("registry.observer.notifications.rejected").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("registry.observer.notifications.queued").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void whenLaneIsFullThenOtherLanesStillAcceptNotifications() throws Exception {
+        // Given - the lane of the first resource has one notification running and one queued
+        notificationsExecutor = new ObserverNotificationsExecutor(true, 2, 1, Duration.ofSeconds(5), meterRegistry);
+        notificationsExecutor.execute(RESOURCE, this::awaitRelease);
+        notificationsExecutor.execute(RESOURCE, this::awaitRelease);
+        CountDownLatch processed = new CountDownLatch(1);
+
+        // When & Then
+        assertThatThrownBy(() -> notificationsExecutor.execute(RESOURCE, () -> { }))
+                .isInstanceOf(ServiceUnavailableException.class);
+        notificationsExecutor.execute(OTHER_RESOURCE, processed::countDown);
+        assertThat(processed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void whenShuttingDownThenQueuedNotificationsAreDrained() throws Exception {
+        // Given
+        notificationsExecutor = new ObserverNotificationsExecutor(true, 1, 10, Duration.ofSeconds(5), meterRegistry);
+        AtomicInteger processed = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            notificationsExecutor.execute(RESOURCE, () -> {
+                awaitRelease();
+                processed.incrementAndGet();
+            });
+        }
+
+        // When
+        release.countDown();
+        notificationsExecutor.destroy();
+
+        // Then
+        assertThat(processed.get()).isEqualTo(5);
+        assertThat(meterRegistry.timer("registry.observer.notifications.processing").count()).isEqualTo(5);
+    }
+
+    @Test
+    void whenShutDownThenNewNotificationsAreRefused() throws Exception {
+        // Given
+        notificationsExecutor = new ObserverNotificationsExecutor(true, 1, 10, Duration.ofSeconds(5), meterRegistry);
+        notificationsExecutor.destroy();
+
+        // When & Then
+        assertThatThrownBy(() -> notificationsExecutor.execute(RESOURCE, () -> { }))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    void whenNotAsyncThenNotificationRunsOnTheCallingThread() {
+        // Given
+        notificationsExecutor = new ObserverNotificationsExecutor(false, 1, 1, Duration.ofSeconds(5), meterRegistry);
+        AtomicReference<Thread> processingThread = new AtomicReference<>();
+
+        // When
+        notificationsExecutor.execute(RESOURCE, () -> processingThread.set(Thread.currentThread()));
+
+        // Then
+        assertThat(processingThread.get()).isSameAs(Thread.currentThread());
+        assertThat(meterRegistry.timer("registry.observer.notifications.processing").count()).isEqualTo(1);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package org.opendatamesh.platform.pp.registry.observer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
+import org.opendatamesh.platform.pp.registry.exceptions.ServiceUnavailableException;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientUnavailableException;
+import org.opendatamesh.platform.pp.registry.observer.entities.ObserverNotification;
+import org.opendatamesh.platform.pp.registry.observer.entities.ObserverNotificationOutcome;
+import org.opendatamesh.platform.pp.registry.rest.v2.resources.event.EventTypeRes;
+import org.opendatamesh.platform.pp.registry.rest.v2.resources.notification.NotificationDispatchRes;
+import org.opendatamesh.platform.pp.registry.utils.usecases.NotificationEventHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ObserverServiceTest {
+
+    private static final Long NOTIFICATION_ID = 42L;
+
+    @Mock
+    private NotificationEventHandler notificationEventHandler;
+
+    @Mock
+    private ObserverNotificationsAcknowledger notificationsAcknowledger;
+
+    @Mock
+    private ObserverNotificationsExecutor notificationsExecutor;
+
+    @Mock
+    private ObserverNotificationsQueue notificationsQueue;
+
+    @InjectMocks
+    private ObserverService observerService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(observerService, "notificationEventHandlers", List.of(notificationEventHandler));
+        ReflectionTestUtils.setField(observerService, "batchSize", 10);
+    }
+
+    private void indexHandlers(EventTypeRes supportedEventType) {
+        lenient().when(notificationEventHandler.supportsEventType(any())).thenReturn(false);
+        lenient().when(notificationEventHandler.supportsEventType(supportedEventType)).thenReturn(true);
+        observerService.indexHandlers();
+    }
+
+    @Test
+    void whenNotificationIsReceivedThenItIsHandledAndAcknowledged() {
+        // Given
+        NotificationDispatchRes notification = notification();
+        ObserverNotification queued = queued(null);
+        runTasksInline();
+        when(notificationsQueue.offer(notification)).thenReturn(true);
+        when(notificationsQueue.claim(NOTIFICATION_ID)).thenReturn(Optional.of(queued));
+        when(notificationsQueue.toNotification(queued)).thenReturn(notification);
+        indexHandlers(EventTypeRes.DATA_PRODUCT_INITIALIZATION_APPROVED);
+
+        // When
+        observerService.processNotification(notification);
+
+        // Then
+        verify(notificationEventHandler).handleEvent(notification.getEvent());
+        verify(notificationsQueue).recordOutcome(NOTIFICATION_ID, ObserverNotificationOutcome.PROCESSED);
+        verify(notificationsAcknowledger).acknowledge(queued);
+        assertThat(queued.getOutcome()).isEqualTo(ObserverNotificationOutcome.PROCESSED);
+    }
+
+    @Test
+    void whenNotificationIsReceivedThenItIsExecutedOnTheLaneOfItsResource() {
+        // Given
+        NotificationDispatchRes notification = notification();
+        notification.getEvent().setResourceIdentifier("urn:dpds:test:dataproducts:orders");
+        when(notificationsQueue.offer(notification)).thenReturn(true);
+
+        // When
+        observerService.processNotification(notification);
+
+        // Then
+        verify(notificationsExecutor).execute(eq("urn:dpds:test:dataproducts:orders"), any());
+    }
+
+    @Test
+    void whenNoHandlerSupportsTheEventTypeThenNotificationIsProcessedWithoutHandling() {
+        // Given
+        NotificationDispatchRes notification = notification();
+        ObserverNotification queued = queued(null);
+        runTasksInline();
+        when(notificationsQueue.offer(notification)).thenReturn(true);
+        when(notificationsQueue.claim(NOTIFICATION_ID)).thenReturn(Optional.of(queued));
+        when(notificationsQueue.toNotification(queued)).thenReturn(notification);
+        indexHandlers(EventTypeRes.DATA_PRODUCT_DELETED);
+
+        // When
+        observerService.processNotification(notification);
+
+        // Then
+        verify(notificationEventHandler, never()).handleEvent(any());
+        verify(notificationsQueue).recordOutcome(NOTIFICATION_ID, ObserverNotificationOutcome.PROCESSED);
+        verify(notificationsAcknowledger).acknowledge(queued);
+    }
+
+    @Test
+    void whenNotificationIsAlreadyReceivedThenItIsIgnored() {
+        // Given
+        NotificationDispatchRes notification = notification();
+        when(notificationsQueue.offer(notification)).thenReturn(false);
+
+        // When
+        observerService.processNotification(notification);
+
+        // Then
+        verifyNoInteractions(notificationsExecutor, notificationEventHandler, notificationsAcknowledger);
+    }
+
+    @Test
+    void whenNotificationHasNoSequenceIdThenThrowBadRequestException() {
+        // Given
+        NotificationDispatchRes notification = notification();
+        notification.setSequenceId(null);
+
+        // When & Then
+        assertThatThrownBy(() -> observerService.processNotification(notification))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(notificationsQueue, notificationsExecutor);
+    }
+
+    @Test
+    void whenExecutorIsFullThenNotificationStaysQueued() {
+        // Given
+        NotificationDispatchRes notification = notification();
+        when(notificationsQueue.offer(notification)).thenReturn(true);
+        doThrow(new ServiceUnavailableException("full")).when(notificationsExecutor).execute(any(), any());
+
+        // When
+        observerService.processNotification(notification);
+
+        // Then
+        verify(notificationsQueue, never()).claim(any());
+        verifyNoInteractions(notificationsAcknowledger);
+    }
+
+    @Test
+    void whenHandlerFailsThenFailureIsRecordedAndAcknowledged() {
+        // Given
+        NotificationDispatchRes notification = notification();
+        ObserverNotification queued = queued(null);
+        runTasksInline();
+        when(notificationsQueue.offer(notification)).thenReturn(true);
+        when(notificationsQueue.claim(NOTIFICATION_ID)).thenReturn(Optional.of(queued));
+        when(notificationsQueue.toNotification(queued)).thenReturn(notification);
+        indexHandlers(EventTypeRes.DATA_PRODUCT_INITIALIZATION_APPROVED);
+        doThrow(new RuntimeException("boom")).when(notificationEventHandler).handleEvent(any());
+
+        // When
+        observerService.processNotification(notification);
+
+        // Then
+        verify(notificationsQueue).recordOutcome(NOTIFICATION_ID, ObserverNotificationOutcome.FAILED_TO_PROCESS);
+        verify(notificationsAcknowledger).acknowledge(queued);
+        assertThat(queued.getOutcome()).isEqualTo(ObserverNotificationOutcome.FAILED_TO_PROCESS);
+    }
+
+    @Test
+    void whenDownstreamServiceIsUnavailableThenNotificationIsRetriedLaterWithoutOutcome() {
+        // Given
+        NotificationDispatchRes notification = notification();
+        ObserverNotification queued = queued(null);
+        runTasksInline();
+        when(notificationsQueue.offer(notification)).thenReturn(true);
+        when(notificationsQueue.claim(NOTIFICATION_ID)).thenReturn(Optional.of(queued));
+        when(notificationsQueue.toNotification(queued)).thenReturn(notification);
+        indexHandlers(EventTypeRes.DATA_PRODUCT_INITIALIZATION_APPROVED);
+        doThrow(new ClientUnavailableException("Circuit breaker policy is open")).when(notificationEventHandler).handleEvent(any());
+
+        // When
+        observerService.processNotification(notification);
+
+        // Then
+        verify(notificationsQueue).retryLater(queued, "{code=503, responseBody='Circuit breaker policy is open}");
+        verify(notificationsQueue, never()).recordOutcome(any(), any());
+        verifyNoInteractions(notificationsAcknowledger);
+        assertThat(queued.getOutcome()).isNull();
+    }
+
+    @Test
+    void whenQueuedNotificationWasAlreadyHandledThenOnlyTheAcknowledgementIsRetried() {
+        // Given
+        ObserverNotification queued = queued(ObserverNotificationOutcome.PROCESSED);
+        runTasksInline();
+        when(notificationsExecutor.remainingCapacity()).thenReturn(100);
+        when(notificationsQueue.claimDue(10)).thenReturn(List.of(queued));
+
+        // When
+        observerService.processQueuedNotifications();
+
+        // Then
+        verifyNoInteractions(notificationEventHandler);
+        verify(notificationsQueue, never()).recordOutcome(any(), any());
+        verify(notificationsAcknowledger).acknowledge(queued);
+    }
+
+    @Test
+    void whenPollingThenNoMoreNotificationsThanTheFreeCapacityAreClaimed() {
+        // Given
+        when(notificationsExecutor.remainingCapacity()).thenReturn(3);
+        when(notificationsQueue.claimDue(anyInt())).thenReturn(List.of());
+
+        // When
+        observerService.processQueuedNotifications();
+
+        // Then
+        verify(notificationsQueue).claimDue(3);
+    }
+
+    @Test
+    void whenExecutorIsFullWhilePollingThenClaimedNotificationIsReleased() {
+        // Given
+        ObserverNotification queued = queued(null);
+        when(notificationsExecutor.remainingCapacity()).thenReturn(1);
+        when(notificationsQueue.claimDue(1)).thenReturn(List.of(queued));
+        doThrow(new ServiceUnavailableException("full")).when(notificationsExecutor).execute(any(), any());
+
+        // When
+        observerService.processQueuedNotifications();
+
+        // Then
+        verify(notificationsQueue).release(queued);
+        verify(notificationsQueue, never()).retryLater(any(), anyString());
+    }
+
+    private void runTasksInline() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(notificationsExecutor).execute(any(), any());
+    }
+
+    private static NotificationDispatchRes notification() {
+        NotificationDispatchRes notification = new NotificationDispatchRes();
+        notification.setSequenceId(NOTIFICATION_ID);
+        NotificationDispatchRes.NotificationDispatchEventRes event = new NotificationDispatchRes.NotificationDispatchEventRes();
+        event.setType(EventTypeRes.DATA_PRODUCT_INITIALIZATION_APPROVED.name());
+        notification.setEvent(event);
+        return notification;
+    }
+
+    private static ObserverNotification queued(ObserverNotificationOutcome outcome) {
+        ObserverNotification queued = new ObserverNotification();
+        queued.setSequenceId(NOTIFICATION_ID);
+        queued.setAttempts(1);
+        queued.setOutcome(outcome);
+        return queued;
+    }
+}
@@ -0,0 +1,56 @@
+package org.opendatamesh.platform.pp.registry.old.v1.descriptorparser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LegacyDescriptorParserTest {
+
+    private final ResourceLoader resourceLoader = new DefaultResourceLoader();
+
+    @Test
+    void whenSchemasLocationExistsThenSchemasAreReadFromIt(@TempDir Path schemas) throws Exception {
+        // Given
+        Files.writeString(schemas.resolve("v1.0.0.schema.json"), "{}");
+
+        // When
+        LegacyDescriptorParser parser = new LegacyDescriptorParser("file:" + schemas, resourceLoader);
+
+        // Then
+        assertThat(parser.getSchemasBaseUrl()).isEqualTo(schemas.toUri().toURL().toExternalForm());
+        assertThat(parser.getSchemasBaseUrl()).endsWith("/");
+    }
+
+    @Test
+    void whenSchemasLocationDoesNotExistThenSchemasAreDownloaded() {
+        // When
+        LegacyDescriptorParser parser = new LegacyDescriptorParser("classpath:missing/schemas/", resourceLoader);
+
+        // Then
+        assertThat(parser.getSchemasBaseUrl()).isEqualTo(LegacyDescriptorParser.REMOTE_SCHEMAS_BASE_URL);
+    }
+
+    @Test
+    void whenSchemasLocationIsNotSetThenSchemasAreDownloaded() {
+        // When
+        String schemasBaseUrl = LegacyDescriptorParser.resolveSchemasBaseUrl("", resourceLoader);
+
+        // Then
+        assertThat(schemasBaseUrl).isEqualTo(LegacyDescriptorParser.REMOTE_SCHEMAS_BASE_URL);
+    }
+
+    @Test
+    void whenSchemasLocationIsAMirrorThenItIsUsedAsIs() {
+        // When
+        String schemasBaseUrl = LegacyDescriptorParser.resolveSchemasBaseUrl("https://mirror.example.com/dpds/schemas", resourceLoader);
+
+        // Then
+        assertThat(schemasBaseUrl).isEqualTo("https://mirror.example.com/dpds/schemas/");
+    }
+}
@@ -29,6 +29,7 @@ import org.springframework.test.context.TestPropertySource;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -809,7 +810,8 @@ public class PolicyServiceV1IT extends RegistryApplicationIT {
 
     private NotificationDispatchRes createNotificationDispatch(String eventType, String resourceType, String resourceIdentifier, JsonNode content) {
         NotificationDispatchRes notification = new NotificationDispatchRes();
-        notification.setSequenceId(1L);
+        // Notifications are deduplicated by sequence id, each test needs its own
+        notification.setSequenceId(ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE));
 
         NotificationDispatchRes.NotificationDispatchEventRes event = new NotificationDispatchRes.NotificationDispatchEventRes();
         event.setSequenceId(1L);
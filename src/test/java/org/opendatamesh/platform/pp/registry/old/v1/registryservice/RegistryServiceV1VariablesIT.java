@@ -3,6 +3,7 @@ package org.opendatamesh.platform.pp.registry.old.v1.registryservice;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
+import org.opendatamesh.dpds.parser.IdentifierStrategyFactory;
 import org.opendatamesh.platform.pp.registry.rest.v2.RegistryApplicationIT;
 import org.opendatamesh.platform.pp.registry.rest.v2.RoutesV2;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductRes;
@@ -18,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -378,4 +380,86 @@ public class RegistryServiceV1VariablesIT extends RegistryApplicationIT {
         rest.delete(apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS, "/" + versionId));
         rest.delete(apiUrl(RoutesV2.DATA_PRODUCTS, "/" + productId));
     }
+
+    /*
+    Scenario: Retrieve variables by the fqn-derived id when several products share the version number
+        Given two Data Products with version "1.0.0", each with one variable
+        When GET /api/v1/pp/registry/products/<fqnDerivedId>/versions/1.0.0/variables
+            with fqnDerivedId = IdentifierStrategy.getId(fqn) of the second product
+        Then the response status is 200
+        And the response contains the variable of the second product version only
+    */
+    @Test
+    void whenGetVariablesByFqnDerivedIdThenReturnVariablesOfTheMatchingDataProductVersion() throws IOException {
+        // Given
+        List<String> productIds = new ArrayList<>();
+        List<String> versionIds = new ArrayList<>();
+        List<Long> variableIds = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            DataProductRes dataProduct = new DataProductRes();
+            dataProduct.setName("test-product-v1-fqn-id-" + i);
+            dataProduct.setDomain("test-domain");
+            dataProduct.setFqn("test.product.v1.fqn.id." + i);
+
+            ResponseEntity<DataProductRes> dataProductResponse = rest.postForEntity(
+                    apiUrl(RoutesV2.DATA_PRODUCTS),
+                    new HttpEntity<>(dataProduct),
+                    DataProductRes.class
+            );
+            assertThat(dataProductResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            productIds.add(dataProductResponse.getBody().getUuid());
+
+            DataProductVersionRes dataProductVersion = new DataProductVersionRes();
+            dataProductVersion.setName("test-version-v1-fqn-id-" + i);
+            dataProductVersion.setTag("v1.0.0");
+            dataProductVersion.setVersionNumber("1.0.0");
+            dataProductVersion.setValidationState(DataProductVersionValidationStateRes.PENDING);
+            dataProductVersion.setDataProduct(dataProductResponse.getBody());
+            dataProductVersion.setContent(objectMapper.readTree("{\"info\":{\"version\":\"1.0.0\"}}"));
+
+            ResponseEntity<DataProductVersionRes> versionResponse = rest.postForEntity(
+                    apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS),
+                    new HttpEntity<>(dataProductVersion),
+                    DataProductVersionRes.class
+            );
+            assertThat(versionResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            versionIds.add(versionResponse.getBody().getUuid());
+
+            DescriptorVariableRes variable = new DescriptorVariableRes();
+            variable.setDataProductVersionUuid(versionResponse.getBody().getUuid());
+            variable.setVariableKey("test-key-fqn-id");
+            variable.setVariableValue("test-value-" + i);
+
+            ResponseEntity<DescriptorVariableRes> variableResponse = rest.postForEntity(
+                    apiUrl(RoutesV2.DESCRIPTOR_VARIABLES),
+                    new HttpEntity<>(variable),
+                    DescriptorVariableRes.class
+            );
+            assertThat(variableResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            variableIds.add(variableResponse.getBody().getSequenceId());
+        }
+        String fqnDerivedId = IdentifierStrategyFactory.getDefault("org.opendatamesh").getId("test.product.v1.fqn.id.2");
+
+        // When
+        ResponseEntity<List<RegistryV1VariableResource>> response = rest.exchange(
+                apiUrlFromString("/api/v1/pp/registry/products/" + fqnDerivedId + "/versions/1.0.0/variables"),
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<>() {
+                }
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).hasSize(1);
+        assertThat(response.getBody().get(0).getId()).isEqualTo(variableIds.get(1));
+        assertThat(response.getBody().get(0).getVariableValue()).isEqualTo("test-value-2");
+
+        // Cleanup
+        for (int i = 0; i < 2; i++) {
+            rest.delete(apiUrl(RoutesV2.DESCRIPTOR_VARIABLES, "/" + variableIds.get(i)));
+            rest.delete(apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS, "/" + versionIds.get(i)));
+            rest.delete(apiUrl(RoutesV2.DATA_PRODUCTS, "/" + productIds.get(i)));
+        }
+    }
 }
@@ -0,0 +1,113 @@
+package org.opendatamesh.platform.pp.registry.old.v1.registryservice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatamesh.platform.pp.registry.dataproductversion.entities.DataProductVersion;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RegistryV1LegacyRenderingsTest {
+
+    private static final String VERSION_UUID = "7d3b4e1a-0000-0000-0000-000000000001";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger renders = new AtomicInteger();
+    private final Function<JsonNode, String> renderer = content -> {
+        renders.incrementAndGet();
+        return "rendered:" + content;
+    };
+
+    @Mock
+    private RegistryV1LegacyRenderingsRepository repository;
+
+    @InjectMocks
+    private RegistryV1LegacyRenderings legacyRenderings;
+
+    @Test
+    void whenRenderingOfTheCurrentContentIsStoredThenItIsReturnedWithoutRendering() {
+        // Given
+        DataProductVersion dataProductVersion = dataProductVersion("1.0.0");
+        String contentHash = RegistryV1LegacyRenderings.contentHash(dataProductVersion.getContent());
+        when(repository.findRendering(VERSION_UUID, "normalized", contentHash)).thenReturn(Optional.of("stored"));
+
+        // When
+        String rendering = legacyRenderings.getOrRender(dataProductVersion, "NORMALIZED", renderer);
+
+        // Then
+        assertThat(rendering).isEqualTo("stored");
+        assertThat(renders.get()).isZero();
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void whenRenderingIsMissingThenItIsRenderedAndStored() {
+        // Given
+        DataProductVersion dataProductVersion = dataProductVersion("1.0.0");
+        when(repository.findRendering(eq(VERSION_UUID), eq("canonical"), anyString())).thenReturn(Optional.empty());
+
+        // When
+        String rendering = legacyRenderings.getOrRender(dataProductVersion, null, renderer);
+
+        // Then
+        assertThat(rendering).isEqualTo("rendered:" + dataProductVersion.getContent());
+        ArgumentCaptor<RegistryV1LegacyRendering> stored = ArgumentCaptor.forClass(RegistryV1LegacyRendering.class);
+        verify(repository).save(stored.capture());
+        assertThat(stored.getValue().getKey().getDataProductVersionUuid()).isEqualTo(VERSION_UUID);
+        assertThat(stored.getValue().getKey().getFormat()).isEqualTo("canonical");
+        assertThat(stored.getValue().getContentHash()).isEqualTo(RegistryV1LegacyRenderings.contentHash(dataProductVersion.getContent()));
+        assertThat(stored.getValue().getRendering()).isEqualTo(rendering);
+    }
+
+    @Test
+    void whenContentChangesThenItsHashChanges() {
+        // When
+        String hash = RegistryV1LegacyRenderings.contentHash(dataProductVersion("1.0.0").getContent());
+        String sameHash = RegistryV1LegacyRenderings.contentHash(dataProductVersion("1.0.0").getContent());
+        String otherHash = RegistryV1LegacyRenderings.contentHash(dataProductVersion("1.0.1").getContent());
+
+        // Then
+        assertThat(hash).isEqualTo(sameHash).hasSize(64);
+        assertThat(otherHash).isNotEqualTo(hash);
+    }
+
+    @Test
+    void whenRenderingCannotBeStoredThenItIsStillReturned() {
+        // Given
+        DataProductVersion dataProductVersion = dataProductVersion("1.0.0");
+        when(repository.findRendering(anyString(), anyString(), anyString())).thenReturn(Optional.empty());
+        when(repository.save(any())).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // When
+        String rendering = legacyRenderings.getOrRender(dataProductVersion, "canonical", renderer);
+
+        // Then
+        assertThat(rendering).isEqualTo("rendered:" + dataProductVersion.getContent());
+    }
+
+    private DataProductVersion dataProductVersion(String versionNumber) {
+        ObjectNode content = objectMapper.createObjectNode();
+        content.put("dataProductDescriptor", "1.0.0");
+        content.putObject("info").put("version", versionNumber);
+        DataProductVersion dataProductVersion = new DataProductVersion();
+        dataProductVersion.setUuid(VERSION_UUID);
+        dataProductVersion.setContent(content);
+        return dataProductVersion;
+    }
+}
@@ -0,0 +1,90 @@
+package org.opendatamesh.platform.pp.registry.old.v1.registryservice;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.opendatamesh.platform.pp.registry.exceptions.BadRequestException;
+import org.opendatamesh.platform.pp.registry.exceptions.ServiceUnavailableException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RegistryV1PolicyValidationExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private RegistryV1PolicyValidationExecutor policyValidationExecutor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        policyValidationExecutor.destroy();
+    }
+
+    @Test
+    void whenEvaluationsRunTogetherThenTheyOverlap() throws Exception {
+        // Given
+        policyValidationExecutor = new RegistryV1PolicyValidationExecutor(2, 10, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        long deadline = policyValidationExecutor.deadline();
+
+        // When - the submitted evaluation waits for the one running on the calling thread
+        Future<String> evaluation = policyValidationExecutor.submit(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS) ? "done" : "timed out";
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+
+        // Then
+        assertThat(policyValidationExecutor.await(evaluation, deadline)).isEqualTo("done");
+    }
+
+    @Test
+    void whenDeadlineExpiresThenThrowServiceUnavailableExceptionAndCancelEvaluation() {
+        // Given
+        policyValidationExecutor = new RegistryV1PolicyValidationExecutor(1, 10, Duration.ofMillis(50));
+        long deadline = policyValidationExecutor.deadline();
+        Future<Boolean> evaluation = policyValidationExecutor.submit(() -> release.await(5, TimeUnit.SECONDS));
+
+        // When & Then
+        assertThatThrownBy(() -> policyValidationExecutor.await(evaluation, deadline))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(evaluation.isCancelled()).isTrue();
+    }
+
+    @Test
+    void whenEvaluationFailsThenItsExceptionIsRethrown() {
+        // Given
+        policyValidationExecutor = new RegistryV1PolicyValidationExecutor(1, 10, Duration.ofSeconds(5));
+        long deadline = policyValidationExecutor.deadline();
+        Future<Object> evaluation = policyValidationExecutor.submit(() -> {
+            throw new BadRequestException("invalid descriptor");
+        });
+
+        // When & Then
+        assertThatThrownBy(() -> policyValidationExecutor.await(evaluation, deadline))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("invalid descriptor");
+    }
+
+    @Test
+    void whenPoolIsFullThenEvaluationRunsOnTheCallingThread() {
+        // Given - one evaluation running and one queued
+        policyValidationExecutor = new RegistryV1PolicyValidationExecutor(1, 1, Duration.ofSeconds(5));
+        policyValidationExecutor.submit(() -> release.await(5, TimeUnit.SECONDS));
+        policyValidationExecutor.submit(() -> release.await(5, TimeUnit.SECONDS));
+        long deadline = policyValidationExecutor.deadline();
+
+        // When
+        Future<Thread> evaluation = policyValidationExecutor.submit(Thread::currentThread);
+
+        // Then
+        assertThat(evaluation.isDone()).isTrue();
+        assertThat(policyValidationExecutor.await(evaluation, deadline)).isSameAs(Thread.currentThread());
+    }
+}
@@ -0,0 +1,175 @@
+package org.opendatamesh.platform.pp.registry.outbox.services.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import org.opendatamesh.platform.pp.registry.outbox.entities.NotificationOutboxEvent;
+import org.opendatamesh.platform.pp.registry.outbox.repositories.NotificationOutboxEventsRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxRelayTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private NotificationOutboxEventsRepository repository;
+
+    @Mock
+    private NotificationClient notificationClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private NotificationOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new NotificationOutboxRelay(repository, notificationClient, transactionManager, meterRegistry);
+    }
+
+    @Test
+    void whenEnqueuedEventIsClaimedThenItIsSentAsBuiltAndDeleted() {
+        // Given
+        Object event = new Object();
+        NotificationOutboxEvent outboxEvent = outboxEvent(1L, "resource-1");
+        when(repository.findUndeliveredHeadForUpdate(1L)).thenReturn(Optional.of(outboxEvent));
+
+        // When
+        relay.deliverEnqueued(1L, event);
+
+        // Then
+        InOrder inOrder = inOrder(notificationClient, repository);
+        inOrder.verify(notificationClient).notifyEvent(event);
+        inOrder.verify(repository).deleteById(1L);
+        assertThat(outboxEvent.getAttempts()).isEqualTo(1);
+        assertThat(outboxEvent.getNextAttemptAt()).isAfter(Timestamp.from(Instant.now()));
+        assertThat(meterRegistry.counter("registry.notifications.outbox.delivered").count()).isEqualTo(1);
+    }
+
+    @Test
+    void whenEnqueuedEventCannotBeClaimedThenNothingIsSent() {
+        // Given - an earlier event of the same resource is pending, or the event is already claimed
+        when(repository.findUndeliveredHeadForUpdate(1L)).thenReturn(Optional.empty());
+
+        // When
+        relay.deliverEnqueued(1L, new Object());
+
+        // Then
+        verifyNoInteractions(notificationClient);
+        verify(repository, never()).deleteById(anyLong());
+    }
+
+    @Test
+    void whenDeliveryFailsThenEventIsRescheduledAndKept() {
+        // Given
+        Object event = new Object();
+        when(repository.findUndeliveredHeadForUpdate(1L)).thenReturn(Optional.of(outboxEvent(1L, "resource-1")));
+        doThrow(new RuntimeException("Connection refused")).when(notificationClient).notifyEvent(event);
+
+        // When
+        relay.deliverEnqueued(1L, event);
+
+        // Then
+        verify(repository).reschedule(eq(1L), any(Timestamp.class), eq("Connection refused"));
+        verify(repository, never()).deleteById(anyLong());
+        assertThat(meterRegistry.counter("registry.notifications.outbox.failed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("registry.notifications.outbox.delivered").count()).isZero();
+    }
+
+    @Test
+    void whenDueEventsAreRelayedThenStoredPayloadsAreSentInSequenceOrder() {
+        // Given
+        NotificationOutboxEvent first = outboxEvent(1L, "resource-1");
+        NotificationOutboxEvent second = outboxEvent(2L, "resource-2");
+        when(repository.findDueHeadsForUpdate(any(Timestamp.class), any(Pageable.class))).thenReturn(List.of(first, second));
+
+        // When
+        relay.relayDueEvents();
+
+        // Then
+        InOrder inOrder = inOrder(notificationClient, repository);
+        inOrder.verify(notificationClient).notifyEvent(first.getPayload());
+        inOrder.verify(repository).deleteById(1L);
+        inOrder.verify(notificationClient).notifyEvent(second.getPayload());
+        inOrder.verify(repository).deleteById(2L);
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(second.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void whenOneDueEventFailsThenTheOthersAreStillDelivered() {
+        // Given
+        NotificationOutboxEvent failing = outboxEvent(1L, "resource-1");
+        NotificationOutboxEvent delivered = outboxEvent(2L, "resource-2");
+        when(repository.findDueHeadsForUpdate(any(Timestamp.class), any(Pageable.class))).thenReturn(List.of(failing, delivered));
+        doThrow(new RuntimeException("Bad gateway")).when(notificationClient).notifyEvent(failing.getPayload());
+
+        // When
+        relay.relayDueEvents();
+
+        // Then
+        verify(repository).reschedule(eq(1L), any(Timestamp.class), anyString());
+        verify(repository).deleteById(2L);
+        verify(repository, never()).deleteById(1L);
+    }
+
+    @Test
+    void whenNoEventIsDueThenNothingIsSent() {
+        // Given
+        when(repository.findDueHeadsForUpdate(any(Timestamp.class), any(Pageable.class))).thenReturn(List.of());
+
+        // When
+        relay.relayDueEvents();
+
+        // Then
+        verifyNoInteractions(notificationClient);
+    }
+
+    @Test
+    void whenAttemptsGrowThenRetryDelayDoublesUpToTheMaximum() {
+        assertThat(relay.retryDelay(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(relay.retryDelay(2)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(relay.retryDelay(5)).isEqualTo(Duration.ofSeconds(16));
+        assertThat(relay.retryDelay(20)).isEqualTo(Duration.ofMinutes(5));
+        assertThat(relay.retryDelay(1000)).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    private NotificationOutboxEvent outboxEvent(Long sequenceId, String resourceIdentifier) {
+        JsonNode payload = objectMapper.createObjectNode()
+                .put("resourceIdentifier", resourceIdentifier)
+                .put("type", "DATA_PRODUCT_INITIALIZATION_REQUESTED");
+        NotificationOutboxEvent outboxEvent = new NotificationOutboxEvent();
+        outboxEvent.setSequenceId(sequenceId);
+        outboxEvent.setResourceIdentifier(resourceIdentifier);
+        outboxEvent.setEventType("DATA_PRODUCT_INITIALIZATION_REQUESTED");
+        outboxEvent.setPayload(payload);
+        outboxEvent.setCreatedAt(Timestamp.from(Instant.now()));
+        outboxEvent.setNextAttemptAt(Timestamp.from(Instant.now()));
+        return outboxEvent;
+    }
+}
@@ -0,0 +1,160 @@
+package org.opendatamesh.platform.pp.registry.outbox.services.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatamesh.platform.pp.registry.outbox.entities.NotificationOutboxEvent;
+import org.opendatamesh.platform.pp.registry.outbox.repositories.NotificationOutboxEventsRepository;
+import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.events.emitted.EmittedEventDataProductDeletedRes;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxServiceImplTest {
+
+    @Mock
+    private NotificationOutboxEventsRepository repository;
+
+    @Mock
+    private NotificationOutboxRelay relay;
+
+    private NotificationOutboxServiceImpl notificationOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        notificationOutboxService = new NotificationOutboxServiceImpl(
+                repository, relay, Runnable::run, new ObjectMapper(), Duration.ofSeconds(10), true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void whenEventIsEnqueuedThenItIsStoredWithItsResourceAndType() {
+        // Given
+        EmittedEventDataProductDeletedRes event = deletedEvent("data-product-uuid-1");
+        when(repository.save(any(NotificationOutboxEvent.class))).thenAnswer(invocation -> withSequenceId(invocation.getArgument(0), 7L));
+        beginTransaction();
+
+        // When
+        notificationOutboxService.enqueue(event);
+
+        // Then
+        ArgumentCaptor<NotificationOutboxEvent> captor = ArgumentCaptor.forClass(NotificationOutboxEvent.class);
+        verify(repository).save(captor.capture());
+        NotificationOutboxEvent stored = captor.getValue();
+        assertThat(stored.getResourceIdentifier()).isEqualTo("data-product-uuid-1");
+        assertThat(stored.getEventType()).isEqualTo("DATA_PRODUCT_DELETED");
+        assertThat(stored.getPayload().get("eventContent").get("dataProductUuid").asText()).isEqualTo("data-product-uuid-1");
+        assertThat(stored.getAttempts()).isZero();
+        // Left to the after-commit delivery before the scheduled relay picks it up
+        assertThat(stored.getNextAttemptAt().toInstant()).isAfter(Instant.now().plusSeconds(5));
+        verifyNoInteractions(relay);
+    }
+
+    @Test
+    void whenTransactionCommitsThenEventIsDelivered() {
+        // Given
+        EmittedEventDataProductDeletedRes event = deletedEvent("data-product-uuid-1");
+        when(repository.save(any(NotificationOutboxEvent.class))).thenAnswer(invocation -> withSequenceId(invocation.getArgument(0), 7L));
+        beginTransaction();
+        notificationOutboxService.enqueue(event);
+
+        // When
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        // Then
+        verify(relay).deliverEnqueued(7L, event);
+    }
+
+    @Test
+    void whenDeliveryIsSynchronousThenEventIsDeliveredWithoutTheExecutor() {
+        // Given
+        NotificationOutboxServiceImpl synchronousService = new NotificationOutboxServiceImpl(repository, relay,
+                task -> {
+                    throw new RejectedExecutionException("Not expected");
+                }, new ObjectMapper(), Duration.ofSeconds(10), false);
+        EmittedEventDataProductDeletedRes event = deletedEvent("data-product-uuid-1");
+        when(repository.save(any(NotificationOutboxEvent.class))).thenAnswer(invocation -> withSequenceId(invocation.getArgument(0), 7L));
+        beginTransaction();
+        synchronousService.enqueue(event);
+
+        // When
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        // Then
+        verify(relay).deliverEnqueued(7L, event);
+    }
+
+    @Test
+    void whenTransactionRollsBackThenEventIsNotDelivered() {
+        // Given
+        when(repository.save(any(NotificationOutboxEvent.class))).thenAnswer(invocation -> withSequenceId(invocation.getArgument(0), 7L));
+        beginTransaction();
+        notificationOutboxService.enqueue(deletedEvent("data-product-uuid-1"));
+
+        // When
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then
+        verifyNoInteractions(relay);
+    }
+
+    @Test
+    void whenNoTransactionIsActiveThenThrowIllegalStateException() {
+        assertThatThrownBy(() -> notificationOutboxService.enqueue(deletedEvent("data-product-uuid-1")))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(repository, relay);
+    }
+
+    private static EmittedEventDataProductDeletedRes deletedEvent(String dataProductUuid) {
+        EmittedEventDataProductDeletedRes event = new EmittedEventDataProductDeletedRes();
+        event.setResourceIdentifier(dataProductUuid);
+        event.getEventContent().setDataProductUuid(dataProductUuid);
+        return event;
+    }
+
+    private static NotificationOutboxEvent withSequenceId(NotificationOutboxEvent outboxEvent, Long sequenceId) {
+        outboxEvent.setSequenceId(sequenceId);
+        return outboxEvent;
+    }
+
+    private static void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    /**
+     * Completes the transaction like a transaction manager would, invoking the registered synchronizations.
+     */
+    private static void completeTransaction(int completionStatus) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        if (completionStatus == TransactionSynchronization.STATUS_COMMITTED) {
+            TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        }
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, completionStatus);
+    }
+}
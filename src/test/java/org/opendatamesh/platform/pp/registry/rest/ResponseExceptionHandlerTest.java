@@ -0,0 +1,81 @@
+package org.opendatamesh.platform.pp.registry.rest;
+
+import org.junit.jupiter.api.Test;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientException;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientUnavailableException;
+import org.opendatamesh.platform.pp.registry.rest.v2.resources.ErrorRes;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseExceptionHandlerTest {
+
+    private final ResponseExceptionHandler handler = new ResponseExceptionHandler();
+    private final WebRequest request = new ServletWebRequest(new MockHttpServletRequest("POST", "/api/v2/pp/registry/products"));
+
+    @Test
+    void whenAUniqueConstraintIsViolatedThenReturnConflict() {
+        // Given
+        DataIntegrityViolationException e = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("duplicate key value violates unique constraint \"data_products_fqn_uk\"", "23505"));
+
+        // When
+        ResponseEntity<Object> response = handler.handleDataIntegrityViolation(e, request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    void whenADuplicateKeyIsReportedThenReturnConflict() {
+        // When
+        ResponseEntity<Object> response = handler.handleDataIntegrityViolation(new DuplicateKeyException("duplicate key"), request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    void whenAnotherConstraintIsViolatedThenReturnInternalServerError() {
+        // Given
+        DataIntegrityViolationException e = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("insert or update violates foreign key constraint", "23503"));
+
+        // When
+        ResponseEntity<Object> response = handler.handleDataIntegrityViolation(e, request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    void whenADownstreamServiceIsUnavailableThenReturnServiceUnavailable() {
+        // When
+        ResponseEntity<Object> response = handler.handleClientException(
+                new ClientUnavailableException("Policy service circuit breaker is open"), request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody()).isInstanceOfSatisfying(ErrorRes.class, error -> {
+            assertThat(error.getStatus()).isEqualTo(503);
+            assertThat(error.getMessage()).isEqualTo("Policy service circuit breaker is open");
+        });
+    }
+
+    @Test
+    void whenADownstreamServiceAnswersWithAnUnknownCodeThenReturnInternalServerError() {
+        // When
+        ResponseEntity<Object> response = handler.handleClientException(new ClientException(0, null), request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -13,13 +13,16 @@ import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataP
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductRepoProviderTypeRes;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductRepoRes;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductRes;
+import org.opendatamesh.platform.pp.registry.utils.resources.CursorPageRes;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -217,6 +220,70 @@ public class DataProductControllerIT extends RegistryApplicationIT {
         rest.delete(apiUrl(RoutesV2.DATA_PRODUCTS, "/" + otherProductId));
     }
 
+    @Test
+    public void whenScrollDataProductsThenReturnAllPagesThroughCursor() {
+        // Given - Create three data products in the same domain
+        List<String> createdIds = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            DataProductRes dataProduct = new DataProductRes();
+            dataProduct.setName("whenScrollDataProductsThenReturnAllPagesThroughCursor-" + i + "-product");
+            dataProduct.setDomain("scroll-domain");
+            dataProduct.setFqn("whenScrollDataProductsThenReturnAllPagesThroughCursor-" + i + ".fqn");
+
+            ResponseEntity<DataProductRes> createResponse = rest.postForEntity(
+                    apiUrl(RoutesV2.DATA_PRODUCTS),
+                    new HttpEntity<>(dataProduct),
+                    DataProductRes.class
+            );
+            assertThat(createResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            createdIds.add(createResponse.getBody().getUuid());
+        }
+
+        // When - Walk the pages two elements at a time
+        ResponseEntity<CursorPageRes<DataProductRes>> firstPage = rest.exchange(
+                apiUrl(RoutesV2.DATA_PRODUCTS, "/scroll?domain=scroll-domain&size=2"),
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<>() {
+                }
+        );
+        ResponseEntity<CursorPageRes<DataProductRes>> secondPage = rest.exchange(
+                apiUrl(RoutesV2.DATA_PRODUCTS, "/scroll?domain=scroll-domain&size=2&cursor=" + firstPage.getBody().getNextCursor()),
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<>() {
+                }
+        );
+
+        // Then - Newest first, no duplicates, no more pages after the last one
+        assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(firstPage.getBody().getContent()).hasSize(2);
+        assertThat(firstPage.getBody().getNextCursor()).isNotNull();
+        assertThat(secondPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(secondPage.getBody().getContent()).hasSize(1);
+        assertThat(secondPage.getBody().getNextCursor()).isNull();
+
+        List<String> scrolledIds = new ArrayList<>();
+        firstPage.getBody().getContent().forEach(dp -> scrolledIds.add(dp.getUuid()));
+        secondPage.getBody().getContent().forEach(dp -> scrolledIds.add(dp.getUuid()));
+        assertThat(scrolledIds).containsExactly(createdIds.get(2), createdIds.get(1), createdIds.get(0));
+
+        // Cleanup
+        createdIds.forEach(id -> rest.delete(apiUrl(RoutesV2.DATA_PRODUCTS, "/" + id)));
+    }
+
+    @Test
+    public void whenScrollDataProductsWithInvalidCursorThenReturnBadRequest() {
+        // When
+        ResponseEntity<String> response = rest.getForEntity(
+                apiUrl(RoutesV2.DATA_PRODUCTS, "/scroll?cursor=not-a-valid-cursor"),
+                String.class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     public void whenUpdateDataProductThenReturnUpdatedDataProduct() {
         // Given - Create and save initial data product
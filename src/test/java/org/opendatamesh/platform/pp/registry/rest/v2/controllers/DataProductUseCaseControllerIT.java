@@ -1,5 +1,6 @@
 package org.opendatamesh.platform.pp.registry.rest.v2.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,6 +32,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 public class DataProductUseCaseControllerIT extends RegistryApplicationIT {
@@ -104,6 +106,46 @@ public class DataProductUseCaseControllerIT extends RegistryApplicationIT {
         cleanupDataProduct(response.getBody().getDataProduct().getUuid());
     }
 
+    @Test
+    public void whenNotificationServiceFailsThenInitializationSucceedsAndEventIsDeliveredLater() {
+        // Given
+        doThrow(new RuntimeException("Notification service unavailable"))
+                .doNothing()
+                .when(notificationClient).notifyEvent(any());
+
+        DataProductRes dataProduct = new DataProductRes();
+        dataProduct.setName("test-init-outbox-product");
+        dataProduct.setDomain("test-init-domain");
+        dataProduct.setFqn("test-init-domain:test-init-outbox-product");
+        dataProduct.setDisplayName("test-init-outbox-product Display Name");
+        dataProduct.setDescription("Test Description for test-init-outbox-product");
+
+        DataProductInitCommandRes initCommand = new DataProductInitCommandRes();
+        initCommand.setDataProduct(dataProduct);
+
+        // When
+        ResponseEntity<DataProductInitResultRes> response = rest.postForEntity(
+                apiUrl(RoutesV2.DATA_PRODUCTS, "/init"),
+                new HttpEntity<>(initCommand),
+                DataProductInitResultRes.class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        String dataProductUuid = response.getBody().getDataProduct().getUuid();
+
+        // The failed delivery is retried by the outbox relay with the stored event
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(notificationClient, timeout(15000).times(2)).notifyEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues().get(1)).isInstanceOf(JsonNode.class);
+        JsonNode redeliveredEvent = (JsonNode) eventCaptor.getAllValues().get(1);
+        assertThat(redeliveredEvent.get("resourceIdentifier").asText()).isEqualTo(dataProductUuid);
+        assertThat(redeliveredEvent.get("type").asText()).isEqualTo(EventTypeRes.DATA_PRODUCT_INITIALIZATION_REQUESTED.name());
+
+        // Cleanup
+        cleanupDataProduct(dataProductUuid);
+    }
+
     @Test
     public void whenInitializeDataProductWithNullDataProductThenReturnBadRequest() {
         // Given
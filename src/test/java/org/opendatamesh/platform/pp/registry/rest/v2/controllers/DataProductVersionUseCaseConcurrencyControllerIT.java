@@ -0,0 +1,264 @@
+package org.opendatamesh.platform.pp.registry.rest.v2.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendatamesh.platform.pp.registry.client.notification.NotificationClient;
+import org.opendatamesh.platform.pp.registry.rest.v2.RegistryApplicationIT;
+import org.opendatamesh.platform.pp.registry.rest.v2.RoutesV2;
+import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductRes;
+import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductValidationStateRes;
+import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionRes;
+import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionValidationStateRes;
+import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.usecases.approve.DataProductVersionApproveCommandRes;
+import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.usecases.publish.DataProductVersionPublishCommandRes;
+import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.usecases.publish.DataProductVersionPublishResultRes;
+import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.usecases.reject.DataProductVersionRejectCommandRes;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.ResourceUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.reset;
+
+/**
+ * Fires the use cases of a data product concurrently and checks that they leave it in a consistent state:
+ * requests on the same data product are serialized by its lock, so each one either applies or is refused
+ * as it would be if run alone, and none of them fails with a server error.
+ */
+public class DataProductVersionUseCaseConcurrencyControllerIT extends RegistryApplicationIT {
+
+    private static final int CONCURRENT_REQUESTS = 8;
+
+    private static final ObjectMapper staticObjectMapper = new ObjectMapper();
+    private static JsonNode minimalDescriptorContent;
+
+    @Autowired
+    private NotificationClient notificationClient;
+
+    private ExecutorService executor;
+
+    @BeforeAll
+    public static void setUpClass() throws IOException {
+        minimalDescriptorContent = staticObjectMapper.readTree(ResourceUtils.getFile("classpath:test-data/dpds-minimal-v1.0.0.json"));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        reset(notificationClient);
+        executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+        reset(notificationClient);
+    }
+
+    @Test
+    public void whenSameVersionIsPublishedConcurrentlyThenOnlyOnePublicationSucceeds() throws Exception {
+        // Given
+        DataProductRes dataProduct = createApprovedDataProduct("concurrent-same-version");
+
+        // When
+        List<HttpStatusCode> statuses = runConcurrently(CONCURRENT_REQUESTS, i -> () ->
+                publish(dataProduct, "1.0.0", "v1.0.0").getStatusCode());
+
+        // Then
+        assertThat(statuses).filteredOn(HttpStatus.CREATED::equals).hasSize(1);
+        assertThat(statuses).filteredOn(HttpStatus.BAD_REQUEST::equals).hasSize(CONCURRENT_REQUESTS - 1);
+        assertThat(findVersions(dataProduct)).hasSize(1);
+
+        // Cleanup
+        cleanupDataProduct(dataProduct.getUuid());
+    }
+
+    @Test
+    public void whenDifferentVersionsArePublishedConcurrentlyThenAllPublicationsSucceed() throws Exception {
+        // Given
+        DataProductRes dataProduct = createApprovedDataProduct("concurrent-different-versions");
+
+        // When
+        List<HttpStatusCode> statuses = runConcurrently(CONCURRENT_REQUESTS, i -> () ->
+                publish(dataProduct, "1.0." + i, "v1.0." + i).getStatusCode());
+
+        // Then
+        assertThat(statuses).containsOnly(HttpStatus.CREATED);
+        assertThat(findVersions(dataProduct)).hasSize(CONCURRENT_REQUESTS);
+
+        // Cleanup
+        cleanupDataProduct(dataProduct.getUuid());
+    }
+
+    @Test
+    public void whenVersionIsApprovedAndRejectedConcurrentlyThenOnlyOneTransitionSucceeds() throws Exception {
+        // Given
+        DataProductRes dataProduct = createApprovedDataProduct("concurrent-transitions");
+        ResponseEntity<DataProductVersionPublishResultRes> publishResponse = publish(dataProduct, "1.0.0", "v1.0.0");
+        assertThat(publishResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        DataProductVersionRes publishedVersion = publishResponse.getBody().getDataProductVersion();
+
+        // When
+        List<HttpStatusCode> statuses = runConcurrently(CONCURRENT_REQUESTS, i -> () ->
+                i % 2 == 0 ? approve(publishedVersion) : reject(publishedVersion));
+
+        // Then
+        assertThat(statuses).filteredOn(HttpStatus.OK::equals).hasSize(1);
+        assertThat(statuses).filteredOn(HttpStatus.BAD_REQUEST::equals).hasSize(CONCURRENT_REQUESTS - 1);
+        JsonNode versions = findVersions(dataProduct);
+        assertThat(versions).hasSize(1);
+        assertThat(versions.get(0).get("validationState").asText())
+                .isIn(DataProductVersionValidationStateRes.APPROVED.name(), DataProductVersionValidationStateRes.REJECTED.name());
+
+        // Cleanup
+        cleanupDataProduct(dataProduct.getUuid());
+    }
+
+    @Test
+    public void whenDataProductsAreDifferentThenConcurrentPublicationsDoNotInterfere() throws Exception {
+        // Given
+        List<DataProductRes> dataProducts = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            dataProducts.add(createApprovedDataProduct("concurrent-product-" + i));
+        }
+
+        // When
+        List<HttpStatusCode> statuses = runConcurrently(CONCURRENT_REQUESTS, i -> () ->
+                publish(dataProducts.get(i), "1.0.0", "v1.0.0").getStatusCode());
+
+        // Then
+        assertThat(statuses).containsOnly(HttpStatus.CREATED);
+        for (DataProductRes dataProduct : dataProducts) {
+            assertThat(findVersions(dataProduct)).hasSize(1);
+        }
+
+        // Cleanup
+        dataProducts.forEach(dataProduct -> cleanupDataProduct(dataProduct.getUuid()));
+    }
+
+    /**
+     * Starts the requests together and waits for all of them, so that they overlap as much as possible.
+     */
+    private List<HttpStatusCode> runConcurrently(int requests, RequestFactory requestFactory) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<HttpStatusCode>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            Callable<HttpStatusCode> request = requestFactory.build(i);
+            futures.add(executor.submit(() -> {
+                start.await();
+                return request.call();
+            }));
+        }
+        start.countDown();
+
+        List<HttpStatusCode> statuses = new ArrayList<>();
+        for (Future<HttpStatusCode> future : futures) {
+            statuses.add(future.get(60, TimeUnit.SECONDS));
+        }
+        assertThat(statuses).noneMatch(HttpStatusCode::is5xxServerError);
+        return statuses;
+    }
+
+    private interface RequestFactory {
+        Callable<HttpStatusCode> build(int index);
+    }
+
+    private DataProductRes createApprovedDataProduct(String name) {
+        DataProductRes dataProduct = new DataProductRes();
+        dataProduct.setName(name);
+        dataProduct.setDomain("concurrency-domain");
+        dataProduct.setFqn("concurrency-domain:" + name);
+        dataProduct.setDisplayName(name + " Display Name");
+        dataProduct.setDescription("Test Description for " + name);
+        dataProduct.setValidationState(DataProductValidationStateRes.APPROVED);
+
+        ResponseEntity<DataProductRes> response = rest.postForEntity(
+                apiUrl(RoutesV2.DATA_PRODUCTS),
+                new HttpEntity<>(dataProduct),
+                DataProductRes.class
+        );
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        return response.getBody();
+    }
+
+    private ResponseEntity<DataProductVersionPublishResultRes> publish(DataProductRes dataProduct, String versionNumber, String tag) {
+        JsonNode content = minimalDescriptorContent.deepCopy();
+        ((ObjectNode) content.get("info")).put("fullyQualifiedName", dataProduct.getFqn());
+        ((ObjectNode) content.get("info")).put("version", versionNumber);
+
+        DataProductVersionRes dataProductVersion = new DataProductVersionRes();
+        dataProductVersion.setDataProduct(dataProduct);
+        dataProductVersion.setName("Test Version " + versionNumber);
+        dataProductVersion.setDescription("Test Version Description");
+        dataProductVersion.setTag(tag);
+        dataProductVersion.setSpec("dpds");
+        dataProductVersion.setSpecVersion("1.0.0");
+        dataProductVersion.setContent(content);
+
+        DataProductVersionPublishCommandRes publishCommand = new DataProductVersionPublishCommandRes();
+        publishCommand.setDataProductVersion(dataProductVersion);
+
+        return rest.postForEntity(
+                apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS, "/publish"),
+                new HttpEntity<>(publishCommand),
+                DataProductVersionPublishResultRes.class
+        );
+    }
+
+    private HttpStatusCode approve(DataProductVersionRes dataProductVersion) {
+        DataProductVersionApproveCommandRes approveCommand = new DataProductVersionApproveCommandRes();
+        approveCommand.setDataProductVersion(dataProductVersion);
+        return rest.postForEntity(
+                apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS, "/approve"),
+                new HttpEntity<>(approveCommand),
+                String.class
+        ).getStatusCode();
+    }
+
+    private HttpStatusCode reject(DataProductVersionRes dataProductVersion) {
+        DataProductVersionRejectCommandRes rejectCommand = new DataProductVersionRejectCommandRes();
+        rejectCommand.setDataProductVersion(dataProductVersion);
+        return rest.postForEntity(
+                apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS, "/reject"),
+                new HttpEntity<>(rejectCommand),
+                String.class
+        ).getStatusCode();
+    }
+
+    private JsonNode findVersions(DataProductRes dataProduct) {
+        ResponseEntity<JsonNode> response = rest.exchange(
+                apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS) + "?dataProductUuid=" + dataProduct.getUuid(),
+                HttpMethod.GET,
+                null,
+                JsonNode.class
+        );
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody().get("content");
+    }
+
+    private void cleanupDataProduct(String uuid) {
+        try {
+            rest.delete(apiUrl(RoutesV2.DATA_PRODUCTS, "/" + uuid));
+        } catch (Exception e) {
+            // Ignore cleanup errors in tests
+        }
+    }
+}
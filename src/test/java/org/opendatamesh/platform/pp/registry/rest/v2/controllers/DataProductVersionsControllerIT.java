@@ -2,19 +2,32 @@ package org.opendatamesh.platform.pp.registry.rest.v2.controllers;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.opendatamesh.platform.pp.registry.rest.v2.RegistryApplicationIT;
 import org.opendatamesh.platform.pp.registry.rest.v2.RoutesV2;
+import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductRepoOwnerTypeRes;
+import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductRepoProviderTypeRes;
+import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductRepoRes;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproduct.DataProductRes;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionRes;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionShortRes;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.dataproductversion.DataProductVersionValidationStateRes;
+import org.opendatamesh.platform.pp.registry.utils.resources.CursorPageRes;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -22,6 +35,15 @@ public class DataProductVersionsControllerIT extends RegistryApplicationIT {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.default_schema}")
+    private String schema;
+
     @Test
     public void whenCreateDataProductVersionThenReturnCreatedDataProductVersion() throws IOException {
         // Given - Create a data product first
@@ -206,6 +228,174 @@ public class DataProductVersionsControllerIT extends RegistryApplicationIT {
         }
     }
 
+    @Test
+    public void whenScrollDataProductVersionsThenReturnAllPagesThroughCursor() throws IOException {
+        // Given - A data product with three versions
+        DataProductRes dataProduct = new DataProductRes();
+        dataProduct.setName("test-product-for-scroll");
+        dataProduct.setDomain("test-domain");
+        dataProduct.setFqn("test.product.for.scroll");
+
+        ResponseEntity<DataProductRes> dataProductResponse = rest.postForEntity(
+                apiUrl(RoutesV2.DATA_PRODUCTS),
+                new HttpEntity<>(dataProduct),
+                DataProductRes.class
+        );
+        assertThat(dataProductResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        String dataProductId = dataProductResponse.getBody().getUuid();
+
+        try {
+            List<String> versionIds = new ArrayList<>();
+            for (int i = 1; i <= 3; i++) {
+                DataProductVersionRes dataProductVersion = new DataProductVersionRes();
+                dataProductVersion.setName("test-version-scroll");
+                dataProductVersion.setVersionNumber(i + ".0.0");
+                dataProductVersion.setValidationState(DataProductVersionValidationStateRes.PENDING);
+                dataProductVersion.setDataProduct(dataProductResponse.getBody());
+                dataProductVersion.setContent(objectMapper.readTree("{\"info\":{\"version\":\"" + i + ".0.0\"}}"));
+
+                ResponseEntity<DataProductVersionRes> createResponse = rest.postForEntity(
+                        apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS),
+                        new HttpEntity<>(dataProductVersion),
+                        DataProductVersionRes.class
+                );
+                assertThat(createResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+                versionIds.add(createResponse.getBody().getUuid());
+            }
+
+            // When - Walk the pages two elements at a time
+            ResponseEntity<CursorPageRes<DataProductVersionShortRes>> firstPage = rest.exchange(
+                    apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS, "/scroll?dataProductUuid=" + dataProductId + "&size=2"),
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<>() {
+                    }
+            );
+            ResponseEntity<CursorPageRes<DataProductVersionShortRes>> secondPage = rest.exchange(
+                    apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS, "/scroll?dataProductUuid=" + dataProductId + "&size=2&cursor=" + firstPage.getBody().getNextCursor()),
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<>() {
+                    }
+            );
+
+            // Then - Newest first, no duplicates, no more pages after the last one
+            assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(firstPage.getBody().getContent()).hasSize(2);
+            assertThat(firstPage.getBody().getNextCursor()).isNotNull();
+            assertThat(secondPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(secondPage.getBody().getContent()).hasSize(1);
+            assertThat(secondPage.getBody().getNextCursor()).isNull();
+
+            List<String> scrolledIds = new ArrayList<>();
+            firstPage.getBody().getContent().forEach(version -> scrolledIds.add(version.getUuid()));
+            secondPage.getBody().getContent().forEach(version -> scrolledIds.add(version.getUuid()));
+            assertThat(scrolledIds).containsExactly(versionIds.get(2), versionIds.get(1), versionIds.get(0));
+        } finally {
+            // Cleanup data product, versions are removed in cascade
+            rest.delete(apiUrl(RoutesV2.DATA_PRODUCTS, "/" + dataProductId));
+        }
+    }
+
+    @Test
+    public void whenScrollDataProductVersionsWithOversizedPageThenPageSizeIsCapped() {
+        // When - A size above the maximum page size of the offset based search
+        ResponseEntity<CursorPageRes<DataProductVersionShortRes>> response = rest.exchange(
+                apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS, "/scroll?size=" + Integer.MAX_VALUE),
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<>() {
+                }
+        );
+
+        // Then - The page is served instead of asking the database for an unbounded number of rows
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getSize()).isLessThanOrEqualTo(2000);
+    }
+
+    @Test
+    public void whenScrollDataProductVersionsWithNonPositiveSizeThenReturnBadRequest() {
+        // When
+        ResponseEntity<String> response = rest.getForEntity(
+                apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS, "/scroll?size=0"),
+                String.class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    public void whenSearchDataProductVersionsThenRunBoundedNumberOfStatements() throws IOException {
+        // Given - Two data products with a repository, each with three versions
+        List<String> dataProductIds = new ArrayList<>();
+        try {
+            for (int i = 1; i <= 2; i++) {
+                DataProductRes dataProduct = new DataProductRes();
+                dataProduct.setName("test-product-for-statements-" + i);
+                dataProduct.setDomain("test-domain");
+                dataProduct.setFqn("test.product.for.statements." + i);
+
+                DataProductRepoRes repository = new DataProductRepoRes();
+                repository.setName("test-product-for-statements-repo-" + i);
+                repository.setExternalIdentifier("test-org/test-product-for-statements-repo-" + i);
+                repository.setDescriptorRootPath("/descriptors");
+                repository.setRemoteUrlHttp("https://github.com/test-org/test-product-for-statements-repo-" + i + ".git");
+                repository.setRemoteUrlSsh("git@github.com:test-org/test-product-for-statements-repo-" + i + ".git");
+                repository.setDefaultBranch("main");
+                repository.setProviderType(DataProductRepoProviderTypeRes.GITHUB);
+                repository.setProviderBaseUrl("https://github.com");
+                repository.setOwnerId("test-org");
+                repository.setOwnerType(DataProductRepoOwnerTypeRes.ORGANIZATION);
+                dataProduct.setDataProductRepo(repository);
+
+                ResponseEntity<DataProductRes> dataProductResponse = rest.postForEntity(
+                        apiUrl(RoutesV2.DATA_PRODUCTS),
+                        new HttpEntity<>(dataProduct),
+                        DataProductRes.class
+                );
+                assertThat(dataProductResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+                dataProductIds.add(dataProductResponse.getBody().getUuid());
+
+                for (int j = 1; j <= 3; j++) {
+                    DataProductVersionRes dataProductVersion = new DataProductVersionRes();
+                    dataProductVersion.setName("test-version-statements");
+                    dataProductVersion.setVersionNumber(j + ".0.0");
+                    dataProductVersion.setValidationState(DataProductVersionValidationStateRes.PENDING);
+                    dataProductVersion.setDataProduct(dataProductResponse.getBody());
+                    dataProductVersion.setContent(objectMapper.readTree("{\"info\":{\"version\":\"" + j + ".0.0\"}}"));
+
+                    ResponseEntity<DataProductVersionRes> createResponse = rest.postForEntity(
+                            apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS),
+                            new HttpEntity<>(dataProductVersion),
+                            DataProductVersionRes.class
+                    );
+                    assertThat(createResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+                }
+            }
+
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+            try {
+                // When
+                ResponseEntity<String> response = rest.getForEntity(
+                        apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS, "?name=test-version-statements&size=10"),
+                        String.class
+                );
+
+                // Then - One select for the page and one for the count, regardless of the number of versions and data products
+                assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+                assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+            } finally {
+                statistics.setStatisticsEnabled(false);
+            }
+        } finally {
+            // Cleanup data products, versions are removed in cascade
+            dataProductIds.forEach(id -> rest.delete(apiUrl(RoutesV2.DATA_PRODUCTS, "/" + id)));
+        }
+    }
+
     @Test
     public void whenUpdateDataProductVersionThenReturnUpdatedDataProductVersion() throws IOException {
         // Given - Create a data product first
@@ -383,6 +573,72 @@ public class DataProductVersionsControllerIT extends RegistryApplicationIT {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
+    @Test
+    public void whenUpdateAndDeleteDataProductVersionsThenNoOrphanDescriptorContentIsLeft() throws IOException {
+        // Given - Create a data product first
+        DataProductRes dataProduct = new DataProductRes();
+        dataProduct.setName("test-product-for-content-cleanup");
+        dataProduct.setDomain("test-domain");
+        dataProduct.setFqn("test.product.for.content.cleanup");
+
+        ResponseEntity<DataProductRes> dataProductResponse = rest.postForEntity(
+                apiUrl(RoutesV2.DATA_PRODUCTS),
+                new HttpEntity<>(dataProduct),
+                DataProductRes.class
+        );
+        assertThat(dataProductResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        String dataProductId = dataProductResponse.getBody().getUuid();
+
+        int contentsBefore = countDescriptorContents();
+        try {
+            DataProductVersionRes dataProductVersion = new DataProductVersionRes();
+            dataProductVersion.setName("test-version-content-cleanup");
+            dataProductVersion.setVersionNumber("1.0.0");
+            dataProductVersion.setValidationState(DataProductVersionValidationStateRes.PENDING);
+            dataProductVersion.setDataProduct(dataProductResponse.getBody());
+            dataProductVersion.setContent(objectMapper.readTree("{\"info\":{\"version\":\"1.0.0\"}}"));
+
+            ResponseEntity<DataProductVersionRes> createResponse = rest.postForEntity(
+                    apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS),
+                    new HttpEntity<>(dataProductVersion),
+                    DataProductVersionRes.class
+            );
+            assertThat(createResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            String versionId = createResponse.getBody().getUuid();
+            assertThat(countDescriptorContents()).isEqualTo(contentsBefore + 1);
+
+            // When - The descriptor is replaced
+            JsonNode updatedContent = objectMapper.readTree("{\"info\":{\"version\":\"1.0.0\",\"description\":\"updated\"}}");
+            dataProductVersion.setUuid(versionId);
+            dataProductVersion.setContent(updatedContent);
+            ResponseEntity<DataProductVersionRes> updateResponse = rest.exchange(
+                    apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS, "/" + versionId),
+                    HttpMethod.PUT,
+                    new HttpEntity<>(dataProductVersion),
+                    DataProductVersionRes.class
+            );
+
+            // Then - The previous descriptor is dropped and the new one is returned
+            assertThat(updateResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(countDescriptorContents()).isEqualTo(contentsBefore + 1);
+            ResponseEntity<DataProductVersionRes> getResponse = rest.getForEntity(
+                    apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS, "/" + versionId),
+                    DataProductVersionRes.class
+            );
+            assertThat(getResponse.getBody().getContent()).isEqualTo(updatedContent);
+        } finally {
+            // When - The data product is deleted, versions are removed in cascade
+            rest.delete(apiUrl(RoutesV2.DATA_PRODUCTS, "/" + dataProductId));
+        }
+
+        // Then - Their descriptors are removed too
+        assertThat(countDescriptorContents()).isEqualTo(contentsBefore);
+    }
+
+    private int countDescriptorContents() {
+        return jdbcTemplate.queryForObject("select count(*) from " + schema + ".data_products_versions_contents", Integer.class);
+    }
+
     @Test
     public void whenCreateDataProductVersionWithJsonContentThenContentIsCorrectlyStoredAndRetrieved() throws IOException {
         // Given - Create a data product first
@@ -2,6 +2,7 @@ package org.opendatamesh.platform.pp.registry.rest.v2.controllers;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.Test;
 import org.opendatamesh.platform.pp.registry.rest.v2.RegistryApplicationIT;
 import org.opendatamesh.platform.pp.registry.rest.v2.RoutesV2;
@@ -12,6 +13,7 @@ import org.opendatamesh.platform.pp.registry.rest.v2.resources.descriptorvariabl
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.descriptorvariable.usecases.store.StoreDescriptorVariableCommandRes;
 import org.opendatamesh.platform.pp.registry.rest.v2.resources.descriptorvariable.usecases.store.StoreDescriptorVariableResultRes;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -626,5 +628,199 @@ public class DescriptorVariableStoreUseCaseControllerIT extends RegistryApplicat
         rest.delete(apiUrl(RoutesV2.DATA_PRODUCTS, "/" + dataProductId));
     }
 
+    /*
+     *  Scenario: Store descriptor variables after the descriptor has been replaced
+     *
+     *  Given a Data Product Version whose descriptor contains the ${validKey} placeholder
+     *  And the descriptor is replaced by one containing only the ${replacedKey} placeholder
+     *  When the STORE use case is called
+     *  Then variables are validated against the placeholders of the new descriptor
+     */
+    @Test
+    public void whenDescriptorIsReplacedThenVariablesAreValidatedAgainstTheNewPlaceholders() throws IOException {
+        // Given - Create a data product first
+        DataProductRes dataProduct = new DataProductRes();
+        dataProduct.setName("test-product-store-replaced");
+        dataProduct.setDomain("test-domain");
+        dataProduct.setFqn("test.product.store.replaced");
+        dataProduct.setDisplayName("Test Product for Store Replaced");
+        dataProduct.setDescription("Test Product Description");
+
+        ResponseEntity<DataProductRes> dataProductResponse = rest.postForEntity(
+                apiUrl(RoutesV2.DATA_PRODUCTS),
+                new HttpEntity<>(dataProduct),
+                DataProductRes.class
+        );
+        assertThat(dataProductResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        String dataProductId = dataProductResponse.getBody().getUuid();
+
+        DataProductVersionRes dataProductVersion = new DataProductVersionRes();
+        dataProductVersion.setName("test-version-store-replaced");
+        dataProductVersion.setDescription("Test version description");
+        dataProductVersion.setTag("v1.0.0");
+        dataProductVersion.setVersionNumber("1.0.0");
+        dataProductVersion.setValidationState(DataProductVersionValidationStateRes.PENDING);
+        dataProductVersion.setDataProduct(dataProductResponse.getBody());
+        dataProductVersion.setSpec("DPDS");
+        dataProductVersion.setSpecVersion("1.0.0");
+        dataProductVersion.setContent(loadDescriptor("descriptor-with-variables.json"));
+
+        ResponseEntity<DataProductVersionRes> versionResponse = rest.postForEntity(
+                apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS),
+                new HttpEntity<>(dataProductVersion),
+                DataProductVersionRes.class
+        );
+        assertThat(versionResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        String versionId = versionResponse.getBody().getUuid();
+
+        // Replace the descriptor
+        dataProductVersion.setUuid(versionId);
+        dataProductVersion.setContent(objectMapper.readTree("{\"info\":{\"version\":\"1.0.0\",\"description\":\"${replacedKey}\"}}"));
+        ResponseEntity<DataProductVersionRes> updateResponse = rest.exchange(
+                apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS, "/" + versionId),
+                HttpMethod.PUT,
+                new HttpEntity<>(dataProductVersion),
+                DataProductVersionRes.class
+        );
+        assertThat(updateResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        // When - Storing a variable of the new descriptor
+        DescriptorVariableRes replacedVariable = new DescriptorVariableRes();
+        replacedVariable.setDataProductVersionUuid(versionId);
+        replacedVariable.setVariableKey("replacedKey");
+        replacedVariable.setVariableValue("replaced-value");
+        StoreDescriptorVariableCommandRes command = new StoreDescriptorVariableCommandRes();
+        command.setDescriptorVariables(List.of(replacedVariable));
+
+        ResponseEntity<StoreDescriptorVariableResultRes> response = rest.postForEntity(
+                apiUrl(RoutesV2.DESCRIPTOR_VARIABLES, "/store"),
+                new HttpEntity<>(command),
+                StoreDescriptorVariableResultRes.class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody().getDescriptorVariables())
+                .extracting(DescriptorVariableRes::getVariableKey)
+                .containsExactly("replacedKey");
+
+        // When - Storing a variable of the previous descriptor
+        DescriptorVariableRes previousVariable = new DescriptorVariableRes();
+        previousVariable.setDataProductVersionUuid(versionId);
+        previousVariable.setVariableKey("validKey");
+        previousVariable.setVariableValue("valid-value");
+        command.setDescriptorVariables(List.of(previousVariable));
+
+        ResponseEntity<String> rejectedResponse = rest.postForEntity(
+                apiUrl(RoutesV2.DESCRIPTOR_VARIABLES, "/store"),
+                new HttpEntity<>(command),
+                String.class
+        );
+
+        // Then
+        assertThat(rejectedResponse.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(rejectedResponse.getBody()).contains("validKey");
+        assertThat(rejectedResponse.getBody()).contains("not found in descriptor");
+
+        // Cleanup
+        rest.delete(apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS, "/" + versionId));
+        rest.delete(apiUrl(RoutesV2.DATA_PRODUCTS, "/" + dataProductId));
+    }
+
+    /*
+     *  Scenario: Store and then overwrite a large set of descriptor variables
+     *
+     *  Given a Data Product Version whose descriptor contains 250 placeholders
+     *  When the STORE use case is called with a variable for each of them
+     *  And it is called again with the same keys and new values
+     *  Then the second call overwrites the variables stored by the first one instead of creating new ones
+     */
+    @Test
+    public void whenStoreManyVariablesTwiceThenVariablesAreOverwrittenByKey() {
+        // Given - Create a data product first
+        DataProductRes dataProduct = new DataProductRes();
+        dataProduct.setName("test-product-store-bulk");
+        dataProduct.setDomain("test-domain");
+        dataProduct.setFqn("test.product.store.bulk");
+        dataProduct.setDisplayName("Test Product for Store Bulk");
+        dataProduct.setDescription("Test Product Description");
+
+        ResponseEntity<DataProductRes> dataProductResponse = rest.postForEntity(
+                apiUrl(RoutesV2.DATA_PRODUCTS),
+                new HttpEntity<>(dataProduct),
+                DataProductRes.class
+        );
+        assertThat(dataProductResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        String dataProductId = dataProductResponse.getBody().getUuid();
+
+        int variablesCount = 250;
+        ObjectNode info = objectMapper.createObjectNode().put("version", "1.0.0");
+        for (int i = 0; i < variablesCount; i++) {
+            info.put("field" + i, "${var" + i + "}");
+        }
+        DataProductVersionRes dataProductVersion = new DataProductVersionRes();
+        dataProductVersion.setName("test-version-store-bulk");
+        dataProductVersion.setDescription("Test version description");
+        dataProductVersion.setTag("v1.0.0");
+        dataProductVersion.setVersionNumber("1.0.0");
+        dataProductVersion.setValidationState(DataProductVersionValidationStateRes.PENDING);
+        dataProductVersion.setDataProduct(dataProductResponse.getBody());
+        dataProductVersion.setSpec("DPDS");
+        dataProductVersion.setSpecVersion("1.0.0");
+        dataProductVersion.setContent(objectMapper.createObjectNode().set("info", info));
+
+        ResponseEntity<DataProductVersionRes> versionResponse = rest.postForEntity(
+                apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS),
+                new HttpEntity<>(dataProductVersion),
+                DataProductVersionRes.class
+        );
+        assertThat(versionResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        String versionId = versionResponse.getBody().getUuid();
 
+        List<DescriptorVariableRes> variables = new ArrayList<>();
+        for (int i = 0; i < variablesCount; i++) {
+            DescriptorVariableRes variable = new DescriptorVariableRes();
+            variable.setDataProductVersionUuid(versionId);
+            variable.setVariableKey("var" + i);
+            variable.setVariableValue("value" + i);
+            variables.add(variable);
+        }
+        StoreDescriptorVariableCommandRes command = new StoreDescriptorVariableCommandRes();
+        command.setDescriptorVariables(variables);
+
+        // When - Storing all the variables
+        ResponseEntity<StoreDescriptorVariableResultRes> firstResponse = rest.postForEntity(
+                apiUrl(RoutesV2.DESCRIPTOR_VARIABLES, "/store"),
+                new HttpEntity<>(command),
+                StoreDescriptorVariableResultRes.class
+        );
+
+        // Then
+        assertThat(firstResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        List<DescriptorVariableRes> firstStored = firstResponse.getBody().getDescriptorVariables();
+        assertThat(firstStored).hasSize(variablesCount);
+        assertThat(firstStored).extracting(DescriptorVariableRes::getSequenceId).doesNotContainNull().doesNotHaveDuplicates();
+
+        // When - Storing them again with new values
+        for (int i = 0; i < variablesCount; i++) {
+            variables.get(i).setVariableValue("updated" + i);
+        }
+        ResponseEntity<StoreDescriptorVariableResultRes> secondResponse = rest.postForEntity(
+                apiUrl(RoutesV2.DESCRIPTOR_VARIABLES, "/store"),
+                new HttpEntity<>(command),
+                StoreDescriptorVariableResultRes.class
+        );
+
+        // Then - The same rows are updated, in the order of the command
+        assertThat(secondResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        List<DescriptorVariableRes> secondStored = secondResponse.getBody().getDescriptorVariables();
+        assertThat(secondStored).extracting(DescriptorVariableRes::getSequenceId)
+                .containsExactlyElementsOf(firstStored.stream().map(DescriptorVariableRes::getSequenceId).toList());
+        assertThat(secondStored.get(42).getVariableKey()).isEqualTo("var42");
+        assertThat(secondStored.get(42).getVariableValue()).isEqualTo("updated42");
+
+        // Cleanup
+        rest.delete(apiUrl(RoutesV2.DATA_PRODUCT_VERSIONS, "/" + versionId));
+        rest.delete(apiUrl(RoutesV2.DATA_PRODUCTS, "/" + dataProductId));
+    }
 }
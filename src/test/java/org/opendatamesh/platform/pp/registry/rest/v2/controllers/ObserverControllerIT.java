@@ -19,6 +19,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -485,9 +486,63 @@ public class ObserverControllerIT extends RegistryApplicationIT {
         verify(notificationClient, never()).processingFailure(notification.getSequenceId());
     }
 
+    @Test
+    public void whenSameNotificationIsReceivedTwiceThenItIsProcessedOnce() {
+        // Given
+        NotificationDispatchRes notification = createNotificationDispatch(
+                "INVALID_EVENT_TYPE_THAT_DOES_NOT_EXIST",
+                "DATA_PRODUCT",
+                "test-resource-id",
+                objectMapper.createObjectNode()
+        );
+
+        // When
+        ResponseEntity<Void> firstResponse = rest.postForEntity(
+                apiUrlFromString("/api/v2/up/observer/notifications"),
+                new HttpEntity<>(notification),
+                Void.class
+        );
+        ResponseEntity<Void> secondResponse = rest.postForEntity(
+                apiUrlFromString("/api/v2/up/observer/notifications"),
+                new HttpEntity<>(notification),
+                Void.class
+        );
+
+        // Then
+        assertThat(firstResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(secondResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(notificationClient, times(1)).processingSuccess(notification.getSequenceId());
+        verify(notificationClient, never()).processingFailure(notification.getSequenceId());
+    }
+
+    @Test
+    public void whenReceiveNotificationWithoutSequenceIdThenReturnBadRequest() {
+        // Given
+        NotificationDispatchRes notification = createNotificationDispatch(
+                "INVALID_EVENT_TYPE_THAT_DOES_NOT_EXIST",
+                "DATA_PRODUCT",
+                "test-resource-id",
+                objectMapper.createObjectNode()
+        );
+        notification.setSequenceId(null);
+
+        // When
+        ResponseEntity<String> response = rest.postForEntity(
+                apiUrlFromString("/api/v2/up/observer/notifications"),
+                new HttpEntity<>(notification),
+                String.class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(notificationClient, never()).processingSuccess(any());
+        verify(notificationClient, never()).processingFailure(any());
+    }
+
     private NotificationDispatchRes createNotificationDispatch(String eventType, String resourceType, String resourceIdentifier, JsonNode content) {
         NotificationDispatchRes notification = new NotificationDispatchRes();
-        notification.setSequenceId(1L);
+        // Notifications are deduplicated by sequence id, each test needs its own
+        notification.setSequenceId(ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE));
 
         NotificationDispatchRes.NotificationDispatchEventRes event = new NotificationDispatchRes.NotificationDispatchEventRes();
         event.setSequenceId(1L);
@@ -25,6 +25,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.TestPropertySource;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -200,7 +202,8 @@ public class ObserverControllerPolicyServiceInactiveIT extends RegistryApplicati
 
     private NotificationDispatchRes createNotificationDispatch(String eventType, String resourceType, String resourceIdentifier, JsonNode content) {
         NotificationDispatchRes notification = new NotificationDispatchRes();
-        notification.setSequenceId(1L);
+        // Notifications are deduplicated by sequence id, each test needs its own
+        notification.setSequenceId(ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE));
 
         NotificationDispatchRes.NotificationDispatchEventRes event = new NotificationDispatchRes.NotificationDispatchEventRes();
         event.setSequenceId(1L);
@@ -0,0 +1,154 @@
+package org.opendatamesh.platform.pp.registry.utils.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker("policy", 50, 4, 4,
+            Duration.ofSeconds(30), 2, Duration.ofSeconds(1), now::get);
+
+    @Test
+    void whenFailureRateIsBelowThresholdThenCircuitStaysClosed() {
+        // When
+        call(true);
+        call(false);
+        call(false);
+        call(false);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void whenFailureRateReachesThresholdThenCircuitOpensAndRefusesCalls() {
+        // When
+        call(true);
+        call(false);
+        call(true);
+        call(false);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void whenFewerThanMinimumCallsAreRecordedThenCircuitStaysClosed() {
+        // When
+        call(true);
+        call(true);
+        call(true);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void whenOldFailuresLeaveTheWindowThenTheyAreNoLongerCounted() {
+        // Given
+        call(true);
+        call(false);
+        call(false);
+        call(false);
+
+        // When - the failure is pushed out by a success, then one more failure
+        call(false);
+        call(true);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void whenCallsExceedTheTimeBudgetThenTheyCountAsFailures() {
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+            circuitBreaker.onResult(false, Duration.ofSeconds(2).toNanos());
+        }
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void whenOpenDurationElapsesThenOnlyTheProbeCallsAreLetThrough() {
+        // Given
+        open();
+
+        // When
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // Then
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void whenProbeCallsSucceedThenCircuitCloses() {
+        // Given
+        open();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // When
+        call(false);
+        call(false);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void whenProbeCallFailsThenCircuitOpensAgain() {
+        // Given
+        open();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // When
+        call(true);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        now.addAndGet(Duration.ofSeconds(29).toNanos());
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void whenProbePermissionIsReleasedThenItCanBeAcquiredAgain() {
+        // Given
+        open();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.tryAcquirePermission();
+
+        // When
+        circuitBreaker.releasePermission();
+
+        // Then
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void call(boolean failed) {
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        circuitBreaker.onResult(failed, FAST);
+    }
+}
@@ -0,0 +1,102 @@
+package org.opendatamesh.platform.pp.registry.utils.client;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientException;
+import org.opendatamesh.platform.pp.registry.exceptions.client.ClientUnavailableException;
+import org.opendatamesh.platform.pp.registry.utils.client.http.HttpEntity;
+import org.opendatamesh.platform.pp.registry.utils.client.http.HttpMethod;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GuardedRestUtilsTemplateTest {
+
+    private static final String URL = "http://policy/api/v1/pp/policy/validation";
+
+    @Mock
+    private RestUtilsTemplate delegate;
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker("policy", 50, 2, 2,
+            Duration.ofMinutes(1), 1, null);
+    private final Bulkhead bulkhead = new Bulkhead("policy", 1, Duration.ZERO);
+
+    @Test
+    void whenDownstreamFailsWithServerErrorsThenCircuitOpensAndCallsFailFast() {
+        // Given
+        GuardedRestUtilsTemplate template = new GuardedRestUtilsTemplate(delegate, circuitBreaker, bulkhead);
+        when(delegate.exchange(eq(URL), eq(HttpMethod.POST), any(), eq(String.class), any(Object[].class)))
+                .thenThrow(new ClientException(500, "down"));
+        exchangeIgnoringErrors(template);
+        exchangeIgnoringErrors(template);
+
+        // When & Then
+        assertThatThrownBy(() -> exchange(template))
+                .isInstanceOf(ClientUnavailableException.class)
+                .extracting("code").isEqualTo(503);
+        verify(delegate, times(2)).exchange(eq(URL), eq(HttpMethod.POST), any(), eq(String.class), any(Object[].class));
+        assertThat(bulkhead.availableCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void whenDownstreamAnswersWithClientErrorsThenCircuitStaysClosed() {
+        // Given
+        GuardedRestUtilsTemplate template = new GuardedRestUtilsTemplate(delegate, circuitBreaker, bulkhead);
+        when(delegate.exchange(eq(URL), eq(HttpMethod.POST), any(), eq(String.class), any(Object[].class)))
+                .thenThrow(new ClientException(400, "invalid"));
+
+        // When
+        exchangeIgnoringErrors(template);
+        exchangeIgnoringErrors(template);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void whenBulkheadIsFullThenCallFailsFast() {
+        // Given
+        GuardedRestUtilsTemplate template = new GuardedRestUtilsTemplate(delegate, circuitBreaker, bulkhead);
+        assertThat(bulkhead.tryAcquire()).isTrue();
+
+        // When & Then
+        assertThatThrownBy(() -> exchange(template)).isInstanceOf(ClientUnavailableException.class);
+        verifyNoInteractions(delegate);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void whenCallSucceedsThenResponseIsReturnedAndSlotIsFreed() {
+        // Given
+        GuardedRestUtilsTemplate template = new GuardedRestUtilsTemplate(delegate, circuitBreaker, bulkhead);
+        when(delegate.exchange(eq(URL), eq(HttpMethod.POST), any(), eq(String.class), any(Object[].class)))
+                .thenReturn("ok");
+
+        // When
+        String response = exchange(template);
+
+        // Then
+        assertThat(response).isEqualTo("ok");
+        assertThat(bulkhead.availableCalls()).isEqualTo(1);
+    }
+
+    private static String exchange(GuardedRestUtilsTemplate template) {
+        return template.exchange(URL, HttpMethod.POST, new HttpEntity<>("body", null), String.class);
+    }
+
+    private static void exchangeIgnoringErrors(GuardedRestUtilsTemplate template) {
+        try {
+            exchange(template);
+        } catch (ClientException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.opendatamesh.platform.pp.registry.utils.usecases;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatamesh.platform.pp.registry.exceptions.ResourceConflictException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultTransactionalOutboundPortImplTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DefaultTransactionalOutboundPortImpl transactionalPort;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        transactionalPort = new DefaultTransactionalOutboundPortImpl(transactionManager, meterRegistry);
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void whenSerializationFailureIsTransientThenRetryUntilSuccess() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        TransactionPolicy policy = TransactionPolicy.SERIALIZABLE.withMaxAttempts(3);
+
+        // When
+        String result = transactionalPort.doInTransactionWithResults(policy, arg -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw serializationFailure();
+            }
+            return arg;
+        }, "done");
+
+        // Then
+        assertThat(result).isEqualTo("done");
+        assertThat(attempts.get()).isEqualTo(3);
+        verify(transactionManager, times(2)).rollback(transactionStatus);
+        verify(transactionManager).commit(transactionStatus);
+        assertThat(meterRegistry.counter("registry.transactions.retries", "isolation", "serializable").count()).isEqualTo(2);
+        assertThat(meterRegistry.find("registry.transactions.aborts").counter()).isNull();
+    }
+
+    @Test
+    void whenAttemptsAreExhaustedThenThrowResourceConflictException() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        TransactionPolicy policy = TransactionPolicy.READ_COMMITTED.withMaxAttempts(2);
+
+        // When & Then
+        assertThatThrownBy(() -> transactionalPort.doInTransaction(policy, () -> {
+            attempts.incrementAndGet();
+            throw deadlock();
+        })).isInstanceOf(ResourceConflictException.class);
+
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("registry.transactions.retries", "isolation", "read_committed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("registry.transactions.aborts", "isolation", "read_committed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void whenFailureIsNotASerializationFailureThenDoNotRetry() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        // When & Then
+        assertThatThrownBy(() -> transactionalPort.doInTransaction(TransactionPolicy.SERIALIZABLE.withMaxAttempts(3), () -> {
+            attempts.incrementAndGet();
+            throw failure;
+        })).isSameAs(failure);
+
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    @Test
+    void whenTransactionIsNestedThenLeaveTheRetryToTheOutermostOne() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        AtomicInteger attempts = new AtomicInteger();
+        RuntimeException failure = serializationFailure();
+
+        // When & Then
+        assertThatThrownBy(() -> transactionalPort.doInTransaction(TransactionPolicy.SERIALIZABLE.withMaxAttempts(3), () -> {
+            attempts.incrementAndGet();
+            throw failure;
+        })).isSameAs(failure);
+
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void whenRunningWithAPolicyThenUseItsIsolationLevel() {
+        // When
+        transactionalPort.doInTransaction(TransactionPolicy.READ_COMMITTED, () -> {
+        });
+        transactionalPort.doInTransaction(() -> {
+        });
+
+        // Then
+        ArgumentCaptor<TransactionDefinition> captor = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(2)).getTransaction(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(TransactionDefinition::getIsolationLevel)
+                .containsExactly(TransactionDefinition.ISOLATION_READ_COMMITTED, TransactionDefinition.ISOLATION_SERIALIZABLE);
+    }
+
+    private RuntimeException serializationFailure() {
+        return new RuntimeException("could not serialize access", new SQLException("could not serialize access", "40001"));
+    }
+
+    private RuntimeException deadlock() {
+        return new RuntimeException("deadlock detected", new SQLException("deadlock detected", "40P01"));
+    }
+}